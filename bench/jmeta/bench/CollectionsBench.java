@@ -0,0 +1,75 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import jmeta.IntMap;
+import jmeta.SparseArrayList;
+
+/// Microbenchmarks for SparseArrayList and IntMap, with size elements, dense or every 16th index.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionsBench {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"1", "16"})
+    public int stride;
+
+    int[] lookups;
+    SparseArrayList<Object> list;
+    IntMap<Object> map;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(size);
+        lookups = new int[1024];
+        for (int i = 0; i < lookups.length; i++) lookups[i] = r.nextInt(size) * stride;
+        list = fillList();
+        map = fillMap();
+    }
+
+    SparseArrayList<Object> fillList() {
+        SparseArrayList<Object> l = new SparseArrayList<Object>();
+        for (int i = 0; i < size; i++) l.set(i * stride, Boolean.TRUE);
+        return l;
+    }
+
+    IntMap<Object> fillMap() {
+        IntMap<Object> m = new IntMap<Object>();
+        for (int i = 0; i < size; i++) m.put(i * stride, Boolean.TRUE);
+        return m;
+    }
+
+    @Benchmark
+    public Object sparseArrayListFill() { return fillList(); }
+
+    @Benchmark
+    public int sparseArrayListGet() {
+        int n = 0;
+        for (int i : lookups) if (list.get(i) != null) n++;
+        return n;
+    }
+
+    @Benchmark
+    public Object intMapFill() { return fillMap(); }
+
+    @Benchmark
+    public int intMapGet() {
+        int n = 0;
+        for (int i : lookups) if (map.get(i) != null) n++;
+        return n;
+    }
+
+    @Benchmark
+    public Object intMapDel() {
+        IntMap<Object> m = fillMap();
+        for (int i = 0; i < size; i += 2) m.del(i * stride);
+        return m;
+    }
+}
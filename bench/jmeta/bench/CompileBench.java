@@ -0,0 +1,37 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import jmeta.JMetaCompiler;
+import jmeta.JMetaParser;
+import jmeta.Utils;
+
+/// Grammar compile time: JMetaCompiler on parsed and optimized grammars, and the whole pipeline from text to java.
+/// The `grammar` parameter is either a generated grammar of that many rules, or "self" for boot/JMetaParser.jmeta.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class CompileBench {
+    @Param({"self", "100", "1000"})
+    public String grammar;
+
+    String text;
+    Object ast;
+
+    @Setup
+    public void setup() throws Exception {
+        if (grammar.equals("self")) text = Utils.readFile("boot/JMetaParser.jmeta");
+        else text = Inputs.grammar(Integer.parseInt(grammar));
+        ast = new JMetaParser().parse(text);
+    }
+
+    @Benchmark
+    public Object compile() { return new JMetaCompiler().parse(ast); }
+
+    @Benchmark
+    public Object parseAndCompile() { return new JMetaCompiler().parse(new JMetaParser().parse(text)); }
+}
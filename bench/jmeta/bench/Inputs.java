@@ -0,0 +1,95 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta.bench;
+
+import java.util.Random;
+import java.lang.reflect.Constructor;
+import jmeta.BaseParser;
+
+/// Generated inputs for the benchmarks, scaled by a size; the same size gives the same input.
+///
+/// The test grammars are compiled without a package, so they are created by name; JMH benchmarks cannot live in the
+/// default package.
+final class Inputs {
+    private Inputs() {}
+
+    /// returns a factory for the parser with the given class name
+    static Constructor<?> parser(String name) {
+        try {
+            // not all parsers are public, like Interpreter in test/Calculator.jmeta
+            Constructor<?> c = Class.forName(name).getDeclaredConstructor();
+            c.setAccessible(true);
+            return c;
+        } catch (Exception ex) {
+            throw new IllegalStateException("parser '"+ name +"' not found; compile the test grammars first", ex);
+        }
+    }
+
+    static BaseParser create(Constructor<?> c) {
+        try {
+            return (BaseParser) c.newInstance();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /// arithmetic with size terms, for test/Calculator.jmeta
+    static String calculator(int size) {
+        Random r = new Random(size);
+        StringBuilder sb = new StringBuilder("1");
+        for (int i = 0; i < size; i++) {
+            sb.append(' ').append("+-*/%".charAt(r.nextInt(5))).append(' ').append(1 + r.nextInt(99));
+            if (i % 8 == 0) sb.append(" + (").append(r.nextInt(9)).append(" * 4 - 2)");
+            if (i % 16 == 0) sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /// a chain of size binary operators without parentheses, for test/Calculator.jmeta; each operator grows the left
+    /// recursion of expr or expr1 one more time
+    static String chain(int size) {
+        Random r = new Random(size);
+        StringBuilder sb = new StringBuilder("1");
+        for (int i = 0; i < size; i++) sb.append(' ').append("+-*/".charAt(r.nextInt(4))).append(' ').append(1 + r.nextInt(99));
+        return sb.toString();
+    }
+
+    /// a chain of size postfix operators, for test/Left.jmeta
+    static String left(int size) {
+        Random r = new Random(size);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append('-');
+            sb.append(1 + r.nextInt(999)).append(r.nextBoolean()? '!' : '?');
+        }
+        return sb.toString();
+    }
+
+    /// a primary expression with size field accesses, invocations and array accesses, for test/Java.jmeta
+    static String java(int size) {
+        Random r = new Random(size);
+        StringBuilder sb = new StringBuilder("this");
+        for (int i = 0; i < size; i++) {
+            switch (r.nextInt(3)) {
+                case 0: sb.append(".x"); break;
+                case 1: sb.append(".m()"); break;
+                case 2: sb.append("[i]"); break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /// a grammar with size rules, for JMetaParser
+    static String grammar(int size) {
+        Random r = new Random(size);
+        StringBuilder sb = new StringBuilder("public parser Generated {\n");
+        sb.append("    start: ! r0('s) end ;\n");
+        for (int i = 0; i < size; i++) {
+            int n = r.nextInt(size);
+            sb.append("    r").append(i).append(" x=_ : \"a").append(i).append("\" .r").append(n).append("(x)*");
+            sb.append(" | ~\"b\" ds=digit+ { return join(ds); }");
+            sb.append(" | [ 'sym").append(i).append(" xs=_* ] { ['Node, xs] } ;\n");
+        }
+        sb.append("    public int count() { return ").append(size).append("; }\n");
+        return sb.append("}\n").toString();
+    }
+}
@@ -0,0 +1,71 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta.bench;
+
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import jmeta.BaseParser;
+import jmeta.JMetaParser;
+
+/// Parse throughput of the test grammars and the JMeta grammar on generated inputs; run with `-prof gc` for the
+/// allocation rate. The `input` parameter compares a String with a ReaderInput.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class ParseBench {
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"string", "reader"})
+    public String input;
+
+    Constructor<?> calculator, left, java, interpreter;
+    String calculatorInput, chainInput, leftInput, javaInput, grammarInput;
+    Object calculatorAst;
+
+    @Setup
+    public void setup() {
+        calculator = Inputs.parser("Calculator");
+        left = Inputs.parser("Left");
+        java = Inputs.parser("Java");
+        interpreter = Inputs.parser("Interpreter");
+        calculatorInput = Inputs.calculator(size);
+        chainInput = Inputs.chain(size);
+        leftInput = Inputs.left(size);
+        javaInput = Inputs.java(size);
+        grammarInput = Inputs.grammar(size);
+        calculatorAst = Inputs.create(calculator).parse(calculatorInput);
+    }
+
+    Object in(String s) {
+        if (input.equals("reader")) return new StringReader(s);
+        return s;
+    }
+
+    @Benchmark
+    public Object calculator() { return Inputs.create(calculator).parse(in(calculatorInput)); }
+
+    /// left recursion only, a long chain of operators
+    @Benchmark
+    public Object chain() { return Inputs.create(calculator).parse(in(chainInput)); }
+
+    @Benchmark
+    public Object left() { return Inputs.create(left).parse(in(leftInput)); }
+
+    @Benchmark
+    public Object java() { return Inputs.create(java).parse(in(javaInput)); }
+
+    @Benchmark
+    public Object jmetaParser() { return new JMetaParser().parse(in(grammarInput)); }
+
+    /// list mode; interprets the Calculator AST, the input parameter does not apply
+    @Benchmark
+    public Object interpreter() {
+        BaseParser p = Inputs.create(interpreter);
+        return p.parse(calculatorAst);
+    }
+}
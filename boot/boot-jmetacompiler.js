@@ -9,6 +9,6 @@ print("ok:", ast);
 
 tracing = false;
 var res = JMetaCompiler.match(ast, "trans", undefined);
-writeFile('../jmeta/JMetaCompiler.java', res);
+writeFile('stage/JMetaCompiler.java', res);
 print("ok: JMetaCompiler.java");
 
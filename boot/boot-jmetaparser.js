@@ -9,6 +9,6 @@ print("ok:", ast);
 
 tracing = false;
 var res = JMetaCompiler.match(ast, "trans", undefined);
-writeFile('../jmeta/JMetaParser.java', res);
+writeFile('stage/JMetaParser.java', res);
 print("ok: JMetaParser.java");
 
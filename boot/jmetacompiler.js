@@ -0,0 +1 @@
+{JMetaCompiler=OMeta.delegated({"trans":function(){var $elf=this,t,ans;return (function(){$elf._form(function(){return (function(){t=$elf._apply("anything");return ans=$elf._applyWithArgs("apply",t)})()});return ans})()},"Set":function(){var $elf=this,n,v;return (function(){n=$elf._apply("anything");v=$elf._apply("trans");return [v,"\n",$elf["i"],n,"= _t;"].join("")})()},"Error":function(){var $elf=this,msg;return (function(){msg=$elf._apply("anything");return ["Error",msg]})()},"Str":function(){var $elf=this,s;return (function(){s=$elf._apply("anything");return ["_t=_str(",s,");"].join("")})()},"Sym":function(){var $elf=this,s;return (function(){s=$elf._apply("anything");return ["_t=_sym(",s,");"].join("")})()},"App":function(){var $elf=this,rule,args,rule,rule,args,rule;return $elf._or((function(){return (function(){$elf._applyWithArgs("exactly","super");rule=$elf._apply("anything");args=$elf._many1(function(){return $elf._apply("anything")});return ["_push(",args.join(","),"); _t=super.",rule,"();"].join("")})()}),(function(){return (function(){$elf._applyWithArgs("exactly","super");rule=$elf._apply("anything");return ["_t=super.",rule,"();"].join("")})()}),(function(){return (function(){rule=$elf._apply("anything");args=$elf._many1(function(){return $elf._apply("anything")});return ["_push(",args.join(","),"); _t=",rule,"();"].join("")})()}),(function(){return (function(){rule=$elf._apply("anything");return ["_t=",rule,"();"].join("")})()}))},"SAct":function(){var $elf=this,expr;return (function(){expr=$elf._apply("anything");return ["_t=",expr,";"].join("")})()},"Act":function(){var $elf=this,expr;return (function(){expr=$elf._apply("anything");return (function (){var pc=$elf["pc"]++;$elf["ps"].push(["  Object __act",pc,"(",$elf["as"],"){",expr,"}\n"].join(""));return ["_t=__act",pc,"(",$elf["ns"],");"].join("")})()})()},"Pred":function(){var $elf=this,expr;return (function(){expr=$elf._apply("anything");return (function (){var pc=$elf["pc"]++;$elf["ps"].push(["  boolean __pred",pc,"(",$elf["as"],"){",expr,"}\n"].join(""));return ["if (!__pred",pc,"(",$elf["ns"],")) _t=ERROR;"].join("")})()})()},"Or":function(){var $elf=this,xs;return (function(){$elf["i"]+="  ";xs=$elf._many(function(){return $elf._apply("trans")});return (function (){var s="_t=ERROR; do{ //or";for(var i=(0);(i < xs["length"]);i++){s+=["\n",$elf["i"],xs[i],"\n",$elf["i"],"if (_t!=ERROR) break;\n"].join("")};$elf["i"]=$elf["i"].slice((2));return s+=($elf["i"] + "}while(false);")})()})()},"And":function(){var $elf=this,xs;return $elf._or((function(){return (function(){$elf["i"]+="  ";xs=$elf._many1(function(){return $elf._apply("trans")});return (function (){var pc=$elf["pc"]++;var error=false;var errormsg="";var s=(("{ int _p" + pc) + "=_pos; _t=ERROR; do{ //and");for(var i=(0);(i < xs["length"]);i++){if((xs[i][(0)] == "Error")){error=true;errormsg=xs[i][(1)];continue}else{undefined};s+=["\n",$elf["i"],xs[i],"\n",$elf["i"],"if (_t==ERROR) "].join("");if((!error)){s+="break;\n"}else{s+=(("throw new SyntaxError(\"" + errormsg) + "\", this);\n")}};$elf["i"]=$elf["i"].slice((2));return s+=((((($elf["i"] + "}while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p") + pc) + ", _pos); _pos=_p") + pc) + "; } }")})()})()}),(function(){return ""}))},"Many":function(){var $elf=this,x;return (function(){$elf["i"]+="  ";x=$elf._apply("trans");return $elf.makeMany(x,false)})()},"Many1":function(){var $elf=this,x;return (function(){$elf["i"]+="  ";x=$elf._apply("trans");return $elf.makeMany(x,true)})()},"Not":function(){var $elf=this,x;return (function(){x=$elf._apply("trans");return $elf.makeNot(x)})()},"Lookahead":function(){var $elf=this,x;return (function(){x=$elf._apply("trans");return $elf.makeLookahead(x)})()},"Text":function(){var $elf=this,x;return (function(){x=$elf._apply("trans");return $elf.makeText(x)})()},"List":function(){var $elf=this,x;return (function(){x=$elf._apply("trans");return $elf.makeList(x)})()},"Rule":function(){var $elf=this,name,ls,body,as;return (function(){name=$elf._apply("anything");$elf["i"]="  ";ls=$elf._apply("locals");body=$elf._apply("trans");as=$elf._apply("anything");return $elf.makeRule(name,ls,body,as)})()},"locals":function(){var $elf=this,vs;return $elf._or((function(){return (function(){$elf._form(function(){return vs=$elf._many1(function(){return $elf._apply("string")})});return (function (){vs=vs.nodup();$elf["ns"]=vs.join(",");$elf["as"]=("Object " + vs.join(", Object "));return ["Object ",vs.join("=null, "),"=null;"].join("")})()})()}),(function(){return (function(){$elf._form(function(){return (function(){})});return (function (){$elf["ns"]="";$elf["as"]="";return ""})()})()}))},"Method":function(){var $elf=this,c;return (function(){c=$elf._apply("anything");return (("  " + c) + "\n")})()},"Field":function(){var $elf=this,c;return (function(){c=$elf._apply("anything");return (("  " + c) + "\n")})()},"Parser":function(){var $elf=this,p,name,sName,rules;return (function(){p=$elf._apply("anything");name=$elf._apply("anything");sName=$elf._apply("anything");$elf["pname"]=name;rules=$elf._many(function(){return $elf._apply("trans")});return $elf.makeParser(p,name,sName,rules)})()},"Import":function(){var $elf=this,c;return (function(){c=$elf._apply("anything");return c})()},"Class":function(){var $elf=this,c;return (function(){c=$elf._apply("anything");return c})()},"Line":function(){var $elf=this,ws,c;return (function(){ws=$elf._apply("anything");c=$elf._apply("trans");return (ws + c)})()},"File":function(){var $elf=this,xs;return (function(){xs=$elf._many(function(){return $elf._apply("trans")});return xs.join("")})()}});JMetaCompiler["initialize"]=(function (){this["pc"]=(0);this["ps"]=[];this["rls"]=[]});JMetaCompiler["makeParser"]=(function (p,name,sName,rules){var s="";s+=["\n",p," class ",name," extends ",sName," {"].join("");s+=[rules.join(""),"\n",this["ps"].join("")].join("");s+=["\n  static final int _base = ",sName,"._rules;\n"].join("");s+=["  public static final int _rules = _base + ",this["rls"]["length"],";\n"].join("");s+="  static final String[] _names = {";if((this["rls"]["length"] > (0))){s+=[" \"",this["rls"].join("\", \""),"\" "].join("")}else{undefined};s+="};\n";s+="  public String _ruleName(int id) {\n    if (id < _base) return super._ruleName(id);\n    return _names[id - _base];\n  }\n";s+=["  static final java.util.HashMap<String, Integer> _ids = _ids(",sName,"._ids, _base, _names);\n"].join("");s+="  public int _ruleId(String r) {\n    Integer id = _ids.get(r);\n    return (id == null)? super._ruleId(r) : id;\n  }\n";s+="\n  public Object _call(int id) {\n    switch (id - _base) {\n";for(var i=(0);(i < this["rls"]["length"]);i++){s+=["      case ",i,": return ",this["rls"][i],"();\n"].join("")};s+="      default: return super._call(id);\n    }\n  }\n\n";s+="  }\n";this.initialize();return s});JMetaCompiler["makeRule"]=(function (name,ls,body,as){var id=("_base+" + this["rls"]["length"]);this["rls"].push(name);var s="";if((as.indexOf("nomemo") >= (0))){s+=["\n\n  public Object ",name,"() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);\n"].join("");s+=["  if (listener!=null) listener.enter(this, ",id,", _start);\n"].join("");s+=["  ",ls,"\n  ",body,"\n"].join("");s+=["  if (_t==ERROR) { _pos=_start; _fail(",id,", _start, _exp); }\n"].join("");s+=["  if (listener!=null) listener.exit(this, ",id,", _start, _pos, _t); return _t;\n  }"].join("");return s}else{undefined};s+=["\n\n  public Object ",name,"() { Object _t=null; int _start=_pos;\n"].join("");s+=["  _t=_retrieve(",id,"); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);\n"].join("");s+=["  if (listener!=null) listener.enter(this, ",id,", _start);\n  do {\n"].join("");s+=["  ",ls,"\n  ",body,"\n  _t = _memoize(",id,", _k, _start, _t);\n"].join("");s+=["  } while (_t==GROW); if (_t==ERROR) _fail(",id,", _start, _exp);\n"].join("");s+=["  if (listener!=null) listener.exit(this, ",id,", _start, _pos, _t); return _t;\n  }"].join("");return s});JMetaCompiler["makeMany"]=(function (x,many1){var $elf=this;var pc=$elf["pc"]++;var s="";s+=["java.util.ArrayList<Object> as",pc,"=new java.util.ArrayList<Object>();\n"].join("");if(many1){s+=[$elf["i"],x,"\n"].join("");s+=[$elf["i"],"if (_t!=ERROR) { as",pc,".add(_t);\n"].join("");$elf["i"]+="  "}else{undefined};s+=[$elf["i"],"while (true){ //many\n"].join("");s+=[$elf["i"],x,"\n"].join("");s+=[$elf["i"],"if (_t==ERROR) break; else as",pc,".add(_t);\n"].join("");s+=[$elf["i"],"} _t=as",pc,";"].join("");if(many1){$elf["i"]=$elf["i"].slice((2));s+=["\n",$elf["i"],"}"].join("")}else{undefined};return s});JMetaCompiler["makeNot"]=(function (x){var s="";s+=[this["i"],"_silent++;\n",x,"\n",this["i"],"_silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }"].join("");return s});JMetaCompiler["makeLookahead"]=(function (x){var s="";s+=[this["i"],"{ int _l=_pos;\n"].join("");s+=[this["i"],x,"\n",this["i"],"if (_t!=ERROR) { _pos=_l; }"].join("");s+=[this["i"],"}"].join("");return s});JMetaCompiler["makeText"]=(function (x){var pc=this["pc"]++;var s="";s+=["{ int _c",pc,"=_pos;\n"].join("");s+=[this["i"],x,"\n",this["i"],"if (_t!=ERROR) { _t=_capture(_c",pc,"); }"].join("");s+=[this["i"],"}"].join("");return s});JMetaCompiler["makeList"]=(function (x){var s="";s+=[this["i"],"_t=_listBegin(); if (_t!=ERROR) {\n"].join("");s+=[this["i"],x,"\n"].join("");s+=[this["i"],"_listEnd(); }"].join("");return s})}
\ No newline at end of file
@@ -0,0 +1 @@
+JMetaParser=Parser.delegated({"fromTo":function(){var $elf=this,x,y;return (function(){x=$elf._apply("anything");y=$elf._apply("anything");$elf._applyWithArgs("seq",x);$elf._many(function(){return (function(){$elf._not(function(){return $elf._applyWithArgs("seq",y)});return $elf._apply("char")})()});return $elf._applyWithArgs("seq",y)})()},"space":function(){var $elf=this;return $elf._or((function(){return Parser._superApplyWithArgs($elf,"space")}),(function(){return $elf._applyWithArgs("fromTo","//","\n")}),(function(){return $elf._applyWithArgs("fromTo","/*","*/")}))},"nameFirst":function(){var $elf=this;return $elf._or((function(){return $elf._applyWithArgs("exactly","_")}),(function(){return $elf._apply("letter")}))},"nameRest":function(){var $elf=this;return $elf._or((function(){return $elf._apply("nameFirst")}),(function(){return $elf._apply("digit")}))},"tsName":function(){var $elf=this,xs;return (function(){xs=$elf._applyWithArgs("firstAndRest","nameFirst","nameRest");return xs.join("")})()},"name":function(){var $elf=this;return (function(){$elf._apply("spaces");return $elf._apply("tsName")})()},"eChar":function(){var $elf=this,c;return $elf._or((function(){return (function(){$elf._applyWithArgs("exactly","\\");c=$elf._apply("char");return unescape(("\\" + c))})()}),(function(){return $elf._apply("char")}))},"tsString":function(){var $elf=this,xs;return (function(){$elf._applyWithArgs("exactly","\"");xs=$elf._many(function(){return (function(){$elf._not(function(){return $elf._applyWithArgs("exactly","\"")});return $elf._apply("eChar")})()});$elf._applyWithArgs("exactly","\"");return xs.join("")})()},"string":function(){var $elf=this,xs;return (function(){xs=$elf._apply("tsString");return ["Str",xs.toProgramString()]})()},"number":function(){var $elf=this,sign,ds;return (function(){sign=$elf._or((function(){return $elf._applyWithArgs("exactly","-")}),(function(){return (function(){$elf._apply("empty");return ""})()}));ds=$elf._many1(function(){return $elf._apply("digit")});return ["Str",(sign + ds.join(""))]})()},"symbol":function(){var $elf=this,xs;return (function(){xs=$elf._or((function(){return (function(){$elf._applyWithArgs("exactly","\'");return $elf._apply("tsName")})()}),(function(){return $elf._apply("tsString")}));return ["Sym",xs.toProgramString()]})()},"keyword":function(){var $elf=this,xs;return (function(){xs=$elf._apply("anything");$elf._applyWithArgs("token",xs);$elf._not(function(){return $elf._apply("letterOrDigit")});return xs})()},"error":function(){var $elf=this,msg;return (function(){$elf._applyWithArgs("token","!");msg=$elf._or((function(){return $elf._apply("tsString")}),(function(){return (function(){$elf._apply("empty");return ""})()}));return ["Error",msg]})()},"any":function(){var $elf=this;return (function(){$elf._applyWithArgs("token","_");return ["App","_any"]})()},"ws":function(){var $elf=this;return (function(){$elf._applyWithArgs("token",".");return ["App","ws"]})()},"args":function(){var $elf=this,xs;return $elf._or((function(){return (function(){$elf._applyWithArgs("token","(");xs=$elf._applyWithArgs("listOf","simplehost",",");$elf._applyWithArgs("token",")");return xs})()}),(function(){return (function(){$elf._apply("empty");return []})()}))},"application":function(){var $elf=this,rule,as,rule,as;return $elf._or((function(){return (function(){$elf._applyWithArgs("token","super.");rule=$elf._apply("name");as=$elf._apply("args");return ["App","super",rule].concat(as)})()}),(function(){return (function(){rule=$elf._apply("name");as=$elf._apply("args");return ["App",rule].concat(as)})()}))},"simplehost":function(){var $elf=this,x,xs;return $elf._or((function(){return (function(){x=$elf._apply("hostPart");xs=$elf._many1(function(){return (function(){$elf._applyWithArgs("token","+");return $elf._apply("hostPart")})()});return [(xs["length"] == (1))?"concat(":"concatAll(",[x].concat(xs).join(", "),")"].join("")})()}),(function(){return $elf._apply("hostPart")}))},"hostPart":function(){var $elf=this,xs,s,s,s;return $elf._or((function(){return (function(){$elf._applyWithArgs("token","[");xs=$elf._applyWithArgs("listOf","simplehost",",");$elf._applyWithArgs("token","]");return ["new Object[] {",xs.join(","),"}"].join("")})()}),(function(){return (function(){$elf._apply("spaces");s=$elf._apply("number");return s[(1)]})()}),(function(){return (function(){$elf._apply("spaces");s=$elf._apply("symbol");return s[(1)]})()}),(function(){return (function(){$elf._apply("spaces");s=$elf._apply("string");return s[(1)]})()}),(function(){return (function(){$elf._apply("spaces");return $elf._apply("name")})()}))},"cbraces":function(){var $elf=this,xs;return $elf._or((function(){return (function(){$elf._applyWithArgs("exactly","{");xs=$elf._many(function(){return $elf._apply("cbraces")});$elf._applyWithArgs("exactly","}");return (("{" + xs.join("")) + "}")})()}),(function(){return (function(){$elf._not(function(){return $elf._applyWithArgs("exactly","}")});return $elf._apply("char")})()}))},"semAction":function(){var $elf=this,x,xs;return $elf._or((function(){return (function(){$elf._applyWithArgs("token","{");x=$elf._apply("simplehost");$elf._applyWithArgs("token","}");return ["SAct",x]})()}),(function(){return (function(){$elf._applyWithArgs("token","{");xs=$elf._many(function(){return $elf._apply("cbraces")});$elf._applyWithArgs("token","}");return ["Act",xs.join("")]})()}))},"semPred":function(){var $elf=this,xs;return (function(){$elf._applyWithArgs("token","?{");xs=$elf._many(function(){return $elf._apply("cbraces")});$elf._applyWithArgs("token","}");return ["Pred",xs.join("")]})()},"expr":function(){var $elf=this,xs;return (function(){xs=$elf._applyWithArgs("listOf","expr4","|");return ["Or"].concat(xs)})()},"expr4":function(){var $elf=this,xs;return (function(){xs=$elf._many(function(){return $elf._apply("expr3")});return ["And"].concat(xs)})()},"optIter":function(){var $elf=this,x;return (function(){x=$elf._apply("anything");return $elf._or((function(){return (function(){$elf._applyWithArgs("token","*");return ["Many",x]})()}),(function(){return (function(){$elf._applyWithArgs("token","+");return ["Many1",x]})()}),(function(){return (function(){$elf._apply("empty");return x})()}))})()},"expr3":function(){var $elf=this,n,x,x,x,x,n;return $elf._or((function(){return (function(){n=$elf._apply("name");$elf._applyWithArgs("exactly","=");x=$elf._apply("expr2");x=$elf._applyWithArgs("optIter",x);return (function (){$elf["locals"].push(n);return ["Set",n,x]})()})()}),(function(){return (function(){x=$elf._apply("expr2");x=$elf._applyWithArgs("optIter",x);return x})()}),(function(){return (function(){n=$elf._apply("name");$elf._applyWithArgs("exactly","=");$elf._applyWithArgs("exactly","_");return (function (){$elf["locals"].push(n);return ["Set",n,["App","_any"]]})()})()}))},"expr2":function(){var $elf=this,x,x,e,x;return $elf._or((function(){return (function(){$elf._applyWithArgs("token","~");x=$elf._apply("expr2");return ["Not",x]})()}),(function(){return (function(){$elf._applyWithArgs("token","&");x=$elf._apply("expr1");return ["Lookahead",x]})()}),(function(){return (function(){$elf._applyWithArgs("token","$");e=$elf._apply("expr2");x=$elf._applyWithArgs("optIter",e);return ["Text",x]})()}),(function(){return $elf._apply("expr1")}))},"expr1":function(){var $elf=this,x,x,x;return $elf._or((function(){return $elf._apply("ws")}),(function(){return $elf._apply("any")}),(function(){return $elf._apply("error")}),(function(){return $elf._apply("application")}),(function(){return $elf._apply("semAction")}),(function(){return $elf._apply("semPred")}),(function(){return (function(){x=$elf._or((function(){return $elf._applyWithArgs("keyword","undefined")}),(function(){return $elf._applyWithArgs("keyword","nil")}),(function(){return $elf._applyWithArgs("keyword","true")}),(function(){return $elf._applyWithArgs("keyword","false")}));return ["App","exactly",x]})()}),(function(){return (function(){$elf._apply("spaces");return $elf._or((function(){return $elf._apply("string")}),(function(){return $elf._apply("symbol")}),(function(){return $elf._apply("number")}))})()}),(function(){return (function(){$elf._applyWithArgs("token","[");x=$elf._apply("expr");$elf._applyWithArgs("token","]");return ["List",x]})()}),(function(){return (function(){$elf._applyWithArgs("token","(");x=$elf._apply("expr");$elf._applyWithArgs("token",")");return x})()}))},"ruleName":function(){var $elf=this;return $elf._or((function(){return $elf._apply("name")}),(function(){return (function(){$elf._apply("spaces");return $elf._apply("tsString")})()}))},"annotation":function(){var $elf=this,n;return (function(){$elf._applyWithArgs("token","@");n=$elf._apply("tsName");return n})()},"rule":function(){var $elf=this,as,n,x,xs;return (function(){as=$elf._many(function(){return $elf._apply("annotation")});$elf._lookahead(function(){return n=$elf._apply("ruleName")});$elf["locals"]=[];x=$elf._applyWithArgs("rulePart",n);xs=$elf._many(function(){return (function(){$elf._applyWithArgs("token",";");return $elf._applyWithArgs("rulePart",n)})()});$elf._applyWithArgs("token",";");return ["Rule",n,$elf["locals"],["Or",x].concat(xs),as]})()},"rulePart":function(){var $elf=this,rn,n,b1,b2;return (function(){rn=$elf._apply("anything");n=$elf._apply("ruleName");$elf._pred((n == rn));b1=$elf._apply("expr4");return $elf._or((function(){return (function(){$elf._applyWithArgs("token",":");b2=$elf._apply("expr");return ["And",b1,b2]})()}),(function(){return (function(){$elf._apply("empty");return b1})()}))})()},"qualifiers":function(){var $elf=this,qs;return (function(){qs=$elf._many1(function(){return $elf._or((function(){return $elf._applyWithArgs("keyword","public")}),(function(){return $elf._applyWithArgs("keyword","private")}),(function(){return $elf._applyWithArgs("keyword","final")}),(function(){return $elf._applyWithArgs("keyword","static")}),(function(){return $elf._applyWithArgs("keyword","abstract")}))});return qs.join(" ")})()},"method":function(){var $elf=this,q,r,n,as,bs;return (function(){q=$elf._apply("qualifiers");$elf._apply("spaces");r=$elf._apply("name");$elf._apply("spaces");n=$elf._apply("name");$elf._applyWithArgs("token","(");as=$elf._many(function(){return (function(){$elf._not(function(){return $elf._applyWithArgs("exactly",")")});return $elf._apply("char")})()});$elf._applyWithArgs("token",")");$elf._applyWithArgs("token","{");bs=$elf._many(function(){return $elf._apply("cbraces")});$elf._applyWithArgs("token","}");return ["Method",[q,r,n,"(",as.join(""),") {",bs.join(""),"}"].join(" ")]})()},"field":function(){var $elf=this,q,t,n,xs;return (function(){q=$elf._apply("qualifiers");$elf._apply("spaces");t=$elf._apply("name");$elf._apply("spaces");n=$elf._apply("name");$elf._applyWithArgs("token","=");xs=$elf._many(function(){return (function(){$elf._not(function(){return $elf._applyWithArgs("exactly",";")});return $elf._apply("char")})()});$elf._applyWithArgs("exactly",";");return ["Field",[q,t,n,"=",xs.join(""),";"].join(" ")]})()},"import":function(){var $elf=this,stm,xs;return (function(){stm=$elf._or((function(){return $elf._applyWithArgs("keyword","import")}),(function(){return $elf._applyWithArgs("keyword","package")}));xs=$elf._many(function(){return (function(){$elf._not(function(){return $elf._applyWithArgs("exactly",";")});return $elf._apply("char")})()});$elf._applyWithArgs("exactly",";");return ["Import",[stm,xs.join(""),";"].join(" ")]})()},"classdef":function(){var $elf=this,q,xs,bs;return (function(){q=$elf._apply("qualifiers");$elf._applyWithArgs("keyword","class");xs=$elf._many(function(){return (function(){$elf._not(function(){return $elf._applyWithArgs("exactly","{")});return $elf._apply("char")})()});$elf._applyWithArgs("token","{");bs=$elf._many(function(){return $elf._apply("cbraces")});$elf._applyWithArgs("token","}");return ["Class",[q,"class",xs.join(""),"{",bs.join(""),"}"].join(" ")]})()},"ruleMethod":function(){var $elf=this;return (function(){$elf._apply("spaces");return $elf._or((function(){return $elf._apply("method")}),(function(){return $elf._apply("field")}),(function(){return $elf._apply("rule")}))})()},"parser":function(){var $elf=this,p,n,sn,rs;return (function(){p=$elf._or((function(){return $elf._applyWithArgs("keyword","public")}),(function(){return (function(){$elf._apply("empty");return ""})()}));$elf._applyWithArgs("keyword","parser");n=$elf._apply("name");sn=$elf._or((function(){return (function(){$elf._applyWithArgs("keyword","extends");return $elf._apply("name")})()}),(function(){return (function(){$elf._apply("empty");return "BaseParser"})()}));$elf._applyWithArgs("token","{");rs=$elf._many(function(){return $elf._apply("ruleMethod")});$elf._applyWithArgs("token","}");return $elf._applyWithArgs("foreign",JMetaOptimizer,"optimizeGrammar",["Parser",p,n,sn].concat(rs))})()},"line":function(){var $elf=this,p,l;return (function(){p=$elf._apply("spaces");l=$elf._or((function(){return $elf._apply("parser")}),(function(){return $elf._apply("import")}),(function(){return $elf._apply("classdef")}));return ["Line",p.join(""),l]})()},"file":function(){var $elf=this,ls;return (function(){ls=$elf._many(function(){return $elf._apply("line")});$elf._apply("spaces");$elf._apply("end");return ["File"].concat(ls)})()}})
\ No newline at end of file
@@ -0,0 +1,1569 @@
+
+package  jmeta ;
+import  java.util.* ;
+
+final class  DoError  { 
+    String msg = null;
+    boolean cut = false;
+    boolean resumed = false;
+    public DoError(Object m) { msg = (String)m; }
+    public DoError(Object m, boolean c) { msg = (String)m; cut = c; }
+ }
+
+
+public class JMetaCompiler extends BaseParser {  public Object jpackage =  null ;
+  public boolean embedded =  false ;
+  public ArrayList locals =  new ArrayList() ;
+  public ArrayList methods =  new ArrayList() ;
+  public ArrayList rules =  new ArrayList() ;
+  public void reset (  ) { 
+        locals = new ArrayList();
+        methods = new ArrayList();
+        rules = new ArrayList();
+     }
+  public String sname =  "ERROR-sname-ERROR" ;
+  public String name =  "ERROR-name-ERROR" ;
+  public void addLocal ( Object n ) { 
+        String s = ((String)n).intern();
+        if (! locals.contains(s)) locals.add(s);
+     }
+  public String localsAsArgs (  ) { 
+        if (locals.size() == 0) return "";
+        return "Object "+ join(locals, ", Object ");
+     }
+  public String localsAsCall (  ) { 
+        return join(locals, ",");
+     }
+  public String localsAsInit (  ) { 
+        if (locals.size() == 0) return "";
+        String res = "Object "+ join(locals, "=null; Object ") + "=null;";
+        locals.clear();
+        return res;
+     }
+  public String w ( Object... as ) { 
+        StringBuilder sb = new StringBuilder();
+        for (Object a : as) sb.append(a);
+        return sb.toString();
+     }
+  public Emitter out =  new Emitter(new StringBuilder()) ;
+  public void compile ( Object ast, Appendable to ) { 
+        out = new Emitter(to);
+        parse(ast);
+     }
+  public int __genc =  0 ;
+  public String genvar (  ) {  return ""+ __genc++;  }
+
+
+  public Object destruct() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  do {
+  Object r=null, t=null;
+  { int _p0=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    t= _t;
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _push(t); _t=apply();
+    r= _t;
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=end();
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=r;
+    if (_t==ERROR) throw new SyntaxError("", this);
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; } }
+  _t = _memoize(_base+0, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+
+  public Object trans() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+1, _start);
+  do {
+  Object r=null;
+  { int _p1=_pos; _t=ERROR; do{ //and
+        _t=_listBegin(); if (_t!=ERROR) {
+    _t=destruct();
+    r= _t;
+    _listEnd(); }
+    if (_t==ERROR) break;
+
+    _t=r;
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p1, _pos); _pos=_p1; } }
+  _t = _memoize(_base+1, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+
+  public Object transSep() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+2, _start);
+  do {
+  Object s=null;
+  { int _p6=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    s= _t;
+      if (_t==ERROR) break;
+
+      _t=ERROR; do{ //or
+        { int _p5=_pos; _t=ERROR; do{ //and
+          _t=trans();
+          if (_t==ERROR) break;
+
+          java.util.ArrayList<Object> as4=new java.util.ArrayList<Object>();
+          while (true){ //many
+          { int _p3=_pos; _t=ERROR; do{ //and
+                        { int _l=_pos;
+            _t=_any();
+            if (_t!=ERROR) { _pos=_l; }            }
+            if (_t==ERROR) break;
+
+            _t=__act2(s);
+            if (_t==ERROR) break;
+
+            _t=trans();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; } }
+          if (_t==ERROR) break; else as4.add(_t);
+          } _t=as4;
+          if (_t==ERROR) break;
+        }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p5, _pos); _pos=_p5; } }
+        if (_t!=ERROR) break;
+
+        _t=empty();
+        if (_t!=ERROR) break;
+      }while(false);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p6, _pos); _pos=_p6; } }
+  _t = _memoize(_base+2, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+
+  public Object HList() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+3, _start);
+  do {
+  
+  { int _p9=_pos; _t=ERROR; do{ //and
+    _t=__act7();
+    if (_t==ERROR) break;
+
+    _push(", "); _t=transSep();
+    if (_t==ERROR) break;
+
+    _t=__act8();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p9, _pos); _pos=_p9; } }
+  _t = _memoize(_base+3, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+
+  public Object HConcat() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+4, _start);
+  do {
+  Object l=null, r=null;
+  { int _p14=_pos; _t=ERROR; do{ //and
+        { int _l=_pos;
+    { int _p10=_pos; _t=ERROR; do{ //and
+      _t=_any();
+      l= _t;
+      if (_t==ERROR) break;
+
+      _t=_any();
+      r= _t;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p10, _pos); _pos=_p10; } }
+    if (_t!=ERROR) { _pos=_l; }    }
+    if (_t==ERROR) break;
+
+    _t=__act11(l,r);
+    if (_t==ERROR) break;
+
+    _t=concatPart();
+    if (_t==ERROR) break;
+
+    _t=__act12(l,r);
+    if (_t==ERROR) break;
+
+    _t=concatPart();
+    if (_t==ERROR) break;
+
+    _t=__act13(l,r);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p14, _pos); _pos=_p14; } }
+  _t = _memoize(_base+4, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+
+  public Object concatPart() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+5, _start);
+  do {
+  
+  _t=ERROR; do{ //or
+    { int _p18=_pos; _t=ERROR; do{ //and
+            _t=_listBegin(); if (_t!=ERROR) {
+      { int _p16=_pos; _t=ERROR; do{ //and
+        _t=_sym("HConcat");
+        if (_t==ERROR) break;
+
+        _t=concatPart();
+        if (_t==ERROR) break;
+
+        _t=__act15();
+        if (_t==ERROR) break;
+
+        _t=concatPart();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p16, _pos); _pos=_p16; } }
+      _listEnd(); }
+      if (_t==ERROR) break;
+
+      _t=__act17();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p18, _pos); _pos=_p18; } }
+    if (_t!=ERROR) break;
+
+    _t=trans();
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+5, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }  public int concatParts ( Object x ) { 
+        if (!(x instanceof Object[]) || !"HConcat".equals(((Object[]) x)[0])) return 1;
+        return concatParts(((Object[]) x)[1]) + concatParts(((Object[]) x)[2]);
+     }
+
+
+  public Object HStr() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+6); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+6, _start);
+  do {
+  Object c=null;
+  { int _p20=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    c= _t;
+    if (_t==ERROR) break;
+
+    _t=__act19(c);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p20, _pos); _pos=_p20; } }
+  _t = _memoize(_base+6, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+6, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+
+  public Object HLit() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+7); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+7, _start);
+  do {
+  Object c=null;
+  { int _p22=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    c= _t;
+    if (_t==ERROR) break;
+
+    _t=__act21(c);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p22, _pos); _pos=_p22; } }
+  _t = _memoize(_base+7, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+7, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+
+  public Object Error() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+8); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+8, _start);
+  do {
+  Object msg=null;
+  { int _p24=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    msg= _t;
+    if (_t==ERROR) break;
+
+    _t=__act23(msg);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p24, _pos); _pos=_p24; } }
+  _t = _memoize(_base+8, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+8, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+8, _start, _pos, _t); return _t;
+  }
+
+  public Object Cut() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+9); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+9, _start);
+  do {
+  
+  _t=__act25();
+  _t = _memoize(_base+9, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+9, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+9, _start, _pos, _t); return _t;
+  }
+
+  public Object Throw() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+10); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+10, _start);
+  do {
+  Object msg=null;
+  { int _p27=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    msg= _t;
+    if (_t==ERROR) break;
+
+    _t=__act26(msg);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p27, _pos); _pos=_p27; } }
+  _t = _memoize(_base+10, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+10, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+10, _start, _pos, _t); return _t;
+  }
+
+  public Object Set() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+11); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+11, _start);
+  do {
+  Object n=null;
+  { int _p29=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    n= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act28(n);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p29, _pos); _pos=_p29; } }
+  _t = _memoize(_base+11, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+11, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+11, _start, _pos, _t); return _t;
+  }
+
+  public Object Str() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+12); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+12, _start);
+  do {
+  Object s=null;
+  { int _p31=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    s= _t;
+    if (_t==ERROR) break;
+
+    _t=__act30(s);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p31, _pos); _pos=_p31; } }
+  _t = _memoize(_base+12, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+12, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+12, _start, _pos, _t); return _t;
+  }
+
+  public Object Strs() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+13); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+13, _start);
+  do {
+  Object xs=null;
+  { int _p34=_pos; _t=ERROR; do{ //and
+      java.util.ArrayList<Object> as32=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=_any();
+      if (_t==ERROR) break; else as32.add(_t);
+      } _t=as32;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=__act33(xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p34, _pos); _pos=_p34; } }
+  _t = _memoize(_base+13, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+13, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+13, _start, _pos, _t); return _t;
+  }
+
+  public Object Sym() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+14); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+14, _start);
+  do {
+  Object s=null;
+  { int _p36=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    s= _t;
+    if (_t==ERROR) break;
+
+    _t=__act35(s);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p36, _pos); _pos=_p36; } }
+  _t = _memoize(_base+14, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+14, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+14, _start, _pos, _t); return _t;
+  }
+
+  public Object Chars() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+15); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+15, _start);
+  do {
+  Object neg=null, xs=null;
+  { int _p39=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    neg= _t;
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as37=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=_any();
+      if (_t==ERROR) break; else as37.add(_t);
+      } _t=as37;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=__act38(neg,xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p39, _pos); _pos=_p39; } }
+  _t = _memoize(_base+15, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+15, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+15, _start, _pos, _t); return _t;
+  }
+
+  public Object App() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+16); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+16, _start);
+  do {
+  Object rule=null;
+  _t=ERROR; do{ //or
+    { int _p42=_pos; _t=ERROR; do{ //and
+      _t=_sym("super");
+      if (_t==ERROR) break;
+
+      _t=_any();
+      rule= _t;
+      if (_t==ERROR) break;
+
+            { int _l=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l; }      }
+      if (_t==ERROR) break;
+
+      _t=__act40(rule);
+      if (_t==ERROR) break;
+
+      _push(", "); _t=transSep();
+      if (_t==ERROR) break;
+
+      _t=__act41(rule);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p42, _pos); _pos=_p42; } }
+    if (_t!=ERROR) break;
+
+    { int _p44=_pos; _t=ERROR; do{ //and
+      _t=_sym("super");
+      if (_t==ERROR) break;
+
+      _t=_any();
+      rule= _t;
+      if (_t==ERROR) break;
+
+      _t=__act43(rule);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p44, _pos); _pos=_p44; } }
+    if (_t!=ERROR) break;
+
+    { int _p47=_pos; _t=ERROR; do{ //and
+      _t=_any();
+      rule= _t;
+      if (_t==ERROR) break;
+
+            { int _l=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l; }      }
+      if (_t==ERROR) break;
+
+      _t=__act45(rule);
+      if (_t==ERROR) break;
+
+      _push(", "); _t=transSep();
+      if (_t==ERROR) break;
+
+      _t=__act46(rule);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p47, _pos); _pos=_p47; } }
+    if (_t!=ERROR) break;
+
+    { int _p49=_pos; _t=ERROR; do{ //and
+      _t=_any();
+      rule= _t;
+      if (_t==ERROR) break;
+
+      _t=__act48(rule);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p49, _pos); _pos=_p49; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+16, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+16, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+16, _start, _pos, _t); return _t;
+  }
+
+  public Object SAct() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+17); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+17, _start);
+  do {
+  
+  { int _p52=_pos; _t=ERROR; do{ //and
+    _t=__act50();
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act51();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p52, _pos); _pos=_p52; } }
+  _t = _memoize(_base+17, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+17, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+17, _start, _pos, _t); return _t;
+  }
+
+  public Object Act() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+18); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+18, _start);
+  do {
+  Object expr=null;
+  { int _p54=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    expr= _t;
+    if (_t==ERROR) break;
+
+    _t=__act53(expr);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p54, _pos); _pos=_p54; } }
+  _t = _memoize(_base+18, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+18, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+18, _start, _pos, _t); return _t;
+  }
+
+  public Object Pred() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+19); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+19, _start);
+  do {
+  Object expr=null;
+  { int _p56=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    expr= _t;
+    if (_t==ERROR) break;
+
+    _t=__act55(expr);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p56, _pos); _pos=_p56; } }
+  _t = _memoize(_base+19, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+19, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+19, _start, _pos, _t); return _t;
+  }
+
+  public Object Or() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+20); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+20, _start);
+  do {
+  
+  { int _p63=_pos; _t=ERROR; do{ //and
+      _t=__act57();
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as61=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p60=_pos; _t=ERROR; do{ //and
+                { int _l=_pos;
+        _t=_any();
+        if (_t!=ERROR) { _pos=_l; }        }
+        if (_t==ERROR) break;
+
+        _t=__act58();
+        if (_t==ERROR) break;
+
+        _t=trans();
+        if (_t==ERROR) break;
+
+        _t=__act59();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p60, _pos); _pos=_p60; } }
+      if (_t==ERROR) break; else as61.add(_t);
+      } _t=as61;
+      if (_t==ERROR) break;
+
+      _t=__act62();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p63, _pos); _pos=_p63; } }
+  _t = _memoize(_base+20, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+20, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+20, _start, _pos, _t); return _t;
+  }
+
+  public Object Predict() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+21); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+21, _start);
+  do {
+  Object fs=null, i=null, v=null;
+  { int _p71=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    fs= _t;
+      if (_t==ERROR) break;
+
+      _t=__act64(fs,i,v);
+    v= _t;
+      if (_t==ERROR) break;
+
+      _t=__act65(fs,i,v);
+    i= _t;
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as69=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p68=_pos; _t=ERROR; do{ //and
+                { int _l=_pos;
+        _t=_any();
+        if (_t!=ERROR) { _pos=_l; }        }
+        if (_t==ERROR) break;
+
+        _t=__act66(fs,i,v);
+        if (_t==ERROR) break;
+
+        _t=trans();
+        if (_t==ERROR) break;
+
+        _t=__act67(fs,i,v);
+        i= _t;
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p68, _pos); _pos=_p68; } }
+      if (_t==ERROR) break; else as69.add(_t);
+      } _t=as69;
+      if (_t==ERROR) break;
+
+      _t=__act70(fs,i,v);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p71, _pos); _pos=_p71; } }
+  _t = _memoize(_base+21, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+21, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+21, _start, _pos, _t); return _t;
+  }  public Object predictBegin ( Object fs ) { 
+        String var = genvar();
+        Object[] f = (Object[]) fs;
+        StringBuilder p = new StringBuilder();
+        for (int i = 0; i < f.length; i++) {
+            if (f[i] == null) continue;
+            StringBuilder cs = new StringBuilder();
+            StringBuilder es = new StringBuilder();
+            for (Object c : (Object[]) f[i]) {
+                if (c instanceof Character) cs.append(c);
+                else if (((String) c).startsWith("[")) p.append(w(".list(", i, ", \"", Utils.escape(((String) c).substring(1)), "\")"));
+                else if (((String) c).startsWith("\"")) es.append(w(".str(", i, ", \"", Utils.escape(((String) c).substring(1)), "\")"));
+                else if (((String) c).startsWith("=")) es.append(w(".rule(", i, ", \"", ((String) c).substring(1), "\")"));
+                else if (((String) c).startsWith("<")) es.append(w(".cls(", i, ", \"", Utils.escape(((String) c).substring(1)), "\")"));
+                else if (c.equals(")")) es.append(w(".end(", i, ")"));
+                else p.append(w(".sym(", i, ", \"", Utils.escape(c), "\")"));
+            }
+            if (cs.length() > 0) p.append(w(".chars(", i, ", \"", Utils.escape(cs.toString()), "\")"));
+            p.append(es);
+        }
+        methods.add(w(
+            "static final Predict __predict", var, " = new Predict()", p, ";\n"
+        ));
+        out.w("long _m", var, "=(getClass()==", name, ".class)? __predict", var, ".mask(this) : -1L;").nl();
+        out.open("_t=ERROR; do").w(" //predict");
+        return var;
+     }
+  public Object predictEnd ( Object var ) { 
+        return out.nl().close(" while(false);").nl().w("if (_t==ERROR) __predict", var, ".expect(this, _m", var, ");");
+     }
+  public Object predictAlt ( Object var, Object fs, Object i ) { 
+        int k = (Integer) i;
+        out.nl();
+        if (((Object[]) fs)[k] == null) return out;
+        return out.open("if ((_m", var, " & ", 1L << k, "L)!=0) ").nl();
+     }
+  public Object predictAltEnd ( Object var, Object fs, Object i ) { 
+        int k = (Integer) i;
+        out.nl().w("if (_t!=ERROR) break;");
+        if (((Object[]) fs)[k] != null) out.nl().close();
+        return k + 1;
+     }
+
+
+  public Object And() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+22); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+22, _start);
+  do {
+  Object err=null, v=null, x=null;
+  _t=ERROR; do{ //or
+      { int _p79=_pos; _t=ERROR; do{ //and
+              { int _l=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l; }      }
+        if (_t==ERROR) break;
+
+        _t=__act72(err,v,x);
+      v= _t;
+        if (_t==ERROR) break;
+
+        _t=__act73(err,v,x);
+      err= _t;
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as77=new java.util.ArrayList<Object>();
+        while (true){ //many
+        { int _p76=_pos; _t=ERROR; do{ //and
+                    { int _l=_pos;
+          _t=_any();
+          if (_t!=ERROR) { _pos=_l; }          }
+          if (_t==ERROR) break;
+
+          _t=__act74(err,v,x);
+          if (_t==ERROR) break;
+
+          _t=trans();
+          x= _t;
+          if (_t==ERROR) break;
+
+          _t=__act75(err,v,x);
+          err= _t;
+          if (_t==ERROR) break;
+        }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p76, _pos); _pos=_p76; } }
+        if (_t==ERROR) break; else as77.add(_t);
+        } _t=as77;
+        if (_t==ERROR) break;
+
+        _t=__act78(err,v,x);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p79, _pos); _pos=_p79; } }
+      if (_t!=ERROR) break;
+
+      _t=__act80(err,v,x);
+      if (_t!=ERROR) break;
+    }while(false);
+  _t = _memoize(_base+22, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+22, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+22, _start, _pos, _t); return _t;
+  }  public Object andBegin (  ) { 
+        String var = genvar();
+        out.w("int _p", var, "=_pos; _t=ERROR; ").open("do ").w(" //and");
+        return var;
+     }
+  public Object andNext ( Object err, Object x ) { 
+        if (x instanceof DoError) {
+            DoError e = (DoError) x;
+            if (!e.resumed) out.w(e.cut? "_cut();" : "if (cutOnError) _cut();");
+            return e.msg;
+        }
+        if (err != null) out.nl().w("if (_t==ERROR) throw new SyntaxError(\"", err, "\", this);");
+        else out.nl().w("if (_t==ERROR) break;");
+        return err;
+     }
+
+
+  public Object Many() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+23); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+23, _start);
+  do {
+  Object v=null, x=null;
+  { int _p83=_pos; _t=ERROR; do{ //and
+        { int _l=_pos;
+    _t=_any();
+    if (_t!=ERROR) { _pos=_l; }    }
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=__act81(v,x);
+    v= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act82(v,x);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p83, _pos); _pos=_p83; } }
+  _t = _memoize(_base+23, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+23, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+23, _start, _pos, _t); return _t;
+  }
+
+  public Object Many1() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+24); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+24, _start);
+  do {
+  Object v=null, x=null;
+  { int _p86=_pos; _t=ERROR; do{ //and
+        { int _l=_pos;
+    _t=_any();
+    if (_t!=ERROR) { _pos=_l; }    }
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=__act84(v,x);
+    v= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act85(v,x);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p86, _pos); _pos=_p86; } }
+  _t = _memoize(_base+24, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+24, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+24, _start, _pos, _t); return _t;
+  }
+
+  public Object Skip() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+25); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+25, _start);
+  do {
+  Object v=null, x=null;
+  { int _p89=_pos; _t=ERROR; do{ //and
+        { int _l=_pos;
+    _t=_any();
+    if (_t!=ERROR) { _pos=_l; }    }
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=__act87(v,x);
+    v= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act88(v,x);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p89, _pos); _pos=_p89; } }
+  _t = _memoize(_base+25, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+25, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+25, _start, _pos, _t); return _t;
+  }
+
+  public Object Skip1() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+26); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+26, _start);
+  do {
+  Object v=null, x=null;
+  { int _p92=_pos; _t=ERROR; do{ //and
+        { int _l=_pos;
+    _t=_any();
+    if (_t!=ERROR) { _pos=_l; }    }
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=__act90(v,x);
+    v= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act91(v,x);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p92, _pos); _pos=_p92; } }
+  _t = _memoize(_base+26, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+26, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+26, _start, _pos, _t); return _t;
+  }  public Object manyBegin ( Object x, boolean many1, boolean list ) { 
+        String var = genvar();
+        boolean resume = resumable(body, x);
+        if (resume) out.w("int _l", var, "=_loop(_base+", rules.size(), ", ", var, ");").nl();
+        String as = resume? w("_loopList(_l", var, ")") : "new java.util.ArrayList<Object>()";
+        if (list) out.w("java.util.ArrayList<Object> as", var, "=", as, ";").nl();
+        else if (many1) out.w("boolean _s", var, "=", resume? w("_loopAny(_l", var, ")") : "false", ";").nl();
+        out.open("while (true) ").w(" //many").nl();
+        return var;
+     }
+  public Object manyEnd ( Object var, Object x, boolean many1, boolean list ) { 
+        boolean resume = resumable(body, x);
+        if (list) out.nl().w("if (_t==ERROR) break; else as", var, ".add(_t);");
+        else if (many1) out.nl().w("if (_t==ERROR) break; else _s", var, "=true;");
+        else out.nl().w("if (_t==ERROR) break;");
+        if (resume) out.nl().w("_loopNext(_l", var, ");");
+        out.nl().close(resume? w(" _loopEnd(_l", var, "); _t=") : " _t=");
+        if (list) return out.w(many1? w("as", var, ".isEmpty()? ERROR : as", var) : w("as", var), ";");
+        return out.w(many1? w("_s", var, "? null : ERROR") : "null", ";");
+     }
+
+
+  public Object Opt() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+27); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+27, _start);
+  do {
+  
+  { int _p94=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act93();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p94, _pos); _pos=_p94; } }
+  _t = _memoize(_base+27, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+27, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+27, _start, _pos, _t); return _t;
+  }
+
+  public Object Not() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+28); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+28, _start);
+  do {
+  
+  { int _p97=_pos; _t=ERROR; do{ //and
+    _t=__act95();
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act96();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p97, _pos); _pos=_p97; } }
+  _t = _memoize(_base+28, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+28, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+28, _start, _pos, _t); return _t;
+  }
+
+  public Object Peek() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+29); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+29, _start);
+  do {
+  Object v=null;
+  { int _p100=_pos; _t=ERROR; do{ //and
+    _t=__act98(v);
+    v= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act99(v);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p100, _pos); _pos=_p100; } }
+  _t = _memoize(_base+29, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+29, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+29, _start, _pos, _t); return _t;
+  }
+
+  public Object Text() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+30); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+30, _start);
+  do {
+  Object v=null;
+  { int _p103=_pos; _t=ERROR; do{ //and
+    _t=__act101(v);
+    v= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act102(v);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p103, _pos); _pos=_p103; } }
+  _t = _memoize(_base+30, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+30, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+30, _start, _pos, _t); return _t;
+  }  public Object position ( String prefix ) { 
+        String var = genvar();
+        out.w("int ", prefix, var, "=_pos;").nl();
+        return var;
+     }
+
+
+  public Object List() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+31); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+31, _start);
+  do {
+  
+  { int _p106=_pos; _t=ERROR; do{ //and
+    _t=__act104();
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act105();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p106, _pos); _pos=_p106; } }
+  _t = _memoize(_base+31, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+31, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+31, _start, _pos, _t); return _t;
+  }
+
+  public Object Outline() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+32); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+32, _start);
+  do {
+  Object r=null, s=null;
+  { int _p109=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    r= _t;
+    if (_t==ERROR) break;
+
+    _t=__act107(r,s);
+    s= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+
+    _t=__act108(r,s);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p109, _pos); _pos=_p109; } }
+  _t = _memoize(_base+32, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+32, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+32, _start, _pos, _t); return _t;
+  }  public Object outlineBegin (  ) { 
+        Object[] s = { new ArrayList(locals), out };
+        out = new Emitter(new StringBuilder(), 2);
+        return s;
+     }
+  public Object outlineEnd ( Object r, Object s ) { 
+        String var = genvar();
+        ArrayList params = (ArrayList) ((Object[]) s)[0];
+        ArrayList own = new ArrayList(locals);
+        own.removeAll(params);
+        locals = own;
+        String init = localsAsInit();
+        locals = params;
+        Emitter body = out;
+        out = (Emitter) ((Object[]) s)[1];
+        methods.add(w(
+            "\n  Object __", r, "_", var, "(", localsAsArgs(), ") { Object _t=null;\n",
+            (init.length() > 0)? w("    ", init, "\n") : "",
+            "    ", body, "\n",
+            "    return _t;\n",
+            "  }\n"
+        ));
+        return out.w("_t=__", r, "_", var, "(", localsAsCall(), ");");
+     }
+  public Object body =  null ;
+  public static boolean resumable ( Object body, Object x ) { 
+        HashSet<String> vs = new HashSet<String>();
+        sets(x, vs);
+        for (String v : vs) if (mentions(body, x, v) || !setFirst(x, v)) return false;
+        return true;
+     }
+  static void sets ( Object x, HashSet<String> vs ) { 
+        if (!(x instanceof Object[])) return;
+        Object[] a = (Object[]) x;
+        if ("Set".equals(a[0])) vs.add((String) a[1]);
+        for (int i = "Predict".equals(a[0])? 2 : 1; i < a.length; i++) sets(a[i], vs);
+     }
+  static boolean mentions ( Object x, Object skip, String v ) { 
+        if (x == skip) return false;
+        if (x instanceof String) return Arrays.asList(((String) x).split("[^\\w$]+")).contains(v);
+        if (!(x instanceof Object[])) return false;
+        for (Object o : (Object[]) x) if (mentions(o, skip, v)) return true;
+        return false;
+     }
+  static boolean setFirst ( Object x, String v ) { 
+        Object[] a = (Object[]) x;
+        if ("Set".equals(a[0])) return a[1].equals(v) && !mentions(a[2], null, v);
+        if (!"And".equals(a[0])) return false;
+        for (int i = 1; i < a.length; i++) if (mentions(a[i], null, v)) return setFirst(a[i], v);
+        return false;
+     }
+
+
+  public Object Rule() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+33); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+33, _start);
+  do {
+  Object as=null, b=null, n=null, s=null;
+  { int _p113=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    n= _t;
+      if (_t==ERROR) break;
+
+          { int _l=_pos;
+    _t=_any();
+    if (_t!=ERROR) { _pos=_l; }    }
+    b= _t;
+      if (_t==ERROR) break;
+
+      _t=__act110(as,b,n,s);
+    s= _t;
+      if (_t==ERROR) break;
+
+      _t=trans();
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as111=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=_any();
+      if (_t==ERROR) break; else as111.add(_t);
+      } _t=as111;
+      as= _t;
+      if (_t==ERROR) break;
+
+      _t=__act112(as,b,n,s);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p113, _pos); _pos=_p113; } }
+  _t = _memoize(_base+33, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+33, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+33, _start, _pos, _t); return _t;
+  }  public Object ruleBegin ( Object b ) { 
+        body = b;
+        Emitter s = out;
+        out = new Emitter(new StringBuilder(), 2);
+        return s;
+     }
+  public Object ruleEnd ( Object n, Object s, Object as ) { 
+        String id = w("_base+", rules.size()); rules.add(n);
+        Emitter b = out;
+        out = (Emitter) s;
+        if (((ArrayList) as).contains("nomemo") && !((ArrayList) as).contains("memo")) return out.w(
+            "\n",
+            "  public Object ", n, "() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);\n",
+            "    if (listener!=null) listener.enter(this, ", id, ", _start);\n",
+            "    ", localsAsInit(), "\n",
+            "    ", b, "\n",
+            "    if (_t==ERROR) { _pos=_start; _fail(", id, ", _start, _exp); }\n",
+            "    if (listener!=null) listener.exit(this, ", id, ", _start, _pos, _t); return _t;\n",
+            "  }"
+        );
+        return out.w(
+            "\n",
+            "  public Object ", n, "() { Object _t=null; int _start=_pos;\n",
+            "    _t=_retrieve(", id, "); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);\n",
+            "    if (listener!=null) listener.enter(this, ", id, ", _start);\n",
+            "    ", localsAsInit(),
+            "    do {\n",
+            "    ", b, "\n",
+            "    _t=_memoize(", id, ", _k, _start, _t);\n",
+            "    } while (_t==GROW); if (_t==ERROR) _fail(", id, ", _start, _exp);\n",
+            "    if (listener!=null) listener.exit(this, ", id, ", _start, _pos, _t); return _t;\n",
+            "  }"
+        );
+     }
+
+
+  public Object Parser() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+34); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+34, _start);
+  do {
+  Object n=null, p=null, s=null;
+  { int _p117=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    p= _t;
+      if (_t==ERROR) break;
+
+      _t=_any();
+    n= _t;
+      if (_t==ERROR) break;
+
+      _t=_any();
+    s= _t;
+      if (_t==ERROR) break;
+
+      _t=__act114(n,p,s);
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as115=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=trans();
+      if (_t==ERROR) break; else as115.add(_t);
+      } _t=as115;
+      if (_t==ERROR) break;
+
+      _t=__act116(n,p,s);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p117, _pos); _pos=_p117; } }
+  _t = _memoize(_base+34, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+34, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+34, _start, _pos, _t); return _t;
+  }  public Object parserEnd (  ) { 
+        out.w("\n");
+        for (Object m : methods) out.w(m);
+        out.w("\n",
+            "  static final int _base = ", sname, "._rules;\n",
+            "  public static final int _rules = _base + ", rules.size(), ";\n",
+            "  static final String[] _names = {", (rules.size() > 0)?w(" \"", join(rules, "\", \""), "\" "):"", "};\n",
+            "  public String _ruleName(int id) {\n",
+            "    if (id < _base) return super._ruleName(id);\n",
+            "    return _names[id - _base];\n",
+            "  }\n",
+
+            "  static final java.util.HashMap<String, Integer> _ids = _ids(", sname, "._ids, _base, _names);\n",
+            "  public int _ruleId(String r) {\n",
+            "    Integer id = _ids.get(r);\n",
+            "    return (id == null)? super._ruleId(r) : id;\n",
+            "  }\n",
+
+            "  public Object _call(int id) {\n",
+            "    switch (id - _base) {\n"
+        );
+        for (int i = 0; i < rules.size(); i++) out.w("      case ", i, ": return ", rules.get(i), "();\n");
+        out.w(
+            "      default: return super._call(id);\n",
+            "    }\n",
+            "  }"
+        );
+        reset();
+        return out.nl().close().w("\n");
+     }
+
+
+  public Object Method() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+35); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+35, _start);
+  do {
+  Object c=null;
+  { int _p119=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    c= _t;
+    if (_t==ERROR) break;
+
+    _t=__act118(c);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p119, _pos); _pos=_p119; } }
+  _t = _memoize(_base+35, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+35, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+35, _start, _pos, _t); return _t;
+  }
+
+  public Object Field() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+36); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+36, _start);
+  do {
+  Object c=null;
+  { int _p121=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    c= _t;
+    if (_t==ERROR) break;
+
+    _t=__act120(c);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p121, _pos); _pos=_p121; } }
+  _t = _memoize(_base+36, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+36, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+36, _start, _pos, _t); return _t;
+  }
+
+  public Object Package() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+37); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+37, _start);
+  do {
+  Object c=null;
+  { int _p123=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    c= _t;
+    if (_t==ERROR) break;
+
+    _t=__act122(c);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p123, _pos); _pos=_p123; } }
+  _t = _memoize(_base+37, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+37, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+37, _start, _pos, _t); return _t;
+  }
+
+  public Object Import() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+38); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+38, _start);
+  do {
+  Object c=null;
+  { int _p125=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    c= _t;
+    if (_t==ERROR) break;
+
+    _t=__act124(c);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p125, _pos); _pos=_p125; } }
+  _t = _memoize(_base+38, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+38, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+38, _start, _pos, _t); return _t;
+  }
+
+  public Object Class() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+39); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+39, _start);
+  do {
+  Object c=null;
+  { int _p127=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    c= _t;
+    if (_t==ERROR) break;
+
+    _t=__act126(c);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p127, _pos); _pos=_p127; } }
+  _t = _memoize(_base+39, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+39, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+39, _start, _pos, _t); return _t;
+  }
+
+  public Object Line() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+40); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+40, _start);
+  do {
+  Object ws=null;
+  { int _p129=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    ws= _t;
+    if (_t==ERROR) break;
+
+    _t=__act128(ws);
+    if (_t==ERROR) break;
+
+    _t=trans();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p129, _pos); _pos=_p129; } }
+  _t = _memoize(_base+40, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+40, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+40, _start, _pos, _t); return _t;
+  }
+
+  public Object File() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+41); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+41, _start);
+  do {
+  Object xs=null;
+  { int _p133=_pos; _t=ERROR; do{ //and
+              { int _l=_pos;
+      java.util.ArrayList<Object> as130=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=_any();
+      if (_t==ERROR) break; else as130.add(_t);
+      } _t=as130;
+      xs= _t;
+      if (_t!=ERROR) { _pos=_l; }      }
+        if (_t==ERROR) break;
+
+        _t=__act131(xs);
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as132=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=trans();
+        if (_t==ERROR) break; else as132.add(_t);
+        } _t=as132;
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p133, _pos); _pos=_p133; } }
+  _t = _memoize(_base+41, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+41, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+41, _start, _pos, _t); return _t;
+  }
+
+  public Object start() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+42); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+42, _start);
+  do {
+  
+  { int _p135=_pos; _t=ERROR; do{ //and
+    _t=destruct();
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=end();
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=__act134();
+    if (_t==ERROR) throw new SyntaxError("", this);
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p135, _pos); _pos=_p135; } }
+  _t = _memoize(_base+42, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+42, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+42, _start, _pos, _t); return _t;
+  }
+  Object __act2(Object s){ return out.w(s); }
+  Object __act7(){ return out.open("new Object[] "); }
+  Object __act8(){ return out.close(); }
+  Object __act11(Object l, Object r){ return out.w((concatParts(l) + concatParts(r) == 2)? "concat(" : "concatAll("); }
+  Object __act12(Object l, Object r){ return out.w(", "); }
+  Object __act13(Object l, Object r){ return out.w(")"); }
+  Object __act15(){ return out.w(", "); }
+  Object __act17(){ return out; }
+  Object __act19(Object c){ return out.w("\"", Utils.escape(c), "\""); }
+  Object __act21(Object c){ return out.w(c); }
+  Object __act23(Object msg){
+        return new DoError(msg);
+    }
+  Object __act25(){
+        return new DoError("", true);
+    }
+  Object __act26(Object msg){
+        DoError e = new DoError(msg); e.resumed = true;
+        return e;
+    }
+  Object __act28(Object n){
+        addLocal(n);
+        return out.nl().w(n, "=_t;");
+    }
+  Object __act30(Object s){ return out.w("_t=_str(\"", Utils.escape(s), "\");"); }
+  Object __act33(Object xs){
+        String var = genvar();
+        StringBuilder ls = new StringBuilder();
+        for (Object x : (ArrayList) xs) ls.append((ls.length() > 0)? ", " : "").append("\"").append(Utils.escape(x)).append("\"");
+        methods.add(w(
+            "static final Literals __literals", var, " = new Literals(", ls, ");\n"
+        ));
+        return out.w("_t=_strs(__literals", var, ");");
+    }
+  Object __act35(Object s){ return out.w("_t=_sym(\"", s, "\");"); }
+  Object __act38(Object neg, Object xs){
+        String var = genvar();
+        String name = Utils.className(neg, (ArrayList) xs);
+        StringBuilder b = new StringBuilder();
+        for (Object x : (ArrayList) xs) {
+            Object[] a = (Object[]) x;
+            if ("Str".equals(a[0])) b.append(".str(\"").append(Utils.escape(a[1])).append("\")");
+            else b.append(".range(").append((int) a[1].toString().charAt(0)).append(", ").append((int) a[2].toString().charAt(0)).append(")");
+        }
+        if (Boolean.TRUE.equals(neg)) b.append(".not()");
+        methods.add(w(
+            "static final CharClass __class", var, " = new CharClass(\"", Utils.escape(name), "\")", b, ";\n"
+        ));
+        return out.w("_t=_class(__class", var, ");");
+    }
+  Object __act40(Object rule){ return out.w("_push("); }
+  Object __act41(Object rule){ return out.w("); _t=super.", rule, "();"); }
+  Object __act43(Object rule){ return out.w("_t=super.", rule, "();"); }
+  Object __act45(Object rule){ return out.w("_push("); }
+  Object __act46(Object rule){ return out.w("); _t=", rule, "();"); }
+  Object __act48(Object rule){ return out.w("_t=", rule, "();"); }
+  Object __act50(){ return out.w("_t="); }
+  Object __act51(){ return out.w(";"); }
+  Object __act53(Object expr){
+        String var = genvar();
+        methods.add(w(
+            "Object __act", var, "(", localsAsArgs(), "){", expr, "}\n"
+        ));
+        return out.w("_t=__act", var, "(", localsAsCall(), ");");
+    }
+  Object __act55(Object expr){
+        String var = genvar();
+        methods.add(w(
+            "boolean __pred", var, "(", localsAsArgs(), "){", expr, "}\n"
+        ));
+        return out.w("if (!__pred", var, "(", localsAsCall(), ")) _t=ERROR;");
+    }
+  Object __act57(){ return out.open("_t=ERROR; do").w(" //or"); }
+  Object __act58(){ return out.nl(); }
+  Object __act59(){ return out.nl().w("if (_t!=ERROR) break;"); }
+  Object __act62(){ return out.nl().close(" while(false);"); }
+  Object __act64(Object fs, Object i, Object v){ return predictBegin(fs); }
+  Object __act65(Object fs, Object i, Object v){ return 0; }
+  Object __act66(Object fs, Object i, Object v){ return predictAlt(v, fs, i); }
+  Object __act67(Object fs, Object i, Object v){ return predictAltEnd(v, fs, i); }
+  Object __act70(Object fs, Object i, Object v){ return predictEnd(v); }
+  Object __act72(Object err, Object v, Object x){ return andBegin(); }
+  Object __act73(Object err, Object v, Object x){ return null; }
+  Object __act74(Object err, Object v, Object x){ return out.nl(); }
+  Object __act75(Object err, Object v, Object x){ return andNext(err, x); }
+  Object __act78(Object err, Object v, Object x){ return out.nl().close(" while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p", v, ", _pos); _pos=_p", v, "; }"); }
+  Object __act80(Object err, Object v, Object x){ return out; }
+  Object __act81(Object v, Object x){ return manyBegin(x, false, true); }
+  Object __act82(Object v, Object x){ return manyEnd(v, x, false, true); }
+  Object __act84(Object v, Object x){ return manyBegin(x, true, true); }
+  Object __act85(Object v, Object x){ return manyEnd(v, x, true, true); }
+  Object __act87(Object v, Object x){ return manyBegin(x, false, false); }
+  Object __act88(Object v, Object x){ return manyEnd(v, x, false, false); }
+  Object __act90(Object v, Object x){ return manyBegin(x, true, false); }
+  Object __act91(Object v, Object x){ return manyEnd(v, x, true, false); }
+  Object __act93(){ return out.nl().w("if (_t==ERROR) if (_string != null) { _t=\"\"; } else { _t=null; }"); }
+  Object __act95(){ return out.nl().w("_silent++;"); }
+  Object __act96(){ return out.nl().w("_silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }"); }
+  Object __act98(Object v){ return position("_l"); }
+  Object __act99(Object v){ return out.nl().w("if (_t!=ERROR) { _pos=_l", v, "; }"); }
+  Object __act101(Object v){ return position("_c"); }
+  Object __act102(Object v){ return out.nl().w("if (_t!=ERROR) { _t=_capture(_c", v, "); }"); }
+  Object __act104(){ return out.open("_t=_listBegin(); if (_t!=ERROR) ").nl(); }
+  Object __act105(){ return out.nl().w("_listEnd();").nl().close(); }
+  Object __act107(Object r, Object s){ return outlineBegin(); }
+  Object __act108(Object r, Object s){ return outlineEnd(r, s); }
+  Object __act110(Object as, Object b, Object n, Object s){ return ruleBegin(b); }
+  Object __act112(Object as, Object b, Object n, Object s){ return ruleEnd(n, s, as); }
+  Object __act114(Object n, Object p, Object s){ name = (String)n; sname = (String)s; return out.w("\n", p, " class ", name, " extends ", sname, " ").open(); }
+  Object __act116(Object n, Object p, Object s){ return parserEnd(); }
+  Object __act118(Object c){ return out.w("  ", c, "\n"); }
+  Object __act120(Object c){ return out.w("  ", c, "\n"); }
+  Object __act122(Object c){ jpackage = c; return out; }
+  Object __act124(Object c){ return out.w(c); }
+  Object __act126(Object c){ return out.w(c); }
+  Object __act128(Object ws){ return out.w(ws); }
+  Object __act131(Object xs){
+        for (Object x : (ArrayList) xs) {
+            Object l = ((Object[]) x)[2];
+            if (l instanceof Object[] && "Package".equals(((Object[]) l)[0])) jpackage = ((Object[]) l)[1];
+        }
+        return out.w(
+            (jpackage != null)?(jpackage+"\n"):"",
+            "// generated by jmeta on ", new Date(), "\n",
+            "// do not modify, instead edit original .jmeta file\n",
+            (!embedded)?"import jmeta.*;\n":""
+        );
+    }
+  Object __act134(){ return out.toString(); }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 43;
+  static final String[] _names = { "destruct", "trans", "transSep", "HList", "HConcat", "concatPart", "HStr", "HLit", "Error", "Cut", "Throw", "Set", "Str", "Strs", "Sym", "Chars", "App", "SAct", "Act", "Pred", "Or", "Predict", "And", "Many", "Many1", "Skip", "Skip1", "Opt", "Not", "Peek", "Text", "List", "Outline", "Rule", "Parser", "Method", "Field", "Package", "Import", "Class", "Line", "File", "start" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return destruct();
+      case 1: return trans();
+      case 2: return transSep();
+      case 3: return HList();
+      case 4: return HConcat();
+      case 5: return concatPart();
+      case 6: return HStr();
+      case 7: return HLit();
+      case 8: return Error();
+      case 9: return Cut();
+      case 10: return Throw();
+      case 11: return Set();
+      case 12: return Str();
+      case 13: return Strs();
+      case 14: return Sym();
+      case 15: return Chars();
+      case 16: return App();
+      case 17: return SAct();
+      case 18: return Act();
+      case 19: return Pred();
+      case 20: return Or();
+      case 21: return Predict();
+      case 22: return And();
+      case 23: return Many();
+      case 24: return Many1();
+      case 25: return Skip();
+      case 26: return Skip1();
+      case 27: return Opt();
+      case 28: return Not();
+      case 29: return Peek();
+      case 30: return Text();
+      case 31: return List();
+      case 32: return Outline();
+      case 33: return Rule();
+      case 34: return Parser();
+      case 35: return Method();
+      case 36: return Field();
+      case 37: return Package();
+      case 38: return Import();
+      case 39: return Class();
+      case 40: return Line();
+      case 41: return File();
+      case 42: return start();
+      default: return super._call(id);
+    }
+  }
+
+  }
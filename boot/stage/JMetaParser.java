@@ -0,0 +1,3925 @@
+
+package  jmeta ;
+import  java.util.* ;
+
+
+public class JMetaParser extends BaseParser {  public static void main ( String[] args ) { 
+        boolean embed = false;
+        if (args.length < 1) {
+            System.out.println("JMetaParser <input> [--embed], or see JMetaBuild to compile many inputs");
+            System.exit(2);
+        }
+        if (args.length > 1 && args[1].equals("--embed")) {
+            embed = true;
+        }
+        if (args.length > 2 || (args.length == 2 && !embed)) {
+            // more than one input, or other options
+            System.exit(JMetaBuild.run(args));
+        }
+        try {
+            CharSequence input = MappedInput.open(args[0]+".jmeta");
+            JMetaCompiler compiler = new JMetaCompiler(); compiler.embedded = embed;
+            Object ast;
+            try { ast = new JMetaParser().parse(input); }
+            finally { if (input instanceof java.io.Closeable) ((java.io.Closeable) input).close(); }
+            java.io.Writer output = Utils.openFile(args[0]+".java");
+            try { compiler.compile(ast, output); } finally { output.close(); }
+            System.exit(0);
+        } catch (SyntaxError ex) {
+            ex.printStackTrace();
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        System.exit(1);
+     }
+
+
+  public Object fromTo() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  Object x=null, y=null;
+  { int _p2=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    x= _t;
+      if (_t==ERROR) break;
+
+      _t=_any();
+    y= _t;
+      if (_t==ERROR) break;
+
+      _push(x); _t=str();
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as1=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p0=_pos; _t=ERROR; do{ //and
+                _silent++;
+_push(y); _t=str();
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=_any();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; } }
+      if (_t==ERROR) break; else as1.add(_t);
+      } _t=as1;
+      if (_t==ERROR) break;
+
+      _push(y); _t=str();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; } }
+  if (_t==ERROR) { _pos=_start; _fail(_base+0, _start, _exp); }
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+
+  public Object sp() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+1, _start);
+  do {
+  
+  _t=ERROR; do{ //or
+    _t=super.sp();
+    if (_t!=ERROR) break;
+
+    _push("//","\n"); _t=fromTo();
+    if (_t!=ERROR) break;
+
+    _push("/*","*/"); _t=fromTo();
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+1, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+
+  public Object ws() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+2, _start);
+  do {
+  
+  java.util.ArrayList<Object> as3=new java.util.ArrayList<Object>();
+    while (true){ //many
+    _t=ERROR; do{ //or
+      _t=sp();
+      if (_t!=ERROR) break;
+
+      _t=nl();
+      if (_t!=ERROR) break;
+    }while(false);
+    if (_t==ERROR) break; else as3.add(_t);
+    } _t=as3;
+  _t = _memoize(_base+2, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+
+  public Object listOf() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+3, _start);
+  do {
+  Object e=null, f=null, rs=null, s=null;
+  { int _p8=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    e= _t;
+      if (_t==ERROR) break;
+
+      _t=_any();
+    s= _t;
+      if (_t==ERROR) break;
+
+      _t=ERROR; do{ //or
+        { int _p6=_pos; _t=ERROR; do{ //and
+          _t=ws();
+          if (_t==ERROR) break;
+
+          _push(e); _t=apply();
+        f= _t;
+          if (_t==ERROR) break;
+
+          java.util.ArrayList<Object> as5=new java.util.ArrayList<Object>();
+          while (true){ //many
+          { int _p4=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push(s); _t=str();
+            if (_t==ERROR) break;
+
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push(e); _t=apply();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p4, _pos); _pos=_p4; } }
+          if (_t==ERROR) break; else as5.add(_t);
+          } _t=as5;
+          rs= _t;
+          if (_t==ERROR) break;
+
+          _t=concat(new Object[] {f}, rs);
+          if (_t==ERROR) break;
+        }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p6, _pos); _pos=_p6; } }
+        if (_t!=ERROR) break;
+
+        { int _p7=_pos; _t=ERROR; do{ //and
+          _t=empty();
+          if (_t==ERROR) break;
+
+          _t=new Object[] {};
+          if (_t==ERROR) break;
+        }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; } }
+        if (_t!=ERROR) break;
+      }while(false);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p8, _pos); _pos=_p8; } }
+  _t = _memoize(_base+3, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+
+  public Object reserved_() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+4, _start);
+  do {
+  
+  _t=ERROR; do{ //or
+    _t=_str("static");
+    if (_t!=ERROR) break;
+
+    _t=_str("private");
+    if (_t!=ERROR) break;
+
+    _t=_str("protected");
+    if (_t!=ERROR) break;
+
+    _t=_str("public");
+    if (_t!=ERROR) break;
+
+    _t=_str("java");
+    if (_t!=ERROR) break;
+
+    _t=_str("class");
+    if (_t!=ERROR) break;
+
+    _t=_str("interface");
+    if (_t!=ERROR) break;
+
+    _t=_str("abstract");
+    if (_t!=ERROR) break;
+
+    _t=_str("synchronized");
+    if (_t!=ERROR) break;
+
+    _t=_str("final");
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+4, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+
+  public Object reserved() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+5, _start);
+  do {
+  
+  { int _p9=_pos; _t=ERROR; do{ //and
+    _t=reserved_();
+    if (_t==ERROR) break;
+
+        _silent++;
+_t=nameRest();
+    _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p9, _pos); _pos=_p9; } }
+  _t = _memoize(_base+5, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+
+  public Object nameFirst() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+6); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+6, _start);
+  do {
+  
+  _t=ERROR; do{ //or
+    _t=_str("_");
+    if (_t!=ERROR) break;
+
+    _t=letter();
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+6, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+6, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+
+  public Object nameRest() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+7); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+7, _start);
+  do {
+  
+  _t=ERROR; do{ //or
+    _t=nameFirst();
+    if (_t!=ERROR) break;
+
+    _t=digit();
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+7, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+7, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+
+  public Object name() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+8); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+8, _start);
+  do {
+  Object n=null;
+  { int _p13=_pos; _t=ERROR; do{ //and
+          _silent++;
+_t=reserved();
+    _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+      if (_t==ERROR) break;
+
+      { int _c12=_pos;
+      { int _p11=_pos; _t=ERROR; do{ //and
+        _t=nameFirst();
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as10=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=nameRest();
+        if (_t==ERROR) break; else as10.add(_t);
+        } _t=as10;
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p11, _pos); _pos=_p11; } }
+      if (_t!=ERROR) { _t=_capture(_c12); }      }
+      n= _t;
+      if (_t==ERROR) break;
+
+      _t=n;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p13, _pos); _pos=_p13; } }
+  _t = _memoize(_base+8, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+8, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+8, _start, _pos, _t); return _t;
+  }
+
+  public Object echar() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+9); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+9, _start);
+  do {
+  Object c=null;
+  _t=ERROR; do{ //or
+    { int _p15=_pos; _t=ERROR; do{ //and
+      _t=_str("\\");
+      if (_t==ERROR) break;
+
+      _t=_any();
+      c= _t;
+      if (_t==ERROR) break;
+
+      _t=__act14(c);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p15, _pos); _pos=_p15; } }
+    if (_t!=ERROR) break;
+
+    _t=_any();
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+9, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+9, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+9, _start, _pos, _t); return _t;
+  }
+
+  public Object tsString() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+10); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+10, _start);
+  do {
+  Object xs=null;
+  { int _p19=_pos; _t=ERROR; do{ //and
+      _t=_str("\"");
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as17=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p16=_pos; _t=ERROR; do{ //and
+                _silent++;
+_t=_str("\"");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=echar();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p16, _pos); _pos=_p16; } }
+      if (_t==ERROR) break; else as17.add(_t);
+      } _t=as17;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=_str("\"");
+      if (_t==ERROR) break;
+
+      _t=__act18(xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p19, _pos); _pos=_p19; } }
+  _t = _memoize(_base+10, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+10, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+10, _start, _pos, _t); return _t;
+  }
+
+  public Object dollar() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+11); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+11, _start);
+  do {
+  Object n=null, xs=null;
+  _t=ERROR; do{ //or
+      { int _p22=_pos; _t=ERROR; do{ //and
+        _t=_str("${");
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as20=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=cbraces();
+        if (_t==ERROR) break; else as20.add(_t);
+        } _t=as20;
+        xs= _t;
+        if (_t==ERROR) break;
+
+        _t=_str("}");
+        if (_t==ERROR) break;
+
+        _t=__act21(n,xs);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p22, _pos); _pos=_p22; } }
+      if (_t!=ERROR) break;
+
+      { int _p24=_pos; _t=ERROR; do{ //and
+        _t=_str("$");
+        if (_t==ERROR) break;
+
+        _t=name();
+        n= _t;
+        if (_t==ERROR) break;
+
+        _t=__act23(n,xs);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p24, _pos); _pos=_p24; } }
+      if (_t!=ERROR) break;
+    }while(false);
+  _t = _memoize(_base+11, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+11, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+11, _start, _pos, _t); return _t;
+  }
+
+  public Object dollarstring() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+12); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+12, _start);
+  do {
+  Object xs=null;
+  { int _p28=_pos; _t=ERROR; do{ //and
+      _t=_str("\"");
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as26=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p25=_pos; _t=ERROR; do{ //and
+                _silent++;
+_t=_str("\"");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=ERROR; do{ //or
+          _t=dollar();
+          if (_t!=ERROR) break;
+
+          _t=echar();
+          if (_t!=ERROR) break;
+        }while(false);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p25, _pos); _pos=_p25; } }
+      if (_t==ERROR) break; else as26.add(_t);
+      } _t=as26;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=_str("\"");
+      if (_t==ERROR) break;
+
+      _t=__act27(xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p28, _pos); _pos=_p28; } }
+  _t = _memoize(_base+12, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+12, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+12, _start, _pos, _t); return _t;
+  }
+
+  public Object string() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+13); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+13, _start);
+  do {
+  Object s=null;
+  { int _p29=_pos; _t=ERROR; do{ //and
+    _t=tsString();
+    s= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Str",s};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p29, _pos); _pos=_p29; } }
+  _t = _memoize(_base+13, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+13, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+13, _start, _pos, _t); return _t;
+  }
+
+  public Object number() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+14); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+14, _start);
+  do {
+  Object n=null;
+  { int _p33=_pos; _t=ERROR; do{ //and
+      { int _c32=_pos;
+      { int _p31=_pos; _t=ERROR; do{ //and
+        _t=ERROR; do{ //or
+        _t=_str("-");
+        if (_t!=ERROR) break;
+
+        _t=_str("+");
+        if (_t!=ERROR) break;
+
+        _t=empty();
+        if (_t!=ERROR) break;
+      }while(false);
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as30=new java.util.ArrayList<Object>();
+        _t=digit();
+        if (_t!=ERROR) { as30.add(_t);
+          while (true){ //many
+          _t=digit();
+          if (_t==ERROR) break; else as30.add(_t);
+          } _t=as30;
+        }
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p31, _pos); _pos=_p31; } }
+      if (_t!=ERROR) { _t=_capture(_c32); }      }
+      n= _t;
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"HLit",n};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p33, _pos); _pos=_p33; } }
+  _t = _memoize(_base+14, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+14, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+14, _start, _pos, _t); return _t;
+  }
+
+  public Object symbol() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+15); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+15, _start);
+  do {
+  Object s=null;
+  { int _p34=_pos; _t=ERROR; do{ //and
+    _t=_str("\'");
+    if (_t==ERROR) break;
+
+    _t=name();
+    s= _t;
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=new Object[] {"Sym",s};
+    if (_t==ERROR) throw new SyntaxError("", this);
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p34, _pos); _pos=_p34; } }
+  _t = _memoize(_base+15, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+15, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+15, _start, _pos, _t); return _t;
+  }
+
+  public Object classChar() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+16); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+16, _start);
+  do {
+  Object c=null;
+  _t=ERROR; do{ //or
+    { int _p35=_pos; _t=ERROR; do{ //and
+      _t=_str("\\");
+      if (_t==ERROR) break;
+
+      _t=ERROR; do{ //or
+        _t=_str("-");
+        if (_t!=ERROR) break;
+
+        _t=_str("^");
+        if (_t!=ERROR) break;
+
+        _t=_str("<");
+        if (_t!=ERROR) break;
+
+        _t=_str(">");
+        if (_t!=ERROR) break;
+      }while(false);
+      c= _t;
+      if (_t==ERROR) break;
+
+      _t=c;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p35, _pos); _pos=_p35; } }
+    if (_t!=ERROR) break;
+
+    { int _p36=_pos; _t=ERROR; do{ //and
+            _silent++;
+_t=_str(">");
+      _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+      if (_t==ERROR) break;
+
+      _t=echar();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p36, _pos); _pos=_p36; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+16, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+16, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+16, _start, _pos, _t); return _t;
+  }
+
+  public Object classRange() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+17); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+17, _start);
+  do {
+  Object c=null, hi=null, lo=null;
+  _t=ERROR; do{ //or
+    { int _p37=_pos; _t=ERROR; do{ //and
+      _t=classChar();
+      lo= _t;
+      if (_t==ERROR) break;
+
+      _t=_str("-");
+      if (_t==ERROR) break;
+
+            _silent++;
+_t=_str(">");
+      _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+      if (_t==ERROR) break;
+
+      _t=classChar();
+      hi= _t;
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"Range",lo,hi};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p37, _pos); _pos=_p37; } }
+    if (_t!=ERROR) break;
+
+    { int _p38=_pos; _t=ERROR; do{ //and
+      _t=classChar();
+      c= _t;
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"Range",c,c};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p38, _pos); _pos=_p38; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+17, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+17, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+17, _start, _pos, _t); return _t;
+  }
+
+  public Object charClass() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+18); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+18, _start);
+  do {
+  Object neg=null, xs=null;
+  { int _p41=_pos; _t=ERROR; do{ //and
+      _t=_str("<");
+      if (_t==ERROR) break;
+
+      _t=ERROR; do{ //or
+      _t=_str("^");
+      if (_t!=ERROR) break;
+
+      _t=empty();
+      if (_t!=ERROR) break;
+    }while(false);
+    neg= _t;
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as39=new java.util.ArrayList<Object>();
+      _t=classRange();
+      if (_t!=ERROR) { as39.add(_t);
+        while (true){ //many
+        _t=classRange();
+        if (_t==ERROR) break; else as39.add(_t);
+        } _t=as39;
+      }
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=_str(">");
+      if (_t==ERROR) break;
+
+      _t=__act40(neg,xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p41, _pos); _pos=_p41; } }
+  _t = _memoize(_base+18, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+18, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+18, _start, _pos, _t); return _t;
+  }
+
+  public Object k() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+19, _start);
+  Object keyword=null;
+  { int _p42=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    keyword= _t;
+    if (_t==ERROR) break;
+
+    _push(keyword); _t=str();
+    if (_t==ERROR) break;
+
+        _silent++;
+_t=ERROR; do{ //or
+      _t=nameFirst();
+      if (_t!=ERROR) break;
+
+      _t=digit();
+      if (_t!=ERROR) break;
+    }while(false);
+    _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+    if (_t==ERROR) break;
+
+    _t=keyword;
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p42, _pos); _pos=_p42; } }
+  if (_t==ERROR) { _pos=_start; _fail(_base+19, _start, _exp); }
+  if (listener!=null) listener.exit(this, _base+19, _start, _pos, _t); return _t;
+  }
+
+  public Object error() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+20); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+20, _start);
+  do {
+  Object msg=null;
+  { int _p43=_pos; _t=ERROR; do{ //and
+    _t=_str("!");
+    if (_t==ERROR) break;
+
+    _t=ERROR; do{ //or
+      _t=dollarstring();
+      if (_t!=ERROR) break;
+
+      _t=empty();
+      if (_t!=ERROR) break;
+    }while(false);
+    msg= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Error",msg};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p43, _pos); _pos=_p43; } }
+  _t = _memoize(_base+20, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+20, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+20, _start, _pos, _t); return _t;
+  }
+
+  public Object cut() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+21); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+21, _start);
+  do {
+  
+  { int _p44=_pos; _t=ERROR; do{ //and
+    _t=_str("^");
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Cut"};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p44, _pos); _pos=_p44; } }
+  _t = _memoize(_base+21, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+21, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+21, _start, _pos, _t); return _t;
+  }
+
+  public Object any() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+22); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+22, _start);
+  do {
+  
+  { int _p45=_pos; _t=ERROR; do{ //and
+    _t=_str("_");
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"App","_any"};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p45, _pos); _pos=_p45; } }
+  _t = _memoize(_base+22, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+22, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+22, _start, _pos, _t); return _t;
+  }
+
+  public Object wsdot() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+23); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+23, _start);
+  do {
+  
+  { int _p46=_pos; _t=ERROR; do{ //and
+    _t=_str(".");
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"App","ws"};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p46, _pos); _pos=_p46; } }
+  _t = _memoize(_base+23, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+23, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+23, _start, _pos, _t); return _t;
+  }
+
+  public Object args() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+24); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+24, _start);
+  do {
+  Object as=null;
+  _t=ERROR; do{ //or
+    { int _p47=_pos; _t=ERROR; do{ //and
+      _t=_str("(");
+      if (_t==ERROR) break;
+
+      _push("simplehost",","); _t=listOf();
+      as= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_str(")");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=as;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p47, _pos); _pos=_p47; } }
+    if (_t!=ERROR) break;
+
+    { int _p48=_pos; _t=ERROR; do{ //and
+      _t=empty();
+      if (_t==ERROR) break;
+
+      _t=new Object[] {};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p48, _pos); _pos=_p48; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+24, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+24, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+24, _start, _pos, _t); return _t;
+  }
+
+  public Object application() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+25); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+25, _start);
+  do {
+  Object as=null, r=null;
+  _t=ERROR; do{ //or
+    { int _p49=_pos; _t=ERROR; do{ //and
+      _t=_str("super.");
+      if (_t==ERROR) break;
+
+      _t=name();
+      r= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=args();
+      as= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=concat(new Object[] {"App","super",r}, as);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p49, _pos); _pos=_p49; } }
+    if (_t!=ERROR) break;
+
+    { int _p50=_pos; _t=ERROR; do{ //and
+      _t=name();
+      r= _t;
+      if (_t==ERROR) break;
+
+      _t=args();
+      as= _t;
+      if (_t==ERROR) break;
+
+      _t=concat(new Object[] {"App",r}, as);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p50, _pos); _pos=_p50; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+25, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+25, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+25, _start, _pos, _t); return _t;
+  }
+
+  public Object simplehost() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+26); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+26, _start);
+  do {
+  Object ls=null, n=null, rs=null, s=null, xs=null;
+  _t=ERROR; do{ //or
+    { int _p51=_pos; _t=ERROR; do{ //and
+      _t=simplehost();
+      rs= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str("+");
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=simplehost();
+      ls= _t;
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"HConcat",rs,ls};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p51, _pos); _pos=_p51; } }
+    if (_t!=ERROR) break;
+
+    { int _p52=_pos; _t=ERROR; do{ //and
+      _t=_str("[");
+      if (_t==ERROR) break;
+
+      _push("simplehost",","); _t=listOf();
+      xs= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_str("]");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=concat(new Object[] {"HList"}, xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p52, _pos); _pos=_p52; } }
+    if (_t!=ERROR) break;
+
+    { int _p53=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=number();
+      n= _t;
+      if (_t==ERROR) break;
+
+      _t=n;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p53, _pos); _pos=_p53; } }
+    if (_t!=ERROR) break;
+
+    { int _p54=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str("\'");
+      if (_t==ERROR) break;
+
+      _t=name();
+      s= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=new Object[] {"HStr",s};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p54, _pos); _pos=_p54; } }
+    if (_t!=ERROR) break;
+
+    { int _p55=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=tsString();
+      s= _t;
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"HStr",s};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p55, _pos); _pos=_p55; } }
+    if (_t!=ERROR) break;
+
+    { int _p56=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=name();
+      n= _t;
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"HLit",n};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p56, _pos); _pos=_p56; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+26, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+26, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+26, _start, _pos, _t); return _t;
+  }
+
+  public Object cbraces() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+27); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+27, _start);
+  do {
+  
+  _t=ERROR; do{ //or
+      { int _c59=_pos;
+      { int _p58=_pos; _t=ERROR; do{ //and
+        _t=_str("{");
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as57=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=cbraces();
+        if (_t==ERROR) break; else as57.add(_t);
+        } _t=as57;
+        if (_t==ERROR) break;
+
+        _t=_str("}");
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p58, _pos); _pos=_p58; } }
+      if (_t!=ERROR) { _t=_capture(_c59); }      }
+      if (_t!=ERROR) break;
+
+      { int _p60=_pos; _t=ERROR; do{ //and
+                _silent++;
+_t=_str("}");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=_any();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p60, _pos); _pos=_p60; } }
+      if (_t!=ERROR) break;
+    }while(false);
+  _t = _memoize(_base+27, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+27, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+27, _start, _pos, _t); return _t;
+  }
+
+  public Object semAction() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+28); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+28, _start);
+  do {
+  Object s=null, xs=null;
+  _t=ERROR; do{ //or
+      { int _p61=_pos; _t=ERROR; do{ //and
+      _t=_str("{");
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=simplehost();
+      s= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str("}");
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"SAct",s};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p61, _pos); _pos=_p61; } }
+      if (_t!=ERROR) break;
+
+      { int _p64=_pos; _t=ERROR; do{ //and
+        _t=_str("{");
+        if (_t==ERROR) break;
+
+        { int _c63=_pos;
+        java.util.ArrayList<Object> as62=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=cbraces();
+        if (_t==ERROR) break; else as62.add(_t);
+        } _t=as62;
+        if (_t!=ERROR) { _t=_capture(_c63); }        }
+        xs= _t;
+        if (_t==ERROR) throw new SyntaxError("", this);
+
+        _t=_str("}");
+        if (_t==ERROR) throw new SyntaxError("", this);
+
+        _t=new Object[] {"Act",xs};
+        if (_t==ERROR) throw new SyntaxError("", this);
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p64, _pos); _pos=_p64; } }
+      if (_t!=ERROR) break;
+    }while(false);
+  _t = _memoize(_base+28, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+28, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+28, _start, _pos, _t); return _t;
+  }
+
+  public Object semPred() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+29); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+29, _start);
+  do {
+  Object xs=null;
+  { int _p67=_pos; _t=ERROR; do{ //and
+      _t=_str("?{");
+      if (_t==ERROR) break;
+
+      { int _c66=_pos;
+      java.util.ArrayList<Object> as65=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=cbraces();
+      if (_t==ERROR) break; else as65.add(_t);
+      } _t=as65;
+      if (_t!=ERROR) { _t=_capture(_c66); }      }
+      xs= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_str("}");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=new Object[] {"Pred",xs};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p67, _pos); _pos=_p67; } }
+  _t = _memoize(_base+29, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+29, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+29, _start, _pos, _t); return _t;
+  }
+
+  public Object expr() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+30); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+30, _start);
+  do {
+  Object xs=null;
+  { int _p68=_pos; _t=ERROR; do{ //and
+    _push("expr4","|"); _t=listOf();
+    xs= _t;
+    if (_t==ERROR) break;
+
+    _t=concat(new Object[] {"Or"}, xs);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p68, _pos); _pos=_p68; } }
+  _t = _memoize(_base+30, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+30, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+30, _start, _pos, _t); return _t;
+  }
+
+  public Object expr4() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+31); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+31, _start);
+  do {
+  Object xs=null;
+  { int _p70=_pos; _t=ERROR; do{ //and
+      java.util.ArrayList<Object> as69=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=expr3();
+      if (_t==ERROR) break; else as69.add(_t);
+      } _t=as69;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=concat(new Object[] {"And"}, xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p70, _pos); _pos=_p70; } }
+  _t = _memoize(_base+31, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+31, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+31, _start, _pos, _t); return _t;
+  }
+
+  public Object optIter() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+32, _start);
+  Object x=null;
+  { int _p75=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=ERROR; do{ //or
+      { int _p71=_pos; _t=ERROR; do{ //and
+        _t=_str("*");
+        if (_t==ERROR) break;
+
+        _t=new Object[] {"Many",x};
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p71, _pos); _pos=_p71; } }
+      if (_t!=ERROR) break;
+
+      { int _p72=_pos; _t=ERROR; do{ //and
+        _t=_str("+");
+        if (_t==ERROR) break;
+
+        _t=new Object[] {"Many1",x};
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p72, _pos); _pos=_p72; } }
+      if (_t!=ERROR) break;
+
+      { int _p73=_pos; _t=ERROR; do{ //and
+        _t=_str("?");
+        if (_t==ERROR) break;
+
+        _t=new Object[] {"Opt",x};
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p73, _pos); _pos=_p73; } }
+      if (_t!=ERROR) break;
+
+      { int _p74=_pos; _t=ERROR; do{ //and
+        _t=empty();
+        if (_t==ERROR) break;
+
+        _t=x;
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p74, _pos); _pos=_p74; } }
+      if (_t!=ERROR) break;
+    }while(false);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p75, _pos); _pos=_p75; } }
+  if (_t==ERROR) { _pos=_start; _fail(_base+32, _start, _exp); }
+  if (listener!=null) listener.exit(this, _base+32, _start, _pos, _t); return _t;
+  }
+
+  public Object expr3() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+33); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+33, _start);
+  do {
+  Object e=null, n=null, x=null;
+  _t=ERROR; do{ //or
+    { int _p76=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=name();
+      n= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str("=");
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=expr2();
+      e= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _push(e); _t=optIter();
+      x= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=new Object[] {"Set",n,x};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p76, _pos); _pos=_p76; } }
+    if (_t!=ERROR) break;
+
+    { int _p77=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=expr2();
+      e= _t;
+      if (_t==ERROR) break;
+
+      _push(e); _t=optIter();
+      x= _t;
+      if (_t==ERROR) break;
+
+      _t=x;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p77, _pos); _pos=_p77; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+33, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+33, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+33, _start, _pos, _t); return _t;
+  }
+
+  public Object expr2() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+34); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+34, _start);
+  do {
+  Object e=null, x=null;
+  _t=ERROR; do{ //or
+    { int _p78=_pos; _t=ERROR; do{ //and
+      _t=_str("~");
+      if (_t==ERROR) break;
+
+      _t=expr2();
+      x= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=new Object[] {"Not",x};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p78, _pos); _pos=_p78; } }
+    if (_t!=ERROR) break;
+
+    { int _p79=_pos; _t=ERROR; do{ //and
+      _t=_str("&");
+      if (_t==ERROR) break;
+
+      _t=expr1();
+      x= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=new Object[] {"Peek",x};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p79, _pos); _pos=_p79; } }
+    if (_t!=ERROR) break;
+
+    { int _p80=_pos; _t=ERROR; do{ //and
+      _t=_str("$");
+      if (_t==ERROR) break;
+
+      _t=expr2();
+      e= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _push(e); _t=optIter();
+      x= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=new Object[] {"Text",x};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p80, _pos); _pos=_p80; } }
+    if (_t!=ERROR) break;
+
+    _t=expr1();
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+34, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+34, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+34, _start, _pos, _t); return _t;
+  }
+
+  public Object expr1() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+35); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+35, _start);
+  do {
+  Object x=null;
+  _t=ERROR; do{ //or
+    _t=wsdot();
+    if (_t!=ERROR) break;
+
+    _t=any();
+    if (_t!=ERROR) break;
+
+    _t=error();
+    if (_t!=ERROR) break;
+
+    _t=cut();
+    if (_t!=ERROR) break;
+
+    _t=semPred();
+    if (_t!=ERROR) break;
+
+    _t=semAction();
+    if (_t!=ERROR) break;
+
+    _t=application();
+    if (_t!=ERROR) break;
+
+    { int _p81=_pos; _t=ERROR; do{ //and
+      _t=ERROR; do{ //or
+        _push("null"); _t=k();
+        if (_t!=ERROR) break;
+
+        _push("true"); _t=k();
+        if (_t!=ERROR) break;
+
+        _push("false"); _t=k();
+        if (_t!=ERROR) break;
+      }while(false);
+      x= _t;
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"HLit",x};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p81, _pos); _pos=_p81; } }
+    if (_t!=ERROR) break;
+
+    _t=string();
+    if (_t!=ERROR) break;
+
+    _t=symbol();
+    if (_t!=ERROR) break;
+
+    _t=number();
+    if (_t!=ERROR) break;
+
+    _t=charClass();
+    if (_t!=ERROR) break;
+
+    { int _p82=_pos; _t=ERROR; do{ //and
+      _t=_str("[");
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=expr();
+      x= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str("]");
+      if (_t==ERROR) break;
+
+      _t=new Object[] {"List",x};
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p82, _pos); _pos=_p82; } }
+    if (_t!=ERROR) break;
+
+    { int _p83=_pos; _t=ERROR; do{ //and
+      _t=_str("(");
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=expr();
+      x= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str(")");
+      if (_t==ERROR) break;
+
+      _t=x;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p83, _pos); _pos=_p83; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+35, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+35, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+35, _start, _pos, _t); return _t;
+  }
+
+  public Object annotation() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+36); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+36, _start);
+  do {
+  Object n=null;
+  { int _p84=_pos; _t=ERROR; do{ //and
+    _t=_str("@");
+    if (_t==ERROR) break;
+
+    _t=name();
+    n= _t;
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=n;
+    if (_t==ERROR) throw new SyntaxError("", this);
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p84, _pos); _pos=_p84; } }
+  _t = _memoize(_base+36, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+36, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+36, _start, _pos, _t); return _t;
+  }
+
+  public Object rule() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+37); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+37, _start);
+  do {
+  Object as=null, n=null, x=null, xs=null;
+  { int _p90=_pos; _t=ERROR; do{ //and
+        java.util.ArrayList<Object> as86=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p85=_pos; _t=ERROR; do{ //and
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=annotation();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p85, _pos); _pos=_p85; } }
+      if (_t==ERROR) break; else as86.add(_t);
+      } _t=as86;
+      as= _t;
+        if (_t==ERROR) break;
+
+              { int _l=_pos;
+      { int _p87=_pos; _t=ERROR; do{ //and
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=name();
+        n= _t;
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p87, _pos); _pos=_p87; } }
+      if (_t!=ERROR) { _pos=_l; }      }
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _push(n); _t=rulePart();
+      x= _t;
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as89=new java.util.ArrayList<Object>();
+        while (true){ //many
+        { int _p88=_pos; _t=ERROR; do{ //and
+          _t=ws();
+          if (_t==ERROR) break;
+
+          _t=_str(";");
+          if (_t==ERROR) break;
+
+          _t=ws();
+          if (_t==ERROR) break;
+
+          _push(n); _t=rulePart();
+          if (_t==ERROR) break;
+        }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p88, _pos); _pos=_p88; } }
+        if (_t==ERROR) break; else as89.add(_t);
+        } _t=as89;
+        xs= _t;
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=_str(";");
+        if (_t==ERROR) break;
+
+        _t=concat(new Object[] {"Rule",n,concat(new Object[] {"Or",x}, xs)}, as);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p90, _pos); _pos=_p90; } }
+  _t = _memoize(_base+37, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+37, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+37, _start, _pos, _t); return _t;
+  }
+
+  public Object rulePart() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+38, _start);
+  Object b1=null, b2=null, n=null, rn=null;
+  { int _p94=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    rn= _t;
+    if (_t==ERROR) break;
+
+    _t=ws();
+    if (_t==ERROR) break;
+
+    _t=name();
+    n= _t;
+    if (_t==ERROR) break;
+
+    if (!__pred91(b1,b2,n,rn)) _t=ERROR;
+    if (_t==ERROR) break;
+
+    _t=ws();
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=expr4();
+    b1= _t;
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=ERROR; do{ //or
+      { int _p92=_pos; _t=ERROR; do{ //and
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=_str(":");
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) throw new SyntaxError("", this);
+
+        _t=expr();
+        b2= _t;
+        if (_t==ERROR) throw new SyntaxError("", this);
+
+        _t=new Object[] {"And",b1,b2};
+        if (_t==ERROR) throw new SyntaxError("", this);
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p92, _pos); _pos=_p92; } }
+      if (_t!=ERROR) break;
+
+      { int _p93=_pos; _t=ERROR; do{ //and
+        _t=empty();
+        if (_t==ERROR) break;
+
+        _t=b1;
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p93, _pos); _pos=_p93; } }
+      if (_t!=ERROR) break;
+    }while(false);
+    if (_t==ERROR) throw new SyntaxError("", this);
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p94, _pos); _pos=_p94; } }
+  if (_t==ERROR) { _pos=_start; _fail(_base+38, _start, _exp); }
+  if (listener!=null) listener.exit(this, _base+38, _start, _pos, _t); return _t;
+  }
+
+  public Object qualifiers() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+39); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+39, _start);
+  do {
+  Object qs=null;
+  _t=ERROR; do{ //or
+      { int _p103=_pos; _t=ERROR; do{ //and
+        java.util.ArrayList<Object> as101=new java.util.ArrayList<Object>();
+        _t=ERROR; do{ //or
+          { int _p95=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("public"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p95, _pos); _pos=_p95; } }
+          if (_t!=ERROR) break;
+
+          { int _p96=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("private"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p96, _pos); _pos=_p96; } }
+          if (_t!=ERROR) break;
+
+          { int _p97=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("final"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p97, _pos); _pos=_p97; } }
+          if (_t!=ERROR) break;
+
+          { int _p98=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("static"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p98, _pos); _pos=_p98; } }
+          if (_t!=ERROR) break;
+
+          { int _p99=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("abstract"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p99, _pos); _pos=_p99; } }
+          if (_t!=ERROR) break;
+
+          { int _p100=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("synchronized"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p100, _pos); _pos=_p100; } }
+          if (_t!=ERROR) break;
+        }while(false);
+        if (_t!=ERROR) { as101.add(_t);
+          while (true){ //many
+          _t=ERROR; do{ //or
+          { int _p95=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("public"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p95, _pos); _pos=_p95; } }
+          if (_t!=ERROR) break;
+
+          { int _p96=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("private"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p96, _pos); _pos=_p96; } }
+          if (_t!=ERROR) break;
+
+          { int _p97=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("final"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p97, _pos); _pos=_p97; } }
+          if (_t!=ERROR) break;
+
+          { int _p98=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("static"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p98, _pos); _pos=_p98; } }
+          if (_t!=ERROR) break;
+
+          { int _p99=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("abstract"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p99, _pos); _pos=_p99; } }
+          if (_t!=ERROR) break;
+
+          { int _p100=_pos; _t=ERROR; do{ //and
+            _t=ws();
+            if (_t==ERROR) break;
+
+            _push("synchronized"); _t=k();
+            if (_t==ERROR) break;
+          }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p100, _pos); _pos=_p100; } }
+          if (_t!=ERROR) break;
+        }while(false);
+          if (_t==ERROR) break; else as101.add(_t);
+          } _t=as101;
+        }
+        qs= _t;
+        if (_t==ERROR) break;
+
+        _t=__act102(qs);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p103, _pos); _pos=_p103; } }
+      if (_t!=ERROR) break;
+
+      { int _p105=_pos; _t=ERROR; do{ //and
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _push("java"); _t=k();
+        if (_t==ERROR) break;
+
+        _t=__act104(qs);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p105, _pos); _pos=_p105; } }
+      if (_t!=ERROR) break;
+    }while(false);
+  _t = _memoize(_base+39, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+39, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+39, _start, _pos, _t); return _t;
+  }
+
+  public Object ptype() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+40); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+40, _start);
+  do {
+  Object as=null;
+  _t=ERROR; do{ //or
+      { int _p109=_pos; _t=ERROR; do{ //and
+        _t=_str("<");
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as107=new java.util.ArrayList<Object>();
+        while (true){ //many
+        { int _p106=_pos; _t=ERROR; do{ //and
+                    _silent++;
+_t=_str(">");
+          _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+          if (_t==ERROR) break;
+
+          _t=_any();
+          if (_t==ERROR) break;
+        }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p106, _pos); _pos=_p106; } }
+        if (_t==ERROR) break; else as107.add(_t);
+        } _t=as107;
+        as= _t;
+        if (_t==ERROR) break;
+
+        _t=_str(">");
+        if (_t==ERROR) break;
+
+        _t=__act108(as);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p109, _pos); _pos=_p109; } }
+      if (_t!=ERROR) break;
+
+      { int _p111=_pos; _t=ERROR; do{ //and
+        _t=empty();
+        if (_t==ERROR) break;
+
+        _t=__act110(as);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p111, _pos); _pos=_p111; } }
+      if (_t!=ERROR) break;
+    }while(false);
+  _t = _memoize(_base+40, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+40, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+40, _start, _pos, _t); return _t;
+  }
+
+  public Object jstatic() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+41); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+41, _start);
+  do {
+  Object bs=null;
+  { int _p114=_pos; _t=ERROR; do{ //and
+      _push("static"); _t=k();
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str("{");
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as112=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=cbraces();
+      if (_t==ERROR) break; else as112.add(_t);
+      } _t=as112;
+      bs= _t;
+      if (_t==ERROR) break;
+
+      _t=_str("}");
+      if (_t==ERROR) break;
+
+      _t=__act113(bs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p114, _pos); _pos=_p114; } }
+  _t = _memoize(_base+41, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+41, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+41, _start, _pos, _t); return _t;
+  }
+
+  public Object jinit() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+42); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+42, _start);
+  do {
+  Object bs=null;
+  { int _p117=_pos; _t=ERROR; do{ //and
+      _push("java"); _t=k();
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str("{");
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as115=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=cbraces();
+      if (_t==ERROR) break; else as115.add(_t);
+      } _t=as115;
+      bs= _t;
+      if (_t==ERROR) break;
+
+      _t=_str("}");
+      if (_t==ERROR) break;
+
+      _t=__act116(bs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p117, _pos); _pos=_p117; } }
+  _t = _memoize(_base+42, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+42, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+42, _start, _pos, _t); return _t;
+  }
+
+  public Object jmethod() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+43); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+43, _start);
+  do {
+  Object as=null, bs=null, n=null, p=null, q=null, r=null;
+  { int _p122=_pos; _t=ERROR; do{ //and
+        _t=qualifiers();
+    q= _t;
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=name();
+    r= _t;
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=ptype();
+    p= _t;
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=name();
+    n= _t;
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=_str("(");
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as119=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p118=_pos; _t=ERROR; do{ //and
+                _silent++;
+_t=_str(")");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=_any();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p118, _pos); _pos=_p118; } }
+      if (_t==ERROR) break; else as119.add(_t);
+      } _t=as119;
+      as= _t;
+        if (_t==ERROR) break;
+
+        _t=_str(")");
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=_str("{");
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as120=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=cbraces();
+        if (_t==ERROR) break; else as120.add(_t);
+        } _t=as120;
+        bs= _t;
+        if (_t==ERROR) break;
+
+        _t=_str("}");
+        if (_t==ERROR) break;
+
+        _t=__act121(as,bs,n,p,q,r);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p122, _pos); _pos=_p122; } }
+  _t = _memoize(_base+43, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+43, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+43, _start, _pos, _t); return _t;
+  }
+
+  public Object jfield() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+44); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+44, _start);
+  do {
+  Object n=null, p=null, q=null, t=null, xs=null;
+  { int _p126=_pos; _t=ERROR; do{ //and
+      _t=qualifiers();
+    q= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=name();
+    t= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=ptype();
+    p= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=name();
+    n= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=_str("=");
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as124=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p123=_pos; _t=ERROR; do{ //and
+                _silent++;
+_t=_str(";");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=_any();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p123, _pos); _pos=_p123; } }
+      if (_t==ERROR) break; else as124.add(_t);
+      } _t=as124;
+      xs= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_str(";");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=__act125(n,p,q,t,xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p126, _pos); _pos=_p126; } }
+  _t = _memoize(_base+44, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+44, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+44, _start, _pos, _t); return _t;
+  }
+
+  public Object jimport() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+45); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+45, _start);
+  do {
+  Object stm=null, xs=null;
+  { int _p130=_pos; _t=ERROR; do{ //and
+      _push("import"); _t=k();
+    stm= _t;
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as128=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p127=_pos; _t=ERROR; do{ //and
+                _silent++;
+_t=_str(";");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=_any();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p127, _pos); _pos=_p127; } }
+      if (_t==ERROR) break; else as128.add(_t);
+      } _t=as128;
+      xs= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_str(";");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=__act129(stm,xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p130, _pos); _pos=_p130; } }
+  _t = _memoize(_base+45, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+45, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+45, _start, _pos, _t); return _t;
+  }
+
+  public Object jpackage() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+46); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+46, _start);
+  do {
+  Object stm=null, xs=null;
+  { int _p134=_pos; _t=ERROR; do{ //and
+      _push("package"); _t=k();
+    stm= _t;
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as132=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p131=_pos; _t=ERROR; do{ //and
+                _silent++;
+_t=_str(";");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=_any();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p131, _pos); _pos=_p131; } }
+      if (_t==ERROR) break; else as132.add(_t);
+      } _t=as132;
+      xs= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_str(";");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=__act133(stm,xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p134, _pos); _pos=_p134; } }
+  _t = _memoize(_base+46, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+46, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+46, _start, _pos, _t); return _t;
+  }
+
+  public Object classdef() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+47); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+47, _start);
+  do {
+  Object bs=null, q=null, xs=null;
+  { int _p139=_pos; _t=ERROR; do{ //and
+        _t=qualifiers();
+    q= _t;
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _push("class"); _t=k();
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as136=new java.util.ArrayList<Object>();
+      while (true){ //many
+      { int _p135=_pos; _t=ERROR; do{ //and
+                _silent++;
+_t=_str("{");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+
+        _t=_any();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p135, _pos); _pos=_p135; } }
+      if (_t==ERROR) break; else as136.add(_t);
+      } _t=as136;
+      xs= _t;
+        if (_t==ERROR) throw new SyntaxError("", this);
+
+        _t=_str("{");
+        if (_t==ERROR) throw new SyntaxError("", this);
+
+        java.util.ArrayList<Object> as137=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=cbraces();
+        if (_t==ERROR) break; else as137.add(_t);
+        } _t=as137;
+        bs= _t;
+        if (_t==ERROR) throw new SyntaxError("", this);
+
+        _t=_str("}");
+        if (_t==ERROR) throw new SyntaxError("", this);
+
+        _t=__act138(bs,q,xs);
+        if (_t==ERROR) throw new SyntaxError("", this);
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p139, _pos); _pos=_p139; } }
+  _t = _memoize(_base+47, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+47, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+47, _start, _pos, _t); return _t;
+  }
+
+  public Object ruleMethod() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+48); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+48, _start);
+  do {
+  
+  _t=ERROR; do{ //or
+    { int _p140=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=jstatic();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p140, _pos); _pos=_p140; } }
+    if (_t!=ERROR) break;
+
+    { int _p141=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=jinit();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p141, _pos); _pos=_p141; } }
+    if (_t!=ERROR) break;
+
+    { int _p142=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=jmethod();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p142, _pos); _pos=_p142; } }
+    if (_t!=ERROR) break;
+
+    { int _p143=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=jfield();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p143, _pos); _pos=_p143; } }
+    if (_t!=ERROR) break;
+
+    { int _p144=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=rule();
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p144, _pos); _pos=_p144; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+48, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+48, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+48, _start, _pos, _t); return _t;
+  }
+
+  public Object parser() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+49); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+49, _start);
+  do {
+  Object n=null, p=null, rs=null, sn=null;
+  { int _p149=_pos; _t=ERROR; do{ //and
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _t=ERROR; do{ //or
+      _push("public"); _t=k();
+      if (_t!=ERROR) break;
+
+      _t=empty();
+      if (_t!=ERROR) break;
+    }while(false);
+    p= _t;
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) break;
+
+      _push("parser"); _t=k();
+      if (_t==ERROR) break;
+
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=name();
+    n= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=ERROR; do{ //or
+      { int _p145=_pos; _t=ERROR; do{ //and
+        _push("extends"); _t=k();
+        if (_t==ERROR) break;
+
+        _t=ws();
+        if (_t==ERROR) break;
+
+        _t=name();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p145, _pos); _pos=_p145; } }
+      if (_t!=ERROR) break;
+
+      { int _p146=_pos; _t=ERROR; do{ //and
+        _t=empty();
+        if (_t==ERROR) break;
+
+        _t="BaseParser";
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p146, _pos); _pos=_p146; } }
+      if (_t!=ERROR) break;
+    }while(false);
+    sn= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_str("{");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      java.util.ArrayList<Object> as147=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=ruleMethod();
+      if (_t==ERROR) break; else as147.add(_t);
+      } _t=as147;
+      rs= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_str("}");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=concat(new Object[] {"Parser",p,n,sn}, rs);
+      p= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=__act148(n,p,rs,sn);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p149, _pos); _pos=_p149; } }
+  _t = _memoize(_base+49, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+49, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+49, _start, _pos, _t); return _t;
+  }
+
+  public Object line() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+50); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+50, _start);
+  do {
+  Object l=null, p=null;
+  { int _p151=_pos; _t=ERROR; do{ //and
+    _t=ws();
+    p= _t;
+    if (_t==ERROR) break;
+
+    _t=ERROR; do{ //or
+      _t=parser();
+      if (_t!=ERROR) break;
+
+      _t=jpackage();
+      if (_t!=ERROR) break;
+
+      _t=jimport();
+      if (_t!=ERROR) break;
+
+      _t=classdef();
+      if (_t!=ERROR) break;
+    }while(false);
+    l= _t;
+    if (_t==ERROR) break;
+
+    _t=__act150(l,p);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p151, _pos); _pos=_p151; } }
+  _t = _memoize(_base+50, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+50, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+50, _start, _pos, _t); return _t;
+  }
+
+  public Object file() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+51); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+51, _start);
+  do {
+  Object ls=null;
+  { int _p153=_pos; _t=ERROR; do{ //and
+      java.util.ArrayList<Object> as152=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=line();
+      if (_t==ERROR) break; else as152.add(_t);
+      } _t=as152;
+      ls= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=concat(new Object[] {"File"}, ls);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p153, _pos); _pos=_p153; } }
+  _t = _memoize(_base+51, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+51, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+51, _start, _pos, _t); return _t;
+  }
+
+  public Object start() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+52); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+52, _start);
+  do {
+  
+  _t=file();
+  _t = _memoize(_base+52, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+52, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+52, _start, _pos, _t); return _t;
+  }
+  Object __act14(Object c){ return Utils.unescape((Character)c); }
+  Object __act18(Object xs){ return join(xs); }
+  Object __act21(Object n, Object xs){ return "\"+"+ join(xs)+ "+\""; }
+  Object __act23(Object n, Object xs){ return "\"+"+ n +"+\"";        }
+  Object __act27(Object xs){ return join(xs); }
+  Object __act40(Object neg, Object xs){ return concat(new Object[] {"Chars", "^".equals(neg)}, xs); }
+  boolean __pred91(Object b1, Object b2, Object n, Object rn){ return n.equals(rn); }
+  Object __act102(Object qs){
+        return join(qs, " ");
+    }
+  Object __act104(Object qs){ return ""; }
+  Object __act108(Object as){ return "<"+ join(as) +">"; }
+  Object __act110(Object as){ return ""; }
+  Object __act113(Object bs){
+        String body = "static {"+ join(bs) +"}";
+        return new Object[] {"Method", body };
+    }
+  Object __act116(Object bs){
+        String body = "{" + join(bs) +"}";
+        return new Object[] {"Method", body };
+    }
+  Object __act121(Object as, Object bs, Object n, Object p, Object q, Object r){
+        String body = ""+ q +" "+ r + p +" "+ n +"("+ join(as) +") {"+ join(bs) +"}";
+        return new Object[] {"Method", body };
+    }
+  Object __act125(Object n, Object p, Object q, Object t, Object xs){
+        String body = ""+ q +" "+ t + p +" "+ n +" = "+ join(xs) +";";
+        return new Object[] {"Field", body } ;
+    }
+  Object __act129(Object stm, Object xs){
+        String body = stm + join(xs) +";";
+        return new Object[] {"Import", body };
+    }
+  Object __act133(Object stm, Object xs){
+        String body = stm + join(xs) +";";
+        return new Object[] {"Package", body };
+    }
+  Object __act138(Object bs, Object q, Object xs){
+        String body = ""+ q +" class "+ join(xs) +" {"+ join(bs) +"}";
+        return new Object[] {"Class", body } ;
+    }
+  Object __act148(Object n, Object p, Object rs, Object sn){ return new JMetaOptimizer().parse(p, "optimizeGrammar"); }
+  Object __act150(Object l, Object p){ return new Object[] {"Line", join(p), l}; }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 53;
+  static final String[] _names = { "fromTo", "sp", "ws", "listOf", "reserved_", "reserved", "nameFirst", "nameRest", "name", "echar", "tsString", "dollar", "dollarstring", "string", "number", "symbol", "classChar", "classRange", "charClass", "k", "error", "cut", "any", "wsdot", "args", "application", "simplehost", "cbraces", "semAction", "semPred", "expr", "expr4", "optIter", "expr3", "expr2", "expr1", "annotation", "rule", "rulePart", "qualifiers", "ptype", "jstatic", "jinit", "jmethod", "jfield", "jimport", "jpackage", "classdef", "ruleMethod", "parser", "line", "file", "start" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return fromTo();
+      case 1: return sp();
+      case 2: return ws();
+      case 3: return listOf();
+      case 4: return reserved_();
+      case 5: return reserved();
+      case 6: return nameFirst();
+      case 7: return nameRest();
+      case 8: return name();
+      case 9: return echar();
+      case 10: return tsString();
+      case 11: return dollar();
+      case 12: return dollarstring();
+      case 13: return string();
+      case 14: return number();
+      case 15: return symbol();
+      case 16: return classChar();
+      case 17: return classRange();
+      case 18: return charClass();
+      case 19: return k();
+      case 20: return error();
+      case 21: return cut();
+      case 22: return any();
+      case 23: return wsdot();
+      case 24: return args();
+      case 25: return application();
+      case 26: return simplehost();
+      case 27: return cbraces();
+      case 28: return semAction();
+      case 29: return semPred();
+      case 30: return expr();
+      case 31: return expr4();
+      case 32: return optIter();
+      case 33: return expr3();
+      case 34: return expr2();
+      case 35: return expr1();
+      case 36: return annotation();
+      case 37: return rule();
+      case 38: return rulePart();
+      case 39: return qualifiers();
+      case 40: return ptype();
+      case 41: return jstatic();
+      case 42: return jinit();
+      case 43: return jmethod();
+      case 44: return jfield();
+      case 45: return jimport();
+      case 46: return jpackage();
+      case 47: return classdef();
+      case 48: return ruleMethod();
+      case 49: return parser();
+      case 50: return line();
+      case 51: return file();
+      case 52: return start();
+      default: return super._call(id);
+    }
+  }
+
+  }
+
+
+
+ class JMetaPass extends BaseParser {  public boolean changed =  false ;
+
+
+  public Object setChanged() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  do {
+  
+  _t=__act0();
+  _t = _memoize(_base+0, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+
+  public Object destruct() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+1, _start);
+  do {
+  Object r=null, x=null;
+  { int _p2=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    r= _t;
+    if (_t==ERROR) break;
+
+    if (!__pred1(r,x)) _t=ERROR;
+    if (_t==ERROR) break;
+
+    _push(r); _t=apply();
+    x= _t;
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=end();
+    if (_t==ERROR) throw new SyntaxError("", this);
+
+    _t=x;
+    if (_t==ERROR) throw new SyntaxError("", this);
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; } }
+  _t = _memoize(_base+1, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+
+  public Object trans() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+2, _start);
+  do {
+  Object x=null;
+  _t=ERROR; do{ //or
+    { int _p3=_pos; _t=ERROR; do{ //and
+            _t=_listBegin(); if (_t!=ERROR) {
+      _t=destruct();
+      x= _t;
+      _listEnd(); }
+      if (_t==ERROR) break;
+
+      _t=x;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; } }
+    if (_t!=ERROR) break;
+
+    _t=_any();
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+2, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+
+  public Object Or() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+3, _start);
+  do {
+  Object xs=null;
+  { int _p5=_pos; _t=ERROR; do{ //and
+      java.util.ArrayList<Object> as4=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=trans();
+      if (_t==ERROR) break; else as4.add(_t);
+      } _t=as4;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=concat(new Object[] {"Or"}, xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p5, _pos); _pos=_p5; } }
+  _t = _memoize(_base+3, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+
+  public Object And() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+4, _start);
+  do {
+  Object xs=null;
+  { int _p7=_pos; _t=ERROR; do{ //and
+      java.util.ArrayList<Object> as6=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=trans();
+      if (_t==ERROR) break; else as6.add(_t);
+      } _t=as6;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=concat(new Object[] {"And"}, xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; } }
+  _t = _memoize(_base+4, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+
+  public Object Not() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+5, _start);
+  do {
+  Object x=null;
+  { int _p8=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Not",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p8, _pos); _pos=_p8; } }
+  _t = _memoize(_base+5, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+
+  public Object Many() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+6); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+6, _start);
+  do {
+  Object x=null;
+  { int _p9=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Many",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p9, _pos); _pos=_p9; } }
+  _t = _memoize(_base+6, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+6, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+
+  public Object Many1() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+7); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+7, _start);
+  do {
+  Object x=null;
+  { int _p10=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Many1",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p10, _pos); _pos=_p10; } }
+  _t = _memoize(_base+7, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+7, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+
+  public Object Opt() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+8); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+8, _start);
+  do {
+  Object x=null;
+  { int _p11=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Opt",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p11, _pos); _pos=_p11; } }
+  _t = _memoize(_base+8, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+8, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+8, _start, _pos, _t); return _t;
+  }
+
+  public Object Peek() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+9); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+9, _start);
+  do {
+  Object x=null;
+  { int _p12=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Peek",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p12, _pos); _pos=_p12; } }
+  _t = _memoize(_base+9, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+9, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+9, _start, _pos, _t); return _t;
+  }
+
+  public Object Text() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+10); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+10, _start);
+  do {
+  Object x=null;
+  { int _p13=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Text",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p13, _pos); _pos=_p13; } }
+  _t = _memoize(_base+10, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+10, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+10, _start, _pos, _t); return _t;
+  }
+
+  public Object Skip() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+11); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+11, _start);
+  do {
+  Object x=null;
+  { int _p14=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Skip",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p14, _pos); _pos=_p14; } }
+  _t = _memoize(_base+11, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+11, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+11, _start, _pos, _t); return _t;
+  }
+
+  public Object Skip1() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+12); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+12, _start);
+  do {
+  Object x=null;
+  { int _p15=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Skip1",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p15, _pos); _pos=_p15; } }
+  _t = _memoize(_base+12, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+12, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+12, _start, _pos, _t); return _t;
+  }
+
+  public Object List() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+13); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+13, _start);
+  do {
+  Object x=null;
+  { int _p16=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"List",x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p16, _pos); _pos=_p16; } }
+  _t = _memoize(_base+13, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+13, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+13, _start, _pos, _t); return _t;
+  }
+
+  public Object Set() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+14); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+14, _start);
+  do {
+  Object n=null, x=null;
+  { int _p17=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    n= _t;
+    if (_t==ERROR) break;
+
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=new Object[] {"Set",n,x};
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p17, _pos); _pos=_p17; } }
+  _t = _memoize(_base+14, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+14, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+14, _start, _pos, _t); return _t;
+  }
+
+  public Object Rule() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+15); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+15, _start);
+  do {
+  Object as=null, n=null, x=null;
+  { int _p19=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    n= _t;
+      if (_t==ERROR) break;
+
+      _t=trans();
+    x= _t;
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as18=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=_any();
+      if (_t==ERROR) break; else as18.add(_t);
+      } _t=as18;
+      as= _t;
+      if (_t==ERROR) break;
+
+      _t=concat(new Object[] {"Rule",n,x}, as);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p19, _pos); _pos=_p19; } }
+  _t = _memoize(_base+15, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+15, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+15, _start, _pos, _t); return _t;
+  }
+
+  public Object Predict() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+16); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+16, _start);
+  do {
+  Object fs=null, xs=null;
+  { int _p21=_pos; _t=ERROR; do{ //and
+      _t=_any();
+    fs= _t;
+      if (_t==ERROR) break;
+
+      java.util.ArrayList<Object> as20=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=trans();
+      if (_t==ERROR) break; else as20.add(_t);
+      } _t=as20;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=concat(new Object[] {"Predict",fs}, xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p21, _pos); _pos=_p21; } }
+  _t = _memoize(_base+16, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+16, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+16, _start, _pos, _t); return _t;
+  }
+
+  public Object start() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+17); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+17, _start);
+  do {
+  Object r=null;
+  _t=ERROR; do{ //or
+      { int _p22=_pos; _t=ERROR; do{ //and
+      _t=destruct();
+      r= _t;
+      if (_t==ERROR) break;
+
+      _t=end();
+      if (_t==ERROR) break;
+
+      _t=r;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p22, _pos); _pos=_p22; } }
+      if (_t!=ERROR) break;
+
+      { int _p23=_pos; _t=ERROR; do{ //and
+      _t=_any();
+      r= _t;
+      if (_t==ERROR) break;
+
+      _t=end();
+      if (_t==ERROR) break;
+
+      _t=r;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p23, _pos); _pos=_p23; } }
+      if (_t!=ERROR) break;
+
+      { int _p25=_pos; _t=ERROR; do{ //and
+        java.util.ArrayList<Object> as24=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=_any();
+        if (_t==ERROR) break; else as24.add(_t);
+        } _t=as24;
+        r= _t;
+        if (_t==ERROR) break;
+
+        _t=end();
+        if (_t==ERROR) break;
+
+        _t=r;
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p25, _pos); _pos=_p25; } }
+      if (_t!=ERROR) break;
+    }while(false);
+  _t = _memoize(_base+17, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+17, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+17, _start, _pos, _t); return _t;
+  }
+  Object __act0(){changed = true; return null;}
+  boolean __pred1(Object r, Object x){return hasRule(r);}
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 18;
+  static final String[] _names = { "setChanged", "destruct", "trans", "Or", "And", "Not", "Many", "Many1", "Opt", "Peek", "Text", "Skip", "Skip1", "List", "Set", "Rule", "Predict", "start" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return setChanged();
+      case 1: return destruct();
+      case 2: return trans();
+      case 3: return Or();
+      case 4: return And();
+      case 5: return Not();
+      case 6: return Many();
+      case 7: return Many1();
+      case 8: return Opt();
+      case 9: return Peek();
+      case 10: return Text();
+      case 11: return Skip();
+      case 12: return Skip1();
+      case 13: return List();
+      case 14: return Set();
+      case 15: return Rule();
+      case 16: return Predict();
+      case 17: return start();
+      default: return super._call(id);
+    }
+  }
+
+  }
+
+
+
+ class JMetaAndOrOpt extends JMetaPass {
+
+  public Object And() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  do {
+  Object x=null, xs=null;
+  _t=ERROR; do{ //or
+    { int _p0=_pos; _t=ERROR; do{ //and
+      _t=trans();
+      x= _t;
+      if (_t==ERROR) break;
+
+      _t=end();
+      if (_t==ERROR) break;
+
+      _t=setChanged();
+      if (_t==ERROR) break;
+
+      _t=x;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; } }
+    if (_t!=ERROR) break;
+
+    { int _p1=_pos; _t=ERROR; do{ //and
+      _push("And"); _t=transInside();
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=concat(new Object[] {"And"}, xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p1, _pos); _pos=_p1; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+0, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+
+  public Object Or() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+1, _start);
+  do {
+  Object x=null, xs=null;
+  _t=ERROR; do{ //or
+    { int _p2=_pos; _t=ERROR; do{ //and
+      _t=trans();
+      x= _t;
+      if (_t==ERROR) break;
+
+      _t=end();
+      if (_t==ERROR) break;
+
+      _t=setChanged();
+      if (_t==ERROR) break;
+
+      _t=x;
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; } }
+    if (_t!=ERROR) break;
+
+    { int _p3=_pos; _t=ERROR; do{ //and
+      _push("Or"); _t=transInside();
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=concat(new Object[] {"Or"}, xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; } }
+    if (_t!=ERROR) break;
+  }while(false);
+  _t = _memoize(_base+1, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+
+  public Object transInside() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+2, _start);
+  Object s=null, x=null, xs=null, ys=null;
+  { int _p7=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    s= _t;
+    if (_t==ERROR) break;
+
+    _t=ERROR; do{ //or
+      { int _p5=_pos; _t=ERROR; do{ //and
+                _t=_listBegin(); if (_t!=ERROR) {
+        { int _p4=_pos; _t=ERROR; do{ //and
+          _push(s); _t=sym();
+          if (_t==ERROR) break;
+
+          _push(s); _t=transInside();
+          xs= _t;
+          if (_t==ERROR) break;
+        }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p4, _pos); _pos=_p4; } }
+        _listEnd(); }
+        if (_t==ERROR) break;
+
+        _push(s); _t=transInside();
+        ys= _t;
+        if (_t==ERROR) break;
+
+        _t=setChanged();
+        if (_t==ERROR) break;
+
+        _t=concat(xs, ys);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p5, _pos); _pos=_p5; } }
+      if (_t!=ERROR) break;
+
+      { int _p6=_pos; _t=ERROR; do{ //and
+        _t=trans();
+        x= _t;
+        if (_t==ERROR) break;
+
+        _push(s); _t=transInside();
+        xs= _t;
+        if (_t==ERROR) break;
+
+        _t=concat(new Object[] {x}, xs);
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p6, _pos); _pos=_p6; } }
+      if (_t!=ERROR) break;
+
+      _t=new Object[] {};
+      if (_t!=ERROR) break;
+    }while(false);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; } }
+  if (_t==ERROR) { _pos=_start; _fail(_base+2, _start, _exp); }
+  if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 3;
+  static final String[] _names = { "And", "Or", "transInside" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return And();
+      case 1: return Or();
+      case 2: return transInside();
+      default: return super._call(id);
+    }
+  }
+
+  }
+
+
+
+
+ class JMetaCalls extends JMetaPass {  public boolean bounded =  true ;
+  public ArrayList calls =  new ArrayList() ;
+
+
+  public Object unbounded() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  do {
+  
+  _t=__act0();
+  _t = _memoize(_base+0, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+
+  public Object Many() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+1, _start);
+  do {
+  Object x=null;
+  { int _p1=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=unbounded();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p1, _pos); _pos=_p1; } }
+  _t = _memoize(_base+1, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+
+  public Object Many1() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+2, _start);
+  do {
+  Object x=null;
+  { int _p2=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=unbounded();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; } }
+  _t = _memoize(_base+2, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+
+  public Object Skip() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+3, _start);
+  do {
+  Object x=null;
+  { int _p3=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=unbounded();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; } }
+  _t = _memoize(_base+3, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+
+  public Object Skip1() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+4, _start);
+  do {
+  Object x=null;
+  { int _p4=_pos; _t=ERROR; do{ //and
+    _t=trans();
+    x= _t;
+    if (_t==ERROR) break;
+
+    _t=unbounded();
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p4, _pos); _pos=_p4; } }
+  _t = _memoize(_base+4, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+
+  public Object App() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+5, _start);
+  do {
+  Object r=null;
+  _t=ERROR; do{ //or
+        { int _p6=_pos; _t=ERROR; do{ //and
+        _t=_sym("super");
+        if (_t==ERROR) break;
+
+        java.util.ArrayList<Object> as5=new java.util.ArrayList<Object>();
+        while (true){ //many
+        _t=_any();
+        if (_t==ERROR) break; else as5.add(_t);
+        } _t=as5;
+        if (_t==ERROR) break;
+
+        _t=unbounded();
+        if (_t==ERROR) break;
+      }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p6, _pos); _pos=_p6; } }
+        if (_t!=ERROR) break;
+
+        { int _p9=_pos; _t=ERROR; do{ //and
+          _t=_any();
+        r= _t;
+          if (_t==ERROR) break;
+
+          java.util.ArrayList<Object> as7=new java.util.ArrayList<Object>();
+          while (true){ //many
+          _t=_any();
+          if (_t==ERROR) break; else as7.add(_t);
+          } _t=as7;
+          if (_t==ERROR) break;
+
+          _t=__act8(r);
+          if (_t==ERROR) break;
+        }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p9, _pos); _pos=_p9; } }
+        if (_t!=ERROR) break;
+      }while(false);
+  _t = _memoize(_base+5, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+  Object __act0(){ bounded = false; return null; }
+  Object __act8(Object r){ calls.add(r); return null; }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 6;
+  static final String[] _names = { "unbounded", "Many", "Many1", "Skip", "Skip1", "App" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return unbounded();
+      case 1: return Many();
+      case 2: return Many1();
+      case 3: return Skip();
+      case 4: return Skip1();
+      case 5: return App();
+      default: return super._call(id);
+    }
+  }
+
+  }
+
+
+
+
+
+ class JMetaStrOpt extends JMetaPass {
+
+  public Object Or() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  do {
+  Object xs=null;
+  { int _p2=_pos; _t=ERROR; do{ //and
+      java.util.ArrayList<Object> as0=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=trans();
+      if (_t==ERROR) break; else as0.add(_t);
+      } _t=as0;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=__act1(xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; } }
+  _t = _memoize(_base+0, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }  public boolean isStr ( Object x ) { 
+        return x instanceof Object[] && "Str".equals(((Object[]) x)[0]);
+     }
+  public void merge ( ArrayList run, ArrayList res ) { 
+        boolean longer = false;
+        for (Object x : run) if (((String) ((Object[]) x)[1]).length() != 1) longer = true;
+        if (run.size() < 2 || !longer) { res.addAll(run); run.clear(); return; }
+        ArrayList c = new ArrayList(Arrays.asList("Strs"));
+        for (Object x : run) c.add(((Object[]) x)[1]);
+        res.add(c.toArray());
+        run.clear();
+        setChanged();
+     }
+  public Object strs ( Object xs ) { 
+        ArrayList res = new ArrayList(Arrays.asList("Or"));
+        ArrayList run = new ArrayList();
+        for (Object x : (ArrayList) xs) {
+            if (isStr(x)) { run.add(x); continue; }
+            merge(run, res);
+            res.add(x);
+        }
+        merge(run, res);
+        if (res.size() == 2) return res.get(1);
+        return res.toArray();
+     }
+
+  Object __act1(Object xs){ return strs(xs); }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 1;
+  static final String[] _names = { "Or" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return Or();
+      default: return super._call(id);
+    }
+  }
+
+  }
+
+
+
+
+ class JMetaCharOpt extends JMetaPass {
+
+  public Object Or() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  do {
+  Object xs=null;
+  { int _p2=_pos; _t=ERROR; do{ //and
+      java.util.ArrayList<Object> as0=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=trans();
+      if (_t==ERROR) break; else as0.add(_t);
+      } _t=as0;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=__act1(xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; } }
+  _t = _memoize(_base+0, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }  public boolean isChar ( Object x ) { 
+        if (!(x instanceof Object[])) return false;
+        Object[] a = (Object[]) x;
+        if ("Str".equals(a[0])) return ((String) a[1]).length() == 1;
+        return "Chars".equals(a[0]) && Boolean.FALSE.equals(a[1]);
+     }
+  public void merge ( ArrayList run, ArrayList res ) { 
+        if (run.size() < 2) { res.addAll(run); run.clear(); return; }
+        ArrayList c = new ArrayList(Arrays.asList("Chars", false));
+        for (Object x : run) {
+            Object[] a = (Object[]) x;
+            if ("Str".equals(a[0])) c.add(a);
+            else c.addAll(Arrays.asList(a).subList(2, a.length));
+        }
+        res.add(c.toArray());
+        run.clear();
+        setChanged();
+     }
+  public Object chars ( Object xs ) { 
+        ArrayList res = new ArrayList(Arrays.asList("Or"));
+        ArrayList run = new ArrayList();
+        for (Object x : (ArrayList) xs) {
+            if (isChar(x)) { run.add(x); continue; }
+            merge(run, res);
+            res.add(x);
+        }
+        merge(run, res);
+        if (res.size() == 2) return res.get(1);
+        return res.toArray();
+     }
+
+  Object __act1(Object xs){ return chars(xs); }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 1;
+  static final String[] _names = { "Or" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return Or();
+      default: return super._call(id);
+    }
+  }
+
+  }
+
+
+
+
+
+
+
+ class JMetaPredict extends JMetaPass {  public HashMap rules =  new HashMap() ;
+  public boolean base =  false ;
+  public HashMap firsts =  new HashMap() ;
+  public static final Object NULLABLE =  "nullable" ;
+
+
+  public Object Or() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  do {
+  Object xs=null;
+  { int _p2=_pos; _t=ERROR; do{ //and
+      java.util.ArrayList<Object> as0=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=trans();
+      if (_t==ERROR) break; else as0.add(_t);
+      } _t=as0;
+      xs= _t;
+      if (_t==ERROR) break;
+
+      _t=__act1(xs);
+      if (_t==ERROR) break;
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; } }
+  _t = _memoize(_base+0, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }  public Object predict ( Object xs ) { 
+        ArrayList as = (ArrayList) xs;
+        Object[] fs = new Object[as.size()];
+        boolean some = false;
+        for (int i = 0; i < fs.length && i < 64; i++) {
+            HashSet f = first(as.get(i));
+            if (f == null || f.contains(NULLABLE)) continue;
+            fs[i] = f.toArray();
+            ArrayList e = expected(as.get(i));
+            if (e != null) fs[i] = concat(fs[i], e);
+            some = true;
+        }
+        if (!some || fs.length < 2) return concat(new Object[] {"Or"}, as);
+        return concat(new Object[] {"Predict", fs}, as);
+     }
+  public HashMap expects =  new HashMap() ;
+  public ArrayList expected ( Object x ) { 
+        if (!(x instanceof Object[])) return null;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        ArrayList es = new ArrayList();
+        if (t.equals("Str")) { es.add("\""+ a[1]); return es; }
+        if (t.equals("Strs")) { for (int i = 1; i < a.length; i++) es.add("\""+ a[i]); return es; }
+        if (t.equals("Chars")) { es.add("<"+ Utils.className(a[1], Arrays.asList(a).subList(2, a.length))); return es; }
+        if (t.equals("App") && a.length == 2 && rules.containsKey(a[1])) return expectedOfRule((String) a[1]);
+        if (t.equals("App") && a.length == 2 && base && Arrays.asList("digit", "letter", "nl", "sp").contains(a[1])) {
+            // like in BaseParser, the class of a build-in rule is named after it
+            es.add("<"+ (a[1].equals("nl")? "newline" : a[1].equals("sp")? "space" : a[1]));
+            return es;
+        }
+        if (t.equals("Set")) return expected(a[2]);
+        if (t.equals("Many1") || t.equals("Skip1") || t.equals("Text")) return expected(a[1]);
+        if (t.equals("And")) {
+            // elements that can match empty, like whitespace, match nothing at a char x cannot start with
+            for (int i = 1; i < a.length; i++) {
+                HashSet f = first(a[i]);
+                if (f == null) return null;
+                if (!f.contains(NULLABLE)) return expected(a[i]);
+            }
+            return null;
+        }
+        if (t.equals("Or") || t.equals("Predict")) {
+            for (int i = t.equals("Or")? 1 : 2; i < a.length; i++) {
+                ArrayList e = expected(a[i]);
+                if (e == null) return null;
+                es.addAll(e);
+            }
+            return es;
+        }
+        return null;
+     }
+  public ArrayList expectedOfRule ( String r ) { 
+        if (expects.containsKey(r)) return (ArrayList) expects.get(r);
+        // a rule that is still being looked at is recursive, it is listed without what it expects
+        ArrayList es = new ArrayList(Arrays.asList("="+ r, ")"));
+        expects.put(r, es);
+        ArrayList inner = expected(rules.get(r));
+        if (inner == null) return es;
+        es = new ArrayList(Arrays.asList("="+ r));
+        es.addAll(inner);
+        es.add(")");
+        expects.put(r, es);
+        return es;
+     }
+  public HashSet first ( Object x ) { 
+        if (!(x instanceof Object[])) return null;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        HashSet s = new HashSet();
+        if (t.equals("Str")) {
+            if (((String) a[1]).length() == 0) s.add(NULLABLE); else s.add(((String) a[1]).charAt(0));
+            return s;
+        }
+        if (t.equals("Strs")) {
+            for (int i = 1; i < a.length; i++) {
+                if (((String) a[i]).length() == 0) s.add(NULLABLE); else s.add(((String) a[i]).charAt(0));
+            }
+            return s;
+        }
+        if (t.equals("Sym")) { s.add(a[1]); return s; }
+        if (t.equals("Chars")) {
+            if (Boolean.TRUE.equals(a[1])) return null;
+            for (int i = 2; i < a.length; i++) {
+                Object[] r = (Object[]) a[i];
+                if ("Str".equals(r[0])) { s.add(((String) r[1]).charAt(0)); continue; }
+                int lo = r[1].toString().charAt(0), hi = r[2].toString().charAt(0);
+                if (hi - lo > 256) return null;
+                for (int c = lo; c <= hi; c++) s.add((char) c);
+            }
+            return s;
+        }
+        if (t.equals("Set")) return first(a[2]);
+        if (t.equals("Peek") || t.equals("Many1") || t.equals("Skip1") || t.equals("Text")) return first(a[1]);
+        if (t.equals("Many") || t.equals("Skip") || t.equals("Opt")) {
+            s = first(a[1]);
+            if (s != null) s.add(NULLABLE);
+            return s;
+        }
+        if (t.equals("Not")) { s.add(NULLABLE); return s; }
+        if (t.equals("List")) {
+            // a list that starts with a symbol, marked with a "[" that symbols cannot contain
+            HashSet f = first(a[1]);
+            if (f == null || f.contains(NULLABLE)) return null;
+            for (Object o : f) {
+                if (!(o instanceof String)) return null;
+                s.add("["+ o);
+            }
+            return s;
+        }
+        if (t.equals("Or") || t.equals("Predict")) {
+            for (int i = t.equals("Or")? 1 : 2; i < a.length; i++) {
+                HashSet f = first(a[i]);
+                if (f == null) return null;
+                s.addAll(f);
+            }
+            return s;
+        }
+        if (t.equals("And")) {
+            s.add(NULLABLE);
+            for (int i = 1; i < a.length; i++) {
+                HashSet f = first(a[i]);
+                if (f == null) return null;
+                s.addAll(f);
+                if (!f.contains(NULLABLE)) { s.remove(NULLABLE); return s; }
+            }
+            return s;
+        }
+        if (t.equals("App") && a.length == 2) return firstOfRule((String) a[1]);
+        return null;
+     }
+  public HashSet firstOfRule ( String r ) { 
+        if (rules.containsKey(r)) {
+            if (firsts.containsKey(r)) return (HashSet) firsts.get(r);
+            // a rule that is still being looked at is recursive, it can start with anything
+            firsts.put(r, null);
+            HashSet f = first(rules.get(r));
+            firsts.put(r, f);
+            return f;
+        }
+        if (!base) return null;
+        String cs = null;
+        if (r.equals("digit"))  cs = "0123456789";
+        if (r.equals("letter")) cs = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        if (r.equals("nl"))     cs = "\n\r";
+        if (r.equals("sp"))     cs = " \t\f";
+        if (r.equals("ws"))     cs = " \t\f\n\r";
+        if (r.equals("empty") || r.equals("pos") || r.equals("col")) cs = "";
+        if (cs == null) return null;
+        HashSet s = new HashSet();
+        for (int i = 0; i < cs.length(); i++) s.add(cs.charAt(i));
+        if (r.equals("ws") || cs.length() == 0) s.add(NULLABLE);
+        return s;
+     }
+
+  Object __act1(Object xs){ return predict(xs); }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 1;
+  static final String[] _names = { "Or" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return Or();
+      default: return super._call(id);
+    }
+  }
+
+  }
+
+
+
+ class JMetaOptimizer extends BaseParser {  public static final List bounded =  Arrays.asList("_any", "empty", "end", "digit", "letter", "nl", "sp", "str", "sym", "pos", "col") ;
+  public Object memoPolicy ( Object sn, Object rs ) { 
+        HashMap<String, JMetaCalls> rules = new HashMap<String, JMetaCalls>();
+        for (Object r : (ArrayList) rs) {
+            if (!(r instanceof Object[]) || !"Rule".equals(((Object[]) r)[0])) continue;
+            JMetaCalls calls = new JMetaCalls();
+            calls.parse(r);
+            rules.put((String) ((Object[]) r)[1], calls);
+        }
+
+        HashSet<String> trivial = new HashSet<String>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, JMetaCalls> e : rules.entrySet()) {
+                if (trivial.contains(e.getKey()) || !e.getValue().bounded) continue;
+                boolean ok = true;
+                for (Object c : e.getValue().calls) {
+                    if (trivial.contains(c)) continue;
+                    if (!rules.containsKey(c) && "BaseParser".equals(sn) && bounded.contains(c)) continue;
+                    ok = false; break;
+                }
+                if (ok) { trivial.add(e.getKey()); changed = true; }
+            }
+        }
+
+        ArrayList res = new ArrayList();
+        for (Object r : (ArrayList) rs) {
+            if (r instanceof Object[] && "Rule".equals(((Object[]) r)[0]) && trivial.contains(((Object[]) r)[1])) {
+                List as = Arrays.asList((Object[]) r).subList(3, ((Object[]) r).length);
+                if (!as.contains("memo") && !as.contains("nomemo")) r = concat(r, new Object[] {"nomemo"});
+            }
+            res.add(r);
+        }
+        return res;
+     }
+  public Object unused ( Object x, boolean used ) { 
+        if (!(x instanceof Object[])) return x;
+        Object[] a = ((Object[]) x).clone();
+        String t = (String) a[0];
+        if (t.equals("Rule")) { a[2] = unused(a[2], true); return a; }
+        if (t.equals("Set")) { a[2] = unused(a[2], true); return a; }
+        if (t.equals("Not") || t.equals("Text")) { a[1] = unused(a[1], false); return a; }
+        if (t.equals("Peek") || t.equals("Opt") || t.equals("List")) { a[1] = unused(a[1], used); return a; }
+        if (t.equals("Many") || t.equals("Many1")) {
+            a[1] = unused(a[1], used);
+            if (!used) a[0] = t.equals("Many")? "Skip" : "Skip1";
+            return a;
+        }
+        if (t.equals("Or")) {
+            for (int i = 1; i < a.length; i++) a[i] = unused(a[i], used);
+            return a;
+        }
+        if (t.equals("And")) {
+            // the value of a sequence is that of its last element, errors and cuts are not elements
+            int last = a.length - 1;
+            while (last > 0 && a[last] instanceof Object[] && ("Error".equals(((Object[]) a[last])[0]) || "Cut".equals(((Object[]) a[last])[0]))) last--;
+            for (int i = 1; i < a.length; i++) a[i] = unused(a[i], used && i == last);
+            return a;
+        }
+        return x;
+     }
+  public Object predict ( Object sn, Object rs ) { 
+        JMetaPredict predict = new JMetaPredict();
+        predict.base = "BaseParser".equals(sn);
+        for (Object r : (ArrayList) rs) {
+            if (r instanceof Object[] && "Rule".equals(((Object[]) r)[0])) predict.rules.put(((Object[]) r)[1], ((Object[]) r)[2]);
+        }
+        ArrayList res = new ArrayList();
+        for (Object r : (ArrayList) rs) {
+            if (r instanceof Object[] && "Rule".equals(((Object[]) r)[0])) r = predict.parse(r);
+            res.add(r);
+        }
+        return res;
+     }
+  public static final int INLINE =  325 ;
+  public static final int BUDGET =  INLINE * 9 / 10 ;
+  public Object outline ( Object rs ) { 
+        ArrayList res = new ArrayList();
+        for (Object r : (ArrayList) rs) {
+            if (r instanceof Object[] && "Rule".equals(((Object[]) r)[0])) {
+                Object[] a = ((Object[]) r).clone();
+                HashSet<String> vars = new HashSet<String>();
+                sets(a[2], vars);
+                List as = Arrays.asList(a).subList(3, a.length);
+                // the code of every rule, including tracking what it expected for error messages
+                int rule = (as.contains("nomemo") && !as.contains("memo"))? 90 : 120;
+                a[2] = fit(a[2], BUDGET - rule - 2 * vars.size(), (String) a[1], a[2], vars.size());
+                r = a;
+            }
+            res.add(r);
+        }
+        return res;
+     }
+  public Object fit ( Object x, int budget, String rule, Object body, int vars ) { 
+        if (!(x instanceof Object[])) return x;
+        Object[] o = (Object[]) x, a = o.clone();
+        String t = (String) a[0];
+        if (t.equals("App") || t.equals("SAct") || t.equals("Chars")) return a;
+        int first = (t.equals("Set") || t.equals("Predict"))? 2 : 1;
+        for (int i = first; i < a.length; i++) a[i] = fit(a[i], BUDGET - 10, rule, body, vars);
+        boolean[] shrunk = new boolean[a.length];
+        while (cost(a, vars) > budget) {
+            int best = -1, max = 20 + 2 * vars;
+            for (int i = first; i < a.length; i++) {
+                int c = cost(a[i], vars);
+                if (c > max && outlinable(o[i], null, o[i], body)) { best = i; max = c; }
+            }
+            if (best >= 0) { a[best] = new Object[] {"Outline", rule, a[best]}; continue; }
+            max = 0;
+            for (int i = first; i < a.length; i++) {
+                int c = cost(a[i], vars);
+                if (c > max && !shrunk[i] && !"Outline".equals(((Object[]) a[i])[0])) { best = i; max = c; }
+            }
+            if (best < 0) break;
+            shrunk[best] = true;
+            a[best] = fit(o[best], max - (cost(a, vars) - budget), rule, body, vars);
+        }
+        Object[] os = o;
+        Object call = new Object[] {"Outline", rule, null};
+        while ((t.equals("And") || t.equals("Or") || t.equals("Predict")) && cost(a, vars) > budget) {
+            // the shortest tail that makes the rest fit, or else the longest tail that fits in a method of its own
+            int k = -1;
+            for (int i = a.length - 2; i > first; i--) {
+                if (cost(tail(a, i), vars) > BUDGET - 10 || !outlinable(tail(os, i), head(os, i, null), o, body)) break;
+                k = i;
+                if (cost(head(a, i, call), vars) <= budget) break;
+            }
+            if (k < 0) break;
+            a = (Object[]) head(a, k, new Object[] {"Outline", rule, tail(a, k)});
+            os = (Object[]) head(os, k, tail(os, k));
+        }
+        return a;
+     }
+  public Object head ( Object[] a, int k, Object last ) { 
+        Object[] h = Arrays.copyOf(a, k + 1);
+        h[k] = last;
+        if (a[0].equals("Predict")) {
+            h[1] = Arrays.copyOf((Object[]) a[1], k - 1);
+            ((Object[]) h[1])[k - 2] = null;
+        }
+        return h;
+     }
+  public Object tail ( Object[] a, int k ) { 
+        ArrayList res = new ArrayList(Arrays.asList(a[0]));
+        if (a[0].equals("Predict")) res.add(Arrays.copyOfRange((Object[]) a[1], k - 2, a.length - 2));
+        for (int i = k - 1; i > 0 && a[0].equals("And"); i--) {
+            String e = (a[i] instanceof Object[])? (String) ((Object[]) a[i])[0] : "";
+            if (e.equals("Cut")) { res.add(new Object[] {"Throw", ""}); break; }
+            if (e.equals("Error") || e.equals("Throw")) { res.add(new Object[] {"Throw", ((Object[]) a[i])[1]}); break; }
+        }
+        res.addAll(Arrays.asList(a).subList(k, a.length));
+        return res.toArray();
+     }
+  public boolean outlinable ( Object x, Object before, Object whole, Object body ) { 
+        if (!(x instanceof Object[])) return false;
+        String t = (String) ((Object[]) x)[0];
+        if (t.equals("Error") || t.equals("Cut") || t.equals("Throw") || ((Object[]) x).length == 1) return false;
+        HashSet<String> vs = new HashSet<String>();
+        sets(x, vs);
+        for (String v : vs) {
+            if (exposed(before, null, v) || exposed(body, whole, v)) return false;
+            // unless the rule always set it before, as the outlined part is passed what the rule set last
+            if (exposed(x, null, v) && !setBefore(body, whole, v, false) && !definitelySets(before, v)) return false;
+        }
+        return true;
+     }
+  public boolean setBefore ( Object x, Object target, String v, boolean set ) { 
+        if (x == target || !(x instanceof Object[])) return set;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        if (t.equals("Many") || t.equals("Many1") || t.equals("Skip") || t.equals("Skip1")) set = false;
+        for (int i = t.equals("Predict")? 2 : 1; i < a.length; i++) {
+            if (contains(a[i], target)) return setBefore(a[i], target, v, set);
+            if (t.equals("And") && definitelySets(a[i], v)) set = true;
+        }
+        return set;
+     }
+  public void sets ( Object x, HashSet<String> vs ) { 
+        if (!(x instanceof Object[])) return;
+        Object[] a = (Object[]) x;
+        if ("Set".equals(a[0])) vs.add((String) a[1]);
+        for (int i = "Predict".equals(a[0])? 2 : 1; i < a.length; i++) sets(a[i], vs);
+     }
+  public boolean exposed ( Object x, Object skip, String v ) { 
+        if (!(x instanceof Object[]) || x == skip) return false;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        if (t.equals("HLit") || t.equals("Act") || t.equals("Pred")) return Arrays.asList(a[1].toString().split("[^\\w$]+")).contains(v);
+        if (t.equals("And")) {
+            boolean set = false;
+            for (int i = 1; i < a.length; i++) {
+                boolean after = skip != null && contains(a[i], skip);
+                if ((!set || after) && exposed(a[i], skip, v)) return true;
+                if (after) set = false;
+                else if (definitelySets(a[i], v)) set = true;
+            }
+            return false;
+        }
+        for (int i = t.equals("Predict")? 2 : 1; i < a.length; i++) if (exposed(a[i], skip, v)) return true;
+        return false;
+     }
+  public boolean definitelySets ( Object x, String v ) { 
+        if (!(x instanceof Object[])) return false;
+        Object[] a = (Object[]) x;
+        if ("Set".equals(a[0])) return a[1].equals(v) || definitelySets(a[2], v);
+        if ("And".equals(a[0])) for (int i = 1; i < a.length; i++) if (definitelySets(a[i], v)) return true;
+        return false;
+     }
+  public boolean contains ( Object x, Object y ) { 
+        if (x == y) return true;
+        if (!(x instanceof Object[])) return false;
+        for (Object o : (Object[]) x) if (contains(o, y)) return true;
+        return false;
+     }
+  public int cost ( Object x, int vars ) { 
+        if (!(x instanceof Object[])) return 0;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        int c = 0;
+        if (t.equals("And")) {
+            boolean error = false;
+            c = 46;
+            for (int i = 1; i < a.length; i++) {
+                String e = (a[i] instanceof Object[])? (String) ((Object[]) a[i])[0] : "";
+                if (e.equals("Error")) { error = true; c += 11; }
+                else if (e.equals("Throw")) error = true;
+                else if (e.equals("Cut")) c += 4;
+                else c += cost(a[i], vars) + (error? 18 : 7);
+            }
+            return c;
+        }
+        if (t.equals("Or"))      { c = 4;  for (int i = 1; i < a.length; i++) c += cost(a[i], vars) + 7;  return c; }
+        if (t.equals("Predict")) { c = 45; for (int i = 2; i < a.length; i++) c += cost(a[i], vars) + 18; return c; }
+        if (t.equals("App")) {
+            int i = "super".equals(a[1])? 3 : 2;
+            c = (i < a.length)? 15 : 5;
+            for (; i < a.length; i++) c += cost(a[i], vars) + 4;
+            return c;
+        }
+        if (t.equals("HList"))   { c = 5;  for (int i = 1; i < a.length; i++) c += cost(a[i], vars) + 4;  return c; }
+        if (t.equals("HConcat")) return 3 + cost(a[1], vars) + cost(a[2], vars);
+        if (t.equals("HStr") || t.equals("HLit")) return 2;
+        if (t.equals("SAct"))    return 1 + cost(a[1], vars);
+        if (t.equals("Set"))     return 4 + cost(a[2], vars);
+        // a repetition includes resuming it in a push parse, see JMetaCompiler.resumable
+        if (t.equals("Many"))    return 43 + cost(a[1], vars);
+        if (t.equals("Many1"))   return 51 + cost(a[1], vars);
+        if (t.equals("Skip"))    return 33 + cost(a[1], vars);
+        if (t.equals("Skip1"))   return 48 + cost(a[1], vars);
+        if (t.equals("Opt"))     return 22 + cost(a[1], vars);
+        if (t.equals("Not"))     return 40 + cost(a[1], vars);
+        if (t.equals("Peek"))    return 19 + cost(a[1], vars);
+        if (t.equals("Text"))    return 20 + cost(a[1], vars);
+        if (t.equals("List"))    return 16 + cost(a[1], vars);
+        if (t.equals("Act") || t.equals("Outline")) return 5 + 2 * vars;
+        if (t.equals("Pred"))    return 12 + 2 * vars;
+        if (t.equals("Str") || t.equals("Sym")) return 7;
+        return 8;
+     }
+
+
+  public Object optimizeGrammar() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+0, _start);
+  do {
+  Object n=null, p=null, rs=null, sn=null;
+  { int _p2=_pos; _t=ERROR; do{ //and
+      _t=_sym("Parser");
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_any();
+    p= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_any();
+    n= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=_any();
+    sn= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      java.util.ArrayList<Object> as0=new java.util.ArrayList<Object>();
+      while (true){ //many
+      _t=optimizeRule();
+      if (_t==ERROR) break; else as0.add(_t);
+      } _t=as0;
+      rs= _t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+
+      _t=__act1(n,p,rs,sn);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; } }
+  _t = _memoize(_base+0, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+
+  public Object optimizeRule() { Object _t=null; int _start=_pos;
+  _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+  if (listener!=null) listener.enter(this, _base+1, _start);
+  do {
+  Object r=null;
+  { int _p4=_pos; _t=ERROR; do{ //and
+    _t=_any();
+    r= _t;
+    if (_t==ERROR) break;
+
+    _t=__act3(r);
+    if (_t==ERROR) break;
+  }while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p4, _pos); _pos=_p4; } }
+  _t = _memoize(_base+1, _k, _start, _t);
+  } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+  if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  Object __act1(Object n, Object p, Object rs, Object sn){
+        return concat(new Object[] {"Parser", p, n, sn}, outline(predict(sn, memoPolicy(sn, rs))));
+    }
+  Object __act3(Object r){
+        JMetaAndOrOpt opt = new JMetaAndOrOpt();
+        do {
+            opt.changed = false;
+            r = opt.parse(r);
+        } while (opt.changed);
+        r = new JMetaStrOpt().parse(r);
+        r = new JMetaCharOpt().parse(r);
+        return unused(r, true);
+    }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 2;
+  static final String[] _names = { "optimizeGrammar", "optimizeRule" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return optimizeGrammar();
+      case 1: return optimizeRule();
+      default: return super._call(id);
+    }
+  }
+
+  }
@@ -0,0 +1,39 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+/// A rule application with arguments; the key is the rule, the position and the argument values, the entry holds the
+/// memoized result. Strings are compared using equals, all other arguments by identity.
+final class ArgKey {
+    final int rule; final int pos; final Object[] args;
+    final int hash;
+    int end; Object val; int consumed;
+    int far;   // what the application examined, @see MemoTable.far()
+    long used; // when it was last used, if the table is limited
+
+    ArgKey(int rule, int pos, Object[] stack, int top, int argc, int hash) {
+        this.rule = rule; this.pos = pos; this.hash = hash;
+        args = new Object[argc];
+        for (int i = 0; i < argc; i++) args[i] = stack[top - 1 - i];
+    }
+
+    /// hash of a rule application, the arguments are on the stack, the first argument at top - 1
+    static int hash(int rule, int pos, Object[] stack, int top, int argc) {
+        int h = rule * 31 + pos;
+        for (int i = 0; i < argc; i++) {
+            Object a = stack[top - 1 - i];
+            h = h * 31 + ((a instanceof String)? a.hashCode() : System.identityHashCode(a));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    boolean matches(int rule, int pos, Object[] stack, int top, int argc) {
+        if (this.rule != rule || this.pos != pos || args.length != argc) return false;
+        for (int i = 0; i < argc; i++) {
+            Object a = args[i], b = stack[top - 1 - i];
+            if (a == b) continue;
+            if (a instanceof String && a.equals(b)) continue;
+            return false;
+        }
+        return true;
+    }
+}
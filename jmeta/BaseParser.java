@@ -2,22 +2,17 @@
 package jmeta;
 
 import java.util.*;
+import java.io.Reader;
 
 class State {
     State prev = null;
-    int pos; Object[] list; SparseArrayList<HashMap<String, Memoize>> positions;
-    public State(State prev, int p, Object[] l, SparseArrayList<HashMap<String, Memoize>> m) {
+    int pos; List<?> list; MemoTable memo;
+    public State(State prev, int p, List<?> l, MemoTable m) {
         this.prev = prev;
-        pos = p; list = l; positions = m;
+        pos = p; list = l; memo = m;
     }
 }
 
-class Memoize {
-    public Object val; public int pos; int seed = -1;
-    public Memoize(Object val, int pos) { this.val = val; this.pos = pos; }
-    public String toString() { return "at: "+ pos +" val: "+ val; }
-}
-
 class Position {
     public final int pos;
     public final int line;
@@ -73,106 +68,427 @@ public class BaseParser {
         return args[args.length - 1];
     }
 
-    /// Object indicating a parsing error
+    /// Object indicating a parsing error; it holds no state, so parsers on different threads can share it
     public static final ErrorObject ERROR = new ErrorObject();
+
+    // the farthest position a rule or a terminal failed at in the input, and what was expected there, in the order it
+    // failed: a rule by id, or where _expLits is not null a String, Literals, CharClass or END; rules also have their
+    // bit set in _expBits, so each is added once. The message is only made when a SyntaxError asks for it.
+    int _failPos = -1;
+    int[] _expRules = new int[16];
+    Object[] _expLits = new Object[16];
+    int _expN = 0;
+    long[] _expBits = new long[4];
+    /// inside a not `~`, where failures are not what was expected
+    public int _silent = 0;
+    static final Object END = new Object() { public String toString() { return "end of input"; }};
     public final Object LEFT_REC   = new Object() { public String toString() { return "LEFT_REC"; }};
     public final Object GROW       = new Object() { public String toString() { return "GROW"; }};
-    public final Memoize NOT_MEMOIZED     = new Memoize(null, -1)  { public String toString() { return "not memoized"; }};
+    public final Object NOT_MEMOIZED = new Object() { public String toString() { return "not memoized"; }};
 
-    ArrayDeque<Object> args;
+    /// number of memoized rules; generated parsers number their rules starting from their super parser's _rules
+    public static final int _rules = 0;
+
+    /// name of a rule id, for tracing and debugging; generated parsers override this
+    public String _ruleName(int id) { return "#"+ id; }
+
+    Object[] args;         // stack of arguments, the top is at argsp - 1
+    int argsp = 0;
+    int _argc = 0;         // number of arguments pushed for the next rule application
+    public Object _argkey; // set by _retrieve, identifies the application of a rule with arguments
     State _stack = null;
-    SparseArrayList<HashMap<String, Memoize>> _positions;
-    ArrayDeque<HashSet<String>> _lefts;
+    MemoTable _memo;
+    MemoStats _stats;
+    Head[] _lefts = new Head[4];  // stack of left recursions being grown, the top is at _leftsp - 1; heads are reused
+    int _leftsp = 0;
+    IdentityHashMap<Object, MemoTable> _sublists;  // memo tables of the nested lists entered, created on first use
+
+    /// if set, passing a `!` is also a cut, like `^`; @see _cut()
+    public boolean cutOnError = false;
+
+    /// receives the events of the parse, @see ParseListener
+    public ParseListener listener = null;
+
+    /// if set before a parse, the parse keeps track of how far each memoized rule examined the input, so the input can
+    /// be edited and parsed again using reparse()
+    public boolean incremental = false;
+
+    /// if set before a parse, limits each memo table, of the input and of every nested list, to this many memoized
+    /// results, or estimated bytes; 0 is no limit
+    ///
+    /// A table over its limit forgets results in the order of memoPolicy until it is within 3/4 of its limit. A rule
+    /// whose result was forgotten is evaluated again when it is needed, so the parse gives the same result, it is only
+    /// slower. Results of rules that are still being evaluated, and the seeds of left recursive rules that are
+    /// growing, are always kept.
+    public int memoMaxEntries = 0;
+    public long memoMaxBytes = 0;
+
+    /// the order in which a limited memo table forgets its results, @see MemoPolicy
+    public MemoPolicy memoPolicy = MemoPolicy.DISTANCE;
+
+    /// returned by feed() and endOfInput() when no message is complete; @see push()
+    public static final Object MORE = new Object() { public String toString() { return "MORE"; }};
+
+    // push parsing, @see push(): the input fed and not yet parsed, the rule to parse, if the input ended, the number
+    // of messages parsed, and the memo table of the last attempt at the current message; _more is set while a push
+    // parse may still get more input, so _avail() suspends it instead of failing at the end of what was fed
+    StringBuilder _fed;
+    String _pushRule;
+    boolean _ended;
+    int _messages;
+    MemoTable _resume;
+    boolean _more;
+
+    // push parsing: the repetitions being evaluated, the top is at _loopsp - 1, and those of the last attempt at the
+    // current message, to resume; @see _loop()
+    Loop[] _loops = new Loop[4];
+    int _loopsp = 0;
+    Loop[] _resumed = new Loop[4];
+    int _resumedN = 0;
 
     public int _pos = 0;
-    public String _string;
-    public Object[] _list;
-
-    public Object _memoize(String s, int p, Object o) {
-        HashMap<String, Memoize> map = _positions.get(p);
-        Memoize entry = null;
-        if (map == null) {
-            map = new HashMap<String, Memoize>();
-            _positions.set(p, map);
-        } else {
-            entry = map.get(s);
+    public CharSequence _string;
+    String _text;          // _string, if it is a String, to use its faster methods
+    int _end;              // number of chars of _string available, @see _avail()
+    LineIndex _lines;      // created on first use, @see _lines()
+    public List<?> _list;  // when parsing a list: the list, or a view of the array, being parsed
+
+    // for incremental parsing: the end of the input examined, exclusive, and if a value depends on its position, of the
+    // rule application being evaluated; each saves those of its caller, encoded by MemoTable.far()
+    int _far;
+    boolean _posdep;
+    int[] _fars = new int[16];
+    int _farsp = 0;
+    // and the rule application at each depth: its rule id and position, or its key if it has arguments; the id is -1
+    // if it is not memoized. A push parse forgets these when it is suspended, @see _next()
+    int[] _openRules = new int[16];
+    int[] _openPos = new int[16];
+    ArgKey[] _openKeys = new ArgKey[16];
+
+    // a rule application starts
+    void _enterFar(int id, int p, ArgKey key) {
+        if (_farsp == _fars.length) {
+            _fars = Arrays.copyOf(_fars, _farsp * 2);
+            _openRules = Arrays.copyOf(_openRules, _farsp * 2);
+            _openPos = Arrays.copyOf(_openPos, _farsp * 2);
+            _openKeys = Arrays.copyOf(_openKeys, _farsp * 2);
         }
+        _openRules[_farsp] = id;
+        _openPos[_farsp] = p;
+        _openKeys[_farsp] = key;
+        _fars[_farsp++] = MemoTable.far(_far, _posdep);
+        _far = _pos;
+        _posdep = false;
+    }
 
-        if (entry == null) {
+    // a rule application ends, returns its encoded far; its caller examined everything it examined
+    int _exitFar() {
+        int f = MemoTable.far(_far, _posdep);
+        _seenFar(_fars[--_farsp]);
+        return f;
+    }
+
+    // the current rule application examined what an application it called, or found memoized, examined
+    void _seenFar(int f) {
+        if (f == 0) return;
+        if (Math.abs(f) - 1 > _far) _far = Math.abs(f) - 1;
+        if (f < 0) _posdep = true;
+    }
+
+    public Object _memoize(int id, int p, Object o) { return _memoize(id, null, p, o); }
+    public Object _memoize(int id, Object key, int p, Object o) {
+        if (key != null) return _memoize((ArgKey) key, p, o);
+
+        int end = _memo.end(id, p);
+        if (end < 0) {
             // sometimes we don't have a entry, incase args > 0
-            return trace("unmemoize:", s, o);
-        } else {
-            if (entry.seed != -1) {
-                // if we are done growing, stop it, and remove this left recursion from stack
-                if (o == ERROR || _pos <= entry.pos) {
-                    _pos = entry.pos;
-                    entry.seed = -1;
-                    _lefts.pop();
-                    return trace("< END:", s, _pos, entry.val);
-                }
-
-                // we will try to grow, reset all entries for this position, and record current result
-                for (String k : _lefts.pop()) map.remove(k);
-                // setup another left recursion stack
-                _lefts.push(new HashSet<String>());
-                // update the growing entry, and reset pos to its seed
-                entry.val = o;
-                entry.pos = _pos;
-                _pos = entry.seed;
-                return trace("<GROW:", s, _pos, o, GROW);
+            if (incremental) _exitFar();
+            if (tracing) trace("unmemoize:", _ruleName(id), o);
+            return o;
+        }
+
+        Head head = (_leftsp == 0)? null : _lefts[_leftsp - 1];
+        if (head != null && head.rule == id && head.pos == p) {
+            // if we are done growing, stop it, and remove this left recursion from stack
+            if (o == ERROR || _pos <= end) {
+                _pos = end;
+                head.clear();
+                _leftsp--;
+                if (incremental) _memo.far(id, p, _exitFar());
+                if (tracing) trace("< END:", _ruleName(id), _pos, _memo.val(id, p));
+                return _memo.val(id, p);
             }
 
-            // if we are in a left recursive situation, mark each evaluated rule
-            if (! _lefts.isEmpty()) _lefts.peek().add(s);
+            // we will try to grow, reset all entries for this position, and record current result
+            for (int i = 0; i < head.count; i++) _memo.remove(head.involved[i], p);
+            for (int i = 0; i < head.keys.size(); i++) _memo.remove(head.keys.get(i));
+            head.clear();
+            // update the growing entry, and reset pos to its seed; rules that use the seed examined what it examined
+            _memo.put(id, p, _pos, o);
+            if (incremental) _memo.far(id, p, MemoTable.far(_far, _posdep));
+            if (listener != null) listener.grow(this, id, p, _pos);
+            _pos = p;
+            if (tracing) trace("<GROW:", _ruleName(id), _pos, o);
+            return GROW;
+        }
+
+        // if we are in a left recursive situation, mark each evaluated rule
+        if (head != null) head.involve(id);
+
+        _memo.put(id, p, _pos, o);
+        if (incremental) _memo.far(id, p, _exitFar());
+        if (o == ERROR) _pos = p;
+        if (_memo.over()) _evict();
+        if (tracing) trace(o == ERROR? "< err:" : "<  ok:", _ruleName(id), o);
+        return o;
+    }
+
+    Object _memoize(ArgKey entry, int p, Object o) {
+        // if we are in a left recursive situation at this position, this entry must be recomputed while growing
+        Head head = (_leftsp == 0)? null : _lefts[_leftsp - 1];
+        if (head != null && head.pos == p) head.keys.add(entry);
+
+        entry.end = _pos;
+        entry.val = o;
+        entry.consumed = Math.max(0, entry.args.length - argsp);
+        if (incremental) entry.far = _exitFar();
+        if (o == ERROR) _pos = p;
+        if (_memo.over()) _evict();
+        if (tracing) trace(o == ERROR? "< err:" : "<  ok:", _ruleName(entry.rule), BaseParser.print_r(entry.args), o);
+        return o;
+    }
+
+    // forgets what was expected
+    void _expClear() {
+        for (int i = 0; i < _expN; i++) {
+            if (_expLits[i] == null) _expBits[_expRules[i] >>> 6] = 0; else _expLits[i] = null;
+        }
+        _expN = 0;
+    }
 
-            entry.pos = _pos;
-            entry.val = o;
-            if (o == ERROR) _pos = p;
-            if (o == ERROR) return trace("< err:", s, o);
-            return trace("<  ok:", s, o);
+    // adds rule id, or terminal x if not null, to what was expected at the farthest failure
+    void _expAdd(int id, Object x) {
+        if (_expN == _expRules.length) {
+            _expRules = Arrays.copyOf(_expRules, _expN * 2);
+            _expLits = Arrays.copyOf(_expLits, _expN * 2);
         }
+        _expRules[_expN] = id;
+        _expLits[_expN++] = x;
     }
 
-    public Object _retrieve(String s) {
-        // we cannot memoize in face of arguments
-        if (! args.isEmpty()) return trace(">ntry:", s, NOT_MEMOIZED);
+    /// terminal x failed at p; x is a String, Literals, CharClass or another object describing what was expected
+    ///
+    /// Only a failure at or after the farthest failure so far is kept, and only when parsing text and not inside a
+    /// not `~`, so on the happy path a failure costs a compare.
+    public final void _expect(Object x, int p) {
+        if (p < _failPos || _silent > 0 || _string == null) return;
+        if (p > _failPos) { _expClear(); _failPos = p; }
+        for (int i = 0; i < _expN; i++) if (_expLits[i] == x) return;
+        _expAdd(0, x);
+    }
+
+    /// a rule starts at p; returns a mark for _fail(), the number of expected elements it may replace
+    public final int _expecting(int p) { return (p == _failPos)? _expN : 0; }
+
+    /// the rule id that started at p failed; if that is the farthest failure, and the rule only expected strings or
+    /// character classes inside it, from mark on, those are replaced by the rule itself, so a message says `expected
+    /// num` instead of `expected <0-9>`; if it expected other rules, those are more specific, and are kept instead
+    public final void _fail(int id, int p, int mark) {
+        if (p < _failPos || _silent > 0 || _string == null) return;
+        if (p > _failPos) { _expClear(); _failPos = p; mark = 0; }
+        for (int i = mark; i < _expN; i++) if (_expLits[i] == null) return;
+        for (int i = mark; i < _expN; i++) _expLits[i] = null;
+        _expN = mark;
+        int w = id >>> 6;
+        if (w >= _expBits.length) _expBits = Arrays.copyOf(_expBits, Math.max(w + 1, _expBits.length * 2));
+        if ((_expBits[w] & (1L << id)) != 0) return;
+        _expBits[w] |= 1L << id;
+        _expAdd(id, null);
+    }
+
+    /// what was expected at the farthest failure, like `"=", expr or end of input`; "" if nothing failed
+    public String _expected() {
+        ArrayList<String> xs = new ArrayList<String>();
+        for (int i = 0; i < _expN; i++) {
+            Object x = _expLits[i];
+            if (x instanceof Literals) {
+                for (String l : ((Literals) x).lits) if (!xs.contains(_quote(l))) xs.add(_quote(l));
+                continue;
+            }
+            String e = (x == null)? _ruleName(_expRules[i]) : (x instanceof String)? _quote((String) x) : x.toString();
+            if (!xs.contains(e)) xs.add(e);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < xs.size(); i++) sb.append((i == 0)? "" : (i < xs.size() - 1)? ", " : " or ").append(xs.get(i));
+        return sb.toString();
+    }
+    static String _quote(String s) { return "\""+ _escape(s) +"\""; }
+    static String _escape(String s) {
+        return s.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
+    }
+
+    // chars of _char() or _charRange() failed at p, they have no CharClass of their own; one named like a class in a
+    // grammar is made, only when the failure is kept
+    void _expectChars(String s, char b, char e, int p) {
+        if (p < _failPos || _silent > 0 || _string == null) return;
+        String name = "<"+ ((s != null)? _escape(s) : _escape(b +"-"+ e)) +">";
+        for (int i = 0; i < _expN; i++) {
+            if (p == _failPos && _expLits[i] instanceof CharClass && _expLits[i].toString().equals(name)) return;
+        }
+        _expect(new CharClass(name), p);
+    }
+
+    public Object _retrieve(int id) {
+        int argc = _argc;
+        _argc = 0;
+        _argkey = null;
+
+        // we cannot memoize when the rule might see arguments that were not passed to it
+        if (argsp != argc) {
+            if (incremental) _enterFar(-1, _pos, null);
+            if (tracing) trace(">ntry:", _ruleName(id));
+            return NOT_MEMOIZED;
+        }
+        if (argc > 0) return _retrieve(id, argc);
 
         int p = _pos;
-        HashMap<String, Memoize> map = _positions.get(p);
-        Memoize entry = null;
-        if (map == null) {
-            map = new HashMap<String, Memoize>();
-            _positions.set(p, map);
-        } else {
-            entry = map.get(s);
+        int end = _memo.end(id, p);
+        if (end < 0) {
+            // mark that we are starting with this rule
+            _memo.put(id, p, p, LEFT_REC);
+            if (incremental) _enterFar(id, p, null);
+            if (listener != null) listener.memo(this, id, p, false);
+            if (tracing) trace("> try:", _ruleName(id));
+            return NOT_MEMOIZED;
+        }
+        if (listener != null) listener.memo(this, id, p, true);
+
+        Object val = _memo.val(id, p);
+        _pos = end;
+        if (val == LEFT_REC) {
+            // notice we are diving into a left recursion, grow a seed from here, and start a left recursion stack
+            _memo.put(id, p, end, ERROR);
+            if (_leftsp == _lefts.length) _lefts = Arrays.copyOf(_lefts, _leftsp * 2);
+            if (_lefts[_leftsp] == null) _lefts[_leftsp] = new Head();
+            _lefts[_leftsp++].start(id, p);
+            if (tracing) trace(">LEFT:", _ruleName(id), _pos);
+            return ERROR;
         }
+        if (incremental) _seenFar(_memo.far(id, p));
+        if (tracing) trace(val == ERROR? "> err:" : ">  ok:", _ruleName(id), val);
+        return val;
+    }
 
+    // the memo table is over its limit, forget some results; but not those of rules being evaluated or growing
+    void _evict() {
+        _memo.evict(_pos, LEFT_REC, _lefts, _leftsp);
+    }
+
+    // rule applications with arguments are memoized by rule, position and argument values
+    Object _retrieve(int id, int argc) {
+        int p = _pos;
+        int hash = ArgKey.hash(id, p, args, argsp, argc);
+        ArgKey entry = _memo.get(id, p, args, argsp, argc, hash);
         if (entry == null) {
+            ArgKey key = new ArgKey(id, p, args, argsp, argc, hash);
             // mark that we are starting with this rule
-            map.put(s, new Memoize(LEFT_REC, _pos));
-        } else {
-            _pos = entry.pos;
-            if (entry.val == LEFT_REC) {
-                // notice we are diving into a left recursion, grow a seed from here, and start a left recursion stack
-                entry.val = ERROR;
-                entry.seed = entry.pos;
-                _lefts.push(new HashSet<String>());
-                return trace(">LEFT:", s, _pos, ERROR);
-            }
-            if (entry.val == ERROR) return trace("> err:", s, entry.val);
-            return trace(">  ok:", s, entry.val);
+            key.end = p;
+            key.val = LEFT_REC;
+            _memo.put(key);
+            _argkey = key;
+            if (incremental) _enterFar(-1, p, key);
+            if (listener != null) listener.memo(this, id, p, false);
+            if (tracing) trace("> try:", _ruleName(id), BaseParser.print_r(key.args));
+            return NOT_MEMOIZED;
+        }
+        if (listener != null) listener.memo(this, id, p, true);
+
+        if (entry.val == LEFT_REC) {
+            // left recursion is not supported for rules with arguments, instead of looping forever, just fail
+            for (int i = 0; i < argc; i++) _pop();
+            if (tracing) trace(">LEFT:", _ruleName(id), BaseParser.print_r(entry.args), ERROR);
+            return ERROR;
         }
-        return trace("> try:", s, NOT_MEMOIZED);
+        // the rule would have consumed its arguments
+        for (int i = 0; i < entry.consumed; i++) _pop();
+        _pos = entry.end;
+        if (incremental) _seenFar(entry.far);
+        if (tracing) trace(entry.val == ERROR? "> err:" : ">  ok:", _ruleName(id), BaseParser.print_r(entry.args), entry.val);
+        return entry.val;
+    }
+
+    // parsers generated by older versions of jmeta identify rules by name; give those names an id on first use
+    HashMap<String, Integer> _legacyIds;
+    int _legacyId(String s) {
+        if (_legacyIds == null) _legacyIds = new HashMap<String, Integer>();
+        Integer id = _legacyIds.get(s);
+        if (id == null) { id = _legacyIds.size(); _legacyIds.put(s, id); }
+        return id;
+    }
+    public Object _memoize(String s, int p, Object o) { return _memoize(_legacyId(s), p, o); }
+    public Object _retrieve(String s) {
+        if (argsp > 0) { _argc = 0; if (incremental) _enterFar(-1, _pos, null); return NOT_MEMOIZED; }
+        return _retrieve(_legacyId(s));
     }
 
-    void _init() {
+    void _init() { _init(null); }
+
+    // starts a parse; memo is the table of the last parse adapted to an edit of the input, or null to start empty
+    void _init(MemoTable memo) {
         _pos = 0;
-        _positions = new SparseArrayList<HashMap<String, Memoize>>();
-        _lefts = new ArrayDeque<HashSet<String>>();
-        args = new ArrayDeque<Object>();
+        _end = 0;
+        _lines = null;
+        _failPos = -1;
+        _silent = 0;
+        _more = false;
+        _expClear();
+        _far = 0;
+        _posdep = false;
+        _farsp = 0;
+        _loopsp = 0;
+        if (_string instanceof ReaderInput) _end = ((ReaderInput) _string).fill(0);
+        else if (_string != null) _end = _string.length();
+        _text = (_string instanceof String)? (String) _string : null;
+        if (memo != null) {
+            _stats = memo.stats;
+            _memo = memo;
+        } else {
+            _stats = new MemoStats();
+            _memo = new MemoTable(_stats, incremental);
+        }
+        _memo.limit(memoMaxEntries, memoMaxBytes, memoPolicy);
+        _clearLefts();
+        _sublists = null;
+        _stack = null;
+        args = new Object[16];
+        argsp = 0;
+        _argc = 0;
         init();
     }
 
+    /// forgets the input and the memoized results of the last parse, so a pooled parser does not keep them alive
+    void _clear() {
+        _string = null; _text = null; _list = null; _lines = null;
+        _memo = null; _stats = null; _sublists = null; _stack = null;
+        _fed = null; _resume = null; _more = false;
+        _clearLefts();
+        _clearResumed();
+        Arrays.fill(_loops, null); Arrays.fill(_openKeys, null);
+        args = null; argsp = 0; _argc = 0; _argkey = null;
+    }
+
+    // pops all left recursions, a parse that failed may have left some; their keys would keep memo entries alive
+    void _clearLefts() {
+        for (int i = 0; i < _lefts.length && _lefts[i] != null; i++) _lefts[i].clear();
+        _leftsp = 0;
+    }
+
+    // forgets the repetitions to resume, and what they built
+    void _clearResumed() {
+        Arrays.fill(_resumed, 0, _resumedN, null);
+        _resumedN = 0;
+    }
+
     /// called after init(data)
     public void init() {}
 
@@ -181,43 +497,284 @@ public class BaseParser {
         _string = s; _list = null; _init();
     }
 
+    /// init parser with any CharSequence, like a ReaderInput or MappedInput; @see init(String s)
+    public void init(CharSequence s) {
+        _string = s; _list = null; _init();
+    }
+
+    /// init parser with a Reader, the input is read while parsing; @see ReaderInput
+    public void init(Reader r) {
+        _string = new ReaderInput(r); _list = null; _init();
+    }
+
     /// init parser with a Object[] array, @see init(String s);
     public void init(Object[] ls) {
-        _string = null; _list = ls; _init();
+        _string = null; _list = Arrays.asList(ls); _init();
     }
 
     /// init parser with a ArrayList, @see init(String s);
-    public void init(ArrayList<? extends Object> as) {
-        _string = null; _list = as.toArray(); _init();
+    public void init(ArrayList<? extends Object> as) { init((List<? extends Object>) as); }
+
+    /// init parser with any List; the list is parsed in place, unless it is slow to index, like a LinkedList
+    public void init(List<? extends Object> as) {
+        _string = null; _list = _view(as); _init();
     }
 
     public Object parse(Object o) { return parse(o, null); }
     public Object parse(Object o, String r) {
-             if (o instanceof ArrayList) init((ArrayList) o);
+             if (o instanceof List)      init((List) o);
         else if (o instanceof Object[])  init((Object[]) o);
-        else if (o instanceof String)    init((String) o);
-        else throw new AssertionError("parse requires a ArrayList, Object[] or String");
+        else if (o instanceof CharSequence) init((CharSequence) o);
+        else if (o instanceof Reader)    init((Reader) o);
+        else throw new AssertionError("parse requires a List, Object[], CharSequence or Reader");
+        return _start(r);
+    }
 
+    public Object reparse(int offset, int removed, CharSequence inserted) { return reparse(offset, removed, inserted, null); }
+    /// parses the input of the last parse again, after replacing the removed chars at offset by inserted
+    ///
+    /// The last parse must have been of a string, not a Reader, with incremental set. Memoized results that examined
+    /// only chars before the edit are reused, as are results after the edit, which move along with their input. So
+    /// only the rules that examined the edited chars are evaluated again, like the rules that contain the edit. Results
+    /// after the edit that used pos() or col() are evaluated again too, since their value depends on where they are.
+    /// Semantic actions must not otherwise depend on the position, like by reading `_pos` or `_string` directly.
+    public Object reparse(int offset, int removed, CharSequence inserted, String r) {
+        if (!incremental || _memo == null || _string == null || _string instanceof ReaderInput)
+            throw new IllegalStateException("reparse requires a previous parse of a string, with incremental set");
+        int length = _string.length();
+        if (offset < 0 || removed < 0 || offset + removed > length)
+            throw new IndexOutOfBoundsException("edit of "+ removed +" chars at "+ offset +", input is "+ length +" chars");
+        StringBuilder sb = new StringBuilder(length - removed + inserted.length());
+        sb.append(_string, 0, offset).append(inserted).append(_string, offset + removed, length);
+        MemoTable memo = _memo;
+        memo.edit(offset, removed, inserted.length());
+        _string = sb.toString(); _list = null; _init(memo);
+        return _start(r);
+    }
+
+    // runs rule r, or start if r is null, on the input
+    Object _start(String r) {
         Object _t = null;
-        if (r != null) _t = _jump(r.intern());
+        if (r != null) _t = _apply(r);
         else _t = start();
 
-        if (_t==ERROR) throw new SyntaxError("", _pos, _string, _list);
+        if (_t==ERROR) throw new SyntaxError("", this);
         return _t;
     }
 
+    public void push() { push(null); }
+    /// starts a push parse of rule r, or start if r is null; the input is fed as it arrives using feed(), and its end
+    /// is marked using endOfInput()
+    ///
+    /// The input is a stream of messages, each parsed by one application of the rule. When the rule needs input that
+    /// was not fed yet, the parse is suspended, and feed() returns MORE; when more is fed, the message is parsed again
+    /// from its start, but reusing the memoized results of all rules that completed, so only the rule applications that
+    /// were still being evaluated are evaluated again. And the repetitions in those resume after their last complete
+    /// iteration, @see _loop(), so a message fed in small parts takes time proportional to its length times the depth
+    /// of the rules that were suspended, instead of its length squared. Each message must consume input.
+    ///
+    /// Like reparse(), this keeps track of the rule applications being evaluated, so push() sets incremental, and
+    /// semantic actions must not read the input or `_pos` directly. The chars of a message are kept until it is parsed,
+    /// and so are its memoized results, unless a cut `^` or the memo limits, like memoMaxEntries, forget them; a
+    /// suspended message is parsed again from its start, so what was forgotten and is needed again is evaluated again.
+    /// Positions, like in a SyntaxError, count from the start of the message.
+    public void push(String r) {
+        incremental = true;
+        _fed = new StringBuilder();
+        _pushRule = r;
+        _ended = false;
+        _messages = 0;
+        _resume = null;
+        _clearResumed();
+    }
+
+    /// adds len chars of buf at off to the input of the push parse; returns the result of the next message if it is
+    /// complete, or MORE; with len 0, returns the next message of the input already fed, if any. @see push()
+    public Object feed(char[] buf, int off, int len) {
+        if (_fed == null || _ended) throw new IllegalStateException("feed() requires push(), and not endOfInput()");
+        _fed.append(buf, off, len);
+        return _next();
+    }
+
+    /// adds s to the input of the push parse; @see feed(char[], int, int)
+    public Object feed(CharSequence s) {
+        if (_fed == null || _ended) throw new IllegalStateException("feed() requires push(), and not endOfInput()");
+        _fed.append(s);
+        return _next();
+    }
+
+    /// the input of the push parse ended; returns the result of the next message, or MORE if there is no input left
+    /// after the last message. Throws a SyntaxError if what is left is not a message. @see push()
+    public Object endOfInput() {
+        if (_fed == null) throw new IllegalStateException("endOfInput() requires push()");
+        _ended = true;
+        return _next();
+    }
+
+    // parses the next message from what was fed, resuming the last attempt if it was suspended
+    Object _next() {
+        if (_ended && _fed.length() == 0 && _messages > 0) return MORE;
+        MemoTable memo = _resume;
+        _resume = null;
+        _string = _fed; _list = null; _init(memo);
+        _more = !_ended;
+        boolean suspended = false;
+        try {
+            Object r = _start(_pushRule);
+            _fed.delete(0, _pos);
+            _messages++;
+            return r;
+        } catch (MoreInput e) {
+            // the left recursions that were growing start again, forget their last seed and what used it
+            for (int i = 0; i < _leftsp; i++) {
+                Head head = _lefts[i];
+                _memo.remove(head.rule, head.pos);
+                for (int j = 0; j < head.count; j++) _memo.remove(head.involved[j], head.pos);
+                for (int j = 0; j < head.keys.size(); j++) _memo.remove(head.keys.get(j));
+            }
+            // forget the rule applications that were being evaluated; all others completed without examining the end
+            // of the input, since that suspends the parse, so their results stay valid
+            for (int i = 0; i < _farsp; i++) {
+                if (_openKeys[i] != null) _memo.remove(_openKeys[i]);
+                else if (_openRules[i] >= 0) _memo.remove(_openRules[i], _openPos[i]);
+            }
+            // the repetitions that were being evaluated resume where they got, in the next attempt
+            _clearResumed();
+            Loop[] ls = _resumed;
+            _resumed = _loops; _resumedN = _loopsp;
+            _loops = ls;
+            _resume = _memo;
+            suspended = true;
+            return MORE;
+        } finally {
+            _more = false;
+            if (!suspended) _clearResumed();
+        }
+    }
+
+    /// a repetition starts, at site, a number unique within the parser, directly in a rule with id; returns a handle
+    /// for _loopList(), _loopAny(), _loopNext() and _loopEnd(), or -1 if the repetition is not tracked
+    ///
+    /// Only push parses track repetitions. When one is suspended, the repetitions being evaluated keep where their last
+    /// complete iteration ended, and what they built; when the message is parsed again, each starts from there instead
+    /// of evaluating all its iterations again. This requires that what the repetition does depends only on where it
+    /// starts: so it must be directly in a memoized application of rule id, without arguments, that is not growing a
+    /// left recursion. And the compiler only tracks repetitions that set no variables used outside an iteration.
+    public final int _loop(int rule, int site) {
+        int a = _farsp - 1;
+        if (_fed == null || _string != _fed || _stack != null || a < 0 || _openRules[a] != rule) return -1;
+        int p = _openPos[a];
+        for (int i = 0; i < _leftsp; i++) if (_lefts[i].pos == p) return -1;
+
+        if (_loopsp == _loops.length) _loops = Arrays.copyOf(_loops, _loopsp * 2);
+        if (_loops[_loopsp] == null) _loops[_loopsp] = new Loop();
+        Loop l = _loops[_loopsp];
+        l.rule = rule; l.app = p; l.site = site; l.start = _pos;
+        l.pos = _pos; l.count = 0; l.far = _far; l.posdep = _posdep; l.list = null;
+        for (int i = 0; i < _resumedN; i++) {
+            Loop r = _resumed[i];
+            if (r == null || r.site != site || r.rule != rule || r.app != p || r.start != _pos) continue;
+            l.pos = r.pos; l.count = r.count; l.list = r.list;
+            _resumed[i] = null;
+            _pos = l.pos;
+            if (r.far > _far) _far = r.far;
+            if (r.posdep) _posdep = true;
+            break;
+        }
+        return _loopsp++;
+    }
+
+    /// the list a repetition builds; a resumed repetition continues its list
+    public final ArrayList<Object> _loopList(int m) {
+        if (m < 0) return new ArrayList<Object>();
+        Loop l = _loops[m];
+        if (l.list == null) l.list = new ArrayList<Object>();
+        return l.list;
+    }
+
+    /// if a resumed repetition matched before, for a `+` that builds no list
+    public final boolean _loopAny(int m) {
+        return m >= 0 && _loops[m].count > 0;
+    }
+
+    /// an iteration of a repetition completed
+    public final void _loopNext(int m) {
+        if (m < 0) return;
+        Loop l = _loops[m];
+        l.pos = _pos; l.count++; l.far = _far; l.posdep = _posdep;
+    }
+
+    /// a repetition ended
+    public final void _loopEnd(int m) {
+        if (m < 0) return;
+        _loops[m].list = null;
+        _loopsp = m;
+    }
+
+    /// cut; the parse is committed up to the current position, forget all memoized results before it
+    ///
+    /// Results of rules that are still being evaluated, and of left recursive rules that are still growing, are
+    /// kept. If the parse does backtrack before the cut anyway, rules are evaluated again, so the result is the same;
+    /// only slower. For grammars that cut at the top level, memory use is proportional to the largest uncut window of
+    /// the input, instead of the whole input.
+    public void _cut() {
+        int p = _pos;
+        for (int i = 0; i < _leftsp; i++) if (_lefts[i].pos < p) p = _lefts[i].pos;
+        _memo.cut(p, LEFT_REC);
+        if (_stack == null && _string instanceof ReaderInput) {
+            _lines().release(p);
+            ((ReaderInput) _string).release(p);
+        }
+    }
+
+    /// the line index of the input, shared by pos(), col() and SyntaxError
+    LineIndex _lines() {
+        if (_lines == null) _lines = new LineIndex(_string);
+        return _lines;
+    }
+
+    /// returns true if there is a char at p; reads more input if needed, and notes the parse examined the input up to p
+    public final boolean _avail(int p) {
+        if (p >= _far) _far = p + 1;
+        if (p < _end) return true;
+        if (_more) throw MoreInput.INSTANCE;
+        if (!(_string instanceof ReaderInput)) return false;
+        _end = ((ReaderInput) _string).fill(p);
+        return p < _end;
+    }
+
+    /// estimated bytes used by the memo tables of the current or last parse
+    public long memoSize() { return (_stats == null)? 0 : _stats.bytes; }
+
+    /// estimated peak bytes used by the memo tables during the current or last parse
+    public long memoPeak() { return (_stats == null)? 0 : _stats.peak; }
+
+    /// number of memoized results forgotten during the current or last parse, because a memo table was over its limit
+    public long memoEvicted() { return (_stats == null)? 0 : _stats.evicted; }
+
     /// start rule; override by creating a rule called 'start'
     public Object start() { throw new IllegalStateException("provide a rule called 'start'"); }
 
-    public void _push(Object... as) { for (int i = as.length - 1; i >= 0; i--) args.push(as[i]); }
-    Object _pop() { return args.pop(); }
+    public void _push(Object... as) {
+        if (argsp + as.length > args.length) args = Arrays.copyOf(args, (argsp + as.length) * 2);
+        for (int i = as.length - 1; i >= 0; i--) args[argsp++] = as[i];
+        _argc = as.length;
+    }
+    Object _pop() {
+        if (argsp == 0) throw new NoSuchElementException("no arguments");
+        if (_argc > 0) _argc--;
+        Object a = args[--argsp]; args[argsp] = null;
+        return a;
+    }
 
-    /// rule that requires a Symbol and runs the corresponding rule
+    /// rule that requires a Symbol and runs the corresponding rule; fails if it is not given the name of a rule
     public Object apply() {
         Object r = _pop();
-        if (!(r instanceof String)) { ERROR.last = "apply() must receive a string"; return ERROR; }
-        return _jump(((String) r).intern());
+        if (!(r instanceof String)) { _expect(RULE_NAME, _pos); return ERROR; }
+        return _apply((String) r);
     }
+    // what apply() expected when it was not given a name
+    static final Object RULE_NAME = new Object() { public String toString() { return "the name of a rule"; }};
 
     /// hasRule; returns true or false, depending on if the given rule exists
     public boolean hasRule() {
@@ -227,7 +784,8 @@ public class BaseParser {
 
     public boolean hasRule(Object r) {
         if (!(r instanceof String)) return false;
-        return (Boolean) _has(((String) r).intern());
+        if (_ruleId((String) r) >= 0) return true;
+        return LEGACY.get(getClass()) && _has(((String) r).intern());
     }
 
     /// str; next element must be given string
@@ -246,11 +804,11 @@ public class BaseParser {
 
     /// '_'
     public Object _any() {
-        if (! args.isEmpty()) return args.pop();
+        if (argsp > 0) return _pop();
         if (_string != null)
-            if (_pos < _string.length()) return _string.charAt(_pos++); else return ERROR;
+            if (_avail(_pos)) return _string.charAt(_pos++); else return ERROR;
         if (_list != null)
-            if (_pos < _list.length) return _list[_pos++]; else return ERROR;
+            if (_pos < _list.size()) return _list.get(_pos++); else return ERROR;
         throw new IllegalStateException("no _list nor _string??");
     }
 
@@ -260,24 +818,23 @@ public class BaseParser {
         return null;
     }
 
-    /// returns current position in stream, counted by every success of apply(nl)
+    /// returns current position in stream, including its line and char
     public Object pos() {
         if (_string == null)
             throw new IllegalStateException("'pos' is only available in string parsing");
-
-        // TODO actually keep track of every apply(nl) that succeeds
-        int _linepos = 0;
-        int _line = 0;
-        return new Position(_pos, _linepos, _line);
+        LineIndex index = _lines();
+        int line = index.line(_pos);
+        _posdep = true;
+        return new Position(_pos, index.start(line), line);
     }
 
+    /// returns the column of the current position, the first column is 0
     public Object col() {
         if (_string == null)
             throw new IllegalStateException("'col' is only available in string parsing");
-        int pos = _pos - 1;
-
-        while (pos >= 0 && _string.charAt(pos) != '\n') pos--;
-        return _pos - pos - 1;
+        LineIndex index = _lines();
+        _posdep = true;
+        return _pos - index.start(index.line(_pos));
     }
 
     public char _cpeek() {
@@ -286,89 +843,139 @@ public class BaseParser {
 
     public Object _peek() {
         if (_string != null)
-            if (_pos < _string.length()) return _string.charAt(_pos); else return ERROR;
+            if (_avail(_pos)) return _string.charAt(_pos); else return ERROR;
         if (_list != null)
-            if (_pos < _list.length) return _list[_pos]; else return ERROR;
+            if (_pos < _list.size()) return _list.get(_pos); else return ERROR;
         throw new IllegalStateException("no _list nor _string??");
     }
 
     /// returns success if the end of file or list has been reached; same as `end: ~_;`
     public Object end() {
-        if (_peek() == ERROR) return null; else { ERROR.last = "end of input"; return ERROR; }
+        if (_peek() == ERROR) return null; else { _expect(END, _pos); return ERROR; }
     }
 
     /// '.' parses as much whitespace as possible, override the default `ws: nl | sp;` rule to define the whitespace
     public Object ws() {
         if (_string == null)
             throw new IllegalStateException("whitespace ('.') is only available in string parsing");
-        do {
-            if (_peek() == ERROR) return null;
-            char c = _cpeek();
+        while (_avail(_pos)) {
+            char c = _string.charAt(_pos);
             if (!(c == ' ' || c == '\t' || c == '\f' || c == '\n' | c == '\r')) { break; }
-            _any();
-        } while (true);
+            _pos++;
+        }
         return null;
     }
 
     /// '"..."' parses a string when string parsing
     public Object _str(String s) {
-        trace("try _str():", s);
+        if (tracing) trace("try _str():", s);
         if (_string == null)
             throw new IllegalStateException("string ('\""+ s +"\"') is only available in string parsing");
-        int p = _pos;
+        final int p = _pos;
         final int size = s.length();
-        for (int i = 0; i < size; i++) {
-            if (_peek() == ERROR) { _pos = p; ERROR.last = s; return ERROR; }
-            if (_cpeek() != s.charAt(i)) { _pos = p; ERROR.last = s; return ERROR; }
-            _any();
+        if (p + size > _end) {
+            // compare the chars that are available first, so a push parse only waits for more input if they match
+            int n = _end - p;
+            if (n > 0) _avail(_end - 1);
+            for (int i = 0; i < n; i++) {
+                if (_string.charAt(p + i) != s.charAt(i)) { _expect(s, p); return ERROR; }
+            }
+            // if the last char is available, so are all chars before it
+            if (!_avail(p + size - 1)) { _expect(s, p); return ERROR; }
+        }
+        if (_text != null) {
+            if (!_text.regionMatches(p, s, 0, size)) { _expect(s, p); return ERROR; }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (_string.charAt(p + i) != s.charAt(i)) { _expect(s, p); return ERROR; }
+            }
         }
-        return trace(" ok _str():", s);
+        _pos = p + size;
+        if (tracing) trace(" ok _str():", s);
+        return s;
+    }
+
+    /// parses the first of a choice of strings, like `"for" | "foreach"`, in one pass over the input; @see Literals
+    public Object _strs(Literals ls) {
+        if (_string == null)
+            throw new IllegalStateException("string ('"+ ls +"') is only available in string parsing");
+        String s = ls.match(this);
+        if (s == null) { _expect(ls, _pos); return ERROR; }
+        _pos += s.length();
+        if (tracing) trace(" ok _strs():", s);
+        return s;
+    }
+
+    /// '$x'; returns the input x matched, from start up to the current position: as a String when parsing a string, as
+    /// an Object[] when parsing a list
+    public Object _capture(int start) {
+        if (_text != null) return _text.substring(start, _pos);
+        if (_string != null) return _string.subSequence(start, _pos).toString();
+        return _list.subList(start, _pos).toArray();
     }
 
     /// '`...' parses a string based symbols when list parsing (e.g. `new Object[] { "hello" }` matches `[ `hello ]`)
     public Object _sym(String s) {
-        trace("try _sym():", s);
+        if (tracing) trace("try _sym():", s);
         if (_list == null)
             throw new IllegalStateException("symbol ('`"+ s +"') is only available in list parsing");
-        if (_peek().equals(s)) { _any(); return trace(" ok _sym():",s); } else return ERROR;
+        if (_peek().equals(s)) { _any(); if (tracing) trace(" ok _sym():",s); return s; } else return ERROR;
     }
 
     public Object _char(String s) {
         if (_string == null)
             throw new IllegalStateException("charRange is only available in string parsing");
-        if (_peek() == ERROR) return ERROR;
-        char c = _cpeek();
-        if (s.indexOf(c) >= 0) { _any(); return c; }
+        if (_avail(_pos)) {
+            char c = _string.charAt(_pos);
+            if (s.indexOf(c) >= 0) { _pos++; return c; }
+        }
+        _expectChars(s, (char) 0, (char) 0, _pos);
+        return ERROR;
+    }
+
+    /// parses a single char of the character class cc, like `<a-z>`; @see CharClass
+    public Object _class(CharClass cc) {
+        if (_string == null)
+            throw new IllegalStateException("character class ('"+ cc +"') is only available in string parsing");
+        if (_avail(_pos)) {
+            Object r = cc.match(_string.charAt(_pos));
+            if (r != null) { _pos++; return r; }
+        }
+        _expect(cc, _pos);
         return ERROR;
     }
 
+    static final CharClass NL = new CharClass("newline").chars("\n\r");
+    static final CharClass SP = new CharClass("space").chars(" \t\f");
+    static final CharClass DIGIT = new CharClass("digit").range('0', '9');
+    static final CharClass LETTER = new CharClass("letter").range('a', 'z').range('A', 'Z');
+
     /// nl; parses a single newline
     public Object nl() {
-        return _char("\n\r");
+        return _class(NL);
     }
 
     /// sp; parses a single space
     public Object sp() {
-        return _char(" \t\f");
+        return _class(SP);
     }
 
     public Object _charRange(char b, char e) {
         if (_string == null)
             throw new IllegalStateException("charRange is only available in string parsing");
-        if (_peek() == ERROR) return ERROR;
-        char c = _cpeek();
-        if (c >= b && c <= e) { _any(); return c; }
+        if (_avail(_pos)) {
+            char c = _string.charAt(_pos);
+            if (c >= b && c <= e) { _pos++; return c; }
+        }
+        _expectChars(null, b, e, _pos);
         return ERROR;
     }
 
     /// default rule that parses [0-9]
-    public Object digit() { return _charRange('0', '9'); }
+    public Object digit() { return _class(DIGIT); }
 
     /// default rule that parses [a-zA-Z]
-    public Object letter() {
-        Object r = _charRange('a', 'z'); if (r != ERROR) return r;
-        return _charRange('A', 'Z');
-    }
+    public Object letter() { return _class(LETTER); }
 
     public static String join(Object ls) { return join(ls, ""); }
 
@@ -392,73 +999,130 @@ public class BaseParser {
         return sb.toString();
     }
 
-    // helper that concatenates two Arrays or ArrayLists together
-    public static Object concat(Object ls, Object rs) {
-        if (ls instanceof Object[]) {
-            Object[] la = (Object[]) ls;
-            if (rs instanceof Object[]) {
-                Object[] ra = (Object[]) rs;
-                Object na = Arrays.copyOf(la, la.length + ra.length);
-                System.arraycopy(rs, 0, na, la.length, ra.length);
-                return na;
-            } else if (rs instanceof ArrayList) {
-                ArrayList ra = (ArrayList<?>) rs;
-                Object[] na = Arrays.copyOf(la, la.length + ra.size());
-                for (int i = 0; i < ra.size(); i++) na[la.length + i] = ra.get(i);
-                return na;
+    /// helper that concatenates two Arrays or ArrayLists together, into a new one of the same type as ls
+    public static Object concat(Object ls, Object rs) { return concatAll(ls, rs); }
+
+    /// helper that concatenates many Arrays or ArrayLists together, into a new one of the same type as the first
+    ///
+    /// Copies each element once, into a list of the right size; `[a] + xs + [b]` compiles to a single call to this,
+    /// instead of making a new list for each `+`. The result is always a new Object[] or ArrayList, since callers cast
+    /// it, so a list built by recursion, one `[x] + xs` per element, is still copied once per element.
+    public static Object concatAll(Object... ls) {
+        int size = 0;
+        for (Object l : ls) {
+            if (l instanceof Object[]) size += ((Object[]) l).length;
+            else if (l instanceof ArrayList) size += ((ArrayList<?>) l).size();
+            else throw new IllegalArgumentException("'concat' must receive ArrayLists or Object[]s");
+        }
+        if (ls[0] instanceof ArrayList) {
+            ArrayList<Object> na = new ArrayList<Object>(size);
+            for (Object l : ls) {
+                if (l instanceof Object[]) na.addAll(Arrays.asList((Object[]) l));
+                else na.addAll((ArrayList<?>) l);
             }
-        } else if (ls instanceof ArrayList) {
-            ArrayList<?> la = (ArrayList<?>) ls;
-            if (rs instanceof Object[]) {
-                Object[] ra = (Object[]) rs;
-                ArrayList na = new ArrayList(la);
-                for (int i = 0; i < ra.length; i++) na.set(la.size() + i, ra[i]);
-                return na;
-            } else if (rs instanceof ArrayList) {
-                ArrayList ra = (ArrayList<?>) rs;
-                ArrayList na = new ArrayList(la);
-                na.addAll(ra);
-                return na;
+            return na;
+        }
+        Object[] na = new Object[size];
+        int at = 0;
+        for (Object l : ls) {
+            if (l instanceof Object[]) {
+                Object[] a = (Object[]) l;
+                System.arraycopy(a, 0, na, at, a.length);
+                at += a.length;
+            } else {
+                for (Object o : (ArrayList<?>) l) na[at++] = o;
             }
-         }
+        }
+        return na;
+    }
 
-        throw new IllegalArgumentException("'concat' must receive two ArrayLists or Object[]s");
+    // a list to parse in place: a view of an array, the list itself, or a copy of a list that is slow to index
+    static List<?> _view(Object ls) {
+        if (ls instanceof Object[]) return Arrays.asList((Object[]) ls);
+        if (ls instanceof RandomAccess) return (List<?>) ls;
+        return new ArrayList<Object>((List<?>) ls);
     }
 
+    /// '[ ... ]' enters the list at the current position, to parse its elements
+    ///
+    /// The list is parsed in place, without copying it. Its memo table is kept until the end of the parse, by identity
+    /// of the list, so entering the same list again, after backtracking or when it is shared, reuses what was memoized.
     public Object _listBegin() {
         if (_list == null)
             throw new IllegalStateException("list ('[ ... ]') operations only available in list parsing");
 
         Object ls = _peek();
-        Object[] list = null;
-        if (ls instanceof Object[]) {
-            list = (Object[])ls;
-        } else if (ls instanceof ArrayList) {
-            list = ((ArrayList<?>)ls).toArray();
-        } else {
-            return ERROR;
-        }
+        if (!(ls instanceof Object[] || ls instanceof List)) return ERROR;
+        List<?> list = _view(ls);
         _any();
+        if (listener != null) listener.list(this, list.size());
 
-        _stack = new State(_stack, _pos, _list, _positions);
+        if (_sublists == null) _sublists = new IdentityHashMap<Object, MemoTable>();
+        MemoTable memo = _sublists.get(ls);
+        if (memo == null) {
+            memo = new MemoTable(_stats);
+            memo.limit(memoMaxEntries, memoMaxBytes, memoPolicy);
+            _sublists.put(ls, memo);
+        }
+
+        _stack = new State(_stack, _pos, _list, _memo);
         _pos = 0;
         _list = list;
-        _positions = new SparseArrayList<HashMap<String, Memoize>>();
+        _memo = memo;
         return null;
     }
 
     public void _listEnd() {
         _pos = _stack.pos;
         _list = _stack.list;
-        _positions = _stack.positions;
+        _memo = _stack.memo;
         _stack = _stack.prev;
     }
 
+    /// rule ids by name, including the rules of super parsers; generated parsers hide this with their own
+    public static final HashMap<String, Integer> _ids = new HashMap<String, Integer>();
+
+    /// returns the ids of sup, plus names numbered from base; a rule that overrides a super rule takes its name
+    public static HashMap<String, Integer> _ids(HashMap<String, Integer> sup, int base, String[] names) {
+        HashMap<String, Integer> ids = new HashMap<String, Integer>(sup);
+        for (int i = 0; i < names.length; i++) ids.put(names[i], base + i);
+        return ids;
+    }
+
+    /// id of the rule called r, or -1 if there is no such rule; generated parsers override this
+    public int _ruleId(String r) { return -1; }
+
+    /// runs the rule with the given id; generated parsers override this using a switch over their own rules
+    public Object _call(int id) {
+        throw new AssertionError("_call: rule '"+ _ruleName(id) +"' does not exist; or not properly implemented yet");
+    }
+
+    // runs the rule called r
+    Object _apply(String r) {
+        int id = _ruleId(r);
+        if (id >= 0) return _call(id);
+        return _jump(LEGACY.get(getClass())? r.intern() : r);
+    }
+
+    // parsers generated by older versions of jmeta have no rule ids, they override _jump() and _has() and compare
+    // names by identity; only for those names are interned
+    static final ClassValue<Boolean> LEGACY = new ClassValue<Boolean>() {
+        protected Boolean computeValue(Class<?> c) {
+            try {
+                return c.getMethod("_jump", String.class).getDeclaringClass() != BaseParser.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     public Object _jump(String r) {
-        throw new AssertionError("_jump: rule '"+ r +"' does not exist; or not properly implemented yet");
+        int id = _ruleId(r);
+        if (id < 0) throw new AssertionError("_jump: rule '"+ r +"' does not exist; or not properly implemented yet");
+        return _call(id);
     }
     public boolean _has(String r) {
-        return false;
+        return _ruleId(r) >= 0;
     }
 }
 
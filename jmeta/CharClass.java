@@ -0,0 +1,74 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.Arrays;
+
+/// A set of chars, matched using a table for ascii chars and a list of ranges for all others. Each char in the set
+/// maps to what matching it returns: the char itself, or the literal for chars added using str().
+///
+/// Grammars declare classes like `<a-zA-Z_>` or `<^\n>`; the compiler also merges alternatives of single char
+/// literals and classes, like `"-" | "+"`, into a single class. Chars added first take precedence, like in an ordered
+/// choice. Generated parsers create their classes once, in a static field:
+/// ```
+///     static final CharClass __class0 = new CharClass("<a-z> | \"_\"").range(97, 122).str("_");
+/// ```
+public final class CharClass {
+    final String name;
+    final Object[] ascii = new Object[128];
+    // ranges of chars >= 128, lo and hi inclusive, with the literal to return or null to return the char
+    char[] los = new char[0];
+    char[] his = new char[0];
+    Object[] lits = new Object[0];
+    boolean negated = false;
+
+    /// creates an empty class; name is used in error messages
+    public CharClass(String name) { this.name = name; }
+
+    /// adds the chars from lo up to and including hi
+    public CharClass range(int lo, int hi) {
+        for (int c = lo; c <= hi && c < 128; c++) if (ascii[c] == null) ascii[c] = Character.valueOf((char) c);
+        if (hi >= 128) add(Math.max(lo, 128), hi, null);
+        return this;
+    }
+
+    /// adds each char of s
+    public CharClass chars(String s) {
+        for (int i = 0; i < s.length(); i++) range(s.charAt(i), s.charAt(i));
+        return this;
+    }
+
+    /// adds the single char literal s, matching it returns s instead of the char
+    public CharClass str(String s) {
+        char c = s.charAt(0);
+        if (c < 128) { if (ascii[c] == null) ascii[c] = s; }
+        else add(c, c, s);
+        return this;
+    }
+
+    /// makes this the class of all chars not in it; must be called last
+    public CharClass not() {
+        for (int c = 0; c < 128; c++) ascii[c] = (ascii[c] == null)? Character.valueOf((char) c) : null;
+        negated = !negated;
+        return this;
+    }
+
+    private void add(int lo, int hi, Object lit) {
+        int n = los.length;
+        los = Arrays.copyOf(los, n + 1); los[n] = (char) lo;
+        his = Arrays.copyOf(his, n + 1); his[n] = (char) hi;
+        lits = Arrays.copyOf(lits, n + 1); lits[n] = lit;
+    }
+
+    /// returns what matching c returns, or null if c is not in this class
+    public Object match(char c) {
+        if (c < 128) return ascii[c];
+        for (int i = 0; i < los.length; i++) {
+            if (c < los[i] || c > his[i]) continue;
+            if (negated) return null;
+            return (lits[i] != null)? lits[i] : Character.valueOf(c);
+        }
+        return negated? Character.valueOf(c) : null;
+    }
+
+    public String toString() { return name; }
+}
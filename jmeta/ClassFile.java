@@ -0,0 +1,273 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.io.*;
+import java.util.*;
+
+/// A minimal class file writer, just enough for the parsers JMetaLoader generates: a constant pool, fields, and
+/// methods with code. Classes are written as version 49 (java 5), so the JVM verifies them by type inference and no
+/// stack map frames are needed.
+///
+/// Code is emitted one instruction at a time; the writer tracks the operand stack depth, so it knows the maximum.
+/// Branches go to labels, which are patched when placed. Only 16 bit branch offsets are supported.
+final class ClassFile {
+    static final int PUBLIC = 0x0001, STATIC = 0x0008, FINAL = 0x0010, SUPER = 0x0020;
+
+    // opcodes used
+    static final int ACONST_NULL = 0x01, ICONST_0 = 0x03, BIPUSH = 0x10, SIPUSH = 0x11, LDC = 0x12, LDC_W = 0x13,
+        LDC2_W = 0x14, ILOAD = 0x15, LLOAD = 0x16, ALOAD = 0x19, ISTORE = 0x36, LSTORE = 0x37, ASTORE = 0x3a,
+        AALOAD = 0x32, AASTORE = 0x53, POP = 0x57, DUP = 0x59, IADD = 0x60, ISUB = 0x64, LAND = 0x7f, LCMP = 0x94,
+        IFEQ = 0x99, IFNE = 0x9a, IFLT = 0x9b, IFGE = 0x9c, IF_ICMPLT = 0xa1, IF_ACMPEQ = 0xa5, IF_ACMPNE = 0xa6,
+        GOTO = 0xa7, TABLESWITCH = 0xaa, IRETURN = 0xac, ARETURN = 0xb0, RETURN = 0xb1, GETSTATIC = 0xb2,
+        PUTSTATIC = 0xb3, GETFIELD = 0xb4, PUTFIELD = 0xb5, INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7,
+        INVOKESTATIC = 0xb8, INVOKEINTERFACE = 0xb9, NEW = 0xbb, ANEWARRAY = 0xbd, ATHROW = 0xbf, CHECKCAST = 0xc0,
+        IFNULL = 0xc6, IFNONNULL = 0xc7;
+
+    final String name;       // internal names, like `jmeta/BaseParser`
+    final String sup;
+    final int access;
+
+    final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    final DataOutputStream poolOut = new DataOutputStream(pool);
+    final HashMap<String, Integer> constants = new HashMap<String, Integer>();
+    int poolSize = 1;
+
+    final ByteArrayOutputStream members = new ByteArrayOutputStream();
+    int fields = 0;
+    final ArrayList<Code> methods = new ArrayList<Code>();
+
+    ClassFile(int access, String name, String sup) {
+        this.access = access; this.name = name; this.sup = sup;
+    }
+
+    // a constant, added to the pool on first use
+    private int constant(String key, int tag, Object... parts) {
+        Integer i = constants.get(key);
+        if (i != null) return i;
+        try {
+            poolOut.writeByte(tag);
+            for (Object p : parts) {
+                if (p instanceof String) poolOut.writeUTF((String) p);
+                else if (p instanceof Long) poolOut.writeLong((Long) p);
+                else poolOut.writeShort((Integer) p);
+            }
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        int index = poolSize;
+        poolSize += (tag == 5)? 2 : 1;
+        if (poolSize > 0xffff) throw new IllegalArgumentException(name +": too many constants");
+        constants.put(key, index);
+        return index;
+    }
+
+    int utf8(String s)    { return constant("U"+ s, 1, s); }
+    int integer(int i)    { return constant("I"+ i, 3, i >>> 16, i & 0xffff); }
+    int lng(long l)       { return constant("J"+ l, 5, Long.valueOf(l)); }
+    int cls(String n)     { return constant("C"+ n, 7, utf8(n)); }
+    int string(String s)  { return constant("S"+ s, 8, utf8(s)); }
+    int nameType(String n, String d) { return constant("N"+ n +" "+ d, 12, utf8(n), utf8(d)); }
+    int field(String owner, String n, String d) { return constant("F"+ owner +"."+ n +" "+ d, 9, cls(owner), nameType(n, d)); }
+    int method(String owner, String n, String d) { return constant("M"+ owner +"."+ n +" "+ d, 10, cls(owner), nameType(n, d)); }
+    int imethod(String owner, String n, String d) { return constant("A"+ owner +"."+ n +" "+ d, 11, cls(owner), nameType(n, d)); }
+
+    void field(int access, String n, String d) {
+        DataOutputStream out = new DataOutputStream(members);
+        try {
+            out.writeShort(access); out.writeShort(utf8(n)); out.writeShort(utf8(d)); out.writeShort(0);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        fields++;
+    }
+
+    Code method(int access, String n, String d) {
+        Code c = new Code(access, n, d);
+        methods.add(c);
+        return c;
+    }
+
+    byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            // add all constants before writing the pool
+            int self = cls(name), parent = cls(sup), code = utf8("Code");
+            byte[][] ms = new byte[methods.size()][];
+            for (int i = 0; i < ms.length; i++) ms[i] = methods.get(i).toBytes(code);
+
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0); out.writeShort(49);
+            out.writeShort(poolSize);
+            pool.writeTo(out);
+            out.writeShort(access); out.writeShort(self); out.writeShort(parent);
+            out.writeShort(0);
+            out.writeShort(fields);
+            members.writeTo(out);
+            out.writeShort(ms.length);
+            for (byte[] m : ms) out.write(m);
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /// a branch target; branches to it before it is placed are patched when it is
+    static final class Label {
+        int at = -1;
+        final ArrayList<int[]> uses = new ArrayList<int[]>();  // { instruction, offset to patch, 4 if a wide offset }
+    }
+
+    /// the code of a method
+    final class Code {
+        final int access; final String name; final String desc;
+        byte[] code = new byte[256];
+        int size = 0;
+        int stack = 0, maxStack = 0;
+        int locals, maxLocals;
+
+        Code(int access, String name, String desc) {
+            this.access = access; this.name = name; this.desc = desc;
+            locals = maxLocals = (((access & STATIC) != 0)? 0 : 1) + slots(desc, false);
+        }
+
+        /// a new local variable of the given number of slots; release it using free()
+        int local(int slots) {
+            int l = locals;
+            locals += slots;
+            maxLocals = Math.max(maxLocals, locals);
+            return l;
+        }
+        /// frees all locals from l on
+        void free(int l) { locals = l; }
+
+        private void u1(int b) {
+            if (size == code.length) code = Arrays.copyOf(code, size * 2);
+            code[size++] = (byte) b;
+        }
+        private void u2(int s) { u1(s >> 8); u1(s); }
+        private void u4(int i) { u2(i >>> 16); u2(i); }
+
+        private void push(int n) {
+            stack += n;
+            if (stack < 0) throw new AssertionError(ClassFile.this.name +"."+ name +": stack underflow");
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        void op(int op, int delta) { u1(op); push(delta); }
+
+        void load(int op, int local) {
+            if (local > 255) throw new IllegalArgumentException(ClassFile.this.name +"."+ name +": too many variables");
+            u1(op); u1(local); push((op == LLOAD)? 2 : (op == ILOAD || op == ALOAD)? 1 : (op == LSTORE)? -2 : -1);
+        }
+        void aload(int l)  { load(ALOAD, l); }
+        void astore(int l) { load(ASTORE, l); }
+        void iload(int l)  { load(ILOAD, l); }
+        void istore(int l) { load(ISTORE, l); }
+        void lstore(int l) { load(LSTORE, l); }
+        void lload(int l)  { load(LLOAD, l); }
+
+        void iconst(int i) {
+            if (i >= -1 && i <= 5) { op(ICONST_0 + i, 1); return; }
+            if (i >= -128 && i <= 127) { u1(BIPUSH); u1(i); push(1); return; }
+            if (i >= -32768 && i <= 32767) { u1(SIPUSH); u2(i); push(1); return; }
+            ldc(integer(i), 1);
+        }
+        void lconst(long l) { u1(LDC2_W); u2(lng(l)); push(2); }
+        void sconst(String s) { ldc(string(s), 1); }
+        void cconst(String n) { ldc(cls(n), 1); }
+        private void ldc(int index, int delta) {
+            if (index < 256) { u1(LDC); u1(index); } else { u1(LDC_W); u2(index); }
+            push(delta);
+        }
+
+        void type(int op, String n) { u1(op); u2(cls(n)); push((op == NEW)? 1 : 0); }
+
+        void getstatic(String owner, String n, String d) { u1(GETSTATIC); u2(field(owner, n, d)); push(size(d)); }
+        void putstatic(String owner, String n, String d) { u1(PUTSTATIC); u2(field(owner, n, d)); push(-size(d)); }
+        void getfield(String owner, String n, String d)  { u1(GETFIELD); u2(field(owner, n, d)); push(size(d) - 1); }
+        void putfield(String owner, String n, String d)  { u1(PUTFIELD); u2(field(owner, n, d)); push(-size(d) - 1); }
+
+        void invoke(int op, String owner, String n, String d) {
+            int args = slots(d, false);
+            if (op == INVOKEINTERFACE) {
+                u1(op); u2(imethod(owner, n, d)); u1(args + 1); u1(0);
+            } else {
+                u1(op); u2(method(owner, n, d));
+            }
+            push(-args - ((op == INVOKESTATIC)? 0 : 1) + slots(d, true));
+        }
+
+        void jump(int op, Label l) {
+            int at = size;
+            u1(op);
+            push((op == GOTO)? 0 : (op == IF_ACMPEQ || op == IF_ACMPNE || op == IF_ICMPLT)? -2 : -1);
+            if (l.at >= 0) offset(at, l.at - at);
+            else { l.uses.add(new int[] { at, size, 2 }); u2(0); }
+        }
+        void place(Label l) {
+            l.at = size;
+            for (int[] u : l.uses) {
+                int save = size;
+                size = u[1];
+                if (u[2] == 4) u4(l.at - u[0]); else offset(u[0], l.at - u[0]);
+                size = save;
+            }
+        }
+        private void offset(int at, int off) {
+            if (off < -32768 || off > 32767)
+                throw new IllegalArgumentException(ClassFile.this.name +"."+ name +": method too large");
+            u2(off);
+        }
+
+        /// switch over the int on the stack, from 0 to the number of cases; the cases are placed by the caller
+        void tableswitch(Label dflt, Label[] cases) {
+            int at = size;
+            u1(TABLESWITCH); push(-1);
+            while (size % 4 != 0) u1(0);
+            Label[] all = new Label[cases.length + 1];
+            all[0] = dflt;
+            System.arraycopy(cases, 0, all, 1, cases.length);
+            for (int i = 0; i < all.length; i++) {
+                if (i == 1) { u4(0); u4(cases.length - 1); }
+                if (all[i].at >= 0) { u4(all[i].at - at); continue; }
+                all[i].uses.add(new int[] { at, size, 4 });
+                u4(0);
+            }
+        }
+
+        byte[] toBytes(int codeName) throws IOException {
+            if (size > 65535) throw new IllegalArgumentException(ClassFile.this.name +"."+ name +": method too large");
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeShort(access); out.writeShort(utf8(name)); out.writeShort(utf8(desc));
+            out.writeShort(1);
+            out.writeShort(codeName);
+            out.writeInt(12 + size);
+            out.writeShort(maxStack); out.writeShort(maxLocals);
+            out.writeInt(size); out.write(code, 0, size);
+            out.writeShort(0);
+            out.writeShort(0);
+            return bytes.toByteArray();
+        }
+    }
+
+    // slots of a field type
+    static int size(String d) { return (d.equals("J") || d.equals("D"))? 2 : 1; }
+
+    // slots of the arguments, or of the result, of a method descriptor
+    static int slots(String d, boolean result) {
+        int close = d.indexOf(')');
+        if (result) { String r = d.substring(close + 1); return r.equals("V")? 0 : size(r); }
+        int n = 0;
+        for (int i = 1; i < close; i++) {
+            char c = d.charAt(i);
+            boolean array = c == '[';
+            while (c == '[') c = d.charAt(++i);
+            if (c == 'L') i = d.indexOf(';', i);
+            n += (!array && (c == 'J' || c == 'D'))? 2 : 1;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,57 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/// Output of JMetaCompiler: appends java code to an Appendable, like a StringBuilder or a Writer, and keeps the
+/// indentation of the code being written.
+///
+/// Code is appended as it is generated, instead of being returned as strings that are concatenated into ever longer
+/// strings, so compiling takes time linear in the size of the grammar. A new line only starts when text is written
+/// after it, at the indentation of that moment; calling nl() twice, or nl() with nothing after it, adds no empty line.
+///
+/// The braces of blocks are written by open() and close(), so the compiler's own strings have no unmatched braces;
+/// these would end its semantic actions early.
+public final class Emitter {
+    private final Appendable out;
+    private int depth;
+    private boolean nl = false;
+
+    public Emitter(Appendable out) { this(out, 0); }
+    public Emitter(Appendable out, int depth) { this.out = out; this.depth = depth; }
+
+    /// appends each of as; a failing Writer throws an UncheckedIOException
+    public Emitter w(Object... as) {
+        try {
+            for (Object a : as) {
+                String s = String.valueOf(a);
+                if (s.length() == 0) continue;
+                if (nl) {
+                    nl = false;
+                    out.append('\n');
+                    for (int i = 0; i < depth; i++) out.append("  ");
+                }
+                out.append(s);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return this;
+    }
+
+    /// starts a new line
+    public Emitter nl() { nl = true; return this; }
+
+    public Emitter indent()  { depth++; return this; }
+    public Emitter outdent() { depth--; return this; }
+
+    /// writes as followed by an opening brace, and indents the lines after it
+    public Emitter open(Object... as) { return w(as).w("{").indent(); }
+
+    /// writes a closing brace followed by as, at the indentation of its open()
+    public Emitter close(Object... as) { return outdent().w("}").w(as); }
+
+    /// the code written, if written to a StringBuilder
+    public String toString() { return out.toString(); }
+}
@@ -1,8 +1,13 @@
 // copyright 2009 ActiveVideo; license: MIT; see license.txt
 package jmeta;
 
+/// The type of BaseParser.ERROR; what a failed parser expected is kept by the parser itself, @see BaseParser._expected
 public class ErrorObject {
+    /// written by parsers generated by older versions of jmeta when a rule fails, and read by the SyntaxError
+    /// constructors only they call; current parsers and BaseParser never write it. ERROR is shared by all parsers, so
+    /// older parsers that run at the same time can read each other's rule names
+    @Deprecated
     public String last = "";
-    public String toString() { return "ERROR.last: "+ last; }
-}
 
+    public String toString() { return "ERROR"; }
+}
@@ -0,0 +1,41 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/// a left recursion growing its seed at pos; records which rules were evaluated while growing
+///
+/// The rules are kept as a bitset of rule ids, to add each only once, and as a list of those ids, so starting a grow
+/// iteration forgets only their entries and clears only their bits. Heads are reused by the next left recursion at the
+/// same depth, @see BaseParser._lefts, so growing does not allocate.
+final class Head {
+    int rule; int pos;
+    long[] bits = new long[4];
+    int[] involved = new int[16];
+    int count;
+    final ArrayList<ArgKey> keys = new ArrayList<ArgKey>();
+
+    Head start(int rule, int pos) {
+        this.rule = rule; this.pos = pos;
+        clear();
+        return this;
+    }
+
+    /// marks rule id as evaluated while growing
+    void involve(int id) {
+        int w = id >>> 6;
+        if (w >= bits.length) bits = Arrays.copyOf(bits, Math.max(w + 1, bits.length * 2));
+        long b = 1L << id;
+        if ((bits[w] & b) != 0) return;
+        bits[w] |= b;
+        if (count == involved.length) involved = Arrays.copyOf(involved, count * 2);
+        involved[count++] = id;
+    }
+
+    void clear() {
+        for (int i = 0; i < count; i++) bits[involved[i] >>> 6] = 0;
+        count = 0;
+        keys.clear();
+    }
+}
@@ -0,0 +1,212 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+/// Compiles many grammars in one run, in parallel, skipping grammars that did not change since they were last compiled.
+/// ```
+///     java -cp jmeta.jar jmeta.JMetaBuild [--embed] [--force] [--cache <file>] [-j <threads>] <input>...
+/// ```
+/// Like JMetaParser, each `<input>` is a path without extension: `<input>.jmeta` is compiled to `<input>.java`.
+///
+/// A grammar is unchanged if the hash of its source, of the sources of the grammars it extends, of the compiler itself
+/// and of the options is the one in the cache file (by default `.jmeta-cache`), and its output still exists. Grammars it
+/// extends are looked for among the inputs, and as `<Name>.jmeta` next to the grammar.
+public class JMetaBuild {
+    static final Pattern PARSER  = Pattern.compile("\\bparser\\s+(\\w+)");
+    static final Pattern EXTENDS = Pattern.compile("\\bparser\\s+\\w+\\s+extends\\s+(\\w+)");
+
+    public boolean embed = false;
+    public boolean force = false;
+    public File cache = new File(".jmeta-cache");
+    public int threads = Runtime.getRuntime().availableProcessors();
+    public PrintStream out = System.out;
+
+    final HashMap<String, String> sources = new HashMap<String, String>();  // input to source
+    final HashMap<String, String> parsers = new HashMap<String, String>();  // parser name to input defining it
+    final HashMap<String, String> hashes  = new HashMap<String, String>();  // input to hash, computed on first use
+
+    public static void main(String[] args) { System.exit(run(args)); }
+
+    /// parses the command line and builds; returns the exit code: 0 if all grammars compiled, 1 if not, 2 on bad usage
+    public static int run(String[] args) {
+        JMetaBuild build = new JMetaBuild();
+        ArrayList<String> inputs = new ArrayList<String>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--embed")) build.embed = true;
+            else if (args[i].equals("--force")) build.force = true;
+            else if (args[i].equals("--cache") && i + 1 < args.length) build.cache = new File(args[++i]);
+            else if (args[i].equals("-j") && i + 1 < args.length) build.threads = Math.max(1, Integer.parseInt(args[++i]));
+            else if (args[i].startsWith("-")) { inputs.clear(); break; }
+            else inputs.add(args[i]);
+        }
+        if (inputs.isEmpty()) {
+            System.out.println("JMetaBuild [--embed] [--force] [--cache <file>] [-j <threads>] <input>...");
+            return 2;
+        }
+        return build.build(inputs)? 0 : 1;
+    }
+
+    /// compiles all inputs that changed; returns false if any failed to compile
+    public boolean build(List<String> inputs) {
+        long start = System.nanoTime();
+        for (String in : inputs) {
+            try {
+                String src = Utils.readFile(in +".jmeta");
+                sources.put(in, src);
+                Matcher m = PARSER.matcher(src);
+                while (m.find()) parsers.put(m.group(1), in);
+            } catch (IOException ex) {
+                out.println(in +": cannot read: "+ ex.getMessage());
+                return false;
+            }
+        }
+
+        final Properties cached = new Properties();
+        if (!force && cache.exists()) {
+            try {
+                InputStream is = new FileInputStream(cache);
+                try { cached.load(is); } finally { is.close(); }
+            } catch (IOException ex) {
+                // rebuild everything
+            }
+        }
+
+        // hash all grammars first, looking for the grammars they extend, before compiling any on other threads
+        String compiler = compilerHash();
+        LinkedHashMap<String, String> todo = new LinkedHashMap<String, String>();
+        for (String in : inputs) todo.put(in, hash(compiler, in, new HashSet<String>()));
+
+        final ConcurrentHashMap<String, String> done = new ConcurrentHashMap<String, String>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, todo.size()));
+        LinkedHashMap<String, Future<String>> results = new LinkedHashMap<String, Future<String>>();
+        for (Map.Entry<String, String> e : todo.entrySet()) {
+            final String in = e.getKey();
+            final String hash = e.getValue();
+            final boolean unchanged = hash.equals(cached.getProperty(in)) && new File(in +".java").exists();
+            results.put(in, executor.submit(new Callable<String>() { public String call() {
+                if (unchanged) { done.put(in, hash); return "unchanged"; }
+                long t = System.nanoTime();
+                try {
+                    compile(in);
+                } catch (SyntaxError ex) {
+                    return "failed: "+ ex.getMessage();
+                } catch (Exception ex) {
+                    return "failed: "+ ex;
+                }
+                done.put(in, hash);
+                return "compiled in "+ (System.nanoTime() - t) / 1000000 +" ms";
+            }}));
+        }
+        executor.shutdown();
+
+        int compiled = 0, failed = 0;
+        for (Map.Entry<String, Future<String>> e : results.entrySet()) {
+            String r;
+            try {
+                r = e.getValue().get();
+            } catch (Exception ex) {
+                r = "failed: "+ ex;
+            }
+            if (r.startsWith("compiled")) compiled++;
+            if (r.startsWith("failed")) { failed++; cached.remove(e.getKey()); }
+            out.println(e.getKey() +": "+ r);
+        }
+        out.println(results.size() +" grammars, "+ compiled +" compiled, "+ failed +" failed, in "+
+                (System.nanoTime() - start) / 1000000 +" ms");
+
+        cached.putAll(done);
+        try {
+            OutputStream os = new FileOutputStream(cache);
+            try { cached.store(os, "jmeta build cache, safe to delete"); } finally { os.close(); }
+        } catch (IOException ex) {
+            out.println(cache +": cannot write: "+ ex.getMessage());
+        }
+        return failed == 0;
+    }
+
+    /// compiles `in.jmeta` to `in.java`; compilers are not shared, so this can run on any thread
+    public void compile(String in) throws IOException {
+        JMetaCompiler compiler = new JMetaCompiler(); compiler.embedded = embed;
+        Object ast = new JMetaParser().parse(sources.get(in));
+        Writer output = Utils.openFile(in +".java");
+        try { compiler.compile(ast, output); } finally { output.close(); }
+    }
+
+    // the hash of a grammar, its options, and the grammars it extends; seen guards against grammars extending each other
+    String hash(String compiler, String in, HashSet<String> seen) {
+        if (hashes.containsKey(in)) return hashes.get(in);
+        seen.add(in);
+        StringBuilder sb = new StringBuilder();
+        sb.append(compiler).append(embed).append('\0').append(sources.get(in));
+        Matcher m = EXTENDS.matcher(sources.get(in));
+        while (m.find()) {
+            String sup = superInput(in, m.group(1));
+            if (sup == null || seen.contains(sup)) continue;
+            sb.append('\0').append(hash(compiler, sup, seen));
+        }
+        String h = sha(sb.toString().getBytes(StandardCharsets.UTF_8));
+        hashes.put(in, h);
+        return h;
+    }
+
+    // the input defining the parser named name, or the file next to in named after it; null if not found
+    String superInput(String in, String name) {
+        if (parsers.containsKey(name)) return parsers.get(name);
+        File f = new File(new File(in).getParentFile(), name +".jmeta");
+        if (!f.exists()) return null;
+        String sup = f.getPath().substring(0, f.getPath().length() - ".jmeta".length());
+        try {
+            sources.put(sup, Utils.readFile(f.getPath()));
+        } catch (IOException ex) {
+            return null;
+        }
+        parsers.put(name, sup);
+        return sup;
+    }
+
+    // the hash of the jar or classes of the compiler, so a new compiler recompiles everything
+    String compilerHash() {
+        try {
+            File f = new File(JMetaBuild.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            ArrayList<File> fs = new ArrayList<File>();
+            if (f.isFile()) fs.add(f);
+            else fs.addAll(Arrays.asList(new File(f, "jmeta").listFiles()));
+            Collections.sort(fs);
+            StringBuilder sb = new StringBuilder();
+            for (File c : fs) if (c.getName().endsWith(".class") || c == f) sb.append(sha(readBytes(c)));
+            return sb.toString();
+        } catch (Exception ex) {
+            // unknown compiler, never unchanged
+            return ""+ System.nanoTime();
+        }
+    }
+
+    static byte[] readBytes(File f) throws IOException {
+        InputStream in = new FileInputStream(f);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024*64];
+            int count;
+            while ((count = in.read(buf)) > -1) out.write(buf, 0, count);
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    static String sha(byte[] bs) {
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bs)) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (Exception ex) {
+            throw new AssertionError(ex);
+        }
+    }
+}
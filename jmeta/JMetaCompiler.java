@@ -0,0 +1,1464 @@
+package jmeta;
+// generated by jmeta on Sat Oct 17 02:06:20 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+
+import java.util.*;
+
+final class  DoError  {
+    String msg = null;
+    boolean cut = false;
+    boolean resumed = false;
+    public DoError(Object m) { msg = (String)m; }
+    public DoError(Object m, boolean c) { msg = (String)m; cut = c; }
+}
+
+
+public class JMetaCompiler extends BaseParser {  public Object jpackage =  null;
+  public boolean embedded =  false;
+  public ArrayList locals =  new ArrayList();
+  public ArrayList methods =  new ArrayList();
+  public ArrayList rules =  new ArrayList();
+  public void reset() {
+        locals = new ArrayList();
+        methods = new ArrayList();
+        rules = new ArrayList();
+    }
+  public String sname =  "ERROR-sname-ERROR";
+  public String name =  "ERROR-name-ERROR";
+  public void addLocal(Object n) {
+        String s = ((String)n).intern();
+        if (! locals.contains(s)) locals.add(s);
+    }
+  public String localsAsArgs() {
+        if (locals.size() == 0) return "";
+        return "Object "+ join(locals, ", Object ");
+    }
+  public String localsAsCall() {
+        return join(locals, ",");
+    }
+  public String localsAsInit() {
+        if (locals.size() == 0) return "";
+        String res = "Object "+ join(locals, "=null; Object ") + "=null;";
+        locals.clear();
+        return res;
+    }
+  public String w(Object... as) {
+        StringBuilder sb = new StringBuilder();
+        for (Object a : as) sb.append(a);
+        return sb.toString();
+    }
+  public Emitter out =  new Emitter(new StringBuilder());
+  public void compile(Object ast, Appendable to) {
+        out = new Emitter(to);
+        parse(ast);
+    }
+  public int __genc =  0;
+  public String genvar() { return ""+ __genc++; }
+
+  public Object destruct() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object t=null; Object r=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      if (cutOnError) _cut();
+      _t=_any();
+      t=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _push(t); _t=apply();
+      r=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__destruct_2(t,r);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object trans() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object r=null;    do {
+    int _p3=_pos; _t=ERROR; do { //and
+      _t=_listBegin(); if (_t!=ERROR) {
+        _t=destruct();
+        r=_t;
+        _listEnd();
+      }
+      if (_t==ERROR) break;
+      _t=r;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; }
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object transSep() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object s=null;    do {
+    int _p4=_pos; _t=ERROR; do { //and
+      _t=_any();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=__transSep_10(s);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p4, _pos); _pos=_p4; }
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object HList() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+        do {
+    int _p11=_pos; _t=ERROR; do { //and
+      _t=__act12();
+      if (_t==ERROR) break;
+      _push(", "); _t=transSep();
+      if (_t==ERROR) break;
+      _t=__act13();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p11, _pos); _pos=_p11; }
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object HConcat() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+    Object l=null; Object r=null;    do {
+    int _p14=_pos; _t=ERROR; do { //and
+      int _l15=_pos;
+      int _p16=_pos; _t=ERROR; do { //and
+        _t=_any();
+        l=_t;
+        if (_t==ERROR) break;
+        _t=_any();
+        r=_t;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p16, _pos); _pos=_p16; }
+      if (_t!=ERROR) { _pos=_l15; }
+      if (_t==ERROR) break;
+      _t=__HConcat_21(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p14, _pos); _pos=_p14; }
+    _t=_memoize(_base+4, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+  public Object concatPart() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+5, _start);
+        do {
+    long _m22=(getClass()==JMetaCompiler.class)? __predict22.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m22 & 1L)!=0) {
+        _t=__concatPart_27();
+        if (_t!=ERROR) break;
+      }
+      _t=trans();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict22.expect(this, _m22);
+    _t=_memoize(_base+5, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }  public int concatParts(Object x) {
+        if (!(x instanceof Object[]) || !"HConcat".equals(((Object[]) x)[0])) return 1;
+        return concatParts(((Object[]) x)[1]) + concatParts(((Object[]) x)[2]);
+    }
+
+  public Object HStr() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+6, _start);
+    Object c=null;
+    int _p28=_pos; _t=ERROR; do { //and
+      _t=_any();
+      c=_t;
+      if (_t==ERROR) break;
+      _t=__act29(c);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p28, _pos); _pos=_p28; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+6, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+  public Object HLit() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+7, _start);
+    Object c=null;
+    int _p30=_pos; _t=ERROR; do { //and
+      _t=_any();
+      c=_t;
+      if (_t==ERROR) break;
+      _t=__act31(c);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p30, _pos); _pos=_p30; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+7, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+  public Object Error() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+8, _start);
+    Object msg=null;
+    int _p32=_pos; _t=ERROR; do { //and
+      _t=_any();
+      msg=_t;
+      if (_t==ERROR) break;
+      _t=__act33(msg);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p32, _pos); _pos=_p32; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+8, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+8, _start, _pos, _t); return _t;
+  }
+  public Object Cut() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+9, _start);
+    
+    _t=__act34();
+    if (_t==ERROR) { _pos=_start; _fail(_base+9, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+9, _start, _pos, _t); return _t;
+  }
+  public Object Throw() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+10, _start);
+    Object msg=null;
+    int _p35=_pos; _t=ERROR; do { //and
+      _t=_any();
+      msg=_t;
+      if (_t==ERROR) break;
+      _t=__act36(msg);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p35, _pos); _pos=_p35; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+10, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+10, _start, _pos, _t); return _t;
+  }
+  public Object Set() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+11); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+11, _start);
+    Object n=null;    do {
+    int _p37=_pos; _t=ERROR; do { //and
+      _t=_any();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act38(n);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p37, _pos); _pos=_p37; }
+    _t=_memoize(_base+11, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+11, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+11, _start, _pos, _t); return _t;
+  }
+  public Object Str() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+12, _start);
+    Object s=null;
+    int _p39=_pos; _t=ERROR; do { //and
+      _t=_any();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=__act40(s);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p39, _pos); _pos=_p39; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+12, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+12, _start, _pos, _t); return _t;
+  }
+  public Object Strs() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+13); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+13, _start);
+    Object xs=null;    do {
+    int _p41=_pos; _t=ERROR; do { //and
+      int _l42=_loop(_base+13, 42);
+      java.util.ArrayList<Object> as42=_loopList(_l42);
+      while (true) { //many
+        _t=_any();
+        if (_t==ERROR) break; else as42.add(_t);
+        _loopNext(_l42);
+      } _loopEnd(_l42); _t=as42;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=__act43(xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p41, _pos); _pos=_p41; }
+    _t=_memoize(_base+13, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+13, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+13, _start, _pos, _t); return _t;
+  }
+  public Object Sym() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+14, _start);
+    Object s=null;
+    int _p44=_pos; _t=ERROR; do { //and
+      _t=_any();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=__act45(s);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p44, _pos); _pos=_p44; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+14, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+14, _start, _pos, _t); return _t;
+  }
+  public Object Chars() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+15); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+15, _start);
+    Object neg=null; Object xs=null;    do {
+    int _p46=_pos; _t=ERROR; do { //and
+      _t=_any();
+      neg=_t;
+      if (_t==ERROR) break;
+      int _l47=_loop(_base+15, 47);
+      java.util.ArrayList<Object> as47=_loopList(_l47);
+      while (true) { //many
+        _t=_any();
+        if (_t==ERROR) break; else as47.add(_t);
+        _loopNext(_l47);
+      } _loopEnd(_l47); _t=as47;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=__act48(neg,xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p46, _pos); _pos=_p46; }
+    _t=_memoize(_base+15, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+15, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+15, _start, _pos, _t); return _t;
+  }
+  public Object App() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+16); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+16, _start);
+        do {
+    long _m49=(getClass()==JMetaCompiler.class)? __predict49.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m49 & 1L)!=0) {
+        _t=__App_54();
+        if (_t!=ERROR) break;
+      }
+      if ((_m49 & 2L)!=0) {
+        _t=__App_57();
+        if (_t!=ERROR) break;
+      }
+      _t=__App_62();
+      if (_t!=ERROR) break;
+      _t=__App_65();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict49.expect(this, _m49);
+    _t=_memoize(_base+16, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+16, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+16, _start, _pos, _t); return _t;
+  }
+  public Object SAct() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+17); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+17, _start);
+        do {
+    int _p66=_pos; _t=ERROR; do { //and
+      _t=__act67();
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act68();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p66, _pos); _pos=_p66; }
+    _t=_memoize(_base+17, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+17, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+17, _start, _pos, _t); return _t;
+  }
+  public Object Act() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+18, _start);
+    Object expr=null;
+    int _p69=_pos; _t=ERROR; do { //and
+      _t=_any();
+      expr=_t;
+      if (_t==ERROR) break;
+      _t=__act70(expr);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p69, _pos); _pos=_p69; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+18, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+18, _start, _pos, _t); return _t;
+  }
+  public Object Pred() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+19, _start);
+    Object expr=null;
+    int _p71=_pos; _t=ERROR; do { //and
+      _t=_any();
+      expr=_t;
+      if (_t==ERROR) break;
+      _t=__act72(expr);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p71, _pos); _pos=_p71; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+19, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+19, _start, _pos, _t); return _t;
+  }
+  public Object Or() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+20); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+20, _start);
+        do {
+    int _p73=_pos; _t=ERROR; do { //and
+      _t=__act74();
+      if (_t==ERROR) break;
+      _t=__Or_80();
+      if (_t==ERROR) break;
+      _t=__act81();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p73, _pos); _pos=_p73; }
+    _t=_memoize(_base+20, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+20, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+20, _start, _pos, _t); return _t;
+  }
+  public Object Predict() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+21); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+21, _start);
+    Object fs=null; Object v=null; Object i=null;    do {
+    int _p82=_pos; _t=ERROR; do { //and
+      _t=_any();
+      fs=_t;
+      if (_t==ERROR) break;
+      _t=__act83(fs);
+      v=_t;
+      if (_t==ERROR) break;
+      _t=__act84(fs,v);
+      i=_t;
+      if (_t==ERROR) break;
+      _t=__Predict_90(fs,v,i);
+      if (_t==ERROR) break;
+      _t=__act91(fs,v,i);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p82, _pos); _pos=_p82; }
+    _t=_memoize(_base+21, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+21, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+21, _start, _pos, _t); return _t;
+  }  public Object predictBegin(Object fs) {
+        String var = genvar();
+        Object[] f = (Object[]) fs;
+        StringBuilder p = new StringBuilder();
+        for (int i = 0; i < f.length; i++) {
+            if (f[i] == null) continue;
+            StringBuilder cs = new StringBuilder();
+            StringBuilder es = new StringBuilder();
+            for (Object c : (Object[]) f[i]) {
+                if (c instanceof Character) cs.append(c);
+                else if (((String) c).startsWith("[")) p.append(w(".list(", i, ", \"", Utils.escape(((String) c).substring(1)), "\")"));
+                else if (((String) c).startsWith("\"")) es.append(w(".str(", i, ", \"", Utils.escape(((String) c).substring(1)), "\")"));
+                else if (((String) c).startsWith("=")) es.append(w(".rule(", i, ", \"", ((String) c).substring(1), "\")"));
+                else if (((String) c).startsWith("<")) es.append(w(".cls(", i, ", \"", Utils.escape(((String) c).substring(1)), "\")"));
+                else if (c.equals(")")) es.append(w(".end(", i, ")"));
+                else p.append(w(".sym(", i, ", \"", Utils.escape(c), "\")"));
+            }
+            if (cs.length() > 0) p.append(w(".chars(", i, ", \"", Utils.escape(cs.toString()), "\")"));
+            p.append(es);
+        }
+        methods.add(w(
+            "static final Predict __predict", var, " = new Predict()", p, ";\n"
+        ));
+        out.w("long _m", var, "=(getClass()==", name, ".class)? __predict", var, ".mask(this) : -1L;").nl();
+        out.open("_t=ERROR; do").w(" //predict");
+        return var;
+    }
+  public Object predictEnd(Object var) {
+        return out.nl().close(" while(false);").nl().w("if (_t==ERROR) __predict", var, ".expect(this, _m", var, ");");
+    }
+  public Object predictAlt(Object var, Object fs, Object i) {
+        int k = (Integer) i;
+        out.nl();
+        if (((Object[]) fs)[k] == null) return out;
+        return out.open("if ((_m", var, " & ", 1L << k, "L)!=0) ").nl();
+    }
+  public Object predictAltEnd(Object var, Object fs, Object i) {
+        int k = (Integer) i;
+        out.nl().w("if (_t!=ERROR) break;");
+        if (((Object[]) fs)[k] != null) out.nl().close();
+        return k + 1;
+    }
+
+  public Object And() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+22); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+22, _start);
+        do {
+    _t=ERROR; do{ //or
+      _t=__And_103();
+      if (_t!=ERROR) break;
+      _t=__act104();
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+22, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+22, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+22, _start, _pos, _t); return _t;
+  }  public Object andBegin() {
+        String var = genvar();
+        out.w("int _p", var, "=_pos; _t=ERROR; ").open("do ").w(" //and");
+        return var;
+    }
+  public Object andNext(Object err, Object x) {
+        if (x instanceof DoError) {
+            DoError e = (DoError) x;
+            if (!e.resumed) out.w(e.cut? "_cut();" : "if (cutOnError) _cut();");
+            return e.msg;
+        }
+        if (err != null) out.nl().w("if (_t==ERROR) throw new SyntaxError(\"", err, "\", this);");
+        else out.nl().w("if (_t==ERROR) break;");
+        return err;
+    }
+
+  public Object Many() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+23); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+23, _start);
+    Object x=null; Object v=null;    do {
+    int _p105=_pos; _t=ERROR; do { //and
+      int _l106=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l106; }
+      x=_t;
+      if (_t==ERROR) break;
+      _t=__act107(x);
+      v=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act108(x,v);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p105, _pos); _pos=_p105; }
+    _t=_memoize(_base+23, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+23, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+23, _start, _pos, _t); return _t;
+  }
+  public Object Many1() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+24); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+24, _start);
+    Object x=null; Object v=null;    do {
+    int _p109=_pos; _t=ERROR; do { //and
+      int _l110=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l110; }
+      x=_t;
+      if (_t==ERROR) break;
+      _t=__act111(x);
+      v=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act112(x,v);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p109, _pos); _pos=_p109; }
+    _t=_memoize(_base+24, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+24, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+24, _start, _pos, _t); return _t;
+  }
+  public Object Skip() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+25); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+25, _start);
+    Object x=null; Object v=null;    do {
+    int _p113=_pos; _t=ERROR; do { //and
+      int _l114=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l114; }
+      x=_t;
+      if (_t==ERROR) break;
+      _t=__act115(x);
+      v=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act116(x,v);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p113, _pos); _pos=_p113; }
+    _t=_memoize(_base+25, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+25, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+25, _start, _pos, _t); return _t;
+  }
+  public Object Skip1() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+26); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+26, _start);
+    Object x=null; Object v=null;    do {
+    int _p117=_pos; _t=ERROR; do { //and
+      int _l118=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l118; }
+      x=_t;
+      if (_t==ERROR) break;
+      _t=__act119(x);
+      v=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act120(x,v);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p117, _pos); _pos=_p117; }
+    _t=_memoize(_base+26, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+26, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+26, _start, _pos, _t); return _t;
+  }  public Object manyBegin(Object x, boolean many1, boolean list) {
+        String var = genvar();
+        boolean resume = resumable(body, x);
+        if (resume) out.w("int _l", var, "=_loop(_base+", rules.size(), ", ", var, ");").nl();
+        String as = resume? w("_loopList(_l", var, ")") : "new java.util.ArrayList<Object>()";
+        if (list) out.w("java.util.ArrayList<Object> as", var, "=", as, ";").nl();
+        else if (many1) out.w("boolean _s", var, "=", resume? w("_loopAny(_l", var, ")") : "false", ";").nl();
+        out.open("while (true) ").w(" //many").nl();
+        return var;
+    }
+  public Object manyEnd(Object var, Object x, boolean many1, boolean list) {
+        boolean resume = resumable(body, x);
+        if (list) out.nl().w("if (_t==ERROR) break; else as", var, ".add(_t);");
+        else if (many1) out.nl().w("if (_t==ERROR) break; else _s", var, "=true;");
+        else out.nl().w("if (_t==ERROR) break;");
+        if (resume) out.nl().w("_loopNext(_l", var, ");");
+        out.nl().close(resume? w(" _loopEnd(_l", var, "); _t=") : " _t=");
+        if (list) return out.w(many1? w("as", var, ".isEmpty()? ERROR : as", var) : w("as", var), ";");
+        return out.w(many1? w("_s", var, "? null : ERROR") : "null", ";");
+    }
+
+  public Object Opt() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+27); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+27, _start);
+        do {
+    int _p121=_pos; _t=ERROR; do { //and
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act122();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p121, _pos); _pos=_p121; }
+    _t=_memoize(_base+27, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+27, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+27, _start, _pos, _t); return _t;
+  }
+  public Object Not() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+28); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+28, _start);
+        do {
+    int _p123=_pos; _t=ERROR; do { //and
+      _t=__act124();
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act125();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p123, _pos); _pos=_p123; }
+    _t=_memoize(_base+28, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+28, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+28, _start, _pos, _t); return _t;
+  }
+  public Object Peek() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+29); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+29, _start);
+    Object v=null;    do {
+    int _p126=_pos; _t=ERROR; do { //and
+      _t=__act127();
+      v=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act128(v);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p126, _pos); _pos=_p126; }
+    _t=_memoize(_base+29, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+29, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+29, _start, _pos, _t); return _t;
+  }
+  public Object Text() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+30); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+30, _start);
+    Object v=null;    do {
+    int _p129=_pos; _t=ERROR; do { //and
+      _t=__act130();
+      v=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act131(v);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p129, _pos); _pos=_p129; }
+    _t=_memoize(_base+30, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+30, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+30, _start, _pos, _t); return _t;
+  }  public Object position(String prefix) {
+        String var = genvar();
+        out.w("int ", prefix, var, "=_pos;").nl();
+        return var;
+    }
+
+  public Object List() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+31); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+31, _start);
+        do {
+    int _p132=_pos; _t=ERROR; do { //and
+      _t=__act133();
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act134();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p132, _pos); _pos=_p132; }
+    _t=_memoize(_base+31, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+31, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+31, _start, _pos, _t); return _t;
+  }
+  public Object Outline() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+32); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+32, _start);
+    Object r=null; Object s=null;    do {
+    int _p135=_pos; _t=ERROR; do { //and
+      _t=_any();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=__act136(r);
+      s=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__act137(r,s);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p135, _pos); _pos=_p135; }
+    _t=_memoize(_base+32, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+32, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+32, _start, _pos, _t); return _t;
+  }  public Object outlineBegin() {
+        Object[] s = { new ArrayList(locals), out };
+        out = new Emitter(new StringBuilder(), 2);
+        return s;
+    }
+  public Object outlineEnd(Object r, Object s) {
+        String var = genvar();
+        ArrayList params = (ArrayList) ((Object[]) s)[0];
+        ArrayList own = new ArrayList(locals);
+        own.removeAll(params);
+        locals = own;
+        String init = localsAsInit();
+        locals = params;
+        Emitter body = out;
+        out = (Emitter) ((Object[]) s)[1];
+        methods.add(w(
+            "\n  Object __", r, "_", var, "(", localsAsArgs(), ") { Object _t=null;\n",
+            (init.length() > 0)? w("    ", init, "\n") : "",
+            "    ", body, "\n",
+            "    return _t;\n",
+            "  }\n"
+        ));
+        return out.w("_t=__", r, "_", var, "(", localsAsCall(), ");");
+    }
+  public Object body =  null;
+  public static boolean resumable(Object body, Object x) {
+        HashSet<String> vs = new HashSet<String>();
+        sets(x, vs);
+        for (String v : vs) if (mentions(body, x, v) || !setFirst(x, v)) return false;
+        return true;
+    }
+  static void sets(Object x, HashSet<String> vs) {
+        if (!(x instanceof Object[])) return;
+        Object[] a = (Object[]) x;
+        if ("Set".equals(a[0])) vs.add((String) a[1]);
+        for (int i = "Predict".equals(a[0])? 2 : 1; i < a.length; i++) sets(a[i], vs);
+    }
+  static boolean mentions(Object x, Object skip, String v) {
+        if (x == skip) return false;
+        if (x instanceof String) return Arrays.asList(((String) x).split("[^\\w$]+")).contains(v);
+        if (!(x instanceof Object[])) return false;
+        for (Object o : (Object[]) x) if (mentions(o, skip, v)) return true;
+        return false;
+    }
+  static boolean setFirst(Object x, String v) {
+        Object[] a = (Object[]) x;
+        if ("Set".equals(a[0])) return a[1].equals(v) && !mentions(a[2], null, v);
+        if (!"And".equals(a[0])) return false;
+        for (int i = 1; i < a.length; i++) if (mentions(a[i], null, v)) return setFirst(a[i], v);
+        return false;
+    }
+
+  public Object Rule() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+33); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+33, _start);
+    Object n=null; Object b=null; Object s=null;    do {
+    int _p138=_pos; _t=ERROR; do { //and
+      _t=_any();
+      n=_t;
+      if (_t==ERROR) break;
+      int _l139=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l139; }
+      b=_t;
+      if (_t==ERROR) break;
+      _t=__act140(n,b);
+      s=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+      _t=__Rule_145(n,b,s);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p138, _pos); _pos=_p138; }
+    _t=_memoize(_base+33, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+33, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+33, _start, _pos, _t); return _t;
+  }  public Object ruleBegin(Object b) {
+        body = b;
+        Emitter s = out;
+        out = new Emitter(new StringBuilder(), 2);
+        return s;
+    }
+  public Object ruleEnd(Object n, Object s, Object as) {
+        String id = w("_base+", rules.size()); rules.add(n);
+        Emitter b = out;
+        out = (Emitter) s;
+        if (((ArrayList) as).contains("nomemo") && !((ArrayList) as).contains("memo")) return out.w(
+            "\n",
+            "  public Object ", n, "() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);\n",
+            "    if (listener!=null) listener.enter(this, ", id, ", _start);\n",
+            "    ", localsAsInit(), "\n",
+            "    ", b, "\n",
+            "    if (_t==ERROR) { _pos=_start; _fail(", id, ", _start, _exp); }\n",
+            "    if (listener!=null) listener.exit(this, ", id, ", _start, _pos, _t); return _t;\n",
+            "  }"
+        );
+        return out.w(
+            "\n",
+            "  public Object ", n, "() { Object _t=null; int _start=_pos;\n",
+            "    _t=_retrieve(", id, "); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);\n",
+            "    if (listener!=null) listener.enter(this, ", id, ", _start);\n",
+            "    ", localsAsInit(),
+            "    do {\n",
+            "    ", b, "\n",
+            "    _t=_memoize(", id, ", _k, _start, _t);\n",
+            "    } while (_t==GROW); if (_t==ERROR) _fail(", id, ", _start, _exp);\n",
+            "    if (listener!=null) listener.exit(this, ", id, ", _start, _pos, _t); return _t;\n",
+            "  }"
+        );
+    }
+
+  public Object Parser() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+34); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+34, _start);
+    Object p=null; Object n=null; Object s=null;    do {
+    int _p146=_pos; _t=ERROR; do { //and
+      _t=_any();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=__act147(p,n,s);
+      if (_t==ERROR) break;
+      _t=__Parser_149(p,n,s);
+      if (_t==ERROR) break;
+      _t=__act150(p,n,s);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p146, _pos); _pos=_p146; }
+    _t=_memoize(_base+34, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+34, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+34, _start, _pos, _t); return _t;
+  }  public Object parserEnd() {
+        out.w("\n");
+        for (Object m : methods) out.w(m);
+        out.w("\n",
+            "  static final int _base = ", sname, "._rules;\n",
+            "  public static final int _rules = _base + ", rules.size(), ";\n",
+            "  static final String[] _names = {", (rules.size() > 0)?w(" \"", join(rules, "\", \""), "\" "):"", "};\n",
+            "  public String _ruleName(int id) {\n",
+            "    if (id < _base) return super._ruleName(id);\n",
+            "    return _names[id - _base];\n",
+            "  }\n",
+
+            "  static final java.util.HashMap<String, Integer> _ids = _ids(", sname, "._ids, _base, _names);\n",
+            "  public int _ruleId(String r) {\n",
+            "    Integer id = _ids.get(r);\n",
+            "    return (id == null)? super._ruleId(r) : id;\n",
+            "  }\n",
+
+            "  public Object _call(int id) {\n",
+            "    switch (id - _base) {\n"
+        );
+        for (int i = 0; i < rules.size(); i++) out.w("      case ", i, ": return ", rules.get(i), "();\n");
+        out.w(
+            "      default: return super._call(id);\n",
+            "    }\n",
+            "  }"
+        );
+        reset();
+        return out.nl().close().w("\n");
+    }
+
+  public Object Method() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+35, _start);
+    Object c=null;
+    int _p151=_pos; _t=ERROR; do { //and
+      _t=_any();
+      c=_t;
+      if (_t==ERROR) break;
+      _t=__act152(c);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p151, _pos); _pos=_p151; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+35, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+35, _start, _pos, _t); return _t;
+  }
+  public Object Field() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+36, _start);
+    Object c=null;
+    int _p153=_pos; _t=ERROR; do { //and
+      _t=_any();
+      c=_t;
+      if (_t==ERROR) break;
+      _t=__act154(c);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p153, _pos); _pos=_p153; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+36, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+36, _start, _pos, _t); return _t;
+  }
+  public Object Package() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+37, _start);
+    Object c=null;
+    int _p155=_pos; _t=ERROR; do { //and
+      _t=_any();
+      c=_t;
+      if (_t==ERROR) break;
+      _t=__act156(c);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p155, _pos); _pos=_p155; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+37, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+37, _start, _pos, _t); return _t;
+  }
+  public Object Import() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+38, _start);
+    Object c=null;
+    int _p157=_pos; _t=ERROR; do { //and
+      _t=_any();
+      c=_t;
+      if (_t==ERROR) break;
+      _t=__act158(c);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p157, _pos); _pos=_p157; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+38, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+38, _start, _pos, _t); return _t;
+  }
+  public Object Class() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+39, _start);
+    Object c=null;
+    int _p159=_pos; _t=ERROR; do { //and
+      _t=_any();
+      c=_t;
+      if (_t==ERROR) break;
+      _t=__act160(c);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p159, _pos); _pos=_p159; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+39, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+39, _start, _pos, _t); return _t;
+  }
+  public Object Line() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+40); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+40, _start);
+    Object ws=null;    do {
+    int _p161=_pos; _t=ERROR; do { //and
+      _t=_any();
+      ws=_t;
+      if (_t==ERROR) break;
+      _t=__act162(ws);
+      if (_t==ERROR) break;
+      _t=trans();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p161, _pos); _pos=_p161; }
+    _t=_memoize(_base+40, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+40, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+40, _start, _pos, _t); return _t;
+  }
+  public Object File() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+41); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+41, _start);
+    Object xs=null;    do {
+    int _p163=_pos; _t=ERROR; do { //and
+      int _l164=_pos;
+      int _l165=_loop(_base+41, 165);
+      java.util.ArrayList<Object> as165=_loopList(_l165);
+      while (true) { //many
+        _t=_any();
+        if (_t==ERROR) break; else as165.add(_t);
+        _loopNext(_l165);
+      } _loopEnd(_l165); _t=as165;
+      xs=_t;
+      if (_t!=ERROR) { _pos=_l164; }
+      if (_t==ERROR) break;
+      _t=__act166(xs);
+      if (_t==ERROR) break;
+      _t=__File_168(xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p163, _pos); _pos=_p163; }
+    _t=_memoize(_base+41, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+41, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+41, _start, _pos, _t); return _t;
+  }
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+42); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+42, _start);
+        do {
+    int _p169=_pos; _t=ERROR; do { //and
+      if (cutOnError) _cut();
+      _t=destruct();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__act170();
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p169, _pos); _pos=_p169; }
+    _t=_memoize(_base+42, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+42, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+42, _start, _pos, _t); return _t;
+  }
+
+  Object __destruct_2(Object t, Object r) { Object _t=null;
+    int _p1=_pos; _t=ERROR; do { //and
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=r;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p1, _pos); _pos=_p1; }
+    return _t;
+  }
+Object __act9(Object s){ return out.w(s); }
+
+  Object __transSep_10(Object s) { Object _t=null;
+    _t=ERROR; do{ //or
+      int _p5=_pos; _t=ERROR; do { //and
+        _t=trans();
+        if (_t==ERROR) break;
+        int _l6=_loop(_base+2, 6);
+        java.util.ArrayList<Object> as6=_loopList(_l6);
+        while (true) { //many
+          int _p7=_pos; _t=ERROR; do { //and
+            int _l8=_pos;
+            _t=_any();
+            if (_t!=ERROR) { _pos=_l8; }
+            if (_t==ERROR) break;
+            _t=__act9(s);
+            if (_t==ERROR) break;
+            _t=trans();
+            if (_t==ERROR) break;
+          } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; }
+          if (_t==ERROR) break; else as6.add(_t);
+          _loopNext(_l6);
+        } _loopEnd(_l6); _t=as6;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p5, _pos); _pos=_p5; }
+      if (_t!=ERROR) break;
+      _t=empty();
+      if (_t!=ERROR) break;
+    } while(false);
+    return _t;
+  }
+Object __act12(){ return out.open("new Object[] "); }
+Object __act13(){ return out.close(); }
+Object __act18(Object l, Object r){ return out.w((concatParts(l) + concatParts(r) == 2)? "concat(" : "concatAll("); }
+Object __act19(Object l, Object r){ return out.w(", "); }
+Object __act20(Object l, Object r){ return out.w(")"); }
+
+  Object __HConcat_21(Object l, Object r) { Object _t=null;
+    int _p17=_pos; _t=ERROR; do { //and
+      _t=__act18(l,r);
+      if (_t==ERROR) break;
+      _t=concatPart();
+      if (_t==ERROR) break;
+      _t=__act19(l,r);
+      if (_t==ERROR) break;
+      _t=concatPart();
+      if (_t==ERROR) break;
+      _t=__act20(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p17, _pos); _pos=_p17; }
+    return _t;
+  }
+static final Predict __predict22 = new Predict().list(0, "HConcat");
+Object __act25(){ return out.w(", "); }
+Object __act26(){ return out; }
+
+  Object __concatPart_27() { Object _t=null;
+    int _p23=_pos; _t=ERROR; do { //and
+      _t=_listBegin(); if (_t!=ERROR) {
+        int _p24=_pos; _t=ERROR; do { //and
+          _t=_sym("HConcat");
+          if (_t==ERROR) break;
+          _t=concatPart();
+          if (_t==ERROR) break;
+          _t=__act25();
+          if (_t==ERROR) break;
+          _t=concatPart();
+          if (_t==ERROR) break;
+        } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p24, _pos); _pos=_p24; }
+        _listEnd();
+      }
+      if (_t==ERROR) break;
+      _t=__act26();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p23, _pos); _pos=_p23; }
+    return _t;
+  }
+Object __act29(Object c){ return out.w("\"", Utils.escape(c), "\""); }
+Object __act31(Object c){ return out.w(c); }
+Object __act33(Object msg){
+        return new DoError(msg);
+    }
+Object __act34(){
+        return new DoError("", true);
+    }
+Object __act36(Object msg){
+        DoError e = new DoError(msg); e.resumed = true;
+        return e;
+    }
+Object __act38(Object n){
+        addLocal(n);
+        return out.nl().w(n, "=_t;");
+    }
+Object __act40(Object s){ return out.w("_t=_str(\"", Utils.escape(s), "\");"); }
+Object __act43(Object xs){
+        String var = genvar();
+        StringBuilder ls = new StringBuilder();
+        for (Object x : (ArrayList) xs) ls.append((ls.length() > 0)? ", " : "").append("\"").append(Utils.escape(x)).append("\"");
+        methods.add(w(
+            "static final Literals __literals", var, " = new Literals(", ls, ");\n"
+        ));
+        return out.w("_t=_strs(__literals", var, ");");
+    }
+Object __act45(Object s){ return out.w("_t=_sym(\"", s, "\");"); }
+Object __act48(Object neg, Object xs){
+        String var = genvar();
+        String name = Utils.className(neg, (ArrayList) xs);
+        StringBuilder b = new StringBuilder();
+        for (Object x : (ArrayList) xs) {
+            Object[] a = (Object[]) x;
+            if ("Str".equals(a[0])) b.append(".str(\"").append(Utils.escape(a[1])).append("\")");
+            else b.append(".range(").append((int) a[1].toString().charAt(0)).append(", ").append((int) a[2].toString().charAt(0)).append(")");
+        }
+        if (Boolean.TRUE.equals(neg)) b.append(".not()");
+        methods.add(w(
+            "static final CharClass __class", var, " = new CharClass(\"", Utils.escape(name), "\")", b, ";\n"
+        ));
+        return out.w("_t=_class(__class", var, ");");
+    }
+static final Predict __predict49 = new Predict().sym(0, "super").sym(1, "super");
+Object __act52(Object rule){ return out.w("_push("); }
+Object __act53(Object rule){ return out.w("); _t=super.", rule, "();"); }
+
+  Object __App_54() { Object _t=null;
+    Object rule=null;
+    int _p50=_pos; _t=ERROR; do { //and
+      _t=_sym("super");
+      if (_t==ERROR) break;
+      _t=_any();
+      rule=_t;
+      if (_t==ERROR) break;
+      int _l51=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l51; }
+      if (_t==ERROR) break;
+      _t=__act52(rule);
+      if (_t==ERROR) break;
+      _push(", "); _t=transSep();
+      if (_t==ERROR) break;
+      _t=__act53(rule);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p50, _pos); _pos=_p50; }
+    return _t;
+  }
+Object __act56(Object rule){ return out.w("_t=super.", rule, "();"); }
+
+  Object __App_57() { Object _t=null;
+    Object rule=null;
+    int _p55=_pos; _t=ERROR; do { //and
+      _t=_sym("super");
+      if (_t==ERROR) break;
+      _t=_any();
+      rule=_t;
+      if (_t==ERROR) break;
+      _t=__act56(rule);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p55, _pos); _pos=_p55; }
+    return _t;
+  }
+Object __act60(Object rule){ return out.w("_push("); }
+Object __act61(Object rule){ return out.w("); _t=", rule, "();"); }
+
+  Object __App_62() { Object _t=null;
+    Object rule=null;
+    int _p58=_pos; _t=ERROR; do { //and
+      _t=_any();
+      rule=_t;
+      if (_t==ERROR) break;
+      int _l59=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l59; }
+      if (_t==ERROR) break;
+      _t=__act60(rule);
+      if (_t==ERROR) break;
+      _push(", "); _t=transSep();
+      if (_t==ERROR) break;
+      _t=__act61(rule);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p58, _pos); _pos=_p58; }
+    return _t;
+  }
+Object __act64(Object rule){ return out.w("_t=", rule, "();"); }
+
+  Object __App_65() { Object _t=null;
+    Object rule=null;
+    int _p63=_pos; _t=ERROR; do { //and
+      _t=_any();
+      rule=_t;
+      if (_t==ERROR) break;
+      _t=__act64(rule);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p63, _pos); _pos=_p63; }
+    return _t;
+  }
+Object __act67(){ return out.w("_t="); }
+Object __act68(){ return out.w(";"); }
+Object __act70(Object expr){
+        String var = genvar();
+        methods.add(w(
+            "Object __act", var, "(", localsAsArgs(), "){", expr, "}\n"
+        ));
+        return out.w("_t=__act", var, "(", localsAsCall(), ");");
+    }
+Object __act72(Object expr){
+        String var = genvar();
+        methods.add(w(
+            "boolean __pred", var, "(", localsAsArgs(), "){", expr, "}\n"
+        ));
+        return out.w("if (!__pred", var, "(", localsAsCall(), ")) _t=ERROR;");
+    }
+Object __act74(){ return out.open("_t=ERROR; do").w(" //or"); }
+Object __act78(){ return out.nl(); }
+Object __act79(){ return out.nl().w("if (_t!=ERROR) break;"); }
+
+  Object __Or_80() { Object _t=null;
+    int _l75=_loop(_base+20, 75);
+    while (true) { //many
+      int _p76=_pos; _t=ERROR; do { //and
+        int _l77=_pos;
+        _t=_any();
+        if (_t!=ERROR) { _pos=_l77; }
+        if (_t==ERROR) break;
+        _t=__act78();
+        if (_t==ERROR) break;
+        _t=trans();
+        if (_t==ERROR) break;
+        _t=__act79();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p76, _pos); _pos=_p76; }
+      if (_t==ERROR) break;
+      _loopNext(_l75);
+    } _loopEnd(_l75); _t=null;
+    return _t;
+  }
+Object __act81(){ return out.nl().close(" while(false);"); }
+Object __act83(Object fs){ return predictBegin(fs); }
+Object __act84(Object fs, Object v){ return 0; }
+Object __act88(Object fs, Object v, Object i){ return predictAlt(v, fs, i); }
+Object __act89(Object fs, Object v, Object i){ return predictAltEnd(v, fs, i); }
+
+  Object __Predict_90(Object fs, Object v, Object i) { Object _t=null;
+    while (true) { //many
+      int _p86=_pos; _t=ERROR; do { //and
+        int _l87=_pos;
+        _t=_any();
+        if (_t!=ERROR) { _pos=_l87; }
+        if (_t==ERROR) break;
+        _t=__act88(fs,v,i);
+        if (_t==ERROR) break;
+        _t=trans();
+        if (_t==ERROR) break;
+        _t=__act89(fs,v,i);
+        i=_t;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p86, _pos); _pos=_p86; }
+      if (_t==ERROR) break;
+    } _t=null;
+    return _t;
+  }
+Object __act91(Object fs, Object v, Object i){ return predictEnd(v); }
+Object __act94(){ return andBegin(); }
+Object __act95(Object v){ return null; }
+Object __act99(Object v, Object err){ return out.nl(); }
+Object __act100(Object v, Object err, Object x){ return andNext(err, x); }
+
+  Object __And_101(Object v, Object err) { Object _t=null;
+    Object x=null;
+    while (true) { //many
+      int _p97=_pos; _t=ERROR; do { //and
+        int _l98=_pos;
+        _t=_any();
+        if (_t!=ERROR) { _pos=_l98; }
+        if (_t==ERROR) break;
+        _t=__act99(v,err);
+        if (_t==ERROR) break;
+        _t=trans();
+        x=_t;
+        if (_t==ERROR) break;
+        _t=__act100(v,err,x);
+        err=_t;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p97, _pos); _pos=_p97; }
+      if (_t==ERROR) break;
+    } _t=null;
+    return _t;
+  }
+Object __act102(Object v, Object err){ return out.nl().close(" while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p", v, ", _pos); _pos=_p", v, "; }"); }
+
+  Object __And_103() { Object _t=null;
+    Object v=null; Object err=null;
+    int _p92=_pos; _t=ERROR; do { //and
+      int _l93=_pos;
+      _t=_any();
+      if (_t!=ERROR) { _pos=_l93; }
+      if (_t==ERROR) break;
+      _t=__act94();
+      v=_t;
+      if (_t==ERROR) break;
+      _t=__act95(v);
+      err=_t;
+      if (_t==ERROR) break;
+      _t=__And_101(v,err);
+      if (_t==ERROR) break;
+      _t=__act102(v,err);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p92, _pos); _pos=_p92; }
+    return _t;
+  }
+Object __act104(){ return out; }
+Object __act107(Object x){ return manyBegin(x, false, true); }
+Object __act108(Object x, Object v){ return manyEnd(v, x, false, true); }
+Object __act111(Object x){ return manyBegin(x, true, true); }
+Object __act112(Object x, Object v){ return manyEnd(v, x, true, true); }
+Object __act115(Object x){ return manyBegin(x, false, false); }
+Object __act116(Object x, Object v){ return manyEnd(v, x, false, false); }
+Object __act119(Object x){ return manyBegin(x, true, false); }
+Object __act120(Object x, Object v){ return manyEnd(v, x, true, false); }
+Object __act122(){ return out.nl().w("if (_t==ERROR) if (_string != null) { _t=\"\"; } else { _t=null; }"); }
+Object __act124(){ return out.nl().w("_silent++;"); }
+Object __act125(){ return out.nl().w("_silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }"); }
+Object __act127(){ return position("_l"); }
+Object __act128(Object v){ return out.nl().w("if (_t!=ERROR) { _pos=_l", v, "; }"); }
+Object __act130(){ return position("_c"); }
+Object __act131(Object v){ return out.nl().w("if (_t!=ERROR) { _t=_capture(_c", v, "); }"); }
+Object __act133(){ return out.open("_t=_listBegin(); if (_t!=ERROR) ").nl(); }
+Object __act134(){ return out.nl().w("_listEnd();").nl().close(); }
+Object __act136(Object r){ return outlineBegin(); }
+Object __act137(Object r, Object s){ return outlineEnd(r, s); }
+Object __act140(Object n, Object b){ return ruleBegin(b); }
+
+  Object __Rule_143(Object n, Object b, Object s) { Object _t=null;
+    int _l142=_loop(_base+33, 142);
+    java.util.ArrayList<Object> as142=_loopList(_l142);
+    while (true) { //many
+      _t=_any();
+      if (_t==ERROR) break; else as142.add(_t);
+      _loopNext(_l142);
+    } _loopEnd(_l142); _t=as142;
+    return _t;
+  }
+Object __act144(Object n, Object b, Object s, Object as){ return ruleEnd(n, s, as); }
+
+  Object __Rule_145(Object n, Object b, Object s) { Object _t=null;
+    Object as=null;
+    int _p141=_pos; _t=ERROR; do { //and
+      _t=__Rule_143(n,b,s);
+      as=_t;
+      if (_t==ERROR) break;
+      _t=__act144(n,b,s,as);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p141, _pos); _pos=_p141; }
+    return _t;
+  }
+Object __act147(Object p, Object n, Object s){ name = (String)n; sname = (String)s; return out.w("\n", p, " class ", name, " extends ", sname, " ").open(); }
+
+  Object __Parser_149(Object p, Object n, Object s) { Object _t=null;
+    int _l148=_loop(_base+34, 148);
+    while (true) { //many
+      _t=trans();
+      if (_t==ERROR) break;
+      _loopNext(_l148);
+    } _loopEnd(_l148); _t=null;
+    return _t;
+  }
+Object __act150(Object p, Object n, Object s){ return parserEnd(); }
+Object __act152(Object c){ return out.w("  ", c, "\n"); }
+Object __act154(Object c){ return out.w("  ", c, "\n"); }
+Object __act156(Object c){ jpackage = c; return out; }
+Object __act158(Object c){ return out.w(c); }
+Object __act160(Object c){ return out.w(c); }
+Object __act162(Object ws){ return out.w(ws); }
+Object __act166(Object xs){
+        for (Object x : (ArrayList) xs) {
+            Object l = ((Object[]) x)[2];
+            if (l instanceof Object[] && "Package".equals(((Object[]) l)[0])) jpackage = ((Object[]) l)[1];
+        }
+        return out.w(
+            (jpackage != null)?(jpackage+"\n"):"",
+            "// generated by jmeta on ", new Date(), "\n",
+            "// do not modify, instead edit original .jmeta file\n",
+            (!embedded)?"import jmeta.*;\n":""
+        );
+    }
+
+  Object __File_168(Object xs) { Object _t=null;
+    int _l167=_loop(_base+41, 167);
+    java.util.ArrayList<Object> as167=_loopList(_l167);
+    while (true) { //many
+      _t=trans();
+      if (_t==ERROR) break; else as167.add(_t);
+      _loopNext(_l167);
+    } _loopEnd(_l167); _t=as167;
+    return _t;
+  }
+Object __act170(){ return out.toString(); }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 43;
+  static final String[] _names = { "destruct", "trans", "transSep", "HList", "HConcat", "concatPart", "HStr", "HLit", "Error", "Cut", "Throw", "Set", "Str", "Strs", "Sym", "Chars", "App", "SAct", "Act", "Pred", "Or", "Predict", "And", "Many", "Many1", "Skip", "Skip1", "Opt", "Not", "Peek", "Text", "List", "Outline", "Rule", "Parser", "Method", "Field", "Package", "Import", "Class", "Line", "File", "start" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return destruct();
+      case 1: return trans();
+      case 2: return transSep();
+      case 3: return HList();
+      case 4: return HConcat();
+      case 5: return concatPart();
+      case 6: return HStr();
+      case 7: return HLit();
+      case 8: return Error();
+      case 9: return Cut();
+      case 10: return Throw();
+      case 11: return Set();
+      case 12: return Str();
+      case 13: return Strs();
+      case 14: return Sym();
+      case 15: return Chars();
+      case 16: return App();
+      case 17: return SAct();
+      case 18: return Act();
+      case 19: return Pred();
+      case 20: return Or();
+      case 21: return Predict();
+      case 22: return And();
+      case 23: return Many();
+      case 24: return Many1();
+      case 25: return Skip();
+      case 26: return Skip1();
+      case 27: return Opt();
+      case 28: return Not();
+      case 29: return Peek();
+      case 30: return Text();
+      case 31: return List();
+      case 32: return Outline();
+      case 33: return Rule();
+      case 34: return Parser();
+      case 35: return Method();
+      case 36: return Field();
+      case 37: return Package();
+      case 38: return Import();
+      case 39: return Class();
+      case 40: return Line();
+      case 41: return File();
+      case 42: return start();
+      default: return super._call(id);
+    }
+  }
+}
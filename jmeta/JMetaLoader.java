@@ -0,0 +1,687 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.regex.*;
+
+import static jmeta.ClassFile.*;
+
+/// Compiles grammars straight to JVM bytecode and loads their parsers, without generating Java source or running javac.
+/// Use it to load grammars at runtime, like grammars defined by users:
+/// ```
+///     JMetaLoader loader = new JMetaLoader();
+///     loader.load("parser Sum extends Numbers { start: n=num ."+"! m=num { ['ADD, n, m] } ; }");
+///     Object ast = loader.newParser("Sum").parse("1 + 2");
+/// ```
+/// The parsers work like those generated by JMetaCompiler, including memoization, left recursion, cuts, prediction and
+/// listeners. Semantic actions and predicates that are Java code, `{ return ...; }` and `?{ ... }`, need javac; as do
+/// Java methods and fields in a parser body. Grammars using those are rejected with an IllegalArgumentException. What
+/// remains is the shorthand of actions, `{ ['ADD, l, r] + xs }`, and calls to rules.
+///
+/// To use Java anyway, put it in a parser compiled ahead of time, and extend that: a grammar may extend any BaseParser
+/// subclass that can be found by the parent class loader, like a parser generated by JMetaCompiler, or a parser loaded
+/// before by this loader. Its rules can be called and overridden, and rules with arguments are regular rules:
+/// ```
+///     parser Numbers {
+///         num: ds=$digit+ { return Integer.parseInt((String) ds); } ;
+///         int: s=_ { return Integer.parseInt((String) s); } ;   // called as int(s)
+///     }
+/// ```
+/// Each parser is defined once; loading a grammar with the name of a parser loaded before is an error. A loader, and
+/// all parsers it loaded, can be garbage collected once none of them are referenced.
+public class JMetaLoader extends ClassLoader {
+    static final String BASE = "jmeta/BaseParser";
+    static final String OBJECT = "Ljava/lang/Object;";
+    static final String RULE = "()Ljava/lang/Object;";
+    static final Pattern PACKAGE = Pattern.compile("package\\s+([\\w.]+)");
+    static final Pattern IMPORT = Pattern.compile("import\\s+([\\w.]+(\\.\\*)?)");
+
+    final LinkedHashMap<String, Class<? extends BaseParser>> parsers = new LinkedHashMap<String, Class<? extends BaseParser>>();
+
+    /// a loader whose parsers can extend the parsers found by the class loader of jmeta
+    public JMetaLoader() { this(JMetaLoader.class.getClassLoader()); }
+
+    /// a loader whose parsers can extend the parsers found by parent
+    public JMetaLoader(ClassLoader parent) { super(parent); }
+
+    /// compiles and defines the parsers in source; returns them by name, in the order they appear
+    ///
+    /// Throws a SyntaxError if source is not a valid grammar, and an IllegalArgumentException if it uses Java code, or
+    /// calls or extends what does not exist.
+    public synchronized Map<String, Class<? extends BaseParser>> load(String source) {
+        Object[] file = (Object[]) new JMetaParser().parse(source);
+        String pkg = null;
+        ArrayList<String> imports = new ArrayList<String>();
+        LinkedHashMap<String, Class<? extends BaseParser>> loaded = new LinkedHashMap<String, Class<? extends BaseParser>>();
+        for (int i = 1; i < file.length; i++) {
+            Object[] x = (Object[]) ((Object[]) file[i])[2];
+            String type = (String) x[0];
+            if (type.equals("Package")) {
+                Matcher m = PACKAGE.matcher((String) x[1]);
+                if (m.find()) pkg = m.group(1);
+            } else if (type.equals("Import")) {
+                Matcher m = IMPORT.matcher((String) x[1]);
+                if (m.find()) imports.add(m.group(1));
+            } else if (type.equals("Parser")) {
+                String name = (String) x[2];
+                if (parsers.containsKey(name)) throw new IllegalArgumentException("parser "+ name +": already loaded");
+                Class<?> sup = superclass((String) x[3], pkg, imports);
+                String binary = (pkg != null)? pkg +"."+ name : name;
+                byte[] bytes = new Compiler(binary.replace('.', '/'), sup, x).compile();
+                Class<? extends BaseParser> c = defineClass(binary, bytes, 0, bytes.length).asSubclass(BaseParser.class);
+                parsers.put(name, c);
+                loaded.put(name, c);
+            } else {
+                throw new IllegalArgumentException("Java code outside a parser needs javac: "+ x[1]);
+            }
+        }
+        return loaded;
+    }
+
+    /// returns a new instance of a parser loaded before
+    public BaseParser newParser(String name) {
+        Class<? extends BaseParser> c = parsers.get(name);
+        if (c == null) throw new IllegalArgumentException("parser "+ name +": not loaded");
+        try {
+            return c.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // the class a grammar extends: a parser loaded before, or a parser class the parent loader knows
+    Class<?> superclass(String name, String pkg, List<String> imports) {
+        if (parsers.containsKey(name)) return parsers.get(name);
+        ArrayList<String> names = new ArrayList<String>();
+        names.add(name);
+        if (pkg != null) names.add(pkg +"."+ name);
+        for (String i : imports) {
+            if (i.endsWith(".*")) names.add(i.substring(0, i.length() - 1) + name);
+            else if (i.endsWith("."+ name)) names.add(i);
+        }
+        names.add("jmeta."+ name);
+        for (String n : names) {
+            try {
+                Class<?> c = Class.forName(n, false, this);
+                if (!BaseParser.class.isAssignableFrom(c)) throw new IllegalArgumentException(n +": not a parser");
+                return c;
+            } catch (ClassNotFoundException e) {
+                // try the next
+            }
+        }
+        throw new IllegalArgumentException("parser "+ name +": not found");
+    }
+
+    /// compiles the AST of one parser, as made by JMetaParser, to a class file
+    static final class Compiler {
+        final String self, sup, name;
+        final Class<?> supClass;
+        final Object[] parser;
+        final ClassFile cf;
+        final ClassFile.Code clinit;
+        final ArrayList<String> rules = new ArrayList<String>();
+        int statics = 0;
+        int loops = 0;                        // numbers the repetitions, @see BaseParser._loop()
+
+        // the rule being compiled
+        ClassFile.Code c;
+        String rule;
+        int ruleId;
+        Object body;
+        int T;                                // the local holding _t
+        HashMap<String, Integer> vars;        // the locals of variables
+
+        Compiler(String self, Class<?> supClass, Object[] parser) {
+            this.self = self; this.supClass = supClass; this.parser = parser;
+            this.sup = supClass.getName().replace('.', '/');
+            this.name = (String) parser[2];
+            cf = new ClassFile(PUBLIC | SUPER, self, sup);
+            clinit = cf.method(STATIC, "<clinit>", "()V");
+        }
+
+        IllegalArgumentException unsupported(String what) {
+            return new IllegalArgumentException("parser "+ name + ((rule != null)? "."+ rule : "") +": "+ what);
+        }
+
+        byte[] compile() {
+            for (int i = 4; i < parser.length; i++) {
+                Object[] x = (Object[]) parser[i];
+                if (x[0].equals("Rule")) { rules.add((String) x[1]); continue; }
+                throw unsupported("Java "+ ((String) x[0]).toLowerCase() +"s need javac: "+ x[1]);
+            }
+            try {
+                supClass.getConstructor();
+            } catch (NoSuchMethodException e) {
+                throw unsupported(supClass.getName() +" has no public constructor without arguments");
+            }
+            for (int i = 4; i < parser.length; i++) rule((Object[]) parser[i]);
+            members();
+            return cf.toBytes();
+        }
+
+        // helpers for common sequences
+
+        void getT()      { c.aload(T); }
+        void setT()      { c.astore(T); }
+        void error()     { c.getstatic(BASE, "ERROR", "Ljmeta/ErrorObject;"); }
+        void ifError(Label l)    { getT(); error(); c.jump(IF_ACMPEQ, l); }
+        void ifNotError(Label l) { getT(); error(); c.jump(IF_ACMPNE, l); }
+        void getPos()    { c.aload(0); c.getfield(self, "_pos", "I"); }
+        void setPos(int l) { c.aload(0); c.iload(l); c.putfield(self, "_pos", "I"); }
+        void call(String m, String d) { c.invoke(INVOKEVIRTUAL, self, m, d); }
+        void id(int i)   { c.getstatic(self, "_base", "I"); c.iconst(i); c.op(IADD, -1); }
+
+        // if (listener!=null) listener.m(this, ...); where args pushes the rest of the arguments
+        void listener(String m, String d, Runnable args) {
+            Label skip = new Label();
+            c.aload(0); c.getfield(self, "listener", "Ljmeta/ParseListener;");
+            c.jump(IFNULL, skip);
+            c.aload(0); c.getfield(self, "listener", "Ljmeta/ParseListener;");
+            c.aload(0);
+            args.run();
+            c.invoke(INVOKEINTERFACE, "jmeta/ParseListener", m, d);
+            c.place(skip);
+        }
+
+        // a static field holding a CharClass, Literals or Predict, created in the static initializer
+        String newStatic(String prefix, String type) {
+            String f = prefix + statics++;
+            cf.field(STATIC | FINAL, f, "L"+ type +";");
+            clinit.type(NEW, type); clinit.op(DUP, 1);
+            return f;
+        }
+
+        void rule(Object[] x) {
+            rule = (String) x[1];
+            final int id = rules.indexOf(rule);
+            ruleId = id; body = x[2];
+            boolean memo = true;
+            for (int i = 3; i < x.length; i++) if ("nomemo".equals(x[i])) memo = false;
+            for (int i = 3; i < x.length; i++) if ("memo".equals(x[i])) memo = true;
+
+            c = cf.method(PUBLIC, rule, RULE);
+            T = c.local(1);
+            final int start = c.local(1);
+            int key = memo? c.local(1) : -1;
+            int exp = c.local(1);
+            vars = new HashMap<String, Integer>();
+            variables(x[2]);
+
+            c.op(ACONST_NULL, 1); setT();
+            getPos(); c.istore(start);
+            if (memo) {
+                Label compute = new Label();
+                c.aload(0); id(id); call("_retrieve", "(I)"+ OBJECT); setT();
+                getT(); c.aload(0); c.getfield(self, "NOT_MEMOIZED", OBJECT); c.jump(IF_ACMPEQ, compute);
+                getT(); c.op(ARETURN, -1);
+                c.place(compute);
+                c.aload(0); c.getfield(self, "_argkey", OBJECT); c.astore(key);
+            }
+            c.aload(0); c.iload(start); call("_expecting", "(I)I"); c.istore(exp);
+            listener("enter", "(Ljmeta/BaseParser;II)V", new Runnable() { public void run() { id(id); c.iload(start); }});
+            for (int v : vars.values()) { c.op(ACONST_NULL, 1); c.astore(v); }
+
+            Label grow = new Label(), ok = new Label();
+            c.place(grow);
+            node(x[2]);
+            if (memo) {
+                c.aload(0); id(id); c.aload(key); c.iload(start); getT();
+                call("_memoize", "(I"+ OBJECT +"I"+ OBJECT +")"+ OBJECT); setT();
+                getT(); c.aload(0); c.getfield(self, "GROW", OBJECT); c.jump(IF_ACMPEQ, grow);
+                ifNotError(ok);
+            } else {
+                ifNotError(ok);
+                setPos(start);
+            }
+            c.aload(0); id(id); c.iload(start); c.iload(exp); call("_fail", "(III)V");
+            c.place(ok);
+            listener("exit", "(Ljmeta/BaseParser;IIILjava/lang/Object;)V", new Runnable() { public void run() {
+                id(id); c.iload(start); getPos(); getT();
+            }});
+            getT(); c.op(ARETURN, -1);
+            rule = null;
+        }
+
+        // gives each variable of a rule a local
+        void variables(Object x) {
+            if (!(x instanceof Object[])) return;
+            Object[] a = (Object[]) x;
+            if ("Set".equals(a[0]) && !vars.containsKey(a[1])) vars.put((String) a[1], c.local(1));
+            for (Object o : a) variables(o);
+        }
+
+        // emits the code of a node of the AST; it leaves its result in _t
+        void node(Object o) {
+            Object[] x = (Object[]) o;
+            String type = (String) x[0];
+            if (type.equals("Str"))        { c.aload(0); c.sconst((String) x[1]); call("_str", "(Ljava/lang/String;)"+ OBJECT); setT(); }
+            else if (type.equals("Sym"))   { c.aload(0); c.sconst((String) x[1]); call("_sym", "(Ljava/lang/String;)"+ OBJECT); setT(); }
+            else if (type.equals("Strs"))  strs(x);
+            else if (type.equals("Chars")) chars(x);
+            else if (type.equals("App"))   app(x);
+            else if (type.equals("SAct"))  { host(x[1]); setT(); }
+            else if (type.equals("Act"))   throw unsupported("Java actions need javac: {"+ x[1] +"}");
+            else if (type.equals("Pred"))  throw unsupported("Java predicates need javac: ?{"+ x[1] +"}");
+            else if (type.equals("Error") || type.equals("Throw")) { }
+            else if (type.equals("Cut"))   { c.aload(0); call("_cut", "()V"); }
+            else if (type.equals("Or"))    or(x);
+            else if (type.equals("Predict")) predict(x);
+            else if (type.equals("And"))   and(x);
+            else if (type.equals("Many"))  many(x[1], false, true);
+            else if (type.equals("Many1")) many(x[1], true,  true);
+            else if (type.equals("Skip"))  many(x[1], false, false);
+            else if (type.equals("Skip1")) many(x[1], true,  false);
+            else if (type.equals("Opt"))   opt(x[1]);
+            else if (type.equals("Not"))   not(x[1]);
+            else if (type.equals("Peek"))  peek(x[1], false);
+            else if (type.equals("Text"))  peek(x[1], true);
+            else if (type.equals("List"))  list(x[1]);
+            else if (type.equals("Set"))   { node(x[2]); getT(); c.astore(vars.get(x[1])); }
+            else if (type.equals("Outline")) outline(x);
+            else throw unsupported("unknown expression: "+ type);
+        }
+
+        // a part of a rule in a method of its own, see JMetaOptimizer.outline; all variables of the rule are passed in,
+        // what it sets is not used outside of it
+        void outline(Object[] x) {
+            String m = "__"+ x[1] +"_"+ statics++;
+            ArrayList<String> names = new ArrayList<String>(vars.keySet());
+            StringBuilder d = new StringBuilder("(");
+            for (int i = 0; i < names.size(); i++) d.append(OBJECT);
+            String desc = d.append(")").append(OBJECT).toString();
+            c.aload(0);
+            for (String n : names) c.aload(vars.get(n));
+            call(m, desc); setT();
+
+            ClassFile.Code code = c;
+            HashMap<String, Integer> rvars = vars;
+            int t = T;
+            c = cf.method(0, m, desc);
+            vars = new HashMap<String, Integer>();
+            for (int i = 0; i < names.size(); i++) vars.put(names.get(i), i + 1);
+            T = c.local(1);
+            c.op(ACONST_NULL, 1); setT();
+            node(x[2]);
+            getT(); c.op(ARETURN, -1);
+            c = code; vars = rvars; T = t;
+        }
+
+        void strs(Object[] x) {
+            String f = newStatic("__literals", "jmeta/Literals");
+            clinit.iconst(x.length - 1); clinit.type(ANEWARRAY, "java/lang/String");
+            for (int i = 1; i < x.length; i++) {
+                clinit.op(DUP, 1); clinit.iconst(i - 1); clinit.sconst((String) x[i]); clinit.op(AASTORE, -3);
+            }
+            clinit.invoke(INVOKESPECIAL, "jmeta/Literals", "<init>", "([Ljava/lang/String;)V");
+            clinit.putstatic(self, f, "Ljmeta/Literals;");
+            c.aload(0); c.getstatic(self, f, "Ljmeta/Literals;"); call("_strs", "(Ljmeta/Literals;)"+ OBJECT); setT();
+        }
+
+        void chars(Object[] x) {
+            String name = Utils.className(x[1], Arrays.asList(x).subList(2, x.length));
+
+            String f = newStatic("__class", "jmeta/CharClass");
+            String cc = "Ljmeta/CharClass;";
+            clinit.sconst(name); clinit.invoke(INVOKESPECIAL, "jmeta/CharClass", "<init>", "(Ljava/lang/String;)V");
+            for (int i = 2; i < x.length; i++) {
+                Object[] a = (Object[]) x[i];
+                if ("Str".equals(a[0])) {
+                    clinit.sconst((String) a[1]); clinit.invoke(INVOKEVIRTUAL, "jmeta/CharClass", "str", "(Ljava/lang/String;)"+ cc);
+                } else {
+                    clinit.iconst(a[1].toString().charAt(0)); clinit.iconst(a[2].toString().charAt(0));
+                    clinit.invoke(INVOKEVIRTUAL, "jmeta/CharClass", "range", "(II)"+ cc);
+                }
+            }
+            if (Boolean.TRUE.equals(x[1])) clinit.invoke(INVOKEVIRTUAL, "jmeta/CharClass", "not", "()"+ cc);
+            clinit.putstatic(self, f, cc);
+            c.aload(0); c.getstatic(self, f, cc); call("_class", "("+ cc +")"+ OBJECT); setT();
+        }
+
+        void app(Object[] x) {
+            boolean isSuper = "super".equals(x[1]) && x.length > 2;
+            String r = (String) x[isSuper? 2 : 1];
+            int first = isSuper? 3 : 2;
+            if (!(!isSuper && rules.contains(r)) && !hasRule(supClass, r))
+                throw unsupported("no rule "+ (isSuper? "super." : "") + r);
+            if (x.length > first) {
+                c.aload(0);
+                array(Arrays.copyOfRange(x, first, x.length));
+                call("_push", "([Ljava/lang/Object;)V");
+            }
+            c.aload(0);
+            if (isSuper) c.invoke(INVOKESPECIAL, sup, r, RULE); else call(r, RULE);
+            setT();
+        }
+
+        // the nearest super class declaring a static field f that this class can read; generated parsers declare some
+        // package private, then the rules of the super class are found by calling its methods instead
+        String visible(String f) {
+            for (Class<?> c = supClass; c != null; c = c.getSuperclass()) {
+                try {
+                    int m = c.getDeclaredField(f).getModifiers();
+                    if (Modifier.isPublic(m) || Modifier.isProtected(m)) return c.getName().replace('.', '/');
+                } catch (NoSuchFieldException e) {
+                    // look further up
+                }
+            }
+            return BASE;
+        }
+
+        // if c or a super class has a rule r: a method r() returning an Object that a subclass can call
+        static boolean hasRule(Class<?> c, String r) {
+            for (; c != null; c = c.getSuperclass()) {
+                for (Method m : c.getDeclaredMethods()) {
+                    if (!m.getName().equals(r) || m.getParameterTypes().length != 0) continue;
+                    return m.getReturnType() == Object.class && !Modifier.isPrivate(m.getModifiers());
+                }
+            }
+            return false;
+        }
+
+        // pushes the value of a semantic action, like `['ADD, l, r] + rs`
+        void host(Object o) {
+            Object[] x = (Object[]) o;
+            String type = (String) x[0];
+            if (type.equals("HList")) array(Arrays.copyOfRange(x, 1, x.length));
+            else if (type.equals("HStr")) c.sconst((String) x[1]);
+            else if (type.equals("HConcat")) {
+                ArrayList<Object> parts = new ArrayList<Object>();
+                concatParts(x, parts);
+                if (parts.size() == 2) {
+                    host(parts.get(0)); host(parts.get(1));
+                    c.invoke(INVOKESTATIC, BASE, "concat", "("+ OBJECT + OBJECT +")"+ OBJECT);
+                } else {
+                    array(parts.toArray());
+                    c.invoke(INVOKESTATIC, BASE, "concatAll", "([Ljava/lang/Object;)"+ OBJECT);
+                }
+            } else if (type.equals("HLit")) {
+                String s = (String) x[1];
+                if (vars.containsKey(s)) c.aload(vars.get(s));
+                else if (s.equals("null")) c.op(ACONST_NULL, 1);
+                else if (s.equals("true") || s.equals("false")) c.getstatic("java/lang/Boolean", s.toUpperCase(), "Ljava/lang/Boolean;");
+                else if (s.matches("[-+]?[0-9]+")) {
+                    try {
+                        c.iconst(Integer.parseInt(s));
+                    } catch (NumberFormatException e) {
+                        throw unsupported("number too large: "+ s);
+                    }
+                    c.invoke(INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;");
+                } else throw unsupported("Java expressions need javac: "+ s);
+            } else throw unsupported("unknown expression: "+ type);
+        }
+        void concatParts(Object o, ArrayList<Object> parts) {
+            Object[] x = (Object[]) o;
+            if (!"HConcat".equals(x[0])) { parts.add(o); return; }
+            concatParts(x[1], parts); concatParts(x[2], parts);
+        }
+        // pushes a new Object[] of the values of xs
+        void array(Object[] xs) {
+            c.iconst(xs.length); c.type(ANEWARRAY, "java/lang/Object");
+            for (int i = 0; i < xs.length; i++) { c.op(DUP, 1); c.iconst(i); host(xs[i]); c.op(AASTORE, -3); }
+        }
+
+        void or(Object[] x) {
+            Label end = new Label();
+            error(); setT();
+            for (int i = 1; i < x.length; i++) { node(x[i]); ifNotError(end); }
+            c.place(end);
+        }
+
+        void predict(Object[] x) {
+            Object[] fs = (Object[]) x[1];
+            String f = newStatic("__predict", "jmeta/Predict");
+            String p = "Ljmeta/Predict;";
+            clinit.invoke(INVOKESPECIAL, "jmeta/Predict", "<init>", "()V");
+            for (int i = 0; i < fs.length; i++) {
+                if (fs[i] == null) continue;
+                String cs = "";
+                ArrayList<String> es = new ArrayList<String>();
+                for (Object ch : (Object[]) fs[i]) {
+                    if (ch instanceof Character) { cs = cs + ch; continue; }
+                    if ("\"=<)".indexOf(((String) ch).charAt(0)) >= 0) { es.add((String) ch); continue; }
+                    boolean list = ((String) ch).startsWith("[");
+                    clinit.iconst(i); clinit.sconst(list? ((String) ch).substring(1) : (String) ch);
+                    clinit.invoke(INVOKEVIRTUAL, "jmeta/Predict", list? "list" : "sym", "(ILjava/lang/String;)"+ p);
+                }
+                if (cs.length() > 0) {
+                    clinit.iconst(i); clinit.sconst(cs);
+                    clinit.invoke(INVOKEVIRTUAL, "jmeta/Predict", "chars", "(ILjava/lang/String;)"+ p);
+                }
+                // what it expects when it is skipped, after its chars, see JMetaPredict.expected()
+                for (String e : es) {
+                    clinit.iconst(i);
+                    if (e.equals(")")) { clinit.invoke(INVOKEVIRTUAL, "jmeta/Predict", "end", "(I)"+ p); continue; }
+                    clinit.sconst(e.substring(1));
+                    String m = e.startsWith("=")? "rule" : e.startsWith("<")? "cls" : "str";
+                    clinit.invoke(INVOKEVIRTUAL, "jmeta/Predict", m, "(ILjava/lang/String;)"+ p);
+                }
+            }
+            clinit.putstatic(self, f, p);
+
+            // the prediction only holds for parsers of exactly this class, see JMetaCompiler
+            int m = c.local(2);
+            Label other = new Label(), predicted = new Label(), end = new Label();
+            c.aload(0); call("getClass", "()Ljava/lang/Class;"); c.cconst(self); c.jump(IF_ACMPNE, other);
+            c.getstatic(self, f, p); c.aload(0); c.invoke(INVOKEVIRTUAL, "jmeta/Predict", "mask", "(Ljmeta/BaseParser;)J");
+            c.lstore(m); c.jump(GOTO, predicted);
+            c.place(other);
+            c.lconst(-1L); c.lstore(m);
+            c.place(predicted);
+            error(); setT();
+            for (int i = 2; i < x.length; i++) {
+                Label skip = new Label();
+                if (fs[i - 2] != null) {
+                    c.lload(m); c.lconst(1L << (i - 2)); c.op(LAND, -2); c.lconst(0L); c.op(LCMP, -3); c.jump(IFEQ, skip);
+                }
+                node(x[i]);
+                ifNotError(end);
+                c.place(skip);
+            }
+            // failed, the skipped alternatives still record what they expected
+            c.getstatic(self, f, p); c.aload(0); c.lload(m);
+            c.invoke(INVOKEVIRTUAL, "jmeta/Predict", "expect", "(Ljmeta/BaseParser;J)V");
+            c.place(end);
+            c.free(m);
+        }
+
+        void and(Object[] x) {
+            if (x.length == 1) return;
+            final int p = c.local(1);
+            Label fail = new Label(), end = new Label();
+            getPos(); c.istore(p);
+            error(); setT();
+            String err = null;
+            for (int i = 1; i < x.length; i++) {
+                Object[] e = (Object[]) x[i];
+                if (e[0].equals("Error") || e[0].equals("Cut") || e[0].equals("Throw")) {
+                    if (e[0].equals("Throw")) {
+                        err = (String) e[1];
+                    } else if (e[0].equals("Error")) {
+                        err = (String) e[1];
+                        if (err.contains("\"+")) throw unsupported("error messages with ${...} need javac: \""+ err +"\"");
+                        Label skip = new Label();
+                        c.aload(0); c.getfield(self, "cutOnError", "Z"); c.jump(IFEQ, skip);
+                        c.aload(0); call("_cut", "()V");
+                        c.place(skip);
+                    } else {
+                        err = "";
+                        c.aload(0); call("_cut", "()V");
+                    }
+                    continue;
+                }
+                node(e);
+                if (err != null) {
+                    Label ok = new Label();
+                    ifNotError(ok);
+                    c.type(NEW, "jmeta/SyntaxError"); c.op(DUP, 1); c.sconst(err); c.aload(0);
+                    c.invoke(INVOKESPECIAL, "jmeta/SyntaxError", "<init>", "(Ljava/lang/String;Ljmeta/BaseParser;)V");
+                    c.op(ATHROW, -1);
+                    c.place(ok);
+                } else {
+                    ifError(fail);
+                }
+            }
+            ifNotError(end);
+            c.place(fail);
+            listener("backtrack", "(Ljmeta/BaseParser;II)V", new Runnable() { public void run() { c.iload(p); getPos(); }});
+            setPos(p);
+            c.place(end);
+            c.free(p);
+        }
+
+        // list is false if the results are not used, then no list is build and the result is null; a many1 fails if
+        // the loop ends without any match, which without a list is kept in an int. A push parse that is suspended
+        // resumes the loop after its last complete iteration, @see BaseParser._loop()
+        void many(Object x, boolean many1, boolean list) {
+            int as = c.local(1);
+            Label loop = new Label(), exit = new Label(), none = new Label();
+            int m = JMetaCompiler.resumable(body, x)? c.local(1) : -1;
+            if (m >= 0) { c.aload(0); id(ruleId); c.iconst(loops++); call("_loop", "(II)I"); c.istore(m); }
+            if (list && m >= 0) {
+                c.aload(0); c.iload(m); call("_loopList", "(I)Ljava/util/ArrayList;"); c.astore(as);
+            } else if (list) {
+                c.type(NEW, "java/util/ArrayList"); c.op(DUP, 1);
+                c.invoke(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V");
+                c.astore(as);
+            } else if (many1 && m >= 0) {
+                c.aload(0); c.iload(m); call("_loopAny", "(I)Z"); c.istore(as);
+            } else if (many1) {
+                c.iconst(0); c.istore(as);
+            }
+            c.place(loop);
+            node(x);
+            ifError(exit);
+            if (list) add(as);
+            else if (many1) { c.iconst(1); c.istore(as); }
+            if (m >= 0) { c.aload(0); c.iload(m); call("_loopNext", "(I)V"); }
+            c.jump(GOTO, loop);
+            c.place(exit);
+            if (m >= 0) { c.aload(0); c.iload(m); call("_loopEnd", "(I)V"); }
+            if (many1) {
+                if (list) {
+                    c.aload(as); c.invoke(INVOKEVIRTUAL, "java/util/ArrayList", "isEmpty", "()Z");
+                    c.jump(IFNE, none);
+                } else {
+                    c.iload(as); c.jump(IFEQ, none);
+                }
+            }
+            if (list) c.aload(as); else c.op(ACONST_NULL, 1);
+            setT();
+            c.place(none);
+            c.free(as);
+        }
+        void add(int as) {
+            c.aload(as); getT(); c.invoke(INVOKEVIRTUAL, "java/util/ArrayList", "add", "("+ OBJECT +")Z"); c.op(POP, -1);
+        }
+
+        void opt(Object x) {
+            Label end = new Label(), list = new Label();
+            node(x);
+            ifNotError(end);
+            c.aload(0); c.getfield(self, "_string", "Ljava/lang/CharSequence;"); c.jump(IFNULL, list);
+            c.sconst(""); setT(); c.jump(GOTO, end);
+            c.place(list);
+            c.op(ACONST_NULL, 1); setT();
+            c.place(end);
+        }
+
+        void not(Object x) {
+            Label matched = new Label(), end = new Label();
+            silent(1);
+            node(x);
+            silent(-1);
+            ifNotError(matched);
+            c.getstatic("java/lang/Boolean", "TRUE", "Ljava/lang/Boolean;"); setT(); c.jump(GOTO, end);
+            c.place(matched);
+            error(); setT();
+            c.place(end);
+        }
+
+        // _silent += n
+        void silent(int n) {
+            c.aload(0); c.op(DUP, 1); c.getfield(self, "_silent", "I"); c.iconst(n); c.op(IADD, -1);
+            c.putfield(self, "_silent", "I");
+        }
+
+        // &x, or $x if text, which also returns the input x matched
+        void peek(Object x, boolean text) {
+            int l = c.local(1);
+            Label end = new Label();
+            getPos(); c.istore(l);
+            node(x);
+            ifError(end);
+            if (text) { c.aload(0); c.iload(l); call("_capture", "(I)"+ OBJECT); setT(); }
+            else setPos(l);
+            c.place(end);
+            c.free(l);
+        }
+
+        void list(Object x) {
+            Label end = new Label();
+            c.aload(0); call("_listBegin", RULE); setT();
+            ifError(end);
+            node(x);
+            c.aload(0); call("_listEnd", "()V");
+            c.place(end);
+        }
+
+        // the constructor, the tables of rule names and ids, and the static initializer
+        void members() {
+            ClassFile.Code m = cf.method(PUBLIC, "<init>", "()V");
+            m.aload(0); m.invoke(INVOKESPECIAL, sup, "<init>", "()V"); m.op(RETURN, 0);
+
+            String map = "Ljava/util/HashMap;";
+            cf.field(STATIC | FINAL, "_base", "I");
+            cf.field(PUBLIC | STATIC | FINAL, "_rules", "I");
+            cf.field(STATIC | FINAL, "_names", "[Ljava/lang/String;");
+            cf.field(PUBLIC | STATIC | FINAL, "_ids", map);
+
+            m = cf.method(PUBLIC, "_ruleName", "(I)Ljava/lang/String;");
+            Label inherited = new Label();
+            m.iload(1); m.getstatic(self, "_base", "I"); m.jump(IF_ICMPLT, inherited);
+            m.getstatic(self, "_names", "[Ljava/lang/String;"); m.iload(1); m.getstatic(self, "_base", "I"); m.op(ISUB, -1);
+            m.op(AALOAD, -1); m.op(ARETURN, -1);
+            m.place(inherited);
+            m.aload(0); m.iload(1); m.invoke(INVOKESPECIAL, sup, "_ruleName", "(I)Ljava/lang/String;"); m.op(ARETURN, -1);
+
+            m = cf.method(PUBLIC, "_ruleId", "(Ljava/lang/String;)I");
+            Label found = new Label();
+            int id = m.local(1);
+            m.getstatic(self, "_ids", map); m.aload(1); m.invoke(INVOKEVIRTUAL, "java/util/HashMap", "get", "("+ OBJECT +")"+ OBJECT);
+            m.type(CHECKCAST, "java/lang/Integer"); m.astore(id);
+            m.aload(id); m.jump(IFNONNULL, found);
+            m.aload(0); m.aload(1); m.invoke(INVOKESPECIAL, sup, "_ruleId", "(Ljava/lang/String;)I"); m.op(IRETURN, -1);
+            m.place(found);
+            m.aload(id); m.invoke(INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I"); m.op(IRETURN, -1);
+
+            m = cf.method(PUBLIC, "_call", "(I)"+ OBJECT);
+            Label dflt = new Label();
+            if (rules.size() > 0) {
+                Label[] cases = new Label[rules.size()];
+                for (int i = 0; i < cases.length; i++) cases[i] = new Label();
+                m.iload(1); m.getstatic(self, "_base", "I"); m.op(ISUB, -1);
+                m.tableswitch(dflt, cases);
+                for (int i = 0; i < cases.length; i++) {
+                    m.place(cases[i]);
+                    m.aload(0); m.invoke(INVOKEVIRTUAL, self, rules.get(i), RULE); m.op(ARETURN, -1);
+                }
+            }
+            m.place(dflt);
+            m.aload(0); m.iload(1); m.invoke(INVOKESPECIAL, sup, "_call", "(I)"+ OBJECT); m.op(ARETURN, -1);
+
+            clinit.getstatic(visible("_rules"), "_rules", "I"); clinit.putstatic(self, "_base", "I");
+            clinit.getstatic(self, "_base", "I"); clinit.iconst(rules.size()); clinit.op(IADD, -1);
+            clinit.putstatic(self, "_rules", "I");
+            clinit.iconst(rules.size()); clinit.type(ANEWARRAY, "java/lang/String");
+            for (int i = 0; i < rules.size(); i++) {
+                clinit.op(DUP, 1); clinit.iconst(i); clinit.sconst(rules.get(i)); clinit.op(AASTORE, -3);
+            }
+            clinit.putstatic(self, "_names", "[Ljava/lang/String;");
+            clinit.getstatic(visible("_ids"), "_ids", map); clinit.getstatic(self, "_base", "I"); clinit.getstatic(self, "_names", "[Ljava/lang/String;");
+            clinit.invoke(INVOKESTATIC, BASE, "_ids", "("+ map +"I[Ljava/lang/String;)"+ map);
+            clinit.putstatic(self, "_ids", map);
+            clinit.op(RETURN, 0);
+        }
+    }
+}
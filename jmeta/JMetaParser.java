@@ -0,0 +1,4006 @@
+package jmeta;
+// generated by jmeta on Sat Oct 17 02:06:18 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+
+import java.util.*;
+
+
+public class JMetaParser extends BaseParser {  public static void main(String[] args) {
+        boolean embed = false;
+        if (args.length < 1) {
+            System.out.println("JMetaParser <input> [--embed], or see JMetaBuild to compile many inputs");
+            System.exit(2);
+        }
+        if (args.length > 1 && args[1].equals("--embed")) {
+            embed = true;
+        }
+        if (args.length > 2 || (args.length == 2 && !embed)) {
+            // more than one input, or other options
+            System.exit(JMetaBuild.run(args));
+        }
+        try {
+            CharSequence input = MappedInput.open(args[0]+".jmeta");
+            JMetaCompiler compiler = new JMetaCompiler(); compiler.embedded = embed;
+            Object ast;
+            try { ast = new JMetaParser().parse(input); }
+            finally { if (input instanceof java.io.Closeable) ((java.io.Closeable) input).close(); }
+            java.io.Writer output = Utils.openFile(args[0]+".java");
+            try { compiler.compile(ast, output); } finally { output.close(); }
+            System.exit(0);
+        } catch (SyntaxError ex) {
+            ex.printStackTrace();
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        System.exit(1);
+    }
+
+  public Object fromTo() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object x=null; Object y=null;
+    int _p0=_pos; _t=ERROR; do { //and
+      _t=_any();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      y=_t;
+      if (_t==ERROR) break;
+      _push(x); _t=str();
+      if (_t==ERROR) break;
+      _t=__fromTo_3(x,y);
+      if (_t==ERROR) break;
+      _push(y); _t=str();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+0, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object sp() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+        do {
+    _t=ERROR; do{ //or
+      _t=super.sp();
+      if (_t!=ERROR) break;
+      _push("//", "\n"); _t=fromTo();
+      if (_t!=ERROR) break;
+      _push("/*", "*/"); _t=fromTo();
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object ws() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+        do {
+    int _l4=_loop(_base+2, 4);
+    java.util.ArrayList<Object> as4=_loopList(_l4);
+    while (true) { //many
+      long _m5=(getClass()==JMetaParser.class)? __predict5.mask(this) : -1L;
+      _t=ERROR; do{ //predict
+        _t=sp();
+        if (_t!=ERROR) break;
+        if ((_m5 & 2L)!=0) {
+          _t=nl();
+          if (_t!=ERROR) break;
+        }
+      } while(false);
+      if (_t==ERROR) __predict5.expect(this, _m5);
+      if (_t==ERROR) break; else as4.add(_t);
+      _loopNext(_l4);
+    } _loopEnd(_l4); _t=as4;
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object listOf() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+    Object e=null; Object s=null;    do {
+    int _p6=_pos; _t=ERROR; do { //and
+      _t=_any();
+      e=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=__listOf_12(e,s);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p6, _pos); _pos=_p6; }
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object reserved_() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+    
+    _t=_strs(__literals13);
+    if (_t==ERROR) { _pos=_start; _fail(_base+4, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+  public Object reserved() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+5, _start);
+    
+    int _p14=_pos; _t=ERROR; do { //and
+      _t=reserved_();
+      if (_t==ERROR) break;
+      _silent++;_t=nameRest();
+      _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p14, _pos); _pos=_p14; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+5, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+  public Object nameFirst() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+6, _start);
+    
+    long _m15=(getClass()==JMetaParser.class)? __predict15.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m15 & 1L)!=0) {
+        _t=_str("_");
+        if (_t!=ERROR) break;
+      }
+      if ((_m15 & 2L)!=0) {
+        _t=letter();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict15.expect(this, _m15);
+    if (_t==ERROR) { _pos=_start; _fail(_base+6, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+  public Object nameRest() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+7, _start);
+    
+    long _m16=(getClass()==JMetaParser.class)? __predict16.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m16 & 1L)!=0) {
+        _t=nameFirst();
+        if (_t!=ERROR) break;
+      }
+      if ((_m16 & 2L)!=0) {
+        _t=digit();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict16.expect(this, _m16);
+    if (_t==ERROR) { _pos=_start; _fail(_base+7, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+  public Object name() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+8); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+8, _start);
+    Object n=null;    do {
+    int _p17=_pos; _t=ERROR; do { //and
+      _t=__name_18();
+      if (_t==ERROR) break;
+      _t=__name_22();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=n;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p17, _pos); _pos=_p17; }
+    _t=_memoize(_base+8, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+8, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+8, _start, _pos, _t); return _t;
+  }
+  public Object echar() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+9, _start);
+    Object c=null;
+    long _m23=(getClass()==JMetaParser.class)? __predict23.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m23 & 1L)!=0) {
+        int _p24=_pos; _t=ERROR; do { //and
+          _t=_str("\\");
+          if (_t==ERROR) break;
+          _t=_any();
+          c=_t;
+          if (_t==ERROR) break;
+          _t=__act25(c);
+          if (_t==ERROR) break;
+        } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p24, _pos); _pos=_p24; }
+        if (_t!=ERROR) break;
+      }
+      _t=_any();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict23.expect(this, _m23);
+    if (_t==ERROR) { _pos=_start; _fail(_base+9, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+9, _start, _pos, _t); return _t;
+  }
+  public Object tsString() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+10); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+10, _start);
+    Object xs=null;    do {
+    int _p26=_pos; _t=ERROR; do { //and
+      _t=_str("\"");
+      if (_t==ERROR) break;
+      _t=__tsString_29();
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=_str("\"");
+      if (_t==ERROR) break;
+      _t=__act30(xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p26, _pos); _pos=_p26; }
+    _t=_memoize(_base+10, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+10, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+10, _start, _pos, _t); return _t;
+  }
+  public Object dollar() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+11); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+11, _start);
+        do {
+    long _m31=(getClass()==JMetaParser.class)? __predict31.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m31 & 1L)!=0) {
+        _t=__dollar_35();
+        if (_t!=ERROR) break;
+      }
+      if ((_m31 & 2L)!=0) {
+        _t=__dollar_38();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict31.expect(this, _m31);
+    _t=_memoize(_base+11, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+11, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+11, _start, _pos, _t); return _t;
+  }
+  public Object dollarstring() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+12); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+12, _start);
+    Object xs=null;    do {
+    int _p39=_pos; _t=ERROR; do { //and
+      _t=_str("\"");
+      if (_t==ERROR) break;
+      _t=__dollarstring_43();
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=_str("\"");
+      if (_t==ERROR) break;
+      _t=__act44(xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p39, _pos); _pos=_p39; }
+    _t=_memoize(_base+12, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+12, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+12, _start, _pos, _t); return _t;
+  }
+  public Object string() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+13); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+13, _start);
+    Object s=null;    do {
+    int _p45=_pos; _t=ERROR; do { //and
+      _t=tsString();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Str", s};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p45, _pos); _pos=_p45; }
+    _t=_memoize(_base+13, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+13, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+13, _start, _pos, _t); return _t;
+  }
+  public Object number() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+14); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+14, _start);
+    Object n=null;    do {
+    int _p46=_pos; _t=ERROR; do { //and
+      _t=__number_52();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"HLit", n};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p46, _pos); _pos=_p46; }
+    _t=_memoize(_base+14, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+14, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+14, _start, _pos, _t); return _t;
+  }
+  public Object symbol() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+15); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+15, _start);
+    Object s=null;    do {
+    int _p53=_pos; _t=ERROR; do { //and
+      _t=_str("'");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=name();
+      s=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"Sym", s};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p53, _pos); _pos=_p53; }
+    _t=_memoize(_base+15, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+15, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+15, _start, _pos, _t); return _t;
+  }
+  public Object classChar() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+16, _start);
+    Object c=null;
+    long _m54=(getClass()==JMetaParser.class)? __predict54.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m54 & 1L)!=0) {
+        int _p55=_pos; _t=ERROR; do { //and
+          _t=_str("\\");
+          if (_t==ERROR) break;
+          _t=_class(__class56);
+          c=_t;
+          if (_t==ERROR) break;
+          _t=c;
+          if (_t==ERROR) break;
+        } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p55, _pos); _pos=_p55; }
+        if (_t!=ERROR) break;
+      }
+      _t=__classChar_58(c);
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict54.expect(this, _m54);
+    if (_t==ERROR) { _pos=_start; _fail(_base+16, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+16, _start, _pos, _t); return _t;
+  }
+  public Object classRange() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+17, _start);
+    Object c=null;
+    _t=ERROR; do{ //or
+      _t=__classRange_60();
+      if (_t!=ERROR) break;
+      int _p61=_pos; _t=ERROR; do { //and
+        _t=classChar();
+        c=_t;
+        if (_t==ERROR) break;
+        _t=new Object[] {"Range", c, c};
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p61, _pos); _pos=_p61; }
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) { _pos=_start; _fail(_base+17, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+17, _start, _pos, _t); return _t;
+  }
+  public Object charClass() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+18); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+18, _start);
+    Object neg=null; Object xs=null;    do {
+    int _p62=_pos; _t=ERROR; do { //and
+      _t=_str("<");
+      if (_t==ERROR) break;
+      _t=__charClass_64();
+      neg=_t;
+      if (_t==ERROR) break;
+      _t=__charClass_66(neg);
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=_str(">");
+      if (_t==ERROR) break;
+      _t=__act67(neg,xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p62, _pos); _pos=_p62; }
+    _t=_memoize(_base+18, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+18, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+18, _start, _pos, _t); return _t;
+  }
+  public Object k() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+19, _start);
+    Object keyword=null;
+    int _p68=_pos; _t=ERROR; do { //and
+      _t=_any();
+      keyword=_t;
+      if (_t==ERROR) break;
+      _push(keyword); _t=str();
+      if (_t==ERROR) break;
+      _t=__k_70(keyword);
+      if (_t==ERROR) break;
+      _t=keyword;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p68, _pos); _pos=_p68; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+19, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+19, _start, _pos, _t); return _t;
+  }
+  public Object error() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+20); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+20, _start);
+    Object msg=null;    do {
+    int _p71=_pos; _t=ERROR; do { //and
+      _t=_str("!");
+      if (_t==ERROR) break;
+      _t=__error_73();
+      msg=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Error", msg};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p71, _pos); _pos=_p71; }
+    _t=_memoize(_base+20, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+20, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+20, _start, _pos, _t); return _t;
+  }
+  public Object cut() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+21, _start);
+    
+    int _p74=_pos; _t=ERROR; do { //and
+      _t=_str("^");
+      if (_t==ERROR) break;
+      _t=new Object[] {"Cut"};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p74, _pos); _pos=_p74; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+21, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+21, _start, _pos, _t); return _t;
+  }
+  public Object any() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+22, _start);
+    
+    int _p75=_pos; _t=ERROR; do { //and
+      _t=_str("_");
+      if (_t==ERROR) break;
+      _t=new Object[] {"App", "_any"};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p75, _pos); _pos=_p75; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+22, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+22, _start, _pos, _t); return _t;
+  }
+  public Object wsdot() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+23, _start);
+    
+    int _p76=_pos; _t=ERROR; do { //and
+      _t=_str(".");
+      if (_t==ERROR) break;
+      _t=new Object[] {"App", "ws"};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p76, _pos); _pos=_p76; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+23, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+23, _start, _pos, _t); return _t;
+  }
+  public Object args() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+24); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+24, _start);
+        do {
+    long _m77=(getClass()==JMetaParser.class)? __predict77.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m77 & 1L)!=0) {
+        _t=__args_79();
+        if (_t!=ERROR) break;
+      }
+      int _p80=_pos; _t=ERROR; do { //and
+        _t=empty();
+        if (_t==ERROR) break;
+        _t=new Object[] {};
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p80, _pos); _pos=_p80; }
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict77.expect(this, _m77);
+    _t=_memoize(_base+24, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+24, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+24, _start, _pos, _t); return _t;
+  }
+  public Object application() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+25); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+25, _start);
+        do {
+    long _m81=(getClass()==JMetaParser.class)? __predict81.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m81 & 1L)!=0) {
+        _t=__application_83();
+        if (_t!=ERROR) break;
+      }
+      if ((_m81 & 2L)!=0) {
+        _t=__application_85();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict81.expect(this, _m81);
+    _t=_memoize(_base+25, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+25, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+25, _start, _pos, _t); return _t;
+  }
+  public Object simplehost() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+26); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+26, _start);
+        do {
+    long _m86=(getClass()==JMetaParser.class)? __predict86.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      _t=__simplehost_88();
+      if (_t!=ERROR) break;
+      if ((_m86 & 2L)!=0) {
+        _t=__simplehost_90();
+        if (_t!=ERROR) break;
+      }
+      _t=__simplehost_100();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict86.expect(this, _m86);
+    _t=_memoize(_base+26, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+26, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+26, _start, _pos, _t); return _t;
+  }
+  public Object cbraces() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+27); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+27, _start);
+        do {
+    long _m101=(getClass()==JMetaParser.class)? __predict101.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m101 & 1L)!=0) {
+        _t=__cbraces_105();
+        if (_t!=ERROR) break;
+      }
+      _t=__cbraces_107();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict101.expect(this, _m101);
+    _t=_memoize(_base+27, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+27, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+27, _start, _pos, _t); return _t;
+  }
+  public Object semAction() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+28); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+28, _start);
+        do {
+    long _m108=(getClass()==JMetaParser.class)? __predict108.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m108 & 1L)!=0) {
+        _t=__semAction_110();
+        if (_t!=ERROR) break;
+      }
+      if ((_m108 & 2L)!=0) {
+        _t=__semAction_114();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict108.expect(this, _m108);
+    _t=_memoize(_base+28, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+28, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+28, _start, _pos, _t); return _t;
+  }
+  public Object semPred() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+29); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+29, _start);
+    Object xs=null;    do {
+    int _p115=_pos; _t=ERROR; do { //and
+      _t=_str("?{");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=__semPred_118();
+      xs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("}");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"Pred", xs};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p115, _pos); _pos=_p115; }
+    _t=_memoize(_base+29, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+29, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+29, _start, _pos, _t); return _t;
+  }
+  public Object expr() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+30); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+30, _start);
+    Object xs=null;    do {
+    int _p119=_pos; _t=ERROR; do { //and
+      _push("expr4", "|"); _t=listOf();
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=concat(new Object[] {"Or"}, xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p119, _pos); _pos=_p119; }
+    _t=_memoize(_base+30, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+30, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+30, _start, _pos, _t); return _t;
+  }
+  public Object expr4() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+31); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+31, _start);
+    Object xs=null;    do {
+    int _p120=_pos; _t=ERROR; do { //and
+      int _l121=_loop(_base+31, 121);
+      java.util.ArrayList<Object> as121=_loopList(_l121);
+      while (true) { //many
+        _t=expr3();
+        if (_t==ERROR) break; else as121.add(_t);
+        _loopNext(_l121);
+      } _loopEnd(_l121); _t=as121;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=concat(new Object[] {"And"}, xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p120, _pos); _pos=_p120; }
+    _t=_memoize(_base+31, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+31, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+31, _start, _pos, _t); return _t;
+  }
+  public Object optIter() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+32, _start);
+    Object x=null;
+    int _p122=_pos; _t=ERROR; do { //and
+      _t=_any();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=__optIter_131(x);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p122, _pos); _pos=_p122; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+32, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+32, _start, _pos, _t); return _t;
+  }
+  public Object expr3() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+33); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+33, _start);
+    Object e=null; Object x=null;    do {
+    _t=ERROR; do{ //or
+      _t=__expr3_133();
+      if (_t!=ERROR) break;
+      int _p134=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _t=expr2();
+        e=_t;
+        if (_t==ERROR) break;
+        _push(e); _t=optIter();
+        x=_t;
+        if (_t==ERROR) break;
+        _t=x;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p134, _pos); _pos=_p134; }
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+33, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+33, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+33, _start, _pos, _t); return _t;
+  }
+  public Object expr2() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+34); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+34, _start);
+        do {
+    long _m135=(getClass()==JMetaParser.class)? __predict135.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m135 & 1L)!=0) {
+        _t=__expr2_137();
+        if (_t!=ERROR) break;
+      }
+      if ((_m135 & 2L)!=0) {
+        _t=__expr2_139();
+        if (_t!=ERROR) break;
+      }
+      if ((_m135 & 4L)!=0) {
+        _t=__expr2_141();
+        if (_t!=ERROR) break;
+      }
+      _t=expr1();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict135.expect(this, _m135);
+    _t=_memoize(_base+34, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+34, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+34, _start, _pos, _t); return _t;
+  }
+  public Object expr1() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+35); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+35, _start);
+        do {
+    long _m142=(getClass()==JMetaParser.class)? __predict142.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m142 & 1L)!=0) {
+        _t=wsdot();
+        if (_t!=ERROR) break;
+      }
+      if ((_m142 & 2L)!=0) {
+        _t=any();
+        if (_t!=ERROR) break;
+      }
+      if ((_m142 & 4L)!=0) {
+        _t=error();
+        if (_t!=ERROR) break;
+      }
+      if ((_m142 & 8L)!=0) {
+        _t=cut();
+        if (_t!=ERROR) break;
+      }
+      _t=__expr1_150();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict142.expect(this, _m142);
+    _t=_memoize(_base+35, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+35, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+35, _start, _pos, _t); return _t;
+  }
+  public Object annotation() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+36); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+36, _start);
+    Object n=null;    do {
+    int _p151=_pos; _t=ERROR; do { //and
+      _t=_str("@");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=name();
+      n=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=n;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p151, _pos); _pos=_p151; }
+    _t=_memoize(_base+36, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+36, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+36, _start, _pos, _t); return _t;
+  }
+  public Object rule() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+37); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+37, _start);
+    Object as=null; Object n=null;    do {
+    int _p152=_pos; _t=ERROR; do { //and
+      _t=__rule_155();
+      as=_t;
+      if (_t==ERROR) break;
+      int _l156=_pos;
+      int _p157=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _t=name();
+        n=_t;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p157, _pos); _pos=_p157; }
+      if (_t!=ERROR) { _pos=_l156; }
+      if (_t==ERROR) break;
+      _t=__rule_163(as,n);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p152, _pos); _pos=_p152; }
+    _t=_memoize(_base+37, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+37, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+37, _start, _pos, _t); return _t;
+  }
+  public Object rulePart() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+38, _start);
+    Object rn=null; Object n=null;
+    int _p164=_pos; _t=ERROR; do { //and
+      _t=_any();
+      rn=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=name();
+      n=_t;
+      if (_t==ERROR) break;
+      if (!__pred165(rn,n)) _t=ERROR;
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__rulePart_170(rn,n);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p164, _pos); _pos=_p164; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+38, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+38, _start, _pos, _t); return _t;
+  }
+  public Object qualifiers() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+39); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+39, _start);
+        do {
+    _t=ERROR; do{ //or
+      _t=__qualifiers_185();
+      if (_t!=ERROR) break;
+      int _p186=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _push("java"); _t=k();
+        if (_t==ERROR) break;
+        _t=__act187();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p186, _pos); _pos=_p186; }
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+39, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+39, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+39, _start, _pos, _t); return _t;
+  }
+  public Object ptype() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+40); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+40, _start);
+        do {
+    long _m188=(getClass()==JMetaParser.class)? __predict188.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m188 & 1L)!=0) {
+        _t=__ptype_193();
+        if (_t!=ERROR) break;
+      }
+      int _p194=_pos; _t=ERROR; do { //and
+        _t=empty();
+        if (_t==ERROR) break;
+        _t=__act195();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p194, _pos); _pos=_p194; }
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict188.expect(this, _m188);
+    _t=_memoize(_base+40, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+40, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+40, _start, _pos, _t); return _t;
+  }
+  public Object jstatic() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+41); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+41, _start);
+    Object bs=null;    do {
+    int _p196=_pos; _t=ERROR; do { //and
+      _push("static"); _t=k();
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("{");
+      if (_t==ERROR) break;
+      _t=__jstatic_198();
+      bs=_t;
+      if (_t==ERROR) break;
+      _t=_str("}");
+      if (_t==ERROR) break;
+      _t=__act199(bs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p196, _pos); _pos=_p196; }
+    _t=_memoize(_base+41, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+41, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+41, _start, _pos, _t); return _t;
+  }
+  public Object jinit() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+42); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+42, _start);
+    Object bs=null;    do {
+    int _p200=_pos; _t=ERROR; do { //and
+      _push("java"); _t=k();
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("{");
+      if (_t==ERROR) break;
+      _t=__jinit_202();
+      bs=_t;
+      if (_t==ERROR) break;
+      _t=_str("}");
+      if (_t==ERROR) break;
+      _t=__act203(bs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p200, _pos); _pos=_p200; }
+    _t=_memoize(_base+42, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+42, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+42, _start, _pos, _t); return _t;
+  }
+  public Object jmethod() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+43); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+43, _start);
+    Object q=null; Object r=null; Object p=null;    do {
+    int _p204=_pos; _t=ERROR; do { //and
+      _t=qualifiers();
+      q=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=name();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=ptype();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=__jmethod_212(q,r,p);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p204, _pos); _pos=_p204; }
+    _t=_memoize(_base+43, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+43, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+43, _start, _pos, _t); return _t;
+  }
+  public Object jfield() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+44); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+44, _start);
+    Object q=null; Object t=null; Object p=null;    do {
+    int _p213=_pos; _t=ERROR; do { //and
+      _t=qualifiers();
+      q=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=name();
+      t=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=ptype();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=__jfield_219(q,t,p);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p213, _pos); _pos=_p213; }
+    _t=_memoize(_base+44, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+44, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+44, _start, _pos, _t); return _t;
+  }
+  public Object jimport() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+45); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+45, _start);
+    Object stm=null; Object xs=null;    do {
+    int _p220=_pos; _t=ERROR; do { //and
+      _push("import"); _t=k();
+      stm=_t;
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=__jimport_223(stm);
+      xs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__jimport_226(stm,xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p220, _pos); _pos=_p220; }
+    _t=_memoize(_base+45, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+45, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+45, _start, _pos, _t); return _t;
+  }
+  public Object jpackage() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+46); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+46, _start);
+    Object stm=null; Object xs=null;    do {
+    int _p227=_pos; _t=ERROR; do { //and
+      _push("package"); _t=k();
+      stm=_t;
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=__jpackage_230(stm);
+      xs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__jpackage_233(stm,xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p227, _pos); _pos=_p227; }
+    _t=_memoize(_base+46, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+46, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+46, _start, _pos, _t); return _t;
+  }
+  public Object classdef() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+47); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+47, _start);
+    Object q=null;    do {
+    int _p234=_pos; _t=ERROR; do { //and
+      _t=qualifiers();
+      q=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _push("class"); _t=k();
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=__classdef_242(q);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p234, _pos); _pos=_p234; }
+    _t=_memoize(_base+47, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+47, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+47, _start, _pos, _t); return _t;
+  }
+  public Object ruleMethod() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+48); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+48, _start);
+        do {
+    _t=ERROR; do{ //or
+      _t=__ruleMethod_244();
+      if (_t!=ERROR) break;
+      _t=__ruleMethod_246();
+      if (_t!=ERROR) break;
+      _t=__ruleMethod_248();
+      if (_t!=ERROR) break;
+      _t=__ruleMethod_250();
+      if (_t!=ERROR) break;
+      int _p251=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _t=rule();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p251, _pos); _pos=_p251; }
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+48, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+48, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+48, _start, _pos, _t); return _t;
+  }
+  public Object parser() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+49); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+49, _start);
+    Object p=null;    do {
+    int _p252=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=__parser_253();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _push("parser"); _t=k();
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=__parser_264(p);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p252, _pos); _pos=_p252; }
+    _t=_memoize(_base+49, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+49, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+49, _start, _pos, _t); return _t;
+  }
+  public Object line() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+50); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+50, _start);
+    Object p=null; Object l=null;    do {
+    int _p265=_pos; _t=ERROR; do { //and
+      _t=ws();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=ERROR; do{ //or
+        _t=parser();
+        if (_t!=ERROR) break;
+        _t=jpackage();
+        if (_t!=ERROR) break;
+        _t=jimport();
+        if (_t!=ERROR) break;
+        _t=classdef();
+        if (_t!=ERROR) break;
+      } while(false);
+      l=_t;
+      if (_t==ERROR) break;
+      _t=__act266(p,l);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p265, _pos); _pos=_p265; }
+    _t=_memoize(_base+50, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+50, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+50, _start, _pos, _t); return _t;
+  }
+  public Object file() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+51); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+51, _start);
+    Object ls=null;    do {
+    int _p267=_pos; _t=ERROR; do { //and
+      if (cutOnError) _cut();
+      _t=__file_269();
+      ls=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=concat(new Object[] {"File"}, ls);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p267, _pos); _pos=_p267; }
+    _t=_memoize(_base+51, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+51, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+51, _start, _pos, _t); return _t;
+  }
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+52); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+52, _start);
+        do {
+    _t=file();
+    _t=_memoize(_base+52, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+52, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+52, _start, _pos, _t); return _t;
+  }
+
+  Object __fromTo_3(Object x, Object y) { Object _t=null;
+    int _l1=_loop(_base+0, 1);
+    while (true) { //many
+      int _p2=_pos; _t=ERROR; do { //and
+        _silent++;_push(y); _t=str();
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        _t=_any();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; }
+      if (_t==ERROR) break;
+      _loopNext(_l1);
+    } _loopEnd(_l1); _t=null;
+    return _t;
+  }
+static final Predict __predict5 = new Predict().chars(1, "\n\r").cls(1, "newline");
+
+  Object __listOf_10(Object e, Object s, Object f) { Object _t=null;
+    int _l8=_loop(_base+3, 8);
+    java.util.ArrayList<Object> as8=_loopList(_l8);
+    while (true) { //many
+      int _p9=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _push(s); _t=str();
+        if (_t==ERROR) break;
+        _t=ws();
+        if (_t==ERROR) break;
+        _push(e); _t=apply();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p9, _pos); _pos=_p9; }
+      if (_t==ERROR) break; else as8.add(_t);
+      _loopNext(_l8);
+    } _loopEnd(_l8); _t=as8;
+    return _t;
+  }
+
+  Object __listOf_12(Object e, Object s) { Object _t=null;
+    Object f=null; Object rs=null;
+    _t=ERROR; do{ //or
+      int _p7=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _push(e); _t=apply();
+        f=_t;
+        if (_t==ERROR) break;
+        _t=__listOf_10(e,s,f);
+        rs=_t;
+        if (_t==ERROR) break;
+        _t=concat(new Object[] {f}, rs);
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; }
+      if (_t!=ERROR) break;
+      int _p11=_pos; _t=ERROR; do { //and
+        _t=empty();
+        if (_t==ERROR) break;
+        _t=new Object[] {};
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p11, _pos); _pos=_p11; }
+      if (_t!=ERROR) break;
+    } while(false);
+    return _t;
+  }
+static final Literals __literals13 = new Literals("static", "private", "protected", "public", "java", "class", "interface", "abstract", "synchronized", "final");
+static final Predict __predict15 = new Predict().chars(0, "_").str(0, "_").chars(1, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz").cls(1, "letter");
+static final Predict __predict16 = new Predict().chars(0, "ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz").rule(0, "nameFirst").str(0, "_").cls(0, "letter").end(0).chars(1, "0123456789").cls(1, "digit");
+
+  Object __name_18() { Object _t=null;
+    
+    _silent++;_t=reserved();
+    _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+    return _t;
+  }
+
+  Object __name_22() { Object _t=null;
+    int _c19=_pos;
+    int _p20=_pos; _t=ERROR; do { //and
+      _t=nameFirst();
+      if (_t==ERROR) break;
+      int _l21=_loop(_base+8, 21);
+      while (true) { //many
+        _t=nameRest();
+        if (_t==ERROR) break;
+        _loopNext(_l21);
+      } _loopEnd(_l21); _t=null;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p20, _pos); _pos=_p20; }
+    if (_t!=ERROR) { _t=_capture(_c19); }
+    return _t;
+  }
+static final Predict __predict23 = new Predict().chars(0, "\\").str(0, "\\");
+Object __act25(Object c){ return Utils.unescape((Character)c); }
+
+  Object __tsString_29() { Object _t=null;
+    int _l27=_loop(_base+10, 27);
+    java.util.ArrayList<Object> as27=_loopList(_l27);
+    while (true) { //many
+      int _p28=_pos; _t=ERROR; do { //and
+        _silent++;_t=_str("\"");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        _t=echar();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p28, _pos); _pos=_p28; }
+      if (_t==ERROR) break; else as27.add(_t);
+      _loopNext(_l27);
+    } _loopEnd(_l27); _t=as27;
+    return _t;
+  }
+Object __act30(Object xs){ return join(xs); }
+static final Predict __predict31 = new Predict().chars(0, "$").str(0, "${").chars(1, "$").str(1, "$");
+Object __act34(Object xs){ return "\"+"+ join(xs)+ "+\""; }
+
+  Object __dollar_35() { Object _t=null;
+    Object xs=null;
+    int _p32=_pos; _t=ERROR; do { //and
+      _t=_str("${");
+      if (_t==ERROR) break;
+      int _l33=_loop(_base+11, 33);
+      java.util.ArrayList<Object> as33=_loopList(_l33);
+      while (true) { //many
+        _t=cbraces();
+        if (_t==ERROR) break; else as33.add(_t);
+        _loopNext(_l33);
+      } _loopEnd(_l33); _t=as33;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=_str("}");
+      if (_t==ERROR) break;
+      _t=__act34(xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p32, _pos); _pos=_p32; }
+    return _t;
+  }
+Object __act37(Object n){ return "\"+"+ n +"+\"";        }
+
+  Object __dollar_38() { Object _t=null;
+    Object n=null;
+    int _p36=_pos; _t=ERROR; do { //and
+      _t=_str("$");
+      if (_t==ERROR) break;
+      _t=name();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=__act37(n);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p36, _pos); _pos=_p36; }
+    return _t;
+  }
+static final Predict __predict42 = new Predict().chars(0, "$").rule(0, "dollar").str(0, "${").str(0, "$").end(0);
+
+  Object __dollarstring_43() { Object _t=null;
+    int _l40=_loop(_base+12, 40);
+    java.util.ArrayList<Object> as40=_loopList(_l40);
+    while (true) { //many
+      int _p41=_pos; _t=ERROR; do { //and
+        _silent++;_t=_str("\"");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        long _m42=(getClass()==JMetaParser.class)? __predict42.mask(this) : -1L;
+        _t=ERROR; do{ //predict
+          if ((_m42 & 1L)!=0) {
+            _t=dollar();
+            if (_t!=ERROR) break;
+          }
+          _t=echar();
+          if (_t!=ERROR) break;
+        } while(false);
+        if (_t==ERROR) __predict42.expect(this, _m42);
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p41, _pos); _pos=_p41; }
+      if (_t==ERROR) break; else as40.add(_t);
+      _loopNext(_l40);
+    } _loopEnd(_l40); _t=as40;
+    return _t;
+  }
+Object __act44(Object xs){ return join(xs); }
+static final Predict __predict49 = new Predict().chars(0, "+-").cls(0, "\"-\" | \"+\"");
+static final CharClass __class50 = new CharClass("\"-\" | \"+\"").str("-").str("+");
+
+  Object __number_52() { Object _t=null;
+    int _c47=_pos;
+    int _p48=_pos; _t=ERROR; do { //and
+      long _m49=(getClass()==JMetaParser.class)? __predict49.mask(this) : -1L;
+      _t=ERROR; do{ //predict
+        if ((_m49 & 1L)!=0) {
+          _t=_class(__class50);
+          if (_t!=ERROR) break;
+        }
+        _t=empty();
+        if (_t!=ERROR) break;
+      } while(false);
+      if (_t==ERROR) __predict49.expect(this, _m49);
+      if (_t==ERROR) break;
+      int _l51=_loop(_base+14, 51);
+      boolean _s51=_loopAny(_l51);
+      while (true) { //many
+        _t=digit();
+        if (_t==ERROR) break; else _s51=true;
+        _loopNext(_l51);
+      } _loopEnd(_l51); _t=_s51? null : ERROR;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p48, _pos); _pos=_p48; }
+    if (_t!=ERROR) { _t=_capture(_c47); }
+    return _t;
+  }
+static final Predict __predict54 = new Predict().chars(0, "\\").str(0, "\\");
+static final CharClass __class56 = new CharClass("\"-\" | \"^\" | \"<\" | \">\"").str("-").str("^").str("<").str(">");
+
+  Object __classChar_58(Object c) { Object _t=null;
+    int _p57=_pos; _t=ERROR; do { //and
+      _silent++;_t=_str(">");
+      _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+      if (_t==ERROR) break;
+      _t=echar();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p57, _pos); _pos=_p57; }
+    return _t;
+  }
+
+  Object __classRange_60() { Object _t=null;
+    Object lo=null; Object hi=null;
+    int _p59=_pos; _t=ERROR; do { //and
+      _t=classChar();
+      lo=_t;
+      if (_t==ERROR) break;
+      _t=_str("-");
+      if (_t==ERROR) break;
+      _silent++;_t=_str(">");
+      _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+      if (_t==ERROR) break;
+      _t=classChar();
+      hi=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Range", lo, hi};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p59, _pos); _pos=_p59; }
+    return _t;
+  }
+static final Predict __predict63 = new Predict().chars(0, "^").str(0, "^");
+
+  Object __charClass_64() { Object _t=null;
+    long _m63=(getClass()==JMetaParser.class)? __predict63.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m63 & 1L)!=0) {
+        _t=_str("^");
+        if (_t!=ERROR) break;
+      }
+      _t=empty();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict63.expect(this, _m63);
+    return _t;
+  }
+
+  Object __charClass_66(Object neg) { Object _t=null;
+    int _l65=_loop(_base+18, 65);
+    java.util.ArrayList<Object> as65=_loopList(_l65);
+    while (true) { //many
+      _t=classRange();
+      if (_t==ERROR) break; else as65.add(_t);
+      _loopNext(_l65);
+    } _loopEnd(_l65); _t=as65.isEmpty()? ERROR : as65;
+    return _t;
+  }
+Object __act67(Object neg, Object xs){ return concat(new Object[] {"Chars", "^".equals(neg)}, xs); }
+static final Predict __predict69 = new Predict().chars(0, "ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz").rule(0, "nameFirst").str(0, "_").cls(0, "letter").end(0).chars(1, "0123456789").cls(1, "digit");
+
+  Object __k_70(Object keyword) { Object _t=null;
+    
+    _silent++;long _m69=(getClass()==JMetaParser.class)? __predict69.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m69 & 1L)!=0) {
+        _t=nameFirst();
+        if (_t!=ERROR) break;
+      }
+      if ((_m69 & 2L)!=0) {
+        _t=digit();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict69.expect(this, _m69);
+    _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+    return _t;
+  }
+static final Predict __predict72 = new Predict().chars(0, "\"").rule(0, "dollarstring").str(0, "\"").end(0);
+
+  Object __error_73() { Object _t=null;
+    long _m72=(getClass()==JMetaParser.class)? __predict72.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m72 & 1L)!=0) {
+        _t=dollarstring();
+        if (_t!=ERROR) break;
+      }
+      _t=empty();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict72.expect(this, _m72);
+    return _t;
+  }
+static final Predict __predict77 = new Predict().chars(0, "(").str(0, "(");
+
+  Object __args_79() { Object _t=null;
+    Object as=null;
+    int _p78=_pos; _t=ERROR; do { //and
+      _t=_str("(");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _push("simplehost", ","); _t=listOf();
+      as=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str(")");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=as;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p78, _pos); _pos=_p78; }
+    return _t;
+  }
+static final Predict __predict81 = new Predict().chars(0, "s").str(0, "super.").chars(1, "ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz").rule(1, "name").rule(1, "nameFirst").str(1, "_").cls(1, "letter").end(1).end(1);
+
+  Object __application_83() { Object _t=null;
+    Object r=null; Object as=null;
+    int _p82=_pos; _t=ERROR; do { //and
+      _t=_str("super.");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=name();
+      r=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=args();
+      as=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=concat(new Object[] {"App", "super", r}, as);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p82, _pos); _pos=_p82; }
+    return _t;
+  }
+
+  Object __application_85() { Object _t=null;
+    Object r=null; Object as=null;
+    int _p84=_pos; _t=ERROR; do { //and
+      _t=name();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=args();
+      as=_t;
+      if (_t==ERROR) break;
+      _t=concat(new Object[] {"App", r}, as);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p84, _pos); _pos=_p84; }
+    return _t;
+  }
+static final Predict __predict86 = new Predict().chars(1, "[").str(1, "[");
+
+  Object __simplehost_88() { Object _t=null;
+    Object rs=null; Object ls=null;
+    int _p87=_pos; _t=ERROR; do { //and
+      _t=simplehost();
+      rs=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("+");
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=simplehost();
+      ls=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"HConcat", rs, ls};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p87, _pos); _pos=_p87; }
+    return _t;
+  }
+
+  Object __simplehost_90() { Object _t=null;
+    Object xs=null;
+    int _p89=_pos; _t=ERROR; do { //and
+      _t=_str("[");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _push("simplehost", ","); _t=listOf();
+      xs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("]");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=concat(new Object[] {"HList"}, xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p89, _pos); _pos=_p89; }
+    return _t;
+  }
+static final Predict __predict91 = new Predict();
+
+  Object __simplehost_93() { Object _t=null;
+    Object n=null;
+    int _p92=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=number();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=n;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p92, _pos); _pos=_p92; }
+    return _t;
+  }
+
+  Object __simplehost_95() { Object _t=null;
+    Object s=null;
+    int _p94=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("'");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=name();
+      s=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"HStr", s};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p94, _pos); _pos=_p94; }
+    return _t;
+  }
+
+  Object __simplehost_97() { Object _t=null;
+    Object s=null;
+    int _p96=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=tsString();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"HStr", s};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p96, _pos); _pos=_p96; }
+    return _t;
+  }
+
+  Object __simplehost_99() { Object _t=null;
+    Object n=null;
+    int _p98=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=name();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"HLit", n};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p98, _pos); _pos=_p98; }
+    return _t;
+  }
+
+  Object __simplehost_100() { Object _t=null;
+    long _m91=(getClass()==JMetaParser.class)? __predict91.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      _t=__simplehost_93();
+      if (_t!=ERROR) break;
+      _t=__simplehost_95();
+      if (_t!=ERROR) break;
+      _t=__simplehost_97();
+      if (_t!=ERROR) break;
+      _t=__simplehost_99();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict91.expect(this, _m91);
+    return _t;
+  }
+static final Predict __predict101 = new Predict().chars(0, "{").str(0, "{");
+
+  Object __cbraces_105() { Object _t=null;
+    int _c102=_pos;
+    int _p103=_pos; _t=ERROR; do { //and
+      _t=_str("{");
+      if (_t==ERROR) break;
+      int _l104=_loop(_base+27, 104);
+      while (true) { //many
+        _t=cbraces();
+        if (_t==ERROR) break;
+        _loopNext(_l104);
+      } _loopEnd(_l104); _t=null;
+      if (_t==ERROR) break;
+      _t=_str("}");
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p103, _pos); _pos=_p103; }
+    if (_t!=ERROR) { _t=_capture(_c102); }
+    return _t;
+  }
+
+  Object __cbraces_107() { Object _t=null;
+    int _p106=_pos; _t=ERROR; do { //and
+      _silent++;_t=_str("}");
+      _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+      if (_t==ERROR) break;
+      _t=_any();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p106, _pos); _pos=_p106; }
+    return _t;
+  }
+static final Predict __predict108 = new Predict().chars(0, "{").str(0, "{").chars(1, "{").str(1, "{");
+
+  Object __semAction_110() { Object _t=null;
+    Object s=null;
+    int _p109=_pos; _t=ERROR; do { //and
+      _t=_str("{");
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=simplehost();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("}");
+      if (_t==ERROR) break;
+      _t=new Object[] {"SAct", s};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p109, _pos); _pos=_p109; }
+    return _t;
+  }
+
+  Object __semAction_114() { Object _t=null;
+    Object xs=null;
+    int _p111=_pos; _t=ERROR; do { //and
+      _t=_str("{");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      int _c112=_pos;
+      int _l113=_loop(_base+28, 113);
+      while (true) { //many
+        _t=cbraces();
+        if (_t==ERROR) break;
+        _loopNext(_l113);
+      } _loopEnd(_l113); _t=null;
+      if (_t!=ERROR) { _t=_capture(_c112); }
+      xs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("}");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"Act", xs};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p111, _pos); _pos=_p111; }
+    return _t;
+  }
+
+  Object __semPred_118() { Object _t=null;
+    int _c116=_pos;
+    int _l117=_loop(_base+29, 117);
+    while (true) { //many
+      _t=cbraces();
+      if (_t==ERROR) break;
+      _loopNext(_l117);
+    } _loopEnd(_l117); _t=null;
+    if (_t!=ERROR) { _t=_capture(_c116); }
+    return _t;
+  }
+static final Predict __predict123 = new Predict().chars(0, "*").str(0, "*").chars(1, "+").str(1, "+").chars(2, "?").str(2, "?");
+
+  Object __optIter_125(Object x) { Object _t=null;
+    int _p124=_pos; _t=ERROR; do { //and
+      _t=_str("*");
+      if (_t==ERROR) break;
+      _t=new Object[] {"Many", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p124, _pos); _pos=_p124; }
+    return _t;
+  }
+
+  Object __optIter_127(Object x) { Object _t=null;
+    int _p126=_pos; _t=ERROR; do { //and
+      _t=_str("+");
+      if (_t==ERROR) break;
+      _t=new Object[] {"Many1", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p126, _pos); _pos=_p126; }
+    return _t;
+  }
+
+  Object __optIter_129(Object x) { Object _t=null;
+    int _p128=_pos; _t=ERROR; do { //and
+      _t=_str("?");
+      if (_t==ERROR) break;
+      _t=new Object[] {"Opt", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p128, _pos); _pos=_p128; }
+    return _t;
+  }
+
+  Object __optIter_131(Object x) { Object _t=null;
+    long _m123=(getClass()==JMetaParser.class)? __predict123.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m123 & 1L)!=0) {
+        _t=__optIter_125(x);
+        if (_t!=ERROR) break;
+      }
+      if ((_m123 & 2L)!=0) {
+        _t=__optIter_127(x);
+        if (_t!=ERROR) break;
+      }
+      if ((_m123 & 4L)!=0) {
+        _t=__optIter_129(x);
+        if (_t!=ERROR) break;
+      }
+      int _p130=_pos; _t=ERROR; do { //and
+        _t=empty();
+        if (_t==ERROR) break;
+        _t=x;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p130, _pos); _pos=_p130; }
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict123.expect(this, _m123);
+    return _t;
+  }
+
+  Object __expr3_133() { Object _t=null;
+    Object n=null; Object e=null; Object x=null;
+    int _p132=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=name();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("=");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=expr2();
+      e=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _push(e); _t=optIter();
+      x=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"Set", n, x};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p132, _pos); _pos=_p132; }
+    return _t;
+  }
+static final Predict __predict135 = new Predict().chars(0, "~").str(0, "~").chars(1, "&").str(1, "&").chars(2, "$").str(2, "$");
+
+  Object __expr2_137() { Object _t=null;
+    Object x=null;
+    int _p136=_pos; _t=ERROR; do { //and
+      _t=_str("~");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=expr2();
+      x=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"Not", x};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p136, _pos); _pos=_p136; }
+    return _t;
+  }
+
+  Object __expr2_139() { Object _t=null;
+    Object x=null;
+    int _p138=_pos; _t=ERROR; do { //and
+      _t=_str("&");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=expr1();
+      x=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"Peek", x};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p138, _pos); _pos=_p138; }
+    return _t;
+  }
+
+  Object __expr2_141() { Object _t=null;
+    Object e=null; Object x=null;
+    int _p140=_pos; _t=ERROR; do { //and
+      _t=_str("$");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=expr2();
+      e=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _push(e); _t=optIter();
+      x=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"Text", x};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p140, _pos); _pos=_p140; }
+    return _t;
+  }
+static final Predict __predict142 = new Predict().chars(0, ".").rule(0, "wsdot").str(0, ".").end(0).chars(1, "_").rule(1, "any").str(1, "_").end(1).chars(2, "!").rule(2, "error").str(2, "!").end(2).chars(3, "^").rule(3, "cut").str(3, "^").end(3);
+static final Predict __predict143 = new Predict().chars(0, "?").rule(0, "semPred").str(0, "?{").end(0).chars(1, "{").rule(1, "semAction").str(1, "{").str(1, "{").end(1).chars(2, "ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz").rule(2, "application").str(2, "super.").rule(2, "name").rule(2, "nameFirst").str(2, "_").cls(2, "letter").end(2).end(2).end(2).chars(4, "\"").rule(4, "string").rule(4, "tsString").str(4, "\"").end(4).end(4).chars(5, "'").rule(5, "symbol").str(5, "'").end(5).chars(6, "+-0123456789").rule(6, "number").cls(6, "digit").end(6).chars(7, "<").rule(7, "charClass").str(7, "<").end(7).chars(8, "[").str(8, "[").chars(9, "(").str(9, "(");
+
+  Object __expr1_145() { Object _t=null;
+    Object x=null;
+    int _p144=_pos; _t=ERROR; do { //and
+      _t=ERROR; do{ //or
+        _push("null"); _t=k();
+        if (_t!=ERROR) break;
+        _push("true"); _t=k();
+        if (_t!=ERROR) break;
+        _push("false"); _t=k();
+        if (_t!=ERROR) break;
+      } while(false);
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"HLit", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p144, _pos); _pos=_p144; }
+    return _t;
+  }
+
+  Object __expr1_147() { Object _t=null;
+    Object x=null;
+    int _p146=_pos; _t=ERROR; do { //and
+      _t=_str("[");
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=expr();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("]");
+      if (_t==ERROR) break;
+      _t=new Object[] {"List", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p146, _pos); _pos=_p146; }
+    return _t;
+  }
+
+  Object __expr1_149() { Object _t=null;
+    Object x=null;
+    int _p148=_pos; _t=ERROR; do { //and
+      _t=_str("(");
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=expr();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str(")");
+      if (_t==ERROR) break;
+      _t=x;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p148, _pos); _pos=_p148; }
+    return _t;
+  }
+
+  Object __expr1_150() { Object _t=null;
+    long _m143=(getClass()==JMetaParser.class)? __predict143.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m143 & 1L)!=0) {
+        _t=semPred();
+        if (_t!=ERROR) break;
+      }
+      if ((_m143 & 2L)!=0) {
+        _t=semAction();
+        if (_t!=ERROR) break;
+      }
+      if ((_m143 & 4L)!=0) {
+        _t=application();
+        if (_t!=ERROR) break;
+      }
+      _t=__expr1_145();
+      if (_t!=ERROR) break;
+      if ((_m143 & 16L)!=0) {
+        _t=string();
+        if (_t!=ERROR) break;
+      }
+      if ((_m143 & 32L)!=0) {
+        _t=symbol();
+        if (_t!=ERROR) break;
+      }
+      if ((_m143 & 64L)!=0) {
+        _t=number();
+        if (_t!=ERROR) break;
+      }
+      if ((_m143 & 128L)!=0) {
+        _t=charClass();
+        if (_t!=ERROR) break;
+      }
+      if ((_m143 & 256L)!=0) {
+        _t=__expr1_147();
+        if (_t!=ERROR) break;
+      }
+      if ((_m143 & 512L)!=0) {
+        _t=__expr1_149();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict143.expect(this, _m143);
+    return _t;
+  }
+
+  Object __rule_155() { Object _t=null;
+    int _l153=_loop(_base+37, 153);
+    java.util.ArrayList<Object> as153=_loopList(_l153);
+    while (true) { //many
+      int _p154=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _t=annotation();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p154, _pos); _pos=_p154; }
+      if (_t==ERROR) break; else as153.add(_t);
+      _loopNext(_l153);
+    } _loopEnd(_l153); _t=as153;
+    return _t;
+  }
+
+  Object __rule_161(Object as, Object n, Object x) { Object _t=null;
+    int _l159=_loop(_base+37, 159);
+    java.util.ArrayList<Object> as159=_loopList(_l159);
+    while (true) { //many
+      int _p160=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _t=_str(";");
+        if (_t==ERROR) break;
+        _t=ws();
+        if (_t==ERROR) break;
+        _push(n); _t=rulePart();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p160, _pos); _pos=_p160; }
+      if (_t==ERROR) break; else as159.add(_t);
+      _loopNext(_l159);
+    } _loopEnd(_l159); _t=as159;
+    return _t;
+  }
+
+  Object __rule_162(Object as, Object n, Object x, Object xs) { Object _t=null;
+    _t=concat(new Object[] {"Rule", n, concat(new Object[] {"Or", x}, xs)}, as);
+    return _t;
+  }
+
+  Object __rule_163(Object as, Object n) { Object _t=null;
+    Object x=null; Object xs=null;
+    int _p158=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _push(n); _t=rulePart();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=__rule_161(as,n,x);
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str(";");
+      if (_t==ERROR) break;
+      _t=__rule_162(as,n,x,xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p158, _pos); _pos=_p158; }
+    return _t;
+  }
+boolean __pred165(Object rn, Object n){ return n.equals(rn); }
+
+  Object __rulePart_169(Object rn, Object n, Object b1) { Object _t=null;
+    Object b2=null;
+    _t=ERROR; do{ //or
+      int _p167=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _t=_str(":");
+        if (_t==ERROR) break;
+        if (cutOnError) _cut();
+        _t=ws();
+        if (_t==ERROR) throw new SyntaxError("", this);
+        _t=expr();
+        b2=_t;
+        if (_t==ERROR) throw new SyntaxError("", this);
+        _t=new Object[] {"And", b1, b2};
+        if (_t==ERROR) throw new SyntaxError("", this);
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p167, _pos); _pos=_p167; }
+      if (_t!=ERROR) break;
+      int _p168=_pos; _t=ERROR; do { //and
+        _t=empty();
+        if (_t==ERROR) break;
+        _t=b1;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p168, _pos); _pos=_p168; }
+      if (_t!=ERROR) break;
+    } while(false);
+    return _t;
+  }
+
+  Object __rulePart_170(Object rn, Object n) { Object _t=null;
+    Object b1=null;
+    int _p166=_pos; _t=ERROR; do { //and
+      _t=expr4();
+      b1=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__rulePart_169(rn,n,b1);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p166, _pos); _pos=_p166; }
+    return _t;
+  }
+
+  Object __qualifiers_174() { Object _t=null;
+    int _p173=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _push("public"); _t=k();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p173, _pos); _pos=_p173; }
+    return _t;
+  }
+
+  Object __qualifiers_176() { Object _t=null;
+    int _p175=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _push("private"); _t=k();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p175, _pos); _pos=_p175; }
+    return _t;
+  }
+
+  Object __qualifiers_178() { Object _t=null;
+    int _p177=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _push("final"); _t=k();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p177, _pos); _pos=_p177; }
+    return _t;
+  }
+
+  Object __qualifiers_180() { Object _t=null;
+    int _p179=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _push("static"); _t=k();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p179, _pos); _pos=_p179; }
+    return _t;
+  }
+
+  Object __qualifiers_183() { Object _t=null;
+    _t=ERROR; do{ //or
+      _t=__qualifiers_174();
+      if (_t!=ERROR) break;
+      _t=__qualifiers_176();
+      if (_t!=ERROR) break;
+      _t=__qualifiers_178();
+      if (_t!=ERROR) break;
+      _t=__qualifiers_180();
+      if (_t!=ERROR) break;
+      int _p181=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _push("abstract"); _t=k();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p181, _pos); _pos=_p181; }
+      if (_t!=ERROR) break;
+      int _p182=_pos; _t=ERROR; do { //and
+        _t=ws();
+        if (_t==ERROR) break;
+        _push("synchronized"); _t=k();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p182, _pos); _pos=_p182; }
+      if (_t!=ERROR) break;
+    } while(false);
+    return _t;
+  }
+Object __act184(Object qs){
+        return join(qs, " ");
+    }
+
+  Object __qualifiers_185() { Object _t=null;
+    Object qs=null;
+    int _p171=_pos; _t=ERROR; do { //and
+      int _l172=_loop(_base+39, 172);
+      java.util.ArrayList<Object> as172=_loopList(_l172);
+      while (true) { //many
+        _t=__qualifiers_183();
+        if (_t==ERROR) break; else as172.add(_t);
+        _loopNext(_l172);
+      } _loopEnd(_l172); _t=as172.isEmpty()? ERROR : as172;
+      qs=_t;
+      if (_t==ERROR) break;
+      _t=__act184(qs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p171, _pos); _pos=_p171; }
+    return _t;
+  }
+Object __act187(){ return ""; }
+static final Predict __predict188 = new Predict().chars(0, "<").str(0, "<");
+Object __act192(Object as){ return "<"+ join(as) +">"; }
+
+  Object __ptype_193() { Object _t=null;
+    Object as=null;
+    int _p189=_pos; _t=ERROR; do { //and
+      _t=_str("<");
+      if (_t==ERROR) break;
+      int _l190=_loop(_base+40, 190);
+      java.util.ArrayList<Object> as190=_loopList(_l190);
+      while (true) { //many
+        int _p191=_pos; _t=ERROR; do { //and
+          _silent++;_t=_str(">");
+          _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+          if (_t==ERROR) break;
+          _t=_any();
+          if (_t==ERROR) break;
+        } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p191, _pos); _pos=_p191; }
+        if (_t==ERROR) break; else as190.add(_t);
+        _loopNext(_l190);
+      } _loopEnd(_l190); _t=as190;
+      as=_t;
+      if (_t==ERROR) break;
+      _t=_str(">");
+      if (_t==ERROR) break;
+      _t=__act192(as);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p189, _pos); _pos=_p189; }
+    return _t;
+  }
+Object __act195(){ return ""; }
+
+  Object __jstatic_198() { Object _t=null;
+    int _l197=_loop(_base+41, 197);
+    java.util.ArrayList<Object> as197=_loopList(_l197);
+    while (true) { //many
+      _t=cbraces();
+      if (_t==ERROR) break; else as197.add(_t);
+      _loopNext(_l197);
+    } _loopEnd(_l197); _t=as197;
+    return _t;
+  }
+Object __act199(Object bs){
+        String body = "static {"+ join(bs) +"}";
+        return new Object[] {"Method", body };
+    }
+
+  Object __jinit_202() { Object _t=null;
+    int _l201=_loop(_base+42, 201);
+    java.util.ArrayList<Object> as201=_loopList(_l201);
+    while (true) { //many
+      _t=cbraces();
+      if (_t==ERROR) break; else as201.add(_t);
+      _loopNext(_l201);
+    } _loopEnd(_l201); _t=as201;
+    return _t;
+  }
+Object __act203(Object bs){
+        String body = "{" + join(bs) +"}";
+        return new Object[] {"Method", body };
+    }
+
+  Object __jmethod_208(Object q, Object r, Object p, Object n) { Object _t=null;
+    int _l206=_loop(_base+43, 206);
+    java.util.ArrayList<Object> as206=_loopList(_l206);
+    while (true) { //many
+      int _p207=_pos; _t=ERROR; do { //and
+        _silent++;_t=_str(")");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        _t=_any();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p207, _pos); _pos=_p207; }
+      if (_t==ERROR) break; else as206.add(_t);
+      _loopNext(_l206);
+    } _loopEnd(_l206); _t=as206;
+    return _t;
+  }
+
+  Object __jmethod_210(Object q, Object r, Object p, Object n, Object as) { Object _t=null;
+    int _l209=_loop(_base+43, 209);
+    java.util.ArrayList<Object> as209=_loopList(_l209);
+    while (true) { //many
+      _t=cbraces();
+      if (_t==ERROR) break; else as209.add(_t);
+      _loopNext(_l209);
+    } _loopEnd(_l209); _t=as209;
+    return _t;
+  }
+Object __act211(Object q, Object r, Object p, Object n, Object as, Object bs){
+        String body = ""+ q +" "+ r + p +" "+ n +"("+ join(as) +") {"+ join(bs) +"}";
+        return new Object[] {"Method", body };
+    }
+
+  Object __jmethod_212(Object q, Object r, Object p) { Object _t=null;
+    Object n=null; Object as=null; Object bs=null;
+    int _p205=_pos; _t=ERROR; do { //and
+      _t=name();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("(");
+      if (_t==ERROR) break;
+      _t=__jmethod_208(q,r,p,n);
+      as=_t;
+      if (_t==ERROR) break;
+      _t=_str(")");
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("{");
+      if (_t==ERROR) break;
+      _t=__jmethod_210(q,r,p,n,as);
+      bs=_t;
+      if (_t==ERROR) break;
+      _t=_str("}");
+      if (_t==ERROR) break;
+      _t=__act211(q,r,p,n,as,bs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p205, _pos); _pos=_p205; }
+    return _t;
+  }
+
+  Object __jfield_217(Object q, Object t, Object p, Object n) { Object _t=null;
+    int _l215=_loop(_base+44, 215);
+    java.util.ArrayList<Object> as215=_loopList(_l215);
+    while (true) { //many
+      int _p216=_pos; _t=ERROR; do { //and
+        _silent++;_t=_str(";");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        _t=_any();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p216, _pos); _pos=_p216; }
+      if (_t==ERROR) break; else as215.add(_t);
+      _loopNext(_l215);
+    } _loopEnd(_l215); _t=as215;
+    return _t;
+  }
+Object __act218(Object q, Object t, Object p, Object n, Object xs){
+        String body = ""+ q +" "+ t + p +" "+ n +" = "+ join(xs) +";";
+        return new Object[] {"Field", body } ;
+    }
+
+  Object __jfield_219(Object q, Object t, Object p) { Object _t=null;
+    Object n=null; Object xs=null;
+    int _p214=_pos; _t=ERROR; do { //and
+      _t=name();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("=");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=__jfield_217(q,t,p,n);
+      xs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str(";");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__act218(q,t,p,n,xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p214, _pos); _pos=_p214; }
+    return _t;
+  }
+
+  Object __jimport_223(Object stm) { Object _t=null;
+    int _l221=_loop(_base+45, 221);
+    java.util.ArrayList<Object> as221=_loopList(_l221);
+    while (true) { //many
+      int _p222=_pos; _t=ERROR; do { //and
+        _silent++;_t=_str(";");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        _t=_any();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p222, _pos); _pos=_p222; }
+      if (_t==ERROR) break; else as221.add(_t);
+      _loopNext(_l221);
+    } _loopEnd(_l221); _t=as221;
+    return _t;
+  }
+Object __act225(Object stm, Object xs){
+        String body = stm + join(xs) +";";
+        return new Object[] {"Import", body };
+    }
+
+  Object __jimport_226(Object stm, Object xs) { Object _t=null;
+    int _p224=_pos; _t=ERROR; do { //and
+      _t=_str(";");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__act225(stm,xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p224, _pos); _pos=_p224; }
+    return _t;
+  }
+
+  Object __jpackage_230(Object stm) { Object _t=null;
+    int _l228=_loop(_base+46, 228);
+    java.util.ArrayList<Object> as228=_loopList(_l228);
+    while (true) { //many
+      int _p229=_pos; _t=ERROR; do { //and
+        _silent++;_t=_str(";");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        _t=_any();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p229, _pos); _pos=_p229; }
+      if (_t==ERROR) break; else as228.add(_t);
+      _loopNext(_l228);
+    } _loopEnd(_l228); _t=as228;
+    return _t;
+  }
+Object __act232(Object stm, Object xs){
+        String body = stm + join(xs) +";";
+        return new Object[] {"Package", body };
+    }
+
+  Object __jpackage_233(Object stm, Object xs) { Object _t=null;
+    int _p231=_pos; _t=ERROR; do { //and
+      _t=_str(";");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__act232(stm,xs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p231, _pos); _pos=_p231; }
+    return _t;
+  }
+
+  Object __classdef_238(Object q) { Object _t=null;
+    int _l236=_loop(_base+47, 236);
+    java.util.ArrayList<Object> as236=_loopList(_l236);
+    while (true) { //many
+      int _p237=_pos; _t=ERROR; do { //and
+        _silent++;_t=_str("{");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        _t=_any();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p237, _pos); _pos=_p237; }
+      if (_t==ERROR) break; else as236.add(_t);
+      _loopNext(_l236);
+    } _loopEnd(_l236); _t=as236;
+    return _t;
+  }
+
+  Object __classdef_240(Object q, Object xs) { Object _t=null;
+    int _l239=_loop(_base+47, 239);
+    java.util.ArrayList<Object> as239=_loopList(_l239);
+    while (true) { //many
+      _t=cbraces();
+      if (_t==ERROR) break; else as239.add(_t);
+      _loopNext(_l239);
+    } _loopEnd(_l239); _t=as239;
+    return _t;
+  }
+Object __act241(Object q, Object xs, Object bs){
+        String body = ""+ q +" class "+ join(xs) +" {"+ join(bs) +"}";
+        return new Object[] {"Class", body } ;
+    }
+
+  Object __classdef_242(Object q) { Object _t=null;
+    Object xs=null; Object bs=null;
+    int _p235=_pos; _t=ERROR; do { //and
+      _t=__classdef_238(q);
+      xs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("{");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__classdef_240(q,xs);
+      bs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("}");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__act241(q,xs,bs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p235, _pos); _pos=_p235; }
+    return _t;
+  }
+
+  Object __ruleMethod_244() { Object _t=null;
+    int _p243=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=jstatic();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p243, _pos); _pos=_p243; }
+    return _t;
+  }
+
+  Object __ruleMethod_246() { Object _t=null;
+    int _p245=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=jinit();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p245, _pos); _pos=_p245; }
+    return _t;
+  }
+
+  Object __ruleMethod_248() { Object _t=null;
+    int _p247=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=jmethod();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p247, _pos); _pos=_p247; }
+    return _t;
+  }
+
+  Object __ruleMethod_250() { Object _t=null;
+    int _p249=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=jfield();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p249, _pos); _pos=_p249; }
+    return _t;
+  }
+
+  Object __parser_253() { Object _t=null;
+    _t=ERROR; do{ //or
+      _push("public"); _t=k();
+      if (_t!=ERROR) break;
+      _t=empty();
+      if (_t!=ERROR) break;
+    } while(false);
+    return _t;
+  }
+
+  Object __parser_258(Object p, Object n) { Object _t=null;
+    _t=ERROR; do{ //or
+      int _p256=_pos; _t=ERROR; do { //and
+        _push("extends"); _t=k();
+        if (_t==ERROR) break;
+        _t=ws();
+        if (_t==ERROR) break;
+        _t=name();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p256, _pos); _pos=_p256; }
+      if (_t!=ERROR) break;
+      int _p257=_pos; _t=ERROR; do { //and
+        _t=empty();
+        if (_t==ERROR) break;
+        _t="BaseParser";
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p257, _pos); _pos=_p257; }
+      if (_t!=ERROR) break;
+    } while(false);
+    return _t;
+  }
+
+  Object __parser_260(Object p, Object n, Object sn) { Object _t=null;
+    int _l259=_loop(_base+49, 259);
+    java.util.ArrayList<Object> as259=_loopList(_l259);
+    while (true) { //many
+      _t=ruleMethod();
+      if (_t==ERROR) break; else as259.add(_t);
+      _loopNext(_l259);
+    } _loopEnd(_l259); _t=as259;
+    return _t;
+  }
+
+  Object __parser_261(Object p, Object n, Object sn, Object rs) { Object _t=null;
+    _t=concat(new Object[] {"Parser", p, n, sn}, rs);
+    return _t;
+  }
+Object __act262(Object p, Object n, Object sn, Object rs){ return new JMetaOptimizer().parse(p, "optimizeGrammar"); }
+
+  Object __parser_263(Object p, Object n) { Object _t=null;
+    Object sn=null; Object rs=null;
+    int _p255=_pos; _t=ERROR; do { //and
+      _t=__parser_258(p,n);
+      sn=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("{");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__parser_260(p,n,sn);
+      rs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("}");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__parser_261(p,n,sn,rs);
+      p=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__act262(p,n,sn,rs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p255, _pos); _pos=_p255; }
+    return _t;
+  }
+
+  Object __parser_264(Object p) { Object _t=null;
+    Object n=null;
+    int _p254=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=name();
+      n=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__parser_263(p,n);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p254, _pos); _pos=_p254; }
+    return _t;
+  }
+Object __act266(Object p, Object l){ return new Object[] {"Line", join(p), l}; }
+
+  Object __file_269() { Object _t=null;
+    int _l268=_loop(_base+51, 268);
+    java.util.ArrayList<Object> as268=_loopList(_l268);
+    while (true) { //many
+      _t=line();
+      if (_t==ERROR) break; else as268.add(_t);
+      _loopNext(_l268);
+    } _loopEnd(_l268); _t=as268;
+    return _t;
+  }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 53;
+  static final String[] _names = { "fromTo", "sp", "ws", "listOf", "reserved_", "reserved", "nameFirst", "nameRest", "name", "echar", "tsString", "dollar", "dollarstring", "string", "number", "symbol", "classChar", "classRange", "charClass", "k", "error", "cut", "any", "wsdot", "args", "application", "simplehost", "cbraces", "semAction", "semPred", "expr", "expr4", "optIter", "expr3", "expr2", "expr1", "annotation", "rule", "rulePart", "qualifiers", "ptype", "jstatic", "jinit", "jmethod", "jfield", "jimport", "jpackage", "classdef", "ruleMethod", "parser", "line", "file", "start" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return fromTo();
+      case 1: return sp();
+      case 2: return ws();
+      case 3: return listOf();
+      case 4: return reserved_();
+      case 5: return reserved();
+      case 6: return nameFirst();
+      case 7: return nameRest();
+      case 8: return name();
+      case 9: return echar();
+      case 10: return tsString();
+      case 11: return dollar();
+      case 12: return dollarstring();
+      case 13: return string();
+      case 14: return number();
+      case 15: return symbol();
+      case 16: return classChar();
+      case 17: return classRange();
+      case 18: return charClass();
+      case 19: return k();
+      case 20: return error();
+      case 21: return cut();
+      case 22: return any();
+      case 23: return wsdot();
+      case 24: return args();
+      case 25: return application();
+      case 26: return simplehost();
+      case 27: return cbraces();
+      case 28: return semAction();
+      case 29: return semPred();
+      case 30: return expr();
+      case 31: return expr4();
+      case 32: return optIter();
+      case 33: return expr3();
+      case 34: return expr2();
+      case 35: return expr1();
+      case 36: return annotation();
+      case 37: return rule();
+      case 38: return rulePart();
+      case 39: return qualifiers();
+      case 40: return ptype();
+      case 41: return jstatic();
+      case 42: return jinit();
+      case 43: return jmethod();
+      case 44: return jfield();
+      case 45: return jimport();
+      case 46: return jpackage();
+      case 47: return classdef();
+      case 48: return ruleMethod();
+      case 49: return parser();
+      case 50: return line();
+      case 51: return file();
+      case 52: return start();
+      default: return super._call(id);
+    }
+  }
+}
+
+
+
+ class JMetaPass extends BaseParser {  public boolean changed =  false;
+
+  public Object setChanged() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    
+    _t=__act270();
+    if (_t==ERROR) { _pos=_start; _fail(_base+0, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object destruct() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object r=null; Object x=null;    do {
+    int _p271=_pos; _t=ERROR; do { //and
+      _t=_any();
+      r=_t;
+      if (_t==ERROR) break;
+      if (!__pred272(r)) _t=ERROR;
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _push(r); _t=apply();
+      x=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__destruct_274(r,x);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p271, _pos); _pos=_p271; }
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object trans() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object x=null;    do {
+    _t=ERROR; do{ //or
+      int _p275=_pos; _t=ERROR; do { //and
+        _t=_listBegin(); if (_t!=ERROR) {
+          _t=destruct();
+          x=_t;
+          _listEnd();
+        }
+        if (_t==ERROR) break;
+        _t=x;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p275, _pos); _pos=_p275; }
+      if (_t!=ERROR) break;
+      _t=_any();
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object Or() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+    Object xs=null;    do {
+    int _p276=_pos; _t=ERROR; do { //and
+      int _l277=_loop(_base+3, 277);
+      java.util.ArrayList<Object> as277=_loopList(_l277);
+      while (true) { //many
+        _t=trans();
+        if (_t==ERROR) break; else as277.add(_t);
+        _loopNext(_l277);
+      } _loopEnd(_l277); _t=as277;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=concat(new Object[] {"Or"}, xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p276, _pos); _pos=_p276; }
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object And() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+    Object xs=null;    do {
+    int _p278=_pos; _t=ERROR; do { //and
+      int _l279=_loop(_base+4, 279);
+      java.util.ArrayList<Object> as279=_loopList(_l279);
+      while (true) { //many
+        _t=trans();
+        if (_t==ERROR) break; else as279.add(_t);
+        _loopNext(_l279);
+      } _loopEnd(_l279); _t=as279;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=concat(new Object[] {"And"}, xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p278, _pos); _pos=_p278; }
+    _t=_memoize(_base+4, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+  public Object Not() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+5, _start);
+    Object x=null;    do {
+    int _p280=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Not", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p280, _pos); _pos=_p280; }
+    _t=_memoize(_base+5, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+  public Object Many() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+6); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+6, _start);
+    Object x=null;    do {
+    int _p281=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Many", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p281, _pos); _pos=_p281; }
+    _t=_memoize(_base+6, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+6, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+  public Object Many1() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+7); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+7, _start);
+    Object x=null;    do {
+    int _p282=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Many1", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p282, _pos); _pos=_p282; }
+    _t=_memoize(_base+7, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+7, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+  public Object Opt() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+8); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+8, _start);
+    Object x=null;    do {
+    int _p283=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Opt", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p283, _pos); _pos=_p283; }
+    _t=_memoize(_base+8, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+8, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+8, _start, _pos, _t); return _t;
+  }
+  public Object Peek() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+9); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+9, _start);
+    Object x=null;    do {
+    int _p284=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Peek", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p284, _pos); _pos=_p284; }
+    _t=_memoize(_base+9, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+9, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+9, _start, _pos, _t); return _t;
+  }
+  public Object Text() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+10); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+10, _start);
+    Object x=null;    do {
+    int _p285=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Text", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p285, _pos); _pos=_p285; }
+    _t=_memoize(_base+10, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+10, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+10, _start, _pos, _t); return _t;
+  }
+  public Object Skip() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+11); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+11, _start);
+    Object x=null;    do {
+    int _p286=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Skip", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p286, _pos); _pos=_p286; }
+    _t=_memoize(_base+11, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+11, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+11, _start, _pos, _t); return _t;
+  }
+  public Object Skip1() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+12); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+12, _start);
+    Object x=null;    do {
+    int _p287=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Skip1", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p287, _pos); _pos=_p287; }
+    _t=_memoize(_base+12, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+12, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+12, _start, _pos, _t); return _t;
+  }
+  public Object List() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+13); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+13, _start);
+    Object x=null;    do {
+    int _p288=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"List", x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p288, _pos); _pos=_p288; }
+    _t=_memoize(_base+13, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+13, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+13, _start, _pos, _t); return _t;
+  }
+  public Object Set() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+14); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+14, _start);
+    Object n=null; Object x=null;    do {
+    int _p289=_pos; _t=ERROR; do { //and
+      _t=_any();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Set", n, x};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p289, _pos); _pos=_p289; }
+    _t=_memoize(_base+14, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+14, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+14, _start, _pos, _t); return _t;
+  }
+  public Object Rule() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+15); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+15, _start);
+    Object n=null; Object x=null; Object as=null;    do {
+    int _p290=_pos; _t=ERROR; do { //and
+      _t=_any();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      int _l291=_loop(_base+15, 291);
+      java.util.ArrayList<Object> as291=_loopList(_l291);
+      while (true) { //many
+        _t=_any();
+        if (_t==ERROR) break; else as291.add(_t);
+        _loopNext(_l291);
+      } _loopEnd(_l291); _t=as291;
+      as=_t;
+      if (_t==ERROR) break;
+      _t=__Rule_292(n,x,as);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p290, _pos); _pos=_p290; }
+    _t=_memoize(_base+15, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+15, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+15, _start, _pos, _t); return _t;
+  }
+  public Object Predict() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+16); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+16, _start);
+    Object fs=null; Object xs=null;    do {
+    int _p293=_pos; _t=ERROR; do { //and
+      _t=_any();
+      fs=_t;
+      if (_t==ERROR) break;
+      int _l294=_loop(_base+16, 294);
+      java.util.ArrayList<Object> as294=_loopList(_l294);
+      while (true) { //many
+        _t=trans();
+        if (_t==ERROR) break; else as294.add(_t);
+        _loopNext(_l294);
+      } _loopEnd(_l294); _t=as294;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=concat(new Object[] {"Predict", fs}, xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p293, _pos); _pos=_p293; }
+    _t=_memoize(_base+16, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+16, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+16, _start, _pos, _t); return _t;
+  }
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+17); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+17, _start);
+    Object r=null;    do {
+    _t=ERROR; do{ //or
+      _t=__start_296();
+      if (_t!=ERROR) break;
+      int _p297=_pos; _t=ERROR; do { //and
+        _t=_any();
+        r=_t;
+        if (_t==ERROR) break;
+        _t=end();
+        if (_t==ERROR) break;
+        _t=r;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p297, _pos); _pos=_p297; }
+      if (_t!=ERROR) break;
+      _t=__start_300(r);
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+17, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+17, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+17, _start, _pos, _t); return _t;
+  }
+Object __act270(){changed = true; return null;}
+boolean __pred272(Object r){return hasRule(r);}
+
+  Object __destruct_274(Object r, Object x) { Object _t=null;
+    int _p273=_pos; _t=ERROR; do { //and
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=x;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p273, _pos); _pos=_p273; }
+    return _t;
+  }
+
+  Object __Rule_292(Object n, Object x, Object as) { Object _t=null;
+    _t=concat(new Object[] {"Rule", n, x}, as);
+    return _t;
+  }
+
+  Object __start_296() { Object _t=null;
+    Object r=null;
+    int _p295=_pos; _t=ERROR; do { //and
+      _t=destruct();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=end();
+      if (_t==ERROR) break;
+      _t=r;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p295, _pos); _pos=_p295; }
+    return _t;
+  }
+
+  Object __start_300(Object r) { Object _t=null;
+    int _p298=_pos; _t=ERROR; do { //and
+      int _l299=_loop(_base+17, 299);
+      java.util.ArrayList<Object> as299=_loopList(_l299);
+      while (true) { //many
+        _t=_any();
+        if (_t==ERROR) break; else as299.add(_t);
+        _loopNext(_l299);
+      } _loopEnd(_l299); _t=as299;
+      r=_t;
+      if (_t==ERROR) break;
+      _t=end();
+      if (_t==ERROR) break;
+      _t=r;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p298, _pos); _pos=_p298; }
+    return _t;
+  }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 18;
+  static final String[] _names = { "setChanged", "destruct", "trans", "Or", "And", "Not", "Many", "Many1", "Opt", "Peek", "Text", "Skip", "Skip1", "List", "Set", "Rule", "Predict", "start" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return setChanged();
+      case 1: return destruct();
+      case 2: return trans();
+      case 3: return Or();
+      case 4: return And();
+      case 5: return Not();
+      case 6: return Many();
+      case 7: return Many1();
+      case 8: return Opt();
+      case 9: return Peek();
+      case 10: return Text();
+      case 11: return Skip();
+      case 12: return Skip1();
+      case 13: return List();
+      case 14: return Set();
+      case 15: return Rule();
+      case 16: return Predict();
+      case 17: return start();
+      default: return super._call(id);
+    }
+  }
+}
+
+
+
+ class JMetaAndOrOpt extends JMetaPass {
+  public Object And() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object x=null;    do {
+    _t=ERROR; do{ //or
+      int _p301=_pos; _t=ERROR; do { //and
+        _t=trans();
+        x=_t;
+        if (_t==ERROR) break;
+        _t=end();
+        if (_t==ERROR) break;
+        _t=setChanged();
+        if (_t==ERROR) break;
+        _t=x;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p301, _pos); _pos=_p301; }
+      if (_t!=ERROR) break;
+      _t=__And_303(x);
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object Or() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object x=null;    do {
+    _t=ERROR; do{ //or
+      int _p304=_pos; _t=ERROR; do { //and
+        _t=trans();
+        x=_t;
+        if (_t==ERROR) break;
+        _t=end();
+        if (_t==ERROR) break;
+        _t=setChanged();
+        if (_t==ERROR) break;
+        _t=x;
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p304, _pos); _pos=_p304; }
+      if (_t!=ERROR) break;
+      _t=__Or_306(x);
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object transInside() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object s=null; Object xs=null; Object x=null;
+    int _p307=_pos; _t=ERROR; do { //and
+      _t=_any();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=ERROR; do{ //or
+        int _p308=_pos; _t=ERROR; do { //and
+          _t=_listBegin(); if (_t!=ERROR) {
+            int _p309=_pos; _t=ERROR; do { //and
+              _push(s); _t=sym();
+              if (_t==ERROR) break;
+              _push(s); _t=transInside();
+              xs=_t;
+              if (_t==ERROR) break;
+            } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p309, _pos); _pos=_p309; }
+            _listEnd();
+          }
+          if (_t==ERROR) break;
+          _t=__transInside_311(s,xs);
+          if (_t==ERROR) break;
+        } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p308, _pos); _pos=_p308; }
+        if (_t!=ERROR) break;
+        int _p312=_pos; _t=ERROR; do { //and
+          _t=trans();
+          x=_t;
+          if (_t==ERROR) break;
+          _push(s); _t=transInside();
+          xs=_t;
+          if (_t==ERROR) break;
+          _t=concat(new Object[] {x}, xs);
+          if (_t==ERROR) break;
+        } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p312, _pos); _pos=_p312; }
+        if (_t!=ERROR) break;
+        _t=new Object[] {};
+        if (_t!=ERROR) break;
+      } while(false);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p307, _pos); _pos=_p307; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+2, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+
+  Object __And_303(Object x) { Object _t=null;
+    Object xs=null;
+    int _p302=_pos; _t=ERROR; do { //and
+      _push("And"); _t=transInside();
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=concat(new Object[] {"And"}, xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p302, _pos); _pos=_p302; }
+    return _t;
+  }
+
+  Object __Or_306(Object x) { Object _t=null;
+    Object xs=null;
+    int _p305=_pos; _t=ERROR; do { //and
+      _push("Or"); _t=transInside();
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=concat(new Object[] {"Or"}, xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p305, _pos); _pos=_p305; }
+    return _t;
+  }
+
+  Object __transInside_311(Object s, Object xs) { Object _t=null;
+    Object ys=null;
+    int _p310=_pos; _t=ERROR; do { //and
+      _push(s); _t=transInside();
+      ys=_t;
+      if (_t==ERROR) break;
+      _t=setChanged();
+      if (_t==ERROR) break;
+      _t=concat(xs, ys);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p310, _pos); _pos=_p310; }
+    return _t;
+  }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 3;
+  static final String[] _names = { "And", "Or", "transInside" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return And();
+      case 1: return Or();
+      case 2: return transInside();
+      default: return super._call(id);
+    }
+  }
+}
+
+
+
+
+ class JMetaCalls extends JMetaPass {  public boolean bounded =  true;
+  public ArrayList calls =  new ArrayList();
+
+  public Object unbounded() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    
+    _t=__act313();
+    if (_t==ERROR) { _pos=_start; _fail(_base+0, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object Many() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object x=null;    do {
+    int _p314=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=unbounded();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p314, _pos); _pos=_p314; }
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object Many1() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object x=null;    do {
+    int _p315=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=unbounded();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p315, _pos); _pos=_p315; }
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object Skip() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+    Object x=null;    do {
+    int _p316=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=unbounded();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p316, _pos); _pos=_p316; }
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object Skip1() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+    Object x=null;    do {
+    int _p317=_pos; _t=ERROR; do { //and
+      _t=trans();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=unbounded();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p317, _pos); _pos=_p317; }
+    _t=_memoize(_base+4, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+  public Object App() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+5, _start);
+        do {
+    long _m318=(getClass()==JMetaCalls.class)? __predict318.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m318 & 1L)!=0) {
+        _t=__App_321();
+        if (_t!=ERROR) break;
+      }
+      _t=__App_325();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict318.expect(this, _m318);
+    _t=_memoize(_base+5, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+Object __act313(){ bounded = false; return null; }
+static final Predict __predict318 = new Predict().sym(0, "super");
+
+  Object __App_321() { Object _t=null;
+    int _p319=_pos; _t=ERROR; do { //and
+      _t=_sym("super");
+      if (_t==ERROR) break;
+      int _l320=_loop(_base+5, 320);
+      while (true) { //many
+        _t=_any();
+        if (_t==ERROR) break;
+        _loopNext(_l320);
+      } _loopEnd(_l320); _t=null;
+      if (_t==ERROR) break;
+      _t=unbounded();
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p319, _pos); _pos=_p319; }
+    return _t;
+  }
+Object __act324(Object r){ calls.add(r); return null; }
+
+  Object __App_325() { Object _t=null;
+    Object r=null;
+    int _p322=_pos; _t=ERROR; do { //and
+      _t=_any();
+      r=_t;
+      if (_t==ERROR) break;
+      int _l323=_loop(_base+5, 323);
+      while (true) { //many
+        _t=_any();
+        if (_t==ERROR) break;
+        _loopNext(_l323);
+      } _loopEnd(_l323); _t=null;
+      if (_t==ERROR) break;
+      _t=__act324(r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p322, _pos); _pos=_p322; }
+    return _t;
+  }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 6;
+  static final String[] _names = { "unbounded", "Many", "Many1", "Skip", "Skip1", "App" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return unbounded();
+      case 1: return Many();
+      case 2: return Many1();
+      case 3: return Skip();
+      case 4: return Skip1();
+      case 5: return App();
+      default: return super._call(id);
+    }
+  }
+}
+
+
+
+
+
+ class JMetaStrOpt extends JMetaPass {
+  public Object Or() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object xs=null;    do {
+    int _p326=_pos; _t=ERROR; do { //and
+      int _l327=_loop(_base+0, 327);
+      java.util.ArrayList<Object> as327=_loopList(_l327);
+      while (true) { //many
+        _t=trans();
+        if (_t==ERROR) break; else as327.add(_t);
+        _loopNext(_l327);
+      } _loopEnd(_l327); _t=as327;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=__act328(xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p326, _pos); _pos=_p326; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }  public boolean isStr(Object x) {
+        return x instanceof Object[] && "Str".equals(((Object[]) x)[0]);
+    }
+  public void merge(ArrayList run, ArrayList res) {
+        boolean longer = false;
+        for (Object x : run) if (((String) ((Object[]) x)[1]).length() != 1) longer = true;
+        if (run.size() < 2 || !longer) { res.addAll(run); run.clear(); return; }
+        ArrayList c = new ArrayList(Arrays.asList("Strs"));
+        for (Object x : run) c.add(((Object[]) x)[1]);
+        res.add(c.toArray());
+        run.clear();
+        setChanged();
+    }
+  public Object strs(Object xs) {
+        ArrayList res = new ArrayList(Arrays.asList("Or"));
+        ArrayList run = new ArrayList();
+        for (Object x : (ArrayList) xs) {
+            if (isStr(x)) { run.add(x); continue; }
+            merge(run, res);
+            res.add(x);
+        }
+        merge(run, res);
+        if (res.size() == 2) return res.get(1);
+        return res.toArray();
+    }
+
+Object __act328(Object xs){ return strs(xs); }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 1;
+  static final String[] _names = { "Or" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return Or();
+      default: return super._call(id);
+    }
+  }
+}
+
+
+
+
+ class JMetaCharOpt extends JMetaPass {
+  public Object Or() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object xs=null;    do {
+    int _p329=_pos; _t=ERROR; do { //and
+      int _l330=_loop(_base+0, 330);
+      java.util.ArrayList<Object> as330=_loopList(_l330);
+      while (true) { //many
+        _t=trans();
+        if (_t==ERROR) break; else as330.add(_t);
+        _loopNext(_l330);
+      } _loopEnd(_l330); _t=as330;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=__act331(xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p329, _pos); _pos=_p329; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }  public boolean isChar(Object x) {
+        if (!(x instanceof Object[])) return false;
+        Object[] a = (Object[]) x;
+        if ("Str".equals(a[0])) return ((String) a[1]).length() == 1;
+        return "Chars".equals(a[0]) && Boolean.FALSE.equals(a[1]);
+    }
+  public void merge(ArrayList run, ArrayList res) {
+        if (run.size() < 2) { res.addAll(run); run.clear(); return; }
+        ArrayList c = new ArrayList(Arrays.asList("Chars", false));
+        for (Object x : run) {
+            Object[] a = (Object[]) x;
+            if ("Str".equals(a[0])) c.add(a);
+            else c.addAll(Arrays.asList(a).subList(2, a.length));
+        }
+        res.add(c.toArray());
+        run.clear();
+        setChanged();
+    }
+  public Object chars(Object xs) {
+        ArrayList res = new ArrayList(Arrays.asList("Or"));
+        ArrayList run = new ArrayList();
+        for (Object x : (ArrayList) xs) {
+            if (isChar(x)) { run.add(x); continue; }
+            merge(run, res);
+            res.add(x);
+        }
+        merge(run, res);
+        if (res.size() == 2) return res.get(1);
+        return res.toArray();
+    }
+
+Object __act331(Object xs){ return chars(xs); }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 1;
+  static final String[] _names = { "Or" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return Or();
+      default: return super._call(id);
+    }
+  }
+}
+
+
+
+
+
+
+
+ class JMetaPredict extends JMetaPass {  public HashMap rules =  new HashMap();
+  public boolean base =  false;
+  public HashMap firsts =  new HashMap();
+  public static final Object NULLABLE =  "nullable";
+
+  public Object Or() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object xs=null;    do {
+    int _p332=_pos; _t=ERROR; do { //and
+      int _l333=_loop(_base+0, 333);
+      java.util.ArrayList<Object> as333=_loopList(_l333);
+      while (true) { //many
+        _t=trans();
+        if (_t==ERROR) break; else as333.add(_t);
+        _loopNext(_l333);
+      } _loopEnd(_l333); _t=as333;
+      xs=_t;
+      if (_t==ERROR) break;
+      _t=__act334(xs);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p332, _pos); _pos=_p332; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }  public Object predict(Object xs) {
+        ArrayList as = (ArrayList) xs;
+        Object[] fs = new Object[as.size()];
+        boolean some = false;
+        for (int i = 0; i < fs.length && i < 64; i++) {
+            HashSet f = first(as.get(i));
+            if (f == null || f.contains(NULLABLE)) continue;
+            fs[i] = f.toArray();
+            ArrayList e = expected(as.get(i));
+            if (e != null) fs[i] = concat(fs[i], e);
+            some = true;
+        }
+        if (!some || fs.length < 2) return concat(new Object[] {"Or"}, as);
+        return concat(new Object[] {"Predict", fs}, as);
+    }
+  public HashMap expects =  new HashMap();
+  public ArrayList expected(Object x) {
+        if (!(x instanceof Object[])) return null;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        ArrayList es = new ArrayList();
+        if (t.equals("Str")) { es.add("\""+ a[1]); return es; }
+        if (t.equals("Strs")) { for (int i = 1; i < a.length; i++) es.add("\""+ a[i]); return es; }
+        if (t.equals("Chars")) { es.add("<"+ Utils.className(a[1], Arrays.asList(a).subList(2, a.length))); return es; }
+        if (t.equals("App") && a.length == 2 && rules.containsKey(a[1])) return expectedOfRule((String) a[1]);
+        if (t.equals("App") && a.length == 2 && base && Arrays.asList("digit", "letter", "nl", "sp").contains(a[1])) {
+            // like in BaseParser, the class of a build-in rule is named after it
+            es.add("<"+ (a[1].equals("nl")? "newline" : a[1].equals("sp")? "space" : a[1]));
+            return es;
+        }
+        if (t.equals("Set")) return expected(a[2]);
+        if (t.equals("Many1") || t.equals("Skip1") || t.equals("Text")) return expected(a[1]);
+        if (t.equals("And")) {
+            // elements that can match empty, like whitespace, match nothing at a char x cannot start with
+            for (int i = 1; i < a.length; i++) {
+                HashSet f = first(a[i]);
+                if (f == null) return null;
+                if (!f.contains(NULLABLE)) return expected(a[i]);
+            }
+            return null;
+        }
+        if (t.equals("Or") || t.equals("Predict")) {
+            for (int i = t.equals("Or")? 1 : 2; i < a.length; i++) {
+                ArrayList e = expected(a[i]);
+                if (e == null) return null;
+                es.addAll(e);
+            }
+            return es;
+        }
+        return null;
+    }
+  public ArrayList expectedOfRule(String r) {
+        if (expects.containsKey(r)) return (ArrayList) expects.get(r);
+        // a rule that is still being looked at is recursive, it is listed without what it expects
+        ArrayList es = new ArrayList(Arrays.asList("="+ r, ")"));
+        expects.put(r, es);
+        ArrayList inner = expected(rules.get(r));
+        if (inner == null) return es;
+        es = new ArrayList(Arrays.asList("="+ r));
+        es.addAll(inner);
+        es.add(")");
+        expects.put(r, es);
+        return es;
+    }
+  public HashSet first(Object x) {
+        if (!(x instanceof Object[])) return null;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        HashSet s = new HashSet();
+        if (t.equals("Str")) {
+            if (((String) a[1]).length() == 0) s.add(NULLABLE); else s.add(((String) a[1]).charAt(0));
+            return s;
+        }
+        if (t.equals("Strs")) {
+            for (int i = 1; i < a.length; i++) {
+                if (((String) a[i]).length() == 0) s.add(NULLABLE); else s.add(((String) a[i]).charAt(0));
+            }
+            return s;
+        }
+        if (t.equals("Sym")) { s.add(a[1]); return s; }
+        if (t.equals("Chars")) {
+            if (Boolean.TRUE.equals(a[1])) return null;
+            for (int i = 2; i < a.length; i++) {
+                Object[] r = (Object[]) a[i];
+                if ("Str".equals(r[0])) { s.add(((String) r[1]).charAt(0)); continue; }
+                int lo = r[1].toString().charAt(0), hi = r[2].toString().charAt(0);
+                if (hi - lo > 256) return null;
+                for (int c = lo; c <= hi; c++) s.add((char) c);
+            }
+            return s;
+        }
+        if (t.equals("Set")) return first(a[2]);
+        if (t.equals("Peek") || t.equals("Many1") || t.equals("Skip1") || t.equals("Text")) return first(a[1]);
+        if (t.equals("Many") || t.equals("Skip") || t.equals("Opt")) {
+            s = first(a[1]);
+            if (s != null) s.add(NULLABLE);
+            return s;
+        }
+        if (t.equals("Not")) { s.add(NULLABLE); return s; }
+        if (t.equals("List")) {
+            // a list that starts with a symbol, marked with a "[" that symbols cannot contain
+            HashSet f = first(a[1]);
+            if (f == null || f.contains(NULLABLE)) return null;
+            for (Object o : f) {
+                if (!(o instanceof String)) return null;
+                s.add("["+ o);
+            }
+            return s;
+        }
+        if (t.equals("Or") || t.equals("Predict")) {
+            for (int i = t.equals("Or")? 1 : 2; i < a.length; i++) {
+                HashSet f = first(a[i]);
+                if (f == null) return null;
+                s.addAll(f);
+            }
+            return s;
+        }
+        if (t.equals("And")) {
+            s.add(NULLABLE);
+            for (int i = 1; i < a.length; i++) {
+                HashSet f = first(a[i]);
+                if (f == null) return null;
+                s.addAll(f);
+                if (!f.contains(NULLABLE)) { s.remove(NULLABLE); return s; }
+            }
+            return s;
+        }
+        if (t.equals("App") && a.length == 2) return firstOfRule((String) a[1]);
+        return null;
+    }
+  public HashSet firstOfRule(String r) {
+        if (rules.containsKey(r)) {
+            if (firsts.containsKey(r)) return (HashSet) firsts.get(r);
+            // a rule that is still being looked at is recursive, it can start with anything
+            firsts.put(r, null);
+            HashSet f = first(rules.get(r));
+            firsts.put(r, f);
+            return f;
+        }
+        if (!base) return null;
+        String cs = null;
+        if (r.equals("digit"))  cs = "0123456789";
+        if (r.equals("letter")) cs = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        if (r.equals("nl"))     cs = "\n\r";
+        if (r.equals("sp"))     cs = " \t\f";
+        if (r.equals("ws"))     cs = " \t\f\n\r";
+        if (r.equals("empty") || r.equals("pos") || r.equals("col")) cs = "";
+        if (cs == null) return null;
+        HashSet s = new HashSet();
+        for (int i = 0; i < cs.length(); i++) s.add(cs.charAt(i));
+        if (r.equals("ws") || cs.length() == 0) s.add(NULLABLE);
+        return s;
+    }
+
+Object __act334(Object xs){ return predict(xs); }
+
+  static final int _base = JMetaPass._rules;
+  public static final int _rules = _base + 1;
+  static final String[] _names = { "Or" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(JMetaPass._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return Or();
+      default: return super._call(id);
+    }
+  }
+}
+
+
+
+ class JMetaOptimizer extends BaseParser {  public static final List bounded =  Arrays.asList("_any", "empty", "end", "digit", "letter", "nl", "sp", "str", "sym", "pos", "col");
+  public Object memoPolicy(Object sn, Object rs) {
+        HashMap<String, JMetaCalls> rules = new HashMap<String, JMetaCalls>();
+        for (Object r : (ArrayList) rs) {
+            if (!(r instanceof Object[]) || !"Rule".equals(((Object[]) r)[0])) continue;
+            JMetaCalls calls = new JMetaCalls();
+            calls.parse(r);
+            rules.put((String) ((Object[]) r)[1], calls);
+        }
+
+        HashSet<String> trivial = new HashSet<String>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, JMetaCalls> e : rules.entrySet()) {
+                if (trivial.contains(e.getKey()) || !e.getValue().bounded) continue;
+                boolean ok = true;
+                for (Object c : e.getValue().calls) {
+                    if (trivial.contains(c)) continue;
+                    if (!rules.containsKey(c) && "BaseParser".equals(sn) && bounded.contains(c)) continue;
+                    ok = false; break;
+                }
+                if (ok) { trivial.add(e.getKey()); changed = true; }
+            }
+        }
+
+        ArrayList res = new ArrayList();
+        for (Object r : (ArrayList) rs) {
+            if (r instanceof Object[] && "Rule".equals(((Object[]) r)[0]) && trivial.contains(((Object[]) r)[1])) {
+                List as = Arrays.asList((Object[]) r).subList(3, ((Object[]) r).length);
+                if (!as.contains("memo") && !as.contains("nomemo")) r = concat(r, new Object[] {"nomemo"});
+            }
+            res.add(r);
+        }
+        return res;
+    }
+  public Object unused(Object x, boolean used) {
+        if (!(x instanceof Object[])) return x;
+        Object[] a = ((Object[]) x).clone();
+        String t = (String) a[0];
+        if (t.equals("Rule")) { a[2] = unused(a[2], true); return a; }
+        if (t.equals("Set")) { a[2] = unused(a[2], true); return a; }
+        if (t.equals("Not") || t.equals("Text")) { a[1] = unused(a[1], false); return a; }
+        if (t.equals("Peek") || t.equals("Opt") || t.equals("List")) { a[1] = unused(a[1], used); return a; }
+        if (t.equals("Many") || t.equals("Many1")) {
+            a[1] = unused(a[1], used);
+            if (!used) a[0] = t.equals("Many")? "Skip" : "Skip1";
+            return a;
+        }
+        if (t.equals("Or")) {
+            for (int i = 1; i < a.length; i++) a[i] = unused(a[i], used);
+            return a;
+        }
+        if (t.equals("And")) {
+            // the value of a sequence is that of its last element, errors and cuts are not elements
+            int last = a.length - 1;
+            while (last > 0 && a[last] instanceof Object[] && ("Error".equals(((Object[]) a[last])[0]) || "Cut".equals(((Object[]) a[last])[0]))) last--;
+            for (int i = 1; i < a.length; i++) a[i] = unused(a[i], used && i == last);
+            return a;
+        }
+        return x;
+    }
+  public Object predict(Object sn, Object rs) {
+        JMetaPredict predict = new JMetaPredict();
+        predict.base = "BaseParser".equals(sn);
+        for (Object r : (ArrayList) rs) {
+            if (r instanceof Object[] && "Rule".equals(((Object[]) r)[0])) predict.rules.put(((Object[]) r)[1], ((Object[]) r)[2]);
+        }
+        ArrayList res = new ArrayList();
+        for (Object r : (ArrayList) rs) {
+            if (r instanceof Object[] && "Rule".equals(((Object[]) r)[0])) r = predict.parse(r);
+            res.add(r);
+        }
+        return res;
+    }
+  public static final int INLINE =  325;
+  public static final int BUDGET =  INLINE * 9 / 10;
+  public Object outline(Object rs) {
+        ArrayList res = new ArrayList();
+        for (Object r : (ArrayList) rs) {
+            if (r instanceof Object[] && "Rule".equals(((Object[]) r)[0])) {
+                Object[] a = ((Object[]) r).clone();
+                HashSet<String> vars = new HashSet<String>();
+                sets(a[2], vars);
+                List as = Arrays.asList(a).subList(3, a.length);
+                // the code of every rule, including tracking what it expected for error messages
+                int rule = (as.contains("nomemo") && !as.contains("memo"))? 90 : 120;
+                a[2] = fit(a[2], BUDGET - rule - 2 * vars.size(), (String) a[1], a[2], vars.size());
+                r = a;
+            }
+            res.add(r);
+        }
+        return res;
+    }
+  public Object fit(Object x, int budget, String rule, Object body, int vars) {
+        if (!(x instanceof Object[])) return x;
+        Object[] o = (Object[]) x, a = o.clone();
+        String t = (String) a[0];
+        if (t.equals("App") || t.equals("SAct") || t.equals("Chars")) return a;
+        int first = (t.equals("Set") || t.equals("Predict"))? 2 : 1;
+        for (int i = first; i < a.length; i++) a[i] = fit(a[i], BUDGET - 10, rule, body, vars);
+        boolean[] shrunk = new boolean[a.length];
+        while (cost(a, vars) > budget) {
+            int best = -1, max = 20 + 2 * vars;
+            for (int i = first; i < a.length; i++) {
+                int c = cost(a[i], vars);
+                if (c > max && outlinable(o[i], null, o[i], body)) { best = i; max = c; }
+            }
+            if (best >= 0) { a[best] = new Object[] {"Outline", rule, a[best]}; continue; }
+            max = 0;
+            for (int i = first; i < a.length; i++) {
+                int c = cost(a[i], vars);
+                if (c > max && !shrunk[i] && !"Outline".equals(((Object[]) a[i])[0])) { best = i; max = c; }
+            }
+            if (best < 0) break;
+            shrunk[best] = true;
+            a[best] = fit(o[best], max - (cost(a, vars) - budget), rule, body, vars);
+        }
+        Object[] os = o;
+        Object call = new Object[] {"Outline", rule, null};
+        while ((t.equals("And") || t.equals("Or") || t.equals("Predict")) && cost(a, vars) > budget) {
+            // the shortest tail that makes the rest fit, or else the longest tail that fits in a method of its own
+            int k = -1;
+            for (int i = a.length - 2; i > first; i--) {
+                if (cost(tail(a, i), vars) > BUDGET - 10 || !outlinable(tail(os, i), head(os, i, null), o, body)) break;
+                k = i;
+                if (cost(head(a, i, call), vars) <= budget) break;
+            }
+            if (k < 0) break;
+            a = (Object[]) head(a, k, new Object[] {"Outline", rule, tail(a, k)});
+            os = (Object[]) head(os, k, tail(os, k));
+        }
+        return a;
+    }
+  public Object head(Object[] a, int k, Object last) {
+        Object[] h = Arrays.copyOf(a, k + 1);
+        h[k] = last;
+        if (a[0].equals("Predict")) {
+            h[1] = Arrays.copyOf((Object[]) a[1], k - 1);
+            ((Object[]) h[1])[k - 2] = null;
+        }
+        return h;
+    }
+  public Object tail(Object[] a, int k) {
+        ArrayList res = new ArrayList(Arrays.asList(a[0]));
+        if (a[0].equals("Predict")) res.add(Arrays.copyOfRange((Object[]) a[1], k - 2, a.length - 2));
+        for (int i = k - 1; i > 0 && a[0].equals("And"); i--) {
+            String e = (a[i] instanceof Object[])? (String) ((Object[]) a[i])[0] : "";
+            if (e.equals("Cut")) { res.add(new Object[] {"Throw", ""}); break; }
+            if (e.equals("Error") || e.equals("Throw")) { res.add(new Object[] {"Throw", ((Object[]) a[i])[1]}); break; }
+        }
+        res.addAll(Arrays.asList(a).subList(k, a.length));
+        return res.toArray();
+    }
+  public boolean outlinable(Object x, Object before, Object whole, Object body) {
+        if (!(x instanceof Object[])) return false;
+        String t = (String) ((Object[]) x)[0];
+        if (t.equals("Error") || t.equals("Cut") || t.equals("Throw") || ((Object[]) x).length == 1) return false;
+        HashSet<String> vs = new HashSet<String>();
+        sets(x, vs);
+        for (String v : vs) {
+            if (exposed(before, null, v) || exposed(body, whole, v)) return false;
+            // unless the rule always set it before, as the outlined part is passed what the rule set last
+            if (exposed(x, null, v) && !setBefore(body, whole, v, false) && !definitelySets(before, v)) return false;
+        }
+        return true;
+    }
+  public boolean setBefore(Object x, Object target, String v, boolean set) {
+        if (x == target || !(x instanceof Object[])) return set;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        if (t.equals("Many") || t.equals("Many1") || t.equals("Skip") || t.equals("Skip1")) set = false;
+        for (int i = t.equals("Predict")? 2 : 1; i < a.length; i++) {
+            if (contains(a[i], target)) return setBefore(a[i], target, v, set);
+            if (t.equals("And") && definitelySets(a[i], v)) set = true;
+        }
+        return set;
+    }
+  public void sets(Object x, HashSet<String> vs) {
+        if (!(x instanceof Object[])) return;
+        Object[] a = (Object[]) x;
+        if ("Set".equals(a[0])) vs.add((String) a[1]);
+        for (int i = "Predict".equals(a[0])? 2 : 1; i < a.length; i++) sets(a[i], vs);
+    }
+  public boolean exposed(Object x, Object skip, String v) {
+        if (!(x instanceof Object[]) || x == skip) return false;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        if (t.equals("HLit") || t.equals("Act") || t.equals("Pred")) return Arrays.asList(a[1].toString().split("[^\\w$]+")).contains(v);
+        if (t.equals("And")) {
+            boolean set = false;
+            for (int i = 1; i < a.length; i++) {
+                boolean after = skip != null && contains(a[i], skip);
+                if ((!set || after) && exposed(a[i], skip, v)) return true;
+                if (after) set = false;
+                else if (definitelySets(a[i], v)) set = true;
+            }
+            return false;
+        }
+        for (int i = t.equals("Predict")? 2 : 1; i < a.length; i++) if (exposed(a[i], skip, v)) return true;
+        return false;
+    }
+  public boolean definitelySets(Object x, String v) {
+        if (!(x instanceof Object[])) return false;
+        Object[] a = (Object[]) x;
+        if ("Set".equals(a[0])) return a[1].equals(v) || definitelySets(a[2], v);
+        if ("And".equals(a[0])) for (int i = 1; i < a.length; i++) if (definitelySets(a[i], v)) return true;
+        return false;
+    }
+  public boolean contains(Object x, Object y) {
+        if (x == y) return true;
+        if (!(x instanceof Object[])) return false;
+        for (Object o : (Object[]) x) if (contains(o, y)) return true;
+        return false;
+    }
+  public int cost(Object x, int vars) {
+        if (!(x instanceof Object[])) return 0;
+        Object[] a = (Object[]) x;
+        String t = (String) a[0];
+        int c = 0;
+        if (t.equals("And")) {
+            boolean error = false;
+            c = 46;
+            for (int i = 1; i < a.length; i++) {
+                String e = (a[i] instanceof Object[])? (String) ((Object[]) a[i])[0] : "";
+                if (e.equals("Error")) { error = true; c += 11; }
+                else if (e.equals("Throw")) error = true;
+                else if (e.equals("Cut")) c += 4;
+                else c += cost(a[i], vars) + (error? 18 : 7);
+            }
+            return c;
+        }
+        if (t.equals("Or"))      { c = 4;  for (int i = 1; i < a.length; i++) c += cost(a[i], vars) + 7;  return c; }
+        if (t.equals("Predict")) { c = 45; for (int i = 2; i < a.length; i++) c += cost(a[i], vars) + 18; return c; }
+        if (t.equals("App")) {
+            int i = "super".equals(a[1])? 3 : 2;
+            c = (i < a.length)? 15 : 5;
+            for (; i < a.length; i++) c += cost(a[i], vars) + 4;
+            return c;
+        }
+        if (t.equals("HList"))   { c = 5;  for (int i = 1; i < a.length; i++) c += cost(a[i], vars) + 4;  return c; }
+        if (t.equals("HConcat")) return 3 + cost(a[1], vars) + cost(a[2], vars);
+        if (t.equals("HStr") || t.equals("HLit")) return 2;
+        if (t.equals("SAct"))    return 1 + cost(a[1], vars);
+        if (t.equals("Set"))     return 4 + cost(a[2], vars);
+        // a repetition includes resuming it in a push parse, see JMetaCompiler.resumable
+        if (t.equals("Many"))    return 43 + cost(a[1], vars);
+        if (t.equals("Many1"))   return 51 + cost(a[1], vars);
+        if (t.equals("Skip"))    return 33 + cost(a[1], vars);
+        if (t.equals("Skip1"))   return 48 + cost(a[1], vars);
+        if (t.equals("Opt"))     return 22 + cost(a[1], vars);
+        if (t.equals("Not"))     return 40 + cost(a[1], vars);
+        if (t.equals("Peek"))    return 19 + cost(a[1], vars);
+        if (t.equals("Text"))    return 20 + cost(a[1], vars);
+        if (t.equals("List"))    return 16 + cost(a[1], vars);
+        if (t.equals("Act") || t.equals("Outline")) return 5 + 2 * vars;
+        if (t.equals("Pred"))    return 12 + 2 * vars;
+        if (t.equals("Str") || t.equals("Sym")) return 7;
+        return 8;
+    }
+
+  public Object optimizeGrammar() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object p=null;    do {
+    int _p335=_pos; _t=ERROR; do { //and
+      if (cutOnError) _cut();
+      _t=_sym("Parser");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_any();
+      p=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__optimizeGrammar_340(p);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p335, _pos); _pos=_p335; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object optimizeRule() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object r=null;
+    int _p341=_pos; _t=ERROR; do { //and
+      _t=_any();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=__act342(r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p341, _pos); _pos=_p341; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+1, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+
+  Object __optimizeGrammar_338(Object p, Object n, Object sn) { Object _t=null;
+    int _l337=_loop(_base+0, 337);
+    java.util.ArrayList<Object> as337=_loopList(_l337);
+    while (true) { //many
+      _t=optimizeRule();
+      if (_t==ERROR) break; else as337.add(_t);
+      _loopNext(_l337);
+    } _loopEnd(_l337); _t=as337;
+    return _t;
+  }
+Object __act339(Object p, Object n, Object sn, Object rs){
+        return concat(new Object[] {"Parser", p, n, sn}, outline(predict(sn, memoPolicy(sn, rs))));
+    }
+
+  Object __optimizeGrammar_340(Object p) { Object _t=null;
+    Object n=null; Object sn=null; Object rs=null;
+    int _p336=_pos; _t=ERROR; do { //and
+      _t=_any();
+      n=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_any();
+      sn=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__optimizeGrammar_338(p,n,sn);
+      rs=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__act339(p,n,sn,rs);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p336, _pos); _pos=_p336; }
+    return _t;
+  }
+Object __act342(Object r){
+        JMetaAndOrOpt opt = new JMetaAndOrOpt();
+        do {
+            opt.changed = false;
+            r = opt.parse(r);
+        } while (opt.changed);
+        r = new JMetaStrOpt().parse(r);
+        r = new JMetaCharOpt().parse(r);
+        return unused(r, true);
+    }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 2;
+  static final String[] _names = { "optimizeGrammar", "optimizeRule" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return optimizeGrammar();
+      case 1: return optimizeRule();
+      default: return super._call(id);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.io.*;
+import java.util.*;
+
+/// Reports the bytecode size of the methods of compiled parsers, to verify the JIT can compile and inline them.
+/// ```
+///     java -cp jmeta.jar jmeta.JMetaSizes [--all] <class file or directory>...
+/// ```
+/// HotSpot never compiles methods over 8000 bytes of bytecode (unless run with `-XX:-DontCompileHugeMethods`), and does
+/// not inline hot methods over 325 bytes (`-XX:FreqInlineSize`). Methods over the first limit are listed as `never compiled`, over
+/// the second as `not inlined`, and with `--all` all others are listed too. The exit code is 1 if any method is never
+/// compiled.
+///
+/// The compiler outlines parts of rules to keep their methods within these limits, see JMetaOptimizer.outline.
+public class JMetaSizes {
+    public static final int HUGE = 8000;
+    public static final int INLINE = 325;
+
+    public boolean all = false;
+    public PrintStream out = System.out;
+    public int huge = 0;
+
+    public static void main(String[] args) { System.exit(run(args)); }
+
+    /// parses the command line and reports; returns the exit code: 0 if all methods can be compiled, 1 if not, 2 on bad
+    /// usage
+    public static int run(String[] args) {
+        JMetaSizes sizes = new JMetaSizes();
+        ArrayList<File> files = new ArrayList<File>();
+        for (String a : args) {
+            if (a.equals("--all")) sizes.all = true;
+            else if (a.startsWith("-")) { files.clear(); break; }
+            else files.add(new File(a));
+        }
+        if (files.isEmpty()) {
+            System.out.println("JMetaSizes [--all] <class file or directory>...");
+            return 2;
+        }
+        try {
+            for (File f : files) sizes.report(f);
+        } catch (IOException ex) {
+            System.out.println(ex.getMessage());
+            return 2;
+        }
+        return (sizes.huge > 0)? 1 : 0;
+    }
+
+    /// reports the methods of a class file, or of all class files in a directory and below
+    public void report(File f) throws IOException {
+        if (f.isDirectory()) {
+            File[] fs = f.listFiles();
+            Arrays.sort(fs);
+            for (File c : fs) if (c.isDirectory() || c.getName().endsWith(".class")) report(c);
+            return;
+        }
+        InputStream in = new FileInputStream(f);
+        Map<String, Integer> ms;
+        try {
+            ms = methods(new DataInputStream(new BufferedInputStream(in)));
+        } catch (IOException ex) {
+            throw new IOException(f +": cannot read: "+ ex.getMessage());
+        } finally {
+            in.close();
+        }
+        int over = 0;
+        for (Map.Entry<String, Integer> e : ms.entrySet()) {
+            int size = e.getValue();
+            if (size > HUGE) { huge++; over++; }
+            else if (size > INLINE) over++;
+            else if (!all) continue;
+            out.println(f +": "+ e.getKey() +" "+ size + ((size > HUGE)? " never compiled" : (size > INLINE)? " not inlined" : ""));
+        }
+        out.println(f +": "+ ms.size() +" methods, "+ over +" over "+ INLINE +" bytes");
+    }
+
+    /// the code size of each method of a class file, by name and descriptor; abstract and native methods are left out
+    public static Map<String, Integer> methods(DataInputStream in) throws IOException {
+        if (in.readInt() != 0xCAFEBABE) throw new IOException("not a class file");
+        in.readInt();
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: utf8[i] = in.readUTF(); break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: skip(in, 4); break;
+                case 5: case 6: skip(in, 8); i++; break;
+                case 7: case 8: case 16: case 19: case 20: skip(in, 2); break;
+                case 15: skip(in, 3); break;
+                default: throw new IOException("unknown constant: "+ tag);
+            }
+        }
+        skip(in, 6);
+        skip(in, 2 * in.readUnsignedShort());
+        int fields = in.readUnsignedShort();
+        for (int i = 0; i < fields; i++) { skip(in, 6); skipAttributes(in); }
+
+        LinkedHashMap<String, Integer> res = new LinkedHashMap<String, Integer>();
+        int methods = in.readUnsignedShort();
+        for (int i = 0; i < methods; i++) {
+            skip(in, 2);
+            String name = utf8[in.readUnsignedShort()] + utf8[in.readUnsignedShort()];
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                String a = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if (a.equals("Code")) {
+                    skip(in, 4);
+                    res.put(name, in.readInt());
+                    length -= 8;
+                }
+                skip(in, length);
+            }
+        }
+        return res;
+    }
+
+    static void skipAttributes(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) { skip(in, 2); skip(in, in.readInt()); }
+    }
+
+    // skipBytes may skip less than asked
+    static void skip(DataInputStream in, int n) throws IOException {
+        in.readFully(new byte[n]);
+    }
+}
@@ -0,0 +1,101 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import jdk.jfr.*;
+
+/// A ParseListener that emits Java Flight Recorder events, to correlate parsing with GC and other JVM events.
+///
+/// Emits a `jmeta.Parse` event for each outermost rule, usually a whole parse, with its memo counts; a
+/// `jmeta.Backtrack` event for each backtrack that throws away at least `threshold` chars; and a `jmeta.Grow` event
+/// for each left recursion grow iteration. Needs java 11 or later, build it using `make jmeta-jfr.jar`.
+public class JfrListener implements ParseListener {
+    @Name("jmeta.Parse") @Label("Parse") @Category("JMeta")
+    static class ParseEvent extends Event {
+        @Label("Parser") String parser;
+        @Label("Rule") String rule;
+        @Label("Chars") int chars;
+        @Label("Success") boolean success;
+        @Label("Rule Evaluations") long calls;
+        @Label("Memo Hits") long hits;
+        @Label("Memo Misses") long misses;
+        @Label("Backtracked Chars") long backtracked;
+    }
+
+    @Name("jmeta.Backtrack") @Label("Backtrack") @Category("JMeta")
+    static class BacktrackEvent extends Event {
+        @Label("Parser") String parser;
+        @Label("Start") int start;
+        @Label("Chars") int chars;
+    }
+
+    @Name("jmeta.Grow") @Label("Left Recursion Grow") @Category("JMeta")
+    static class GrowEvent extends Event {
+        @Label("Parser") String parser;
+        @Label("Rule") String rule;
+        @Label("Start") int start;
+        @Label("Chars") int chars;
+    }
+
+    /// minimum chars thrown away by a backtrack to emit an event for it
+    public int threshold = 1024;
+
+    private int depth = 0;
+    private ParseEvent parse;
+    private long calls, hits, misses, backtracked;
+
+    public void enter(BaseParser parser, int rule, int pos) {
+        calls++;
+        if (depth++ > 0) return;
+        calls = 1; hits = 0; misses = 0; backtracked = 0;
+        parse = new ParseEvent();
+        parse.begin();
+    }
+
+    public void exit(BaseParser parser, int rule, int start, int end, Object result) {
+        if (depth == 0 || --depth > 0) return;
+        parse.end();
+        if (parse.shouldCommit()) {
+            parse.parser = parser.getClass().getName();
+            parse.rule = parser._ruleName(rule);
+            parse.chars = end - start;
+            parse.success = result != BaseParser.ERROR;
+            parse.calls = calls;
+            parse.hits = hits;
+            parse.misses = misses;
+            parse.backtracked = backtracked;
+            parse.commit();
+        }
+        parse = null;
+    }
+
+    public void memo(BaseParser parser, int rule, int pos, boolean hit) {
+        if (hit) hits++; else misses++;
+    }
+
+    public void grow(BaseParser parser, int rule, int pos, int end) {
+        GrowEvent e = new GrowEvent();
+        if (!e.isEnabled()) return;
+        e.parser = parser.getClass().getName();
+        e.rule = parser._ruleName(rule);
+        e.start = pos;
+        e.chars = end - pos;
+        e.commit();
+    }
+
+    public void backtrack(BaseParser parser, int start, int end) {
+        backtracked += end - start;
+        if (end - start < threshold) return;
+        BacktrackEvent e = new BacktrackEvent();
+        if (!e.isEnabled()) return;
+        e.parser = parser.getClass().getName();
+        e.start = start;
+        e.chars = end - start;
+        e.commit();
+    }
+
+    /// a syntax error skips the exit of the outermost rule; call this before reusing the listener after one
+    public void reset() {
+        depth = 0;
+        parse = null;
+    }
+}
@@ -0,0 +1,53 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+/// Index of the line starts of a text, built lazily up to the positions asked for; the line of a position is found
+/// with a binary search. Lines are separated by '\n', the first line is 0.
+final class LineIndex {
+    final CharSequence input;
+    private int[] starts = new int[64]; // starts[i] is the position of the first char of line first + i
+    private int count = 1;
+    private int first = 0;              // number of lines released before starts[0]
+    private int scanned = 0;            // all newlines before scanned are indexed
+
+    LineIndex(CharSequence input) { this.input = input; }
+
+    // index all newlines before p
+    private void scan(int p) {
+        for (; scanned < p; scanned++) {
+            if (input.charAt(scanned) != '\n') continue;
+            if (count == starts.length) {
+                int[] n = new int[count * 2];
+                System.arraycopy(starts, 0, n, 0, count);
+                starts = n;
+            }
+            starts[count++] = scanned + 1;
+        }
+    }
+
+    /// returns the line of position p
+    int line(int p) {
+        scan(p);
+        // parsers mostly ask for positions on the last line
+        if (p >= starts[count - 1]) return first + count - 1;
+        if (p < starts[0]) throw new IllegalStateException("line of position "+ p +" was released");
+        int lo = 0, hi = count - 1; // starts[lo] <= p < starts[hi]
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= p) lo = mid; else hi = mid;
+        }
+        return first + lo;
+    }
+
+    /// returns the position of the first char of line
+    int start(int line) { return starts[line - first]; }
+
+    /// forget the lines before the line of position p; used when the input before p is released
+    void release(int p) {
+        int n = line(p) - first;
+        if (n <= 0) return;
+        System.arraycopy(starts, n, starts, 0, count - n);
+        count -= n;
+        first += n;
+    }
+}
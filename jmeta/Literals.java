@@ -0,0 +1,75 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.Arrays;
+
+/// An ordered choice of string literals, like `"static" | "final" | "for" | "foreach"`, stored as a trie of their
+/// shared prefixes. Matching walks the input once and returns the first listed literal the input starts with, just like
+/// trying each literal in turn would; so `"for" | "foreach"` never matches "foreach".
+///
+/// The compiler merges alternatives of literals into one; generated parsers create them once, in a static field:
+/// ```
+///     static final Literals __literals0 = new Literals("static", "final", "for", "foreach");
+/// ```
+public final class Literals {
+    static final class Node {
+        char[] cs = new char[0];
+        Node[] kids = new Node[0];
+        String lit = null;     // the literal ending here, if any
+        int alt = Integer.MAX_VALUE;  // its index in the choice
+        int min = Integer.MAX_VALUE;  // the lowest index of all literals ending here or below
+
+        Node kid(char c) {
+            for (int i = 0; i < cs.length; i++) if (cs[i] == c) return kids[i];
+            return null;
+        }
+    }
+
+    final Node root = new Node();
+    final String[] lits;
+
+    public Literals(String... lits) {
+        this.lits = lits;
+        for (int i = 0; i < lits.length; i++) {
+            Node n = root;
+            n.min = Math.min(n.min, i);
+            for (int j = 0; j < lits[i].length(); j++) {
+                char c = lits[i].charAt(j);
+                Node k = n.kid(c);
+                if (k == null) {
+                    k = new Node();
+                    int size = n.cs.length;
+                    n.cs = Arrays.copyOf(n.cs, size + 1); n.cs[size] = c;
+                    n.kids = Arrays.copyOf(n.kids, size + 1); n.kids[size] = k;
+                }
+                n = k;
+                n.min = Math.min(n.min, i);
+            }
+            // a literal listed twice can only ever match the first time
+            if (n.lit == null) { n.lit = lits[i]; n.alt = i; }
+        }
+    }
+
+    /// returns the first listed literal the input of parser starts with at its current position, or null
+    public String match(BaseParser parser) {
+        final CharSequence s = parser._string;
+        int p = parser._pos;
+        Node n = root;
+        String best = null;
+        int alt = Integer.MAX_VALUE;
+        while (true) {
+            if (n.alt < alt) { best = n.lit; alt = n.alt; }
+            // no literal further down is listed before the one found
+            if (n.cs.length == 0 || n.min >= alt) return best;
+            if (!parser._avail(p)) return best;
+            n = n.kid(s.charAt(p++));
+            if (n == null) return best;
+        }
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (String l : lits) { if (sb.length() > 0) sb.append(" | "); sb.append('"').append(l).append('"'); }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,15 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.ArrayList;
+
+/// a repetition being evaluated by a push parse, and how far it got: after count complete iterations, ending at pos,
+/// that built list, if it builds one; far and posdep are those of its rule application then
+///
+/// It is identified by its site in the parser, where it started, and the rule application it is directly in, at app.
+/// Like heads, loops are reused, @see BaseParser._loops.
+final class Loop {
+    int rule; int app; int site; int start;
+    int pos; int count; int far; boolean posdep;
+    ArrayList<Object> list;
+}
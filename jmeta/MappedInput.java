@@ -0,0 +1,68 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/// A CharSequence view of a memory mapped file, one byte per char (ASCII or Latin-1). The file is not read into heap,
+/// the OS pages it in while parsing. Since positions are ints, files are limited to 2GB.
+public final class MappedInput implements CharSequence {
+    private final ByteBuffer buf;
+    private final int offset;
+    private final int length;
+
+    public MappedInput(File f) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(f, "r");
+        try {
+            FileChannel ch = file.getChannel();
+            long size = ch.size();
+            if (size > Integer.MAX_VALUE) throw new IOException("file too large to parse: "+ f);
+            buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } finally {
+            file.close();
+        }
+        offset = 0;
+        length = buf.capacity();
+    }
+
+    private MappedInput(ByteBuffer buf, int offset, int length) {
+        this.buf = buf; this.offset = offset; this.length = length;
+    }
+
+    /// opens a file for parsing without reading it into a String; ASCII files are memory mapped, other files are
+    /// decoded as UTF-8 while parsing, @see ReaderInput. Checking for ASCII touches every page of the file once before
+    /// the parse starts, they are paged in by the OS and not copied, so they are still cached when the parse reads them.
+    /// A ReaderInput holds the file open until it is read to the end; close it if the parse stops before that.
+    public static CharSequence open(String f) throws IOException {
+        MappedInput m = new MappedInput(new File(f));
+        if (m.ascii()) return m;
+        return new ReaderInput(new BufferedReader(new InputStreamReader(new FileInputStream(f), "UTF-8")));
+    }
+
+    // all bytes are 7 bit ASCII, in which case the chars are the same as when decoded as UTF-8; tests 8 bytes at once
+    private boolean ascii() {
+        int i = 0;
+        for (; i + 8 <= length; i += 8) if ((buf.getLong(offset + i) & 0x8080808080808080L) != 0) return false;
+        for (; i < length; i++) if (buf.get(offset + i) < 0) return false;
+        return true;
+    }
+
+    public char charAt(int i) {
+        if (i < 0 || i >= length) throw new IndexOutOfBoundsException("index: "+ i +", length: "+ length);
+        return (char) (buf.get(offset + i) & 0xFF);
+    }
+
+    public int length() { return length; }
+
+    public CharSequence subSequence(int b, int e) {
+        if (b < 0 || e > length || b > e) throw new IndexOutOfBoundsException("range: "+ b +"-"+ e +", length: "+ length);
+        return new MappedInput(buf, offset + b, e - b);
+    }
+
+    public String toString() {
+        char[] cs = new char[length];
+        for (int i = 0; i < length; i++) cs[i] = (char) (buf.get(offset + i) & 0xFF);
+        return new String(cs);
+    }
+}
@@ -0,0 +1,34 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.Map;
+
+/// Picks which memoized results to forget first when a memo table is over its limit; @see BaseParser.memoMaxBytes
+///
+/// A table forgets the results of one rule at a run of 64 consecutive positions at a time, and the results of rule
+/// applications with arguments one by one. A forgotten result is simply evaluated again when it is needed.
+public interface MemoPolicy {
+    /// the order in which to forget the results of rule at pos, lowest first; used is a clock of when they were last
+    /// looked up or stored, current is the position of the parse
+    long order(int rule, int pos, long used, int current);
+
+    /// forgets the results farthest behind the current position first, and those ahead of it last
+    MemoPolicy DISTANCE = (rule, pos, used, current) -> (long) pos - current;
+
+    /// forgets the results that were least recently used first
+    MemoPolicy LRU = (rule, pos, used, current) -> used;
+
+    /// forgets the results of rules with the lowest priority first, and those farthest behind first within a rule;
+    /// rules that are not named have priority 0
+    static MemoPolicy byRule(BaseParser parser, Map<String, Integer> priorities) {
+        int size = 0;
+        for (String r : priorities.keySet()) {
+            int id = parser._ruleId(r);
+            if (id < 0) throw new IllegalArgumentException("no rule '"+ r +"' in "+ parser.getClass().getName());
+            size = Math.max(size, id + 1);
+        }
+        final int[] ps = new int[size];
+        for (Map.Entry<String, Integer> e : priorities.entrySet()) ps[parser._ruleId(e.getKey())] = e.getValue();
+        return (rule, pos, used, current) -> ((long) ((rule < ps.length)? ps[rule] : 0) << 32) + pos;
+    }
+}
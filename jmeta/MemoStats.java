@@ -0,0 +1,15 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+/// Estimated memory used by the memo tables of a parse, shared by the table of the input and the tables of nested
+/// lists. The estimate counts the arrays and entries the tables allocate, assuming compressed references.
+final class MemoStats {
+    long bytes;
+    long peak;
+    long evicted;
+
+    void add(long n) {
+        bytes += n;
+        if (bytes > peak) peak = bytes;
+    }
+}
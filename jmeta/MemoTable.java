@@ -0,0 +1,449 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+/// Memoization table for a single input (String or list).
+///
+/// Results are kept in one column per rule id, a column is split in leafs of positions that are allocated on first
+/// use. A column holds the end position and the value of a rule application, so a lookup is just array indexing; no
+/// hashing, no boxing and no allocation per entry.
+///
+/// A cut forgets all leafs before a position and slides the columns, so the columns only cover the part of the input
+/// after the last cut. The few entries before the cut that still matter (rules that are being evaluated) and anything
+/// memoized before the cut afterwards are kept in the keyed table, like rule applications with arguments.
+///
+/// For incremental parsing the table also keeps how far each rule application examined the input, so after an edit
+/// only the entries that examined the edited chars are forgotten; @see edit()
+///
+/// A table can be limited to a number of entries or estimated bytes; it then also keeps when each leaf was last used,
+/// and the parser calls evict() when it is over its limit; @see MemoPolicy
+final class MemoTable {
+    // the size of leaf elements, their mask, and 2 power (same as SparseArrayList)
+    static final int leafPower = 6;
+    static final int leafSize  = 1 << leafPower;
+    static final int leafMask  = leafSize - 1;
+
+    // estimated sizes, a leaf is an int[] and an Object[], a keyed entry is an ArgKey plus its args array
+    static final long leafBytes = 2 * (16 + 4 * leafSize);
+    static final long refBytes = 4;
+    static final long keyBytes = 40 + 16;
+    static final long farBytes = 16 + 4 * leafSize;
+    static final long usedBytes = 8;
+
+    // [rule][leaf][ix]; ends are stored as end + 1, so 0 means not memoized
+    private int[][][]    ends = new int[0][][];
+    private Object[][][] vals = new Object[0][][];
+    // [rule][leaf][ix]; the encoded far of each entry, @see far(); null unless tracking
+    private int[][][]    fars = null;
+    // the leaf index of the first leaf in the columns, everything before it is forgotten or keyed
+    private int base;
+    // rule applications with arguments, an open addressing hash table created on first use
+    private ArgKey[] keyed;
+    private int keyedSize; // slots that are not null, including REMOVED ones, since those still lengthen probes
+    private static final ArgKey REMOVED = new ArgKey(-1, -1, new Object[0], 0, 0, 0);
+    private static final Object[] NOARGS = new Object[0];
+
+    final MemoStats stats;
+    private long bytes;
+    private int entries;
+
+    // the limits, the policy that orders the entries to evict, and the clock of the last use of each leaf
+    private int maxEntries = Integer.MAX_VALUE;
+    private long maxBytes = Long.MAX_VALUE;
+    // when to evict next; above the limits if the last eviction could not get below them
+    private long nextEntries = Integer.MAX_VALUE;
+    private long nextBytes = Long.MAX_VALUE;
+    private MemoPolicy policy;
+    private long[][] used = null;  // [rule][leaf]; null unless limited
+    private long clock;
+
+    MemoTable(MemoStats stats) { this(stats, false); }
+    MemoTable(MemoStats stats, boolean tracking) {
+        this.stats = stats;
+        if (tracking) fars = new int[0][][];
+    }
+
+    /// limits the table to maxEntries entries and maxBytes estimated bytes, 0 for no limit; @see evict()
+    void limit(int maxEntries, long maxBytes, MemoPolicy policy) {
+        this.maxEntries = (maxEntries > 0)? maxEntries : Integer.MAX_VALUE;
+        this.maxBytes = (maxBytes > 0)? maxBytes : Long.MAX_VALUE;
+        this.policy = policy;
+        nextEntries = this.maxEntries;
+        nextBytes = this.maxBytes;
+        if (maxEntries <= 0 && maxBytes <= 0) { used = null; return; }
+        if (used != null) return;
+        used = new long[ends.length][];
+        for (int r = 0; r < ends.length; r++) if (ends[r] != null) used[r] = new long[ends[r].length];
+    }
+
+    /// encodes the end of the input an application examined, exclusive, and if its value depends on its position
+    static int far(int far, boolean posdep) { return posdep? -(far + 1) : far + 1; }
+
+    private void account(long n) {
+        bytes += n;
+        stats.add(n);
+    }
+
+    // make sure the rule has a column, and the column covers leaf
+    private void ensure(int rule, int leaf) {
+        if (rule >= ends.length) {
+            int size = Math.max(rule + 1, ends.length * 2);
+            account(2 * refBytes * (size - ends.length));
+            ends = Arrays.copyOf(ends, size);
+            vals = Arrays.copyOf(vals, size);
+            if (fars != null) fars = Arrays.copyOf(fars, size);
+            if (used != null) used = Arrays.copyOf(used, size);
+        }
+        if (ends[rule] == null) {
+            int size = Math.max(leaf + 1, 16);
+            account(2 * refBytes * size);
+            ends[rule] = new int[size][];
+            vals[rule] = new Object[size][];
+            if (fars != null) fars[rule] = new int[size][];
+            if (used != null) { account(usedBytes * size); used[rule] = new long[size]; }
+        } else if (leaf >= ends[rule].length) {
+            int size = Math.max(leaf + 1, ends[rule].length * 2);
+            account(2 * refBytes * (size - ends[rule].length));
+            ends[rule] = Arrays.copyOf(ends[rule], size);
+            vals[rule] = Arrays.copyOf(vals[rule], size);
+            if (fars != null) fars[rule] = Arrays.copyOf(fars[rule], size);
+            if (used != null) { account(usedBytes * (size - used[rule].length)); used[rule] = Arrays.copyOf(used[rule], size); }
+        }
+        if (ends[rule][leaf] == null) {
+            account(leafBytes);
+            ends[rule][leaf] = new int[leafSize];
+            vals[rule][leaf] = new Object[leafSize];
+            if (fars != null) { account(farBytes); fars[rule][leaf] = new int[leafSize]; }
+        }
+    }
+
+    // an entry before the columns
+    private ArgKey keyed(int rule, int pos) {
+        return get(rule, pos, NOARGS, 0, 0, ArgKey.hash(rule, pos, NOARGS, 0, 0));
+    }
+
+    /// returns the end position of the memoized application of rule at pos, or -1 if there is none
+    int end(int rule, int pos) {
+        int leaf = (pos >> leafPower) - base;
+        if (leaf < 0) {
+            ArgKey k = keyed(rule, pos);
+            return (k == null)? -1 : k.end;
+        }
+        if (rule >= ends.length) return -1;
+        int[][] col = ends[rule];
+        if (col == null) return -1;
+        if (leaf >= col.length || col[leaf] == null) return -1;
+        if (used != null) used[rule][leaf] = ++clock;
+        return col[leaf][pos & leafMask] - 1;
+    }
+
+    /// returns the memoized value of rule at pos; only valid if end(rule, pos) >= 0
+    Object val(int rule, int pos) {
+        int leaf = (pos >> leafPower) - base;
+        if (leaf < 0) return keyed(rule, pos).val;
+        return vals[rule][leaf][pos & leafMask];
+    }
+
+    void put(int rule, int pos, int end, Object val) {
+        int leaf = (pos >> leafPower) - base;
+        if (leaf < 0) {
+            ArgKey k = keyed(rule, pos);
+            if (k == null) put(k = new ArgKey(rule, pos, NOARGS, 0, 0, ArgKey.hash(rule, pos, NOARGS, 0, 0)));
+            k.end = end; k.val = val; k.far = 0;
+            return;
+        }
+        ensure(rule, leaf);
+        if (ends[rule][leaf][pos & leafMask] == 0) entries++;
+        if (used != null) used[rule][leaf] = ++clock;
+        ends[rule][leaf][pos & leafMask] = end + 1;
+        vals[rule][leaf][pos & leafMask] = val;
+        if (fars != null) fars[rule][leaf][pos & leafMask] = 0;
+    }
+
+    /// returns the encoded far of the application of rule at pos, 0 if unknown; only valid if end(rule, pos) >= 0
+    int far(int rule, int pos) {
+        int leaf = (pos >> leafPower) - base;
+        if (leaf < 0) return keyed(rule, pos).far;
+        return (fars == null)? 0 : fars[rule][leaf][pos & leafMask];
+    }
+
+    /// sets the encoded far of the application of rule at pos; only valid if end(rule, pos) >= 0
+    void far(int rule, int pos, int far) {
+        int leaf = (pos >> leafPower) - base;
+        if (leaf < 0) { keyed(rule, pos).far = far; return; }
+        if (fars != null) fars[rule][leaf][pos & leafMask] = far;
+    }
+
+    void remove(int rule, int pos) {
+        if (end(rule, pos) < 0) return;
+        int leaf = (pos >> leafPower) - base;
+        if (leaf < 0) { remove(keyed(rule, pos)); return; }
+        ends[rule][leaf][pos & leafMask] = 0;
+        vals[rule][leaf][pos & leafMask] = null;
+        if (fars != null) fars[rule][leaf][pos & leafMask] = 0;
+        entries--;
+    }
+
+    /// forget all results before pos; except entries with value keep, rules that are still being evaluated
+    void cut(int pos, Object keep) {
+        int leafs = (pos >> leafPower) - base;
+        if (leafs <= 0) return;
+        for (int r = 0; r < ends.length; r++) {
+            int[][] ecol = ends[r];
+            if (ecol == null) continue;
+            Object[][] vcol = vals[r];
+            int n = Math.min(leafs, ecol.length);
+            for (int l = 0; l < n; l++) {
+                if (ecol[l] == null) continue;
+                for (int i = 0; i < leafSize; i++) {
+                    if (ecol[l][i] != 0) entries--;
+                    if (vcol[l][i] != keep || ecol[l][i] == 0) continue;
+                    int p = ((base + l) << leafPower) + i;
+                    ArgKey k = new ArgKey(r, p, NOARGS, 0, 0, ArgKey.hash(r, p, NOARGS, 0, 0));
+                    k.end = ecol[l][i] - 1; k.val = keep;
+                    put(k);
+                }
+                account(-leafBytes);
+                if (fars != null) account(-farBytes);
+            }
+            System.arraycopy(ecol, n, ecol, 0, ecol.length - n);
+            System.arraycopy(vcol, n, vcol, 0, vcol.length - n);
+            Arrays.fill(ecol, ecol.length - n, ecol.length, null);
+            Arrays.fill(vcol, vcol.length - n, vcol.length, null);
+            if (fars != null) {
+                System.arraycopy(fars[r], n, fars[r], 0, fars[r].length - n);
+                Arrays.fill(fars[r], fars[r].length - n, fars[r].length, null);
+            }
+            if (used != null) {
+                System.arraycopy(used[r], n, used[r], 0, used[r].length - n);
+                Arrays.fill(used[r], used[r].length - n, used[r].length, 0);
+            }
+        }
+        base += leafs;
+        if (keyed == null) return;
+        int first = base << leafPower;
+        ArgKey[] old = keyed;
+        keyed = new ArgKey[old.length];
+        keyedSize = 0;
+        for (ArgKey k : old) {
+            if (k == null || k == REMOVED) continue;
+            if (k.pos >= first || k.val == keep) insert(k); else { account(-keyBytes - refBytes * k.args.length); entries--; }
+        }
+    }
+
+    /// true if the table holds more entries or estimated bytes than its limits
+    boolean over() { return entries > nextEntries || bytes > nextBytes; }
+
+    // a leaf or keyed entry that may be evicted, in the order of the policy
+    private static final class Victim implements Comparable<Victim> {
+        final long order; final int rule; final int leaf; final ArgKey key;
+        Victim(long order, int rule, int leaf, ArgKey key) {
+            this.order = order; this.rule = rule; this.leaf = leaf; this.key = key;
+        }
+        public int compareTo(Victim o) { return Long.compare(order, o.order); }
+    }
+
+    /// forgets entries in the order of the policy, until the table is within 3/4 of its limits
+    ///
+    /// Entries with value keep, of rules that are still being evaluated, are kept, as are the entries of the rules
+    /// and positions of the left recursions in heads, which hold the seeds they grow. Evicting a batch at a time means
+    /// the entries are ordered once per quarter of the limit, instead of once per entry.
+    ///
+    /// Afterwards the columns slide past the leafs that are now empty in all columns, or only hold entries with value
+    /// keep, as after a cut, so the columns cover the part of the input that still has entries. If the kept entries and columns do not fit the limits, the
+    /// next eviction waits until the table grew by another quarter of the limits, so it does not evict on every put.
+    void evict(int current, Object keep, Head[] heads, int nheads) {
+        final int toEntries = maxEntries - maxEntries / 4;
+        final long toBytes = maxBytes - maxBytes / 4;
+        ArrayList<Victim> vs = new ArrayList<Victim>();
+        for (int r = 0; r < ends.length; r++) {
+            if (ends[r] == null) continue;
+            for (int l = 0; l < ends[r].length; l++) {
+                if (ends[r][l] == null) continue;
+                vs.add(new Victim(policy.order(r, (base + l) << leafPower, used[r][l], current), r, l, null));
+            }
+        }
+        if (keyed != null) {
+            for (ArgKey k : keyed) {
+                if (k == null || k == REMOVED || k.val == keep) continue;
+                vs.add(new Victim(policy.order(k.rule, k.pos, k.used, current), k.rule, -1, k));
+            }
+        }
+        Collections.sort(vs);
+
+        for (Victim v : vs) {
+            if (entries <= toEntries && bytes <= toBytes) break;
+            if (v.key != null) {
+                if (v.key.args.length > 0 || !pinned(v.rule, v.key.pos, heads, nheads)) { remove(v.key); stats.evicted++; }
+                continue;
+            }
+            int[] le = ends[v.rule][v.leaf];
+            Object[] lv = vals[v.rule][v.leaf];
+            boolean kept = false;
+            for (int i = 0; i < leafSize; i++) {
+                if (le[i] == 0) continue;
+                if (lv[i] == keep || pinned(v.rule, ((base + v.leaf) << leafPower) + i, heads, nheads)) {
+                    kept = true;
+                    continue;
+                }
+                le[i] = 0;
+                lv[i] = null;
+                if (fars != null) fars[v.rule][v.leaf][i] = 0;
+                entries--;
+                stats.evicted++;
+            }
+            if (kept) continue;
+            ends[v.rule][v.leaf] = null;
+            vals[v.rule][v.leaf] = null;
+            account(-leafBytes);
+            if (fars != null) { fars[v.rule][v.leaf] = null; account(-farBytes); }
+        }
+
+        int first = current >> leafPower;
+        for (int i = 0; i < nheads; i++) first = Math.min(first, heads[i].pos >> leafPower);
+        for (int r = 0; r < ends.length; r++) {
+            if (ends[r] == null) continue;
+            for (int l = 0; l < ends[r].length && base + l < first; l++) {
+                if (ends[r][l] != null && !only(ends[r][l], vals[r][l], keep)) { first = base + l; break; }
+            }
+        }
+        cut(first << leafPower, keep);
+        nextEntries = (entries <= toEntries)? maxEntries : entries + (maxEntries - toEntries);
+        nextBytes = (bytes <= toBytes)? maxBytes : bytes + (maxBytes - toBytes);
+    }
+
+    // true if all entries of a leaf have value keep, a cut moves them to the keyed table
+    private static boolean only(int[] le, Object[] lv, Object keep) {
+        for (int i = 0; i < leafSize; i++) if (le[i] != 0 && lv[i] != keep) return false;
+        return true;
+    }
+
+    private static boolean pinned(int rule, int pos, Head[] heads, int nheads) {
+        for (int i = 0; i < nheads; i++) if (heads[i].rule == rule && heads[i].pos == pos) return true;
+        return false;
+    }
+
+    /// forget everything, used when the table is no longer in use
+    void release() {
+        stats.add(-bytes);
+        bytes = 0;
+        ends = new int[0][][];
+        vals = new Object[0][][];
+        if (fars != null) fars = new int[0][][];
+        if (used != null) used = new long[0][];
+        keyed = null;
+        keyedSize = 0;
+        entries = 0;
+    }
+
+    /// adapts the table to an edit of its input: removed chars at offset replaced by inserted chars
+    ///
+    /// Entries that examined only chars before the edit are kept. Entries that start after the removed chars move along
+    /// with their input, unless their value depends on their position, like a `pos`. All others are forgotten, as are
+    /// entries of applications that were not finished, or that were made without tracking.
+    void edit(int offset, int removed, int inserted) {
+        final int delta = inserted - removed;
+        int[][][] oends = ends; Object[][][] ovals = vals; int[][][] ofars = fars;
+        ArgKey[] okeyed = keyed;
+        int obase = base;
+        release();
+        base = 0;
+        if (ofars == null) return;
+
+        for (int r = 0; r < oends.length; r++) {
+            if (oends[r] == null) continue;
+            for (int l = 0; l < oends[r].length; l++) {
+                int[] le = oends[r][l];
+                if (le == null) continue;
+                for (int i = 0; i < leafSize; i++) {
+                    if (le[i] == 0) continue;
+                    int p = ((obase + l) << leafPower) + i;
+                    int f = ofars[r][l][i];
+                    int q = moved(p, f, offset, removed, delta);
+                    if (q < 0) continue;
+                    put(r, q, le[i] - 1 + q - p, ovals[r][l][i]);
+                    far(r, q, (q == p)? f : shift(f, delta));
+                }
+            }
+        }
+        if (okeyed == null) return;
+        for (ArgKey k : okeyed) {
+            if (k == null || k == REMOVED) continue;
+            int q = moved(k.pos, k.far, offset, removed, delta);
+            if (q < 0) continue;
+            int argc = k.args.length;
+            Object[] stack = new Object[argc];
+            for (int i = 0; i < argc; i++) stack[argc - 1 - i] = k.args[i];
+            ArgKey n = new ArgKey(k.rule, q, stack, argc, argc, ArgKey.hash(k.rule, q, stack, argc, argc));
+            n.end = k.end + q - k.pos; n.val = k.val; n.consumed = k.consumed;
+            n.far = (q == k.pos)? k.far : shift(k.far, delta);
+            put(n);
+        }
+    }
+
+    // the position of an entry after an edit, or -1 if it must be forgotten
+    private static int moved(int pos, int far, int offset, int removed, int delta) {
+        if (far == 0) return -1;
+        if (Math.abs(far) - 1 <= offset) return pos;
+        if (pos >= offset + removed && far > 0) return pos + delta;
+        return -1;
+    }
+
+    private static int shift(int far, int delta) { return (far < 0)? far - delta : far + delta; }
+
+    /// returns the memoized entry of a rule application with arguments, or null if there is none
+    ArgKey get(int rule, int pos, Object[] stack, int top, int argc, int hash) {
+        if (keyed == null) return null;
+        int mask = keyed.length - 1;
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            ArgKey k = keyed[i];
+            if (k == null) return null;
+            if (k.hash == hash && k.matches(rule, pos, stack, top, argc)) {
+                if (used != null) k.used = ++clock;
+                return k;
+            }
+        }
+    }
+
+    void put(ArgKey key) {
+        if (keyed == null) { keyed = new ArgKey[64]; account(refBytes * 64); }
+        if (keyedSize * 2 >= keyed.length) rehash();
+        account(keyBytes + refBytes * key.args.length);
+        entries++;
+        if (used != null) key.used = ++clock;
+        int mask = keyed.length - 1;
+        for (int i = key.hash & mask;; i = (i + 1) & mask) {
+            if (keyed[i] == REMOVED) { keyed[i] = key; return; }
+            if (keyed[i] == null) { keyed[i] = key; keyedSize++; return; }
+        }
+    }
+
+    void remove(ArgKey key) {
+        if (keyed == null) return;
+        int mask = keyed.length - 1;
+        for (int i = key.hash & mask; keyed[i] != null; i = (i + 1) & mask) {
+            if (keyed[i] == key) { keyed[i] = REMOVED; account(-keyBytes - refBytes * key.args.length); entries--; return; }
+        }
+    }
+
+    // doubles the table, or if it is mostly removed entries, rehashes at the same size
+    private void rehash() {
+        ArgKey[] old = keyed;
+        int live = 0;
+        for (ArgKey k : old) if (k != null && k != REMOVED) live++;
+        keyed = new ArgKey[(live * 4 >= old.length)? old.length * 2 : old.length];
+        account(refBytes * (keyed.length - old.length));
+        keyedSize = 0;
+        for (ArgKey k : old) if (k != null && k != REMOVED) insert(k);
+    }
+
+    private void insert(ArgKey key) {
+        int mask = keyed.length - 1;
+        for (int i = key.hash & mask;; i = (i + 1) & mask) {
+            if (keyed[i] == null) { keyed[i] = key; keyedSize++; return; }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+/// Thrown by BaseParser._avail() to suspend a push parse that needs input that was not fed yet; @see BaseParser.feed()
+/// It is thrown often, so it has no message or stack trace, and it is only ever caught by the parser itself.
+final class MoreInput extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    static final MoreInput INSTANCE = new MoreInput();
+    private MoreInput() { super(null, null, false, false); }
+}
@@ -0,0 +1,26 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+/// Receives the events of a parse; set it using `parser.listener = ...`. When no listener is set, the parser only
+/// checks for null at each event.
+///
+/// Rules are passed by id, use `parser._ruleName(id)` for their names. All methods do nothing by default.
+public interface ParseListener {
+    /// a rule is evaluated at pos; for memoized rules only if the result was not memoized
+    default void enter(BaseParser parser, int rule, int pos) {}
+
+    /// the rule entered at start returns; end is the position after it, result is BaseParser.ERROR if it failed
+    default void exit(BaseParser parser, int rule, int start, int end, Object result) {}
+
+    /// the memoized result of rule at pos is looked up; hit is true if there was one
+    default void memo(BaseParser parser, int rule, int pos, boolean hit) {}
+
+    /// a left recursive rule at pos grew its result up to end, and will be evaluated again to grow further
+    default void grow(BaseParser parser, int rule, int pos, int end) {}
+
+    /// a sequence failed after parsing from start to end; the parser backtracks to start
+    default void backtrack(BaseParser parser, int start, int end) {}
+
+    /// the parser enters a list of size elements
+    default void list(BaseParser parser, int size) {}
+}
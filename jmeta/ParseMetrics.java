@@ -0,0 +1,140 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.*;
+
+/// A ParseListener that counts, per rule: evaluations, successes, memo hits and misses, chars parsed, chars thrown
+/// away by backtracking and left recursion grow iterations. It keeps histograms of the chars parsed per rule, of the
+/// chars thrown away per backtrack, and of list sizes. Counts add up over parses until reset().
+///
+/// ```
+///     ParseMetrics metrics = new ParseMetrics();
+///     parser.listener = metrics;
+///     parser.parse(input);
+///     System.out.println(metrics.report());
+/// ```
+public class ParseMetrics implements ParseListener {
+    /// counts in buckets of powers of 2; bucket 0 counts 0, bucket n counts values from 2^(n-1) up to 2^n
+    public static final class Histogram {
+        public final long[] buckets = new long[33];
+        public long count;
+        public long sum;
+        public long max;
+
+        public void add(int v) {
+            buckets[32 - Integer.numberOfLeadingZeros(v)]++;
+            count++;
+            sum += v;
+            if (v > max) max = v;
+        }
+
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("count: ").append(count).append(", avg: ").append(count == 0? 0 : sum / count);
+            sb.append(", max: ").append(max).append(" [");
+            boolean first = true;
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] == 0) continue;
+                if (first) first = false; else sb.append(", ");
+                sb.append("<").append(1L << i).append(": ").append(buckets[i]);
+            }
+            return sb.append("]").toString();
+        }
+    }
+
+    /// the counts of a single rule
+    public static final class Rule {
+        public final int id;
+        public String name;
+        public long calls, successes, hits, misses, parsed, backtracked, grows;
+        public final Histogram lengths = new Histogram();
+        Rule(int id) { this.id = id; }
+    }
+
+    Rule[] rules = new Rule[64];
+    public final Histogram backtracks = new Histogram();
+    public final Histogram lists = new Histogram();
+
+    // the rules being evaluated, to attribute backtracking to
+    private int[] stack = new int[64];
+    private int depth = 0;
+
+    /// returns the counts of rule, creating them if needed
+    public Rule rule(int id) {
+        if (id >= rules.length) rules = Arrays.copyOf(rules, Math.max(id + 1, rules.length * 2));
+        if (rules[id] == null) rules[id] = new Rule(id);
+        return rules[id];
+    }
+
+    /// returns all rules that have counts, the most evaluated first
+    public List<Rule> rules() {
+        ArrayList<Rule> rs = new ArrayList<Rule>();
+        for (Rule r : rules) if (r != null) rs.add(r);
+        Collections.sort(rs, new Comparator<Rule>() {
+            public int compare(Rule a, Rule b) { return Long.compare(b.calls + b.hits, a.calls + a.hits); }
+        });
+        return rs;
+    }
+
+    public void reset() {
+        rules = new Rule[64];
+        depth = 0;
+        Arrays.fill(backtracks.buckets, 0);
+        backtracks.count = backtracks.sum = backtracks.max = 0;
+        Arrays.fill(lists.buckets, 0);
+        lists.count = lists.sum = lists.max = 0;
+    }
+
+    public void enter(BaseParser parser, int id, int pos) {
+        Rule r = rule(id);
+        if (r.name == null) r.name = parser._ruleName(id);
+        r.calls++;
+        if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+        stack[depth++] = id;
+    }
+
+    public void exit(BaseParser parser, int id, int start, int end, Object result) {
+        // a syntax error skips exits, so unwind up to this rule
+        while (depth > 0 && stack[--depth] != id) {}
+        Rule r = rule(id);
+        if (result == BaseParser.ERROR) return;
+        r.successes++;
+        r.parsed += end - start;
+        r.lengths.add(end - start);
+    }
+
+    public void memo(BaseParser parser, int id, int pos, boolean hit) {
+        Rule r = rule(id);
+        if (r.name == null) r.name = parser._ruleName(id);
+        if (hit) r.hits++; else r.misses++;
+    }
+
+    public void grow(BaseParser parser, int id, int pos, int end) {
+        rule(id).grows++;
+    }
+
+    public void backtrack(BaseParser parser, int start, int end) {
+        backtracks.add(end - start);
+        if (depth > 0) rule(stack[depth - 1]).backtracked += end - start;
+    }
+
+    public void list(BaseParser parser, int size) {
+        lists.add(size);
+    }
+
+    /// a table of all counts, the most evaluated rules first
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-24s %10s %10s %10s %10s %12s %12s %8s%n",
+                "rule", "calls", "success", "hits", "misses", "parsed", "backtracked", "grows"));
+        for (Rule r : rules()) {
+            sb.append(String.format("%-24s %10d %10d %10d %10d %12d %12d %8d%n",
+                    r.name, r.calls, r.successes, r.hits, r.misses, r.parsed, r.backtracked, r.grows));
+        }
+        sb.append("backtracks: ").append(backtracks).append("\n");
+        sb.append("lists: ").append(lists).append("\n");
+        return sb.toString();
+    }
+
+    public String toString() { return report(); }
+}
@@ -0,0 +1,88 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/// A pool of parsers of one grammar, to parse many inputs on many threads.
+///
+/// A parser is not thread safe: it keeps its input, position and memoized results in its fields. But parsers share no
+/// mutable state, so each thread can use its own. The pool hands out idle parsers and creates new ones as needed;
+/// there are never more parsers than threads parsing at the same time.
+/// ```
+///     ParserPool<Calculator> pool = new ParserPool<Calculator>(Calculator::new);
+///     Object ast = pool.parse("1 + 2");                         // from any thread
+///     List<Object> asts = pool.parseAll(lines, executor);      // on the threads of executor
+/// ```
+public final class ParserPool<P extends BaseParser> {
+    final Supplier<? extends P> factory;
+    final ConcurrentLinkedQueue<P> idle = new ConcurrentLinkedQueue<P>();
+
+    /// creates a pool that creates its parsers using factory, like `Calculator::new`
+    public ParserPool(Supplier<? extends P> factory) { this.factory = factory; }
+
+    /// returns an idle parser, or a new one; give it back using release() when done
+    public P acquire() {
+        P p = idle.poll();
+        return (p != null)? p : factory.get();
+    }
+
+    /// gives back a parser; it forgets its last input, and must no longer be used by the caller
+    public void release(P p) {
+        p._clear();
+        idle.offer(p);
+    }
+
+    public Object parse(Object o) { return parse(o, null); }
+    /// parses o using an idle parser, starting at rule r, or start when r is null; @see BaseParser.parse()
+    public Object parse(Object o, String r) {
+        P p = acquire();
+        try {
+            return p.parse(o, r);
+        } finally {
+            release(p);
+        }
+    }
+
+    public List<Object> parseAll(Collection<?> inputs) { return parseAll(inputs, ForkJoinPool.commonPool()); }
+    /// parses all inputs on the threads of executor, like a ForkJoinPool or `Executors.newVirtualThreadPerTaskExecutor()`,
+    /// and waits for them to finish
+    ///
+    /// Returns the results in the order of the inputs. An input that does not parse gives its SyntaxError as result, so
+    /// one bad input does not lose the others. The inputs are parsed in batches, one parser per batch, so small inputs
+    /// do not each pay for a task and for taking a parser from the pool.
+    public List<Object> parseAll(Collection<?> inputs, Executor executor) {
+        final Object[] in = inputs.toArray();
+        final Object[] out = new Object[in.length];
+        int batches = Math.min(in.length, 4 * Runtime.getRuntime().availableProcessors());
+        CompletableFuture<?>[] fs = new CompletableFuture<?>[batches];
+        for (int b = 0; b < batches; b++) {
+            final int from = (int) ((long) in.length * b / batches);
+            final int to = (int) ((long) in.length * (b + 1) / batches);
+            fs[b] = CompletableFuture.runAsync(new Runnable() { public void run() {
+                P p = acquire();
+                try {
+                    for (int i = from; i < to; i++) {
+                        try {
+                            out[i] = p.parse(in[i]);
+                        } catch (SyntaxError e) {
+                            out[i] = e;
+                        }
+                    }
+                } finally {
+                    release(p);
+                }
+            }}, executor);
+        }
+        try {
+            CompletableFuture.allOf(fs).join();
+        } catch (CompletionException e) {
+            Throwable t = e.getCause();
+            if (t instanceof RuntimeException) throw (RuntimeException) t;
+            if (t instanceof Error) throw (Error) t;
+            throw e;
+        }
+        return Arrays.asList(out);
+    }
+}
@@ -0,0 +1,157 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.util.*;
+
+/// Tells which alternatives of an ordered choice can match, by looking at the next char, or at the next list element
+/// when it is a symbol or a list that starts with a symbol. Alternative i can match if bit i of mask() is set.
+///
+/// The compiler only adds alternatives that must start with one of a known set of chars or symbols; alternatives that
+/// can start with anything, or match empty, are always tried and do not use a bit. Generated parsers create a Predict
+/// once, in a static field:
+/// ```
+///     static final Predict __predict0 = new Predict().chars(0, "(").chars(2, "0123456789").list(3, "ADD");
+/// ```
+///
+/// When the choice fails, the parser calls expect(), so the skipped alternatives are still listed in the SyntaxError,
+/// after what the tried ones expected.
+public final class Predict {
+    final long[] ascii = new long[128];
+    // the chars >= 128, and the alternatives they start
+    char[] chars = new char[0];
+    long[] masks = new long[0];
+    final HashMap<String, Long> syms = new HashMap<String, Long>();
+    final HashMap<String, Long> lists = new HashMap<String, Long>();
+    // per alternative: its first chars; what it expects when it is skipped, its first char or a CharClass of its first
+    // chars; and the strings, classes, Rules and ENDs added by str(), cls(), rule() and end(), expected instead if any
+    String[] firsts = new String[0];
+    Object[] classes = new Object[0];
+    Object[][] expects = new Object[0][];
+
+    // a rule expected by a skipped alternative; the id is looked up when first needed, a Predict is only used by
+    // parsers of one class
+    static final class Rule {
+        final String name;
+        int id = -1;
+        Rule(String name) { this.name = name; }
+    }
+    static final Object END = new Object();
+
+    /// alternative alt can start with each char of cs
+    public Predict chars(int alt, String cs) {
+        for (int i = 0; i < cs.length(); i++) {
+            char c = cs.charAt(i);
+            if (c < 128) { ascii[c] |= 1L << alt; continue; }
+            int n = 0;
+            while (n < chars.length && chars[n] != c) n++;
+            if (n == chars.length) {
+                chars = Arrays.copyOf(chars, n + 1); chars[n] = c;
+                masks = Arrays.copyOf(masks, n + 1);
+            }
+            masks[n] |= 1L << alt;
+        }
+        grow(alt);
+        String f = firsts[alt] = (firsts[alt] == null)? cs : firsts[alt] + cs;
+        classes[alt] = (f.length() == 1)? f : new CharClass("<"+ BaseParser._escape(f) +">").chars(f);
+        return this;
+    }
+
+    /// if alternative alt is skipped, it expects the string s
+    public Predict str(int alt, String s) { return expects(alt, s); }
+
+    /// if alternative alt is skipped, it expects the char class named name
+    public Predict cls(int alt, String name) { return expects(alt, new CharClass(name)); }
+
+    /// if alternative alt is skipped, it expects the rule r of the parser, which expects what is added up to end()
+    public Predict rule(int alt, String r) { return expects(alt, new Rule(r)); }
+
+    /// ends the rule last started by rule()
+    public Predict end(int alt) { return expects(alt, END); }
+
+    private Predict expects(int alt, Object x) {
+        grow(alt);
+        Object[] es = (expects[alt] == null)? new Object[1] : Arrays.copyOf(expects[alt], expects[alt].length + 1);
+        es[es.length - 1] = x;
+        expects[alt] = es;
+        return this;
+    }
+
+    private void grow(int alt) {
+        if (alt < firsts.length) return;
+        firsts = Arrays.copyOf(firsts, alt + 1);
+        classes = Arrays.copyOf(classes, alt + 1);
+        expects = Arrays.copyOf(expects, alt + 1);
+    }
+
+    /// alternative alt can start with the symbol s
+    public Predict sym(int alt, String s) {
+        Long m = syms.get(s);
+        syms.put(s, ((m == null)? 0 : m) | 1L << alt);
+        return this;
+    }
+
+    /// alternative alt can start with a list that starts with the symbol s, like `[ 'ADD l=_ r=_ ]`
+    public Predict list(int alt, String s) {
+        Long m = lists.get(s);
+        lists.put(s, ((m == null)? 0 : m) | 1L << alt);
+        return this;
+    }
+
+    /// the choice failed at the current position of parser, trying only the alternatives in mask; records what the
+    /// others expect, as if they were tried and failed at their first element
+    public void expect(BaseParser parser, long mask) {
+        int p = parser._pos;
+        if (p < parser._failPos || parser._silent > 0 || parser._string == null) return;
+        for (int i = 0; i < expects.length; i++) {
+            if ((mask & 1L << i) != 0) continue;
+            if (expects[i] == null) {
+                if (classes[i] != null) parser._expect(classes[i], p);
+                continue;
+            }
+            expect(parser, expects[i], 0, p);
+        }
+    }
+
+    // records es from i up to the END of the rule they are in; returns the index of that END
+    private int expect(BaseParser parser, Object[] es, int i, int p) {
+        while (i < es.length && es[i] != END) {
+            Object x = es[i++];
+            if (!(x instanceof Rule)) { parser._expect(x, p); continue; }
+            // like a rule that fails, which is listed instead of what it expects, unless that has rules too
+            Rule r = (Rule) x;
+            int mark = parser._expecting(p);
+            i = expect(parser, es, i, p) + 1;
+            if (r.id < 0) r.id = parser._ruleId(r.name);
+            if (r.id >= 0) parser._fail(r.id, p, mark);
+        }
+        return i;
+    }
+
+    /// returns the alternatives that can match at the current position of parser
+    public long mask(BaseParser parser) {
+        int p = parser._pos;
+        if (parser._string != null) {
+            if (!parser._avail(p)) return 0;
+            char c = parser._string.charAt(p);
+            if (c < 128) return ascii[c];
+            for (int i = 0; i < chars.length; i++) if (chars[i] == c) return masks[i];
+            return 0;
+        }
+        if (parser._list == null || p >= parser._list.size()) return 0;
+        Object o = parser._list.get(p);
+        Long m;
+        if (o instanceof String) {
+            m = syms.get(o);
+        } else if (o instanceof Object[] || o instanceof List) {
+            Object h = null;
+            if (o instanceof Object[]) { if (((Object[]) o).length > 0) h = ((Object[]) o)[0]; }
+            else if (((List<?>) o).size() > 0) h = ((List<?>) o).get(0);
+            if (h != null && !(h instanceof String)) return -1L;
+            m = lists.get(h);
+        } else {
+            // any other object might still equal a symbol
+            return -1L;
+        }
+        return (m == null)? 0 : m;
+    }
+}
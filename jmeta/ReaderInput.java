@@ -0,0 +1,85 @@
+// copyright 2009 ActiveVideo; license: MIT; see license.txt
+package jmeta;
+
+import java.io.*;
+
+/// A CharSequence that reads from a Reader on demand, in chunks, so the input never has to be in memory as a whole.
+///
+/// A parser reads more input using fill() as it goes, and releases the chunks before a cut (`^`); after that, the
+/// chars before start() are gone. The parse must not backtrack before a cut, it throws an IllegalStateException if it
+/// does. Notice that length() and toString() read all remaining input. The Reader is closed when its end is read, or
+/// by close().
+public final class ReaderInput implements CharSequence, Closeable {
+    // the size of a chunk, its mask, and 2 power
+    static final int chunkPower = 16;
+    static final int chunkSize  = 1 << chunkPower;
+    static final int chunkMask  = chunkSize - 1;
+
+    private final Reader in;
+    private char[][] chunks = new char[4][];
+    private int first = 0;     // the chunk number of chunks[0]
+    private int avail = 0;     // number of chars read so far
+    private boolean eof = false;
+
+    public ReaderInput(Reader in) { this.in = in; }
+
+    /// reads input until the char at p is available, or the input ends; returns the number of chars read so far
+    public int fill(int p) {
+        while (!eof && p >= avail) read();
+        return avail;
+    }
+
+    private void read() {
+        int c = (avail >> chunkPower) - first;
+        if (c >= chunks.length) {
+            char[][] n = new char[chunks.length * 2][];
+            System.arraycopy(chunks, 0, n, 0, chunks.length);
+            chunks = n;
+        }
+        if (chunks[c] == null) chunks[c] = new char[chunkSize];
+        int off = avail & chunkMask;
+        try {
+            int n = in.read(chunks[c], off, chunkSize - off);
+            if (n < 0) { eof = true; in.close(); } else avail += n;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /// forget all input before p; keeps the chunk p is in
+    public void release(int p) {
+        int n = Math.min(p, avail) >> chunkPower;
+        n -= first;
+        if (n <= 0) return;
+        System.arraycopy(chunks, n, chunks, 0, chunks.length - n);
+        for (int c = chunks.length - n; c < chunks.length; c++) chunks[c] = null;
+        first += n;
+    }
+
+    /// closes the Reader, for a parse that stops before reading all input; chars read so far are still available
+    public void close() throws IOException {
+        eof = true;
+        in.close();
+    }
+
+    /// position of the first char that is still available
+    public int start() { return first << chunkPower; }
+
+    public char charAt(int i) {
+        if (i >= avail && fill(i) <= i) throw new IndexOutOfBoundsException("index: "+ i +", length: "+ avail);
+        int c = (i >> chunkPower) - first;
+        if (c < 0) throw new IllegalStateException("input before "+ start() +" was released by a cut; cannot read: "+ i);
+        return chunks[c][i & chunkMask];
+    }
+
+    public int length() { return fill(Integer.MAX_VALUE); }
+
+    public CharSequence subSequence(int b, int e) {
+        StringBuilder sb = new StringBuilder(e - b);
+        for (int i = b; i < e; i++) sb.append(charAt(i));
+        return sb.toString();
+    }
+
+    /// returns all input from start() on
+    public String toString() { return subSequence(start(), length()).toString(); }
+}
@@ -1,33 +1,59 @@
 // copyright 2009 ActiveVideo; license: MIT; see license.txt
 package jmeta;
 
+import java.util.*;
+
 /// Thrown when a syntax error is found
 public class SyntaxError extends Error {
     private static final long serialVersionUID = 1625531475408759945L;
-    public SyntaxError(String msg, int pos, String string, Object[] list) {
-        super(makeMsg(msg, pos, string, list));
+    /// used by parsers generated by older versions of jmeta; without msg, the message names the rule those parsers
+    /// last recorded as failed in ERROR.last, as it always did
+    public SyntaxError(String msg, int pos, CharSequence string, Object[] list) {
+        super(makeMsg(msg, BaseParser.ERROR.last, pos, string, (list != null)? Arrays.asList(list) : null, null));
+    }
+
+    /// parsers generated by older versions of jmeta pass BaseParser._list, which is a List now
+    public SyntaxError(String msg, int pos, CharSequence string, List<?> list) {
+        super(makeMsg(msg, BaseParser.ERROR.last, pos, string, list, null));
+    }
+
+    /// syntax error at the current position of parser; without msg, at the farthest position the parse failed at,
+    /// listing what was expected there
+    public SyntaxError(String msg, BaseParser parser) {
+        this(msg, parser, farthest(msg, parser));
+    }
+
+    private SyntaxError(String msg, BaseParser parser, boolean farthest) {
+        super(makeMsg(msg, farthest? parser._expected() : "", farthest? parser._failPos : parser._pos,
+                parser._string, parser._list, (parser._string != null)? parser._lines() : null));
+    }
+
+    // the message is made from what failed farthest, unless a msg is given; failures are only kept when parsing text
+    private static boolean farthest(String msg, BaseParser parser) {
+        return msg.length() == 0 && parser._expN > 0 && parser._failPos >= parser._pos;
     }
 
-    private static String makeMsg(String msg, int pos, String string, Object[] list) {
+    private static String makeMsg(String msg, String last, int pos, CharSequence string, List<?> list, LineIndex index) {
         if (string != null) {
-            int nl = 1;
-            int nlpos = 0;
-            for (int i = 0; i < pos; i++) if (string.charAt(i) == '\n') { nlpos = i; nl++; }
+            if (index == null) index = new LineIndex(string);
+            int line = index.line(pos);
+            // do not read all of a ReaderInput just to know its length
+            int length = (string instanceof ReaderInput)? ((ReaderInput) string).fill(pos + 13) : string.length();
 
             if (msg.length() > 0) msg = "expected "+ msg;
-            else msg = "expected "+ BaseParser.ERROR.last;
+            else msg = "expected "+ last;
 
-            String s = string.substring(pos, Math.min(pos + 13, string.length()));
+            String s = string.subSequence(pos, Math.min(pos + 13, length)).toString();
             int n = s.indexOf('\n');
             if (n > 0) s = s.substring(0, n);
             msg = msg + " before '"+ s +"'";
 
-            return ""+ msg +" (at line: "+ nl +", char: "+ (pos - nlpos) +")";
+            return ""+ msg +" (at line: "+ (line + 1) +", char: "+ (pos - index.start(line) + 1) +")";
         } else {
             if (msg.length() > 0) msg = "expected "+ msg;
-            else msg = "expected "+ BaseParser.ERROR.last;
+            else msg = "expected "+ last;
 
-            msg = msg + " before '"+ BaseParser.print_r(list[pos - 1]) +"'";
+            msg = msg + " before '"+ BaseParser.print_r(list.get(pos - 1)) +"'";
             return ""+ msg +" (at pos: "+ pos +")";
         }
     }
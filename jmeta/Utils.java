@@ -35,6 +35,11 @@ public class Utils {
             } catch (Exception ex) { }
         }
     }
+    /// opens a file for writing, buffered and as UTF-8 like writeFile
+    public static Writer openFile(String f) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(f), "UTF-8"));
+    }
+
     public static String escape(Object o) {
         String s = (String)o;
         StringBuilder sb = new StringBuilder();
@@ -51,6 +56,26 @@ public class Utils {
         }
         return sb.toString();
     }
+    /// the name of a char class in error messages, like `<a-z> | "_"`, from the ranges and strings of a
+    /// `['Chars, neg, ...]` node, the same for all compilers
+    public static String className(Object neg, List<?> xs) {
+        StringBuilder name = new StringBuilder(), ranges = new StringBuilder();
+        for (Object x : xs) {
+            Object[] a = (Object[]) x;
+            if ("Str".equals(a[0])) {
+                if (ranges.length() > 0) { name.append((name.length() > 0)? " | " : "").append("<").append(ranges).append(">"); ranges.setLength(0); }
+                name.append((name.length() > 0)? " | " : "").append("\"").append(a[1]).append("\"");
+                continue;
+            }
+            char lo = a[1].toString().charAt(0), hi = a[2].toString().charAt(0);
+            ranges.append(classChar(lo)).append((lo != hi)? "-"+ classChar(hi) : "");
+        }
+        if (ranges.length() > 0) name.append((name.length() > 0)? " | " : "").append("<").append(ranges).append(">");
+        if (Boolean.TRUE.equals(neg)) name.replace(0, 1, "<^");
+        return name.toString();
+    }
+    static String classChar(char c) { return ("-^<>\\".indexOf(c) >= 0)? "\\"+ c : ""+ c; }
+
     public static char unescape(char c) {
         switch(c) {
             case '"': return '"';
@@ -0,0 +1,524 @@
+// generated by jmeta on Sat Oct 17 02:06:34 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+public class Calculator extends BaseParser {  public static void main(String[] args) {
+        Calculator parser = new Calculator();
+        //parser.tracing = true;
+        Object[] ast = (Object[]) parser.parse(args[0]);
+        System.out.println(new Interpreter().parse(ast));
+
+        // parse it, and an input with an error, many times on many threads; each must give the same result
+        String bad = args[0] + " *";
+        String error = null;
+        try { parser.parse(bad); } catch (SyntaxError e) { error = e.getMessage(); }
+        java.util.ArrayList<String> inputs = new java.util.ArrayList<String>();
+        for (int i = 0; i < 10000; i++) inputs.add((i % 2 == 0)? args[0] : bad);
+        ParserPool<Calculator> pool = new ParserPool<Calculator>(Calculator::new);
+        java.util.List<Object> rs = pool.parseAll(inputs);
+        int ok = 0;
+        for (int i = 0; i < rs.size(); i++) {
+            Object r = rs.get(i);
+            if (i % 2 == 0 && r instanceof Object[] && new Interpreter().parse(r).equals(new Interpreter().parse(ast))) ok++;
+            if (i % 2 == 1 && r instanceof SyntaxError && ((SyntaxError) r).getMessage().equals(error)) ok++;
+        }
+        System.out.println(ok +" of "+ rs.size() +" parsed in parallel as expected");
+    }
+
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object e=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      if (cutOnError) _cut();
+      _t=expr();
+      e=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=e;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object expr() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+        do {
+    _t=ERROR; do{ //or
+      if (_t!=ERROR) break;
+      _t=__expr_2();
+      if (_t!=ERROR) break;
+      _t=__expr_4();
+      if (_t!=ERROR) break;
+      _t=expr1();
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object expr1() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+        do {
+    _t=ERROR; do{ //or
+      if (_t!=ERROR) break;
+      _t=__expr1_6();
+      if (_t!=ERROR) break;
+      _t=__expr1_8();
+      if (_t!=ERROR) break;
+      _t=__expr1_10();
+      if (_t!=ERROR) break;
+      _t=value();
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object value() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+        do {
+    long _m11=(getClass()==Calculator.class)? __predict11.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if (_t!=ERROR) break;
+      _t=__value_17();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict11.expect(this, _m11);
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object num() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+    Object ds=null;    do {
+    int _p18=_pos; _t=ERROR; do { //and
+      int _c19=_pos;
+      int _l20=_loop(_base+4, 20);
+      boolean _s20=_loopAny(_l20);
+      while (true) { //many
+        _t=digit();
+        if (_t==ERROR) break; else _s20=true;
+        _loopNext(_l20);
+      } _loopEnd(_l20); _t=_s20? null : ERROR;
+      if (_t!=ERROR) { _t=_capture(_c19); }
+      ds=_t;
+      if (_t==ERROR) break;
+      _t=__act21(ds);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p18, _pos); _pos=_p18; }
+    _t=_memoize(_base+4, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+
+  Object __expr_2() { Object _t=null;
+    Object p=null; Object l=null; Object r=null;
+    int _p1=_pos; _t=ERROR; do { //and
+      _t=pos();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=expr();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("+");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=expr1();
+      r=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"ADD", l, r, p};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p1, _pos); _pos=_p1; }
+    return _t;
+  }
+
+  Object __expr_4() { Object _t=null;
+    Object p=null; Object l=null; Object r=null;
+    int _p3=_pos; _t=ERROR; do { //and
+      _t=pos();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=expr();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("-");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=expr1();
+      r=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"SUB", l, r, p};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; }
+    return _t;
+  }
+
+  Object __expr1_6() { Object _t=null;
+    Object p=null; Object l=null; Object r=null;
+    int _p5=_pos; _t=ERROR; do { //and
+      _t=pos();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=expr1();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("*");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=value();
+      r=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"MUL", l, r, p};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p5, _pos); _pos=_p5; }
+    return _t;
+  }
+
+  Object __expr1_8() { Object _t=null;
+    Object p=null; Object l=null; Object r=null;
+    int _p7=_pos; _t=ERROR; do { //and
+      _t=pos();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=expr1();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("/");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=value();
+      r=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"DIV", l, r, p};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; }
+    return _t;
+  }
+
+  Object __expr1_10() { Object _t=null;
+    Object p=null; Object l=null; Object r=null;
+    int _p9=_pos; _t=ERROR; do { //and
+      _t=pos();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=expr1();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("%");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=value();
+      r=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"MOD", l, r, p};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p9, _pos); _pos=_p9; }
+    return _t;
+  }
+static final Predict __predict11 = new Predict();
+static final Predict __predict12 = new Predict().chars(0, " (\t\n\f\r").str(0, "(").chars(1, " \t\n\f\r0123456789").rule(1, "num").cls(1, "digit").end(1);
+
+  Object __value_14() { Object _t=null;
+    Object e=null;
+    int _p13=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("(");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=expr();
+      e=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str(")");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=e;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p13, _pos); _pos=_p13; }
+    return _t;
+  }
+
+  Object __value_16() { Object _t=null;
+    Object p=null; Object n=null;
+    int _p15=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=pos();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=num();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"INT", n, p};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p15, _pos); _pos=_p15; }
+    return _t;
+  }
+
+  Object __value_17() { Object _t=null;
+    long _m12=(getClass()==Calculator.class)? __predict12.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m12 & 1L)!=0) {
+        _t=__value_14();
+        if (_t!=ERROR) break;
+      }
+      if ((_m12 & 2L)!=0) {
+        _t=__value_16();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict12.expect(this, _m12);
+    return _t;
+  }
+Object __act21(Object ds){ return Integer.parseInt((String) ds); }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 5;
+  static final String[] _names = { "start", "expr", "expr1", "value", "num" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return start();
+      case 1: return expr();
+      case 2: return expr1();
+      case 3: return value();
+      case 4: return num();
+      default: return super._call(id);
+    }
+  }
+}
+
+
+
+ class Interpreter extends BaseParser {
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object r=null; Object res=null;    do {
+    int _p22=_pos; _t=ERROR; do { //and
+      if (cutOnError) _cut();
+      _t=_any();
+      r=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _push(r); _t=apply();
+      res=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__start_24(r,res);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p22, _pos); _pos=_p22; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object val() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object r=null; Object res=null;    do {
+    int _p25=_pos; _t=ERROR; do { //and
+      _t=_listBegin(); if (_t!=ERROR) {
+        int _p26=_pos; _t=ERROR; do { //and
+          if (cutOnError) _cut();
+          _t=_any();
+          r=_t;
+          if (_t==ERROR) throw new SyntaxError("", this);
+          _push(r); _t=apply();
+          res=_t;
+          if (_t==ERROR) throw new SyntaxError("", this);
+          _t=end();
+          if (_t==ERROR) throw new SyntaxError("", this);
+        } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p26, _pos); _pos=_p26; }
+        _listEnd();
+      }
+      if (_t==ERROR) break;
+      _t=res;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p25, _pos); _pos=_p25; }
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object ADD() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object l=null; Object r=null;    do {
+    int _p27=_pos; _t=ERROR; do { //and
+      _t=val();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=val();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      if (_t==ERROR) break;
+      _t=__act28(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p27, _pos); _pos=_p27; }
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object SUB() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+    Object l=null; Object r=null;    do {
+    int _p29=_pos; _t=ERROR; do { //and
+      _t=val();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=val();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      if (_t==ERROR) break;
+      _t=__act30(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p29, _pos); _pos=_p29; }
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object MUL() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+    Object l=null; Object r=null;    do {
+    int _p31=_pos; _t=ERROR; do { //and
+      _t=val();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=val();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      if (_t==ERROR) break;
+      _t=__act32(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p31, _pos); _pos=_p31; }
+    _t=_memoize(_base+4, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+  public Object DIV() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+5, _start);
+    Object l=null; Object r=null;    do {
+    int _p33=_pos; _t=ERROR; do { //and
+      _t=val();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=val();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      if (_t==ERROR) break;
+      _t=__act34(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p33, _pos); _pos=_p33; }
+    _t=_memoize(_base+5, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+  public Object MOD() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+6); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+6, _start);
+    Object l=null; Object r=null;    do {
+    int _p35=_pos; _t=ERROR; do { //and
+      _t=val();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=val();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      if (_t==ERROR) break;
+      _t=__act36(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p35, _pos); _pos=_p35; }
+    _t=_memoize(_base+6, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+6, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+  public Object INT() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+7, _start);
+    Object v=null;
+    int _p37=_pos; _t=ERROR; do { //and
+      _t=_any();
+      v=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      if (_t==ERROR) break;
+      _t=v;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p37, _pos); _pos=_p37; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+7, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+
+  Object __start_24(Object r, Object res) { Object _t=null;
+    int _p23=_pos; _t=ERROR; do { //and
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=res;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p23, _pos); _pos=_p23; }
+    return _t;
+  }
+Object __act28(Object l, Object r){ return (Integer)l + (Integer)r; }
+Object __act30(Object l, Object r){ return (Integer)l - (Integer)r; }
+Object __act32(Object l, Object r){ return (Integer)l * (Integer)r; }
+Object __act34(Object l, Object r){ return (Integer)l / (Integer)r; }
+Object __act36(Object l, Object r){ return (Integer)l % (Integer)r; }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 8;
+  static final String[] _names = { "start", "val", "ADD", "SUB", "MUL", "DIV", "MOD", "INT" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return start();
+      case 1: return val();
+      case 2: return ADD();
+      case 3: return SUB();
+      case 4: return MUL();
+      case 5: return DIV();
+      case 6: return MOD();
+      case 7: return INT();
+      default: return super._call(id);
+    }
+  }
+}
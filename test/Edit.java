@@ -0,0 +1,177 @@
+// generated by jmeta on Sat Oct 17 02:06:38 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+public class Edit extends BaseParser {  public static void main(String[] args) {
+        for (int n = 1000; n <= 100000; n *= 100) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < n; i++) sb.append("key").append(i).append(" = ").append(i * 7).append("\n");
+            String text = sb.toString();
+            Edit parser = new Edit();
+            parser.incremental = true;
+            parser.parse(text);
+
+            // change a value, insert a line, and remove it again, all in the middle
+            int at = text.indexOf("key"+ (n / 2) +" = ");
+            int v = text.indexOf("=", at) + 2;
+            String s = "";
+            boolean same = true;
+            int[] edits = { v, 1, at, 0, at, 12 };
+            String[] inserts = { "42", "new = 12345\n", "" };
+            for (int i = 0; i < edits.length; i += 2) {
+                final int[] rules = { 0 };
+                parser.listener = new ParseListener() {
+                    public void enter(BaseParser parser, int rule, int pos) { rules[0]++; }
+                };
+                Object r = parser.reparse(edits[i], edits[i + 1], inserts[i / 2]);
+                parser.listener = null;
+                text = text.substring(0, edits[i]) + inserts[i / 2] + text.substring(edits[i] + edits[i + 1]);
+                same = same && print_r(r).equals(print_r(new Edit().parse(text)));
+                s += ((s.length() > 0)? ", " : "") + rules[0];
+            }
+            System.out.println(n +" lines; rules evaluated after each edit: "+ s +"; same as parsing it all: "+ same);
+        }
+    }
+
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object ls=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      int _l1=_loop(_base+0, 1);
+      java.util.ArrayList<Object> as1=_loopList(_l1);
+      while (true) { //many
+        _t=line();
+        if (_t==ERROR) break; else as1.add(_t);
+        _loopNext(_l1);
+      } _loopEnd(_l1); _t=as1;
+      ls=_t;
+      if (_t==ERROR) break;
+      _t=end();
+      if (_t==ERROR) break;
+      _t=ls;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object line() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object k=null;    do {
+    int _p2=_pos; _t=ERROR; do { //and
+      _t=key();
+      k=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("=");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__line_4(k);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; }
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object key() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object k=null;    do {
+    int _p5=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=__key_11();
+      k=_t;
+      if (_t==ERROR) break;
+      _t=k;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p5, _pos); _pos=_p5; }
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object num() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+    Object ds=null;    do {
+    int _p12=_pos; _t=ERROR; do { //and
+      int _c13=_pos;
+      int _l14=_loop(_base+3, 14);
+      boolean _s14=_loopAny(_l14);
+      while (true) { //many
+        _t=digit();
+        if (_t==ERROR) break; else _s14=true;
+        _loopNext(_l14);
+      } _loopEnd(_l14); _t=_s14? null : ERROR;
+      if (_t!=ERROR) { _t=_capture(_c13); }
+      ds=_t;
+      if (_t==ERROR) break;
+      _t=__act15(ds);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p12, _pos); _pos=_p12; }
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+
+  Object __line_4(Object k) { Object _t=null;
+    Object v=null;
+    int _p3=_pos; _t=ERROR; do { //and
+      _t=num();
+      v=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("\n");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=new Object[] {"Line", k, v};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; }
+    return _t;
+  }
+static final CharClass __class8 = new CharClass("<a-zA-Z_>").range(97, 122).range(65, 90).range(95, 95);
+static final CharClass __class10 = new CharClass("<a-zA-Z_0-9>").range(97, 122).range(65, 90).range(95, 95).range(48, 57);
+
+  Object __key_11() { Object _t=null;
+    int _c6=_pos;
+    int _p7=_pos; _t=ERROR; do { //and
+      _t=_class(__class8);
+      if (_t==ERROR) break;
+      int _l9=_loop(_base+2, 9);
+      while (true) { //many
+        _t=_class(__class10);
+        if (_t==ERROR) break;
+        _loopNext(_l9);
+      } _loopEnd(_l9); _t=null;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; }
+    if (_t!=ERROR) { _t=_capture(_c6); }
+    return _t;
+  }
+Object __act15(Object ds){ return Integer.parseInt((String) ds); }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 4;
+  static final String[] _names = { "start", "line", "key", "num" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return start();
+      case 1: return line();
+      case 2: return key();
+      case 3: return num();
+      default: return super._call(id);
+    }
+  }
+}
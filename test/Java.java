@@ -0,0 +1,382 @@
+// generated by jmeta on Sat Oct 17 02:06:30 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+public class Java extends BaseParser {  public static void main(String[] args) {
+        Java parser = new Java();
+        //parser.tracing = true;
+        System.out.println(parser.parse("this.x"));
+        System.out.println(parser.parse("this.x.m()"));
+        System.out.println(parser.parse("this.x.y.m()[i]"));
+    }
+
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object p=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      _t=Primary();
+      p=_t;
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=p;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object Primary() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+        do {
+    _t=PrimaryNoNewArray();
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object PrimaryNoNewArray() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+        do {
+    long _m1=(getClass()==Java.class)? __predict1.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      _t=ClassInstanceCreationExpression();
+      if (_t!=ERROR) break;
+      _t=MethodInvocation();
+      if (_t!=ERROR) break;
+      _t=FieldAccess();
+      if (_t!=ERROR) break;
+      _t=ArrayAccess();
+      if (_t!=ERROR) break;
+      if ((_m1 & 16L)!=0) {
+        _t=_str("this");
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict1.expect(this, _m1);
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object ClassInstanceCreationExpression() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+        do {
+    long _m2=(getClass()==Java.class)? __predict2.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m2 & 1L)!=0) {
+        int _p3=_pos; _t=ERROR; do { //and
+          _t=_str("new");
+          if (_t==ERROR) break;
+          _t=ClassOrInterfaceType();
+          if (_t==ERROR) break;
+          _t=_str("()");
+          if (_t==ERROR) break;
+        } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; }
+        if (_t!=ERROR) break;
+      }
+      _t=__ClassInstanceCreationExpression_5();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict2.expect(this, _m2);
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object MethodInvocation() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+        do {
+    long _m6=(getClass()==Java.class)? __predict6.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      _t=__MethodInvocation_9();
+      if (_t!=ERROR) break;
+      if ((_m6 & 2L)!=0) {
+        _t=__MethodInvocation_12();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict6.expect(this, _m6);
+    _t=_memoize(_base+4, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+  public Object FieldAccess() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+5, _start);
+        do {
+    long _m13=(getClass()==Java.class)? __predict13.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      _t=__FieldAccess_16();
+      if (_t!=ERROR) break;
+      if ((_m13 & 2L)!=0) {
+        _t=__FieldAccess_19();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict13.expect(this, _m13);
+    _t=_memoize(_base+5, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+  public Object ArrayAccess() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+6); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+6, _start);
+        do {
+    long _m20=(getClass()==Java.class)? __predict20.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      _t=__ArrayAccess_23();
+      if (_t!=ERROR) break;
+      if ((_m20 & 2L)!=0) {
+        _t=__ArrayAccess_26();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict20.expect(this, _m20);
+    _t=_memoize(_base+6, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+6, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+  public Object ClassOrInterfaceType() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+7, _start);
+    
+    long _m27=(getClass()==Java.class)? __predict27.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m27 & 1L)!=0) {
+        _t=ClassName();
+        if (_t!=ERROR) break;
+      }
+      if ((_m27 & 2L)!=0) {
+        _t=InterfaceTypeName();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict27.expect(this, _m27);
+    if (_t==ERROR) { _pos=_start; _fail(_base+7, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+  public Object ClassName() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+8, _start);
+    
+    _t=_class(__class28);
+    if (_t==ERROR) { _pos=_start; _fail(_base+8, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+8, _start, _pos, _t); return _t;
+  }
+  public Object InterfaceTypeName() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+9, _start);
+    
+    _t=_class(__class29);
+    if (_t==ERROR) { _pos=_start; _fail(_base+9, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+9, _start, _pos, _t); return _t;
+  }
+  public Object Identifier() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+10, _start);
+    
+    long _m30=(getClass()==Java.class)? __predict30.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m30 & 1L)!=0) {
+        _t=_class(__class31);
+        if (_t!=ERROR) break;
+      }
+      if ((_m30 & 2L)!=0) {
+        _t=ClassOrInterfaceType();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict30.expect(this, _m30);
+    if (_t==ERROR) { _pos=_start; _fail(_base+10, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+10, _start, _pos, _t); return _t;
+  }
+  public Object MethodName() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+11, _start);
+    
+    _t=_class(__class32);
+    if (_t==ERROR) { _pos=_start; _fail(_base+11, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+11, _start, _pos, _t); return _t;
+  }
+  public Object ExpressionName() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+12, _start);
+    
+    _t=Identifier();
+    if (_t==ERROR) { _pos=_start; _fail(_base+12, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+12, _start, _pos, _t); return _t;
+  }
+  public Object Expression() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+13, _start);
+    
+    _t=_class(__class33);
+    if (_t==ERROR) { _pos=_start; _fail(_base+13, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+13, _start, _pos, _t); return _t;
+  }
+static final Predict __predict1 = new Predict().chars(4, "t").str(4, "this");
+static final Predict __predict2 = new Predict().chars(0, "n").str(0, "new");
+
+  Object __ClassInstanceCreationExpression_5() { Object _t=null;
+    int _p4=_pos; _t=ERROR; do { //and
+      _t=Primary();
+      if (_t==ERROR) break;
+      _t=_str(".new");
+      if (_t==ERROR) break;
+      _t=Identifier();
+      if (_t==ERROR) break;
+      _t=_str("()");
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p4, _pos); _pos=_p4; }
+    return _t;
+  }
+static final Predict __predict6 = new Predict().chars(1, "mn").rule(1, "MethodName").cls(1, "\"m\" | \"n\"").end(1);
+Object __act8(Object p, Object m){ return "(invoke "+ p +" "+ m +")"; }
+
+  Object __MethodInvocation_9() { Object _t=null;
+    Object p=null; Object m=null;
+    int _p7=_pos; _t=ERROR; do { //and
+      _t=Primary();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=_str(".");
+      if (_t==ERROR) break;
+      _t=MethodName();
+      m=_t;
+      if (_t==ERROR) break;
+      _t=_str("()");
+      if (_t==ERROR) break;
+      _t=__act8(p,m);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; }
+    return _t;
+  }
+Object __act11(Object m){ return "(invoke "+ m +")"; }
+
+  Object __MethodInvocation_12() { Object _t=null;
+    Object m=null;
+    int _p10=_pos; _t=ERROR; do { //and
+      _t=MethodName();
+      m=_t;
+      if (_t==ERROR) break;
+      _t=_str("()");
+      if (_t==ERROR) break;
+      _t=__act11(m);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p10, _pos); _pos=_p10; }
+    return _t;
+  }
+static final Predict __predict13 = new Predict().chars(1, "s").str(1, "super");
+Object __act15(Object p, Object i){ return "(get "+ p +" "+ i +")"; }
+
+  Object __FieldAccess_16() { Object _t=null;
+    Object p=null; Object i=null;
+    int _p14=_pos; _t=ERROR; do { //and
+      _t=Primary();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=_str(".");
+      if (_t==ERROR) break;
+      _t=Identifier();
+      i=_t;
+      if (_t==ERROR) break;
+      _t=__act15(p,i);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p14, _pos); _pos=_p14; }
+    return _t;
+  }
+Object __act18(Object i){ return "(get super "+   i +")"; }
+
+  Object __FieldAccess_19() { Object _t=null;
+    Object i=null;
+    int _p17=_pos; _t=ERROR; do { //and
+      _t=_str("super");
+      if (_t==ERROR) break;
+      _t=_str(".");
+      if (_t==ERROR) break;
+      _t=Identifier();
+      i=_t;
+      if (_t==ERROR) break;
+      _t=__act18(i);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p17, _pos); _pos=_p17; }
+    return _t;
+  }
+static final Predict __predict20 = new Predict().chars(1, "CDxyIJ").rule(1, "ExpressionName").rule(1, "Identifier").cls(1, "\"x\" | \"y\"").rule(1, "ClassOrInterfaceType").rule(1, "ClassName").cls(1, "\"C\" | \"D\"").end(1).rule(1, "InterfaceTypeName").cls(1, "\"I\" | \"J\"").end(1).end(1).end(1).end(1);
+Object __act22(Object p, Object a){ return "(array "+ p +" "+ a +")"; }
+
+  Object __ArrayAccess_23() { Object _t=null;
+    Object p=null; Object a=null;
+    int _p21=_pos; _t=ERROR; do { //and
+      _t=Primary();
+      p=_t;
+      if (_t==ERROR) break;
+      _t=_str("[");
+      if (_t==ERROR) break;
+      _t=Expression();
+      a=_t;
+      if (_t==ERROR) break;
+      _t=_str("]");
+      if (_t==ERROR) break;
+      _t=__act22(p,a);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p21, _pos); _pos=_p21; }
+    return _t;
+  }
+Object __act25(Object e, Object a){ return "(array "+ e +" "+ a +")"; }
+
+  Object __ArrayAccess_26() { Object _t=null;
+    Object e=null; Object a=null;
+    int _p24=_pos; _t=ERROR; do { //and
+      _t=ExpressionName();
+      e=_t;
+      if (_t==ERROR) break;
+      _t=_str("[");
+      if (_t==ERROR) break;
+      _t=Expression();
+      a=_t;
+      if (_t==ERROR) break;
+      _t=_str("]");
+      if (_t==ERROR) break;
+      _t=__act25(e,a);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p24, _pos); _pos=_p24; }
+    return _t;
+  }
+static final Predict __predict27 = new Predict().chars(0, "CD").rule(0, "ClassName").cls(0, "\"C\" | \"D\"").end(0).chars(1, "IJ").rule(1, "InterfaceTypeName").cls(1, "\"I\" | \"J\"").end(1);
+static final CharClass __class28 = new CharClass("\"C\" | \"D\"").str("C").str("D");
+static final CharClass __class29 = new CharClass("\"I\" | \"J\"").str("I").str("J");
+static final Predict __predict30 = new Predict().chars(0, "xy").cls(0, "\"x\" | \"y\"").chars(1, "CDIJ").rule(1, "ClassOrInterfaceType").rule(1, "ClassName").cls(1, "\"C\" | \"D\"").end(1).rule(1, "InterfaceTypeName").cls(1, "\"I\" | \"J\"").end(1).end(1);
+static final CharClass __class31 = new CharClass("\"x\" | \"y\"").str("x").str("y");
+static final CharClass __class32 = new CharClass("\"m\" | \"n\"").str("m").str("n");
+static final CharClass __class33 = new CharClass("\"i\" | \"j\"").str("i").str("j");
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 14;
+  static final String[] _names = { "start", "Primary", "PrimaryNoNewArray", "ClassInstanceCreationExpression", "MethodInvocation", "FieldAccess", "ArrayAccess", "ClassOrInterfaceType", "ClassName", "InterfaceTypeName", "Identifier", "MethodName", "ExpressionName", "Expression" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return start();
+      case 1: return Primary();
+      case 2: return PrimaryNoNewArray();
+      case 3: return ClassInstanceCreationExpression();
+      case 4: return MethodInvocation();
+      case 5: return FieldAccess();
+      case 6: return ArrayAccess();
+      case 7: return ClassOrInterfaceType();
+      case 8: return ClassName();
+      case 9: return InterfaceTypeName();
+      case 10: return Identifier();
+      case 11: return MethodName();
+      case 12: return ExpressionName();
+      case 13: return Expression();
+      default: return super._call(id);
+    }
+  }
+}
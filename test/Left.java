@@ -0,0 +1,148 @@
+// generated by jmeta on Sat Oct 17 02:06:32 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+public class Left extends BaseParser {  public static void main(String[] args) {
+        Left parser = new Left();
+        //parser.tracing = true;
+        System.out.println(parser.parse("1?-2!-3?"));
+        try {
+            parser.parse("1?-2!-?");
+        } catch (SyntaxError e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object x=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      _t=expr();
+      x=_t;
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=end();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=x;
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object x() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object x=null;    do {
+    _t=ERROR; do{ //or
+      _t=__x_3();
+      if (_t!=ERROR) break;
+      int _p4=_pos; _t=ERROR; do { //and
+        _t=expr();
+        x=_t;
+        if (_t==ERROR) break;
+        _t=_str("?");
+        if (_t==ERROR) break;
+        _t=__act5(x);
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p4, _pos); _pos=_p4; }
+      if (_t!=ERROR) break;
+      _t=expr();
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object expr() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+        do {
+    long _m6=(getClass()==Left.class)? __predict6.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      _t=__expr_9();
+      if (_t!=ERROR) break;
+      if ((_m6 & 2L)!=0) {
+        _t=num();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict6.expect(this, _m6);
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object num() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+        do {
+    int _l10=_loop(_base+3, 10);
+    java.util.ArrayList<Object> as10=_loopList(_l10);
+    while (true) { //many
+      _t=digit();
+      if (_t==ERROR) break; else as10.add(_t);
+      _loopNext(_l10);
+    } _loopEnd(_l10); _t=as10.isEmpty()? ERROR : as10;
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+Object __act2(Object x){ return ""+ x +"!"; }
+
+  Object __x_3() { Object _t=null;
+    Object x=null;
+    int _p1=_pos; _t=ERROR; do { //and
+      _t=expr();
+      x=_t;
+      if (_t==ERROR) break;
+      _t=_str("!");
+      if (_t==ERROR) break;
+      _t=__act2(x);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p1, _pos); _pos=_p1; }
+    return _t;
+  }
+Object __act5(Object x){ return ""+ x +"?"; }
+static final Predict __predict6 = new Predict().chars(1, "0123456789").rule(1, "num").cls(1, "digit").end(1);
+Object __act8(Object l, Object r){ return ""+ l +" - "+ r; }
+
+  Object __expr_9() { Object _t=null;
+    Object l=null; Object r=null;
+    int _p7=_pos; _t=ERROR; do { //and
+      _t=x();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=_str("-");
+      if (_t==ERROR) break;
+      _t=x();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=__act8(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; }
+    return _t;
+  }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 4;
+  static final String[] _names = { "start", "x", "expr", "num" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return start();
+      case 1: return x();
+      case 2: return expr();
+      case 3: return num();
+      default: return super._call(id);
+    }
+  }
+}
@@ -0,0 +1,186 @@
+// generated by jmeta on Sat Oct 17 02:06:36 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+public class Lines extends BaseParser {  public static void main(String[] args) {
+        for (int n = 1000; n <= 100000; n *= 100) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < n; i++) sb.append("key").append(i).append(" = ").append(i * 7).append("\n");
+            Lines parser = new Lines();
+            Object count = parser.parse(sb.toString());
+            System.out.println(count +" lines; peak memo: "+ parser.memoPeak() / 1024 +"K");
+            count = parser.parse(new java.io.StringReader(sb.toString()));
+            System.out.println(count +" lines from a reader; peak memo: "+ parser.memoPeak() / 1024 +"K");
+        }
+        // the lines of `*` are an ArrayList, concatenating an array to that used to throw
+        System.out.println(print_r(new Lines().parse("a = 1\nb = 2\n", "all")));
+    }
+
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object ls=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      int _l1=_loop(_base+0, 1);
+      java.util.ArrayList<Object> as1=_loopList(_l1);
+      while (true) { //many
+        _t=line();
+        if (_t==ERROR) break; else as1.add(_t);
+        _loopNext(_l1);
+      } _loopEnd(_l1); _t=as1;
+      ls=_t;
+      if (_t==ERROR) break;
+      _t=end();
+      if (_t==ERROR) break;
+      _t=__act2(ls);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object all() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object ls=null;    do {
+    int _p3=_pos; _t=ERROR; do { //and
+      int _l4=_loop(_base+1, 4);
+      java.util.ArrayList<Object> as4=_loopList(_l4);
+      while (true) { //many
+        _t=line();
+        if (_t==ERROR) break; else as4.add(_t);
+        _loopNext(_l4);
+      } _loopEnd(_l4); _t=as4;
+      ls=_t;
+      if (_t==ERROR) break;
+      _t=end();
+      if (_t==ERROR) break;
+      _t=concat(ls, new Object[] {new Object[] {"End"}});
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; }
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object line() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object k=null;    do {
+    int _p5=_pos; _t=ERROR; do { //and
+      _t=key();
+      k=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=_str("=");
+      if (_t==ERROR) break;
+      if (cutOnError) _cut();
+      _t=ws();
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=__line_7(k);
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p5, _pos); _pos=_p5; }
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object key() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+    Object k=null;    do {
+    int _p8=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=__key_14();
+      k=_t;
+      if (_t==ERROR) break;
+      _t=k;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p8, _pos); _pos=_p8; }
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object num() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+    Object ds=null;    do {
+    int _p15=_pos; _t=ERROR; do { //and
+      int _c16=_pos;
+      int _l17=_loop(_base+4, 17);
+      boolean _s17=_loopAny(_l17);
+      while (true) { //many
+        _t=digit();
+        if (_t==ERROR) break; else _s17=true;
+        _loopNext(_l17);
+      } _loopEnd(_l17); _t=_s17? null : ERROR;
+      if (_t!=ERROR) { _t=_capture(_c16); }
+      ds=_t;
+      if (_t==ERROR) break;
+      _t=__act18(ds);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p15, _pos); _pos=_p15; }
+    _t=_memoize(_base+4, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+Object __act2(Object ls){ return ((java.util.List) ls).size(); }
+
+  Object __line_7(Object k) { Object _t=null;
+    Object v=null;
+    int _p6=_pos; _t=ERROR; do { //and
+      _t=num();
+      v=_t;
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _t=_str("\n");
+      if (_t==ERROR) throw new SyntaxError("", this);
+      _cut();
+      _t=new Object[] {"Line", k, v};
+      if (_t==ERROR) throw new SyntaxError("", this);
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p6, _pos); _pos=_p6; }
+    return _t;
+  }
+static final CharClass __class11 = new CharClass("<a-zA-Z_>").range(97, 122).range(65, 90).range(95, 95);
+static final CharClass __class13 = new CharClass("<a-zA-Z_0-9>").range(97, 122).range(65, 90).range(95, 95).range(48, 57);
+
+  Object __key_14() { Object _t=null;
+    int _c9=_pos;
+    int _p10=_pos; _t=ERROR; do { //and
+      _t=_class(__class11);
+      if (_t==ERROR) break;
+      int _l12=_loop(_base+3, 12);
+      while (true) { //many
+        _t=_class(__class13);
+        if (_t==ERROR) break;
+        _loopNext(_l12);
+      } _loopEnd(_l12); _t=null;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p10, _pos); _pos=_p10; }
+    if (_t!=ERROR) { _t=_capture(_c9); }
+    return _t;
+  }
+Object __act18(Object ds){ return Integer.parseInt((String) ds); }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 5;
+  static final String[] _names = { "start", "all", "line", "key", "num" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return start();
+      case 1: return all();
+      case 2: return line();
+      case 3: return key();
+      case 4: return num();
+      default: return super._call(id);
+    }
+  }
+}
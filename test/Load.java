@@ -0,0 +1,120 @@
+// generated by jmeta on Sat Oct 17 02:06:50 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+public class Load extends BaseParser {  public static void main(String[] args) {
+        JMetaLoader loader = new JMetaLoader();
+        long start = System.nanoTime();
+        loader.load(
+            "parser Sums extends Load {\n"+
+            "    start: ! e=expr . end { e } ;\n"+
+            "    expr: l=expr .\"+\"! r=num { ['ADD, l, r] } | l=expr .\"-\"! r=num { ['SUB, l, r] } | num ;\n"+
+            "}\n"+
+            "parser Nested extends Sums {\n"+
+            "    num: .\"(\"! e=expr .\")\" { e } | super.num ;\n"+
+            "}\n"+
+            "parser Eval extends Load {\n"+
+            "    start: v=val end { v } ;\n"+
+            "    val: [ 'ADD l=val r=val ] add(l, r) | [ 'SUB l=val r=val ] sub(l, r) | _ ;\n"+
+            "}\n"+
+            "parser Words {\n"+
+            "    start: ws=word* . end { ws } ;\n"+
+            "    word: . k=(\"static\" | \"final\" | \"foreach\" | \"for\") ~<a-z> { ['KW, k] } | . $<a-z>+ ;\n"+
+            "}\n");
+        long ms = (System.nanoTime() - start) / 1000000;
+
+        for (String s : new String[] { "1 + 2 - 3", "10 - (1 + 2)" }) {
+            Object ast = loader.newParser("Nested").parse(s);
+            System.out.println(print_r(ast) +" = "+ loader.newParser("Eval").parse(new Object[] { ast }));
+        }
+        System.out.println(print_r(loader.newParser("Words").parse("static fortune foreach x")));
+        try {
+            loader.load("parser Bad { start: x=_ { return x; } ; }");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+        System.err.println("loaded 4 parsers in "+ ms +" ms");
+    }
+
+  public Object num() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object ds=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      int _c1=_pos;
+      int _l2=_loop(_base+0, 2);
+      boolean _s2=_loopAny(_l2);
+      while (true) { //many
+        _t=digit();
+        if (_t==ERROR) break; else _s2=true;
+        _loopNext(_l2);
+      } _loopEnd(_l2); _t=_s2? null : ERROR;
+      if (_t!=ERROR) { _t=_capture(_c1); }
+      ds=_t;
+      if (_t==ERROR) break;
+      _t=__act3(ds);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object add() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object l=null; Object r=null;
+    int _p4=_pos; _t=ERROR; do { //and
+      _t=_any();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=__act5(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p4, _pos); _pos=_p4; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+1, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object sub() { Object _t=null; int _start=_pos; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object l=null; Object r=null;
+    int _p6=_pos; _t=ERROR; do { //and
+      _t=_any();
+      l=_t;
+      if (_t==ERROR) break;
+      _t=_any();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=__act7(l,r);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p6, _pos); _pos=_p6; }
+    if (_t==ERROR) { _pos=_start; _fail(_base+2, _start, _exp); }
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+Object __act3(Object ds){ return Integer.parseInt((String) ds); }
+Object __act5(Object l, Object r){ return (Integer) l + (Integer) r; }
+Object __act7(Object l, Object r){ return (Integer) l - (Integer) r; }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 3;
+  static final String[] _names = { "num", "add", "sub" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return num();
+      case 1: return add();
+      case 2: return sub();
+      default: return super._call(id);
+    }
+  }
+}
@@ -0,0 +1,325 @@
+// generated by jmeta on Sat Oct 17 02:06:42 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+public class Memo extends BaseParser {  public static void main(String[] args) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) sb.append("x").append(i).append(" = ").append(i).append(" - ").append(i % 7).append(" * 2 - 1;\n");
+        String text = sb.toString();
+        Memo parser = new Memo();
+        String expected = print_r(parser.parse(text));
+        System.out.println("no limit; peak memo: "+ parser.memoPeak() / 1024 +"K");
+
+        java.util.HashMap<String, Integer> priorities = new java.util.HashMap<String, Integer>();
+        priorities.put("expr", 2);
+        priorities.put("term", 1);
+        String[] names = { "distance", "lru", "rule" };
+        MemoPolicy[] policies = { MemoPolicy.DISTANCE, MemoPolicy.LRU, MemoPolicy.byRule(parser, priorities) };
+        for (int i = 0; i < policies.length; i++) {
+            parser.memoPolicy = policies[i];
+            parser.memoMaxEntries = 0;
+            parser.memoMaxBytes = 64 * 1024;
+            boolean same = print_r(parser.parse(text)).equals(expected);
+            System.out.println(names[i] +", 64K limit; peak memo: "+ parser.memoPeak() / 1024 +"K; evicted: "+ (parser.memoEvicted() > 0) +"; same result: "+ same);
+            parser.memoMaxEntries = 1000;
+            parser.memoMaxBytes = 0;
+            same = print_r(parser.parse(text)).equals(expected);
+            System.out.println(names[i] +", 1000 entries limit; evicted: "+ (parser.memoEvicted() > 0) +"; same result: "+ same);
+        }
+    }
+
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object ss=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      int _l1=_loop(_base+0, 1);
+      java.util.ArrayList<Object> as1=_loopList(_l1);
+      while (true) { //many
+        _t=stmt();
+        if (_t==ERROR) break; else as1.add(_t);
+        _loopNext(_l1);
+      } _loopEnd(_l1); _t=as1;
+      ss=_t;
+      if (_t==ERROR) break;
+      _t=end();
+      if (_t==ERROR) break;
+      _t=ss;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object stmt() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+        do {
+    long _m2=(getClass()==Memo.class)? __predict2.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m2 & 1L)!=0) {
+        _t=__stmt_4();
+        if (_t!=ERROR) break;
+      }
+      _t=__stmt_6();
+      if (_t!=ERROR) break;
+    } while(false);
+    if (_t==ERROR) __predict2.expect(this, _m2);
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object expr() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+    Object l=null; Object r=null;    do {
+    _t=ERROR; do{ //or
+      int _p7=_pos; _t=ERROR; do { //and
+        _t=expr();
+        l=_t;
+        if (_t==ERROR) break;
+        _push("-"); _t=tok();
+        if (_t==ERROR) break;
+        _t=term();
+        r=_t;
+        if (_t==ERROR) break;
+        _t=new Object[] {"Sub", l, r};
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p7, _pos); _pos=_p7; }
+      if (_t!=ERROR) break;
+      _t=term();
+      if (_t!=ERROR) break;
+    } while(false);
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object term() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+        do {
+    long _m8=(getClass()==Memo.class)? __predict8.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      _t=__term_10();
+      if (_t!=ERROR) break;
+      if ((_m8 & 2L)!=0) {
+        _t=prim();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict8.expect(this, _m8);
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+  public Object prim() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+4); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+4, _start);
+        do {
+    long _m11=(getClass()==Memo.class)? __predict11.mask(this) : -1L;
+    _t=ERROR; do{ //predict
+      if ((_m11 & 1L)!=0) {
+        _t=name();
+        if (_t!=ERROR) break;
+      }
+      if ((_m11 & 2L)!=0) {
+        _t=num();
+        if (_t!=ERROR) break;
+      }
+    } while(false);
+    if (_t==ERROR) __predict11.expect(this, _m11);
+    _t=_memoize(_base+4, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+4, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+4, _start, _pos, _t); return _t;
+  }
+  public Object tok() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+5); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+5, _start);
+    Object s=null;    do {
+    int _p12=_pos; _t=ERROR; do { //and
+      _t=_any();
+      s=_t;
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _push(s); _t=str();
+      if (_t==ERROR) break;
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=s;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p12, _pos); _pos=_p12; }
+    _t=_memoize(_base+5, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+5, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+5, _start, _pos, _t); return _t;
+  }
+  public Object ws() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+6); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+6, _start);
+        do {
+    int _l13=_loop(_base+6, 13);
+    java.util.ArrayList<Object> as13=_loopList(_l13);
+    while (true) { //many
+      long _m14=(getClass()==Memo.class)? __predict14.mask(this) : -1L;
+      _t=ERROR; do{ //predict
+        if ((_m14 & 1L)!=0) {
+          _t=sp();
+          if (_t!=ERROR) break;
+        }
+        if ((_m14 & 2L)!=0) {
+          _t=_str("\n");
+          if (_t!=ERROR) break;
+        }
+      } while(false);
+      if (_t==ERROR) __predict14.expect(this, _m14);
+      if (_t==ERROR) break; else as13.add(_t);
+      _loopNext(_l13);
+    } _loopEnd(_l13); _t=as13;
+    _t=_memoize(_base+6, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+6, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+6, _start, _pos, _t); return _t;
+  }
+  public Object name() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+7); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+7, _start);
+    Object n=null;    do {
+    int _p15=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      _t=__name_21();
+      n=_t;
+      if (_t==ERROR) break;
+      _t=n;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p15, _pos); _pos=_p15; }
+    _t=_memoize(_base+7, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+7, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+7, _start, _pos, _t); return _t;
+  }
+  public Object num() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+8); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+8, _start);
+    Object ds=null;    do {
+    int _p22=_pos; _t=ERROR; do { //and
+      _t=ws();
+      if (_t==ERROR) break;
+      int _c23=_pos;
+      int _l24=_loop(_base+8, 24);
+      boolean _s24=_loopAny(_l24);
+      while (true) { //many
+        _t=digit();
+        if (_t==ERROR) break; else _s24=true;
+        _loopNext(_l24);
+      } _loopEnd(_l24); _t=_s24? null : ERROR;
+      if (_t!=ERROR) { _t=_capture(_c23); }
+      ds=_t;
+      if (_t==ERROR) break;
+      _t=__act25(ds);
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p22, _pos); _pos=_p22; }
+    _t=_memoize(_base+8, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+8, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+8, _start, _pos, _t); return _t;
+  }
+static final Predict __predict2 = new Predict().chars(0, "\t\n\f abcdefghijklmnopqrstuvwxyz").rule(0, "name").cls(0, "<a-z>").end(0);
+
+  Object __stmt_4() { Object _t=null;
+    Object n=null; Object e=null;
+    int _p3=_pos; _t=ERROR; do { //and
+      _t=name();
+      n=_t;
+      if (_t==ERROR) break;
+      _push("="); _t=tok();
+      if (_t==ERROR) break;
+      _t=expr();
+      e=_t;
+      if (_t==ERROR) break;
+      _push(";"); _t=tok();
+      if (_t==ERROR) break;
+      _t=new Object[] {"Set", n, e};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p3, _pos); _pos=_p3; }
+    return _t;
+  }
+
+  Object __stmt_6() { Object _t=null;
+    Object e=null;
+    int _p5=_pos; _t=ERROR; do { //and
+      _t=expr();
+      e=_t;
+      if (_t==ERROR) break;
+      _push(";"); _t=tok();
+      if (_t==ERROR) break;
+      _t=new Object[] {"Expr", e};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p5, _pos); _pos=_p5; }
+    return _t;
+  }
+static final Predict __predict8 = new Predict().chars(1, "\t\n\f abcdefghijklmnop0q1r2s3t4u5v6w7x8y9z").rule(1, "prim").rule(1, "name").cls(1, "<a-z>").end(1).rule(1, "num").cls(1, "digit").end(1).end(1);
+
+  Object __term_10() { Object _t=null;
+    Object l=null; Object r=null;
+    int _p9=_pos; _t=ERROR; do { //and
+      _t=term();
+      l=_t;
+      if (_t==ERROR) break;
+      _push("*"); _t=tok();
+      if (_t==ERROR) break;
+      _t=prim();
+      r=_t;
+      if (_t==ERROR) break;
+      _t=new Object[] {"Mul", l, r};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p9, _pos); _pos=_p9; }
+    return _t;
+  }
+static final Predict __predict11 = new Predict().chars(0, "\t\n\f abcdefghijklmnopqrstuvwxyz").rule(0, "name").cls(0, "<a-z>").end(0).chars(1, " \t\n\f0123456789").rule(1, "num").cls(1, "digit").end(1);
+static final Predict __predict14 = new Predict().chars(0, " \t\f").cls(0, "space").chars(1, "\n").str(1, "\n");
+static final CharClass __class18 = new CharClass("<a-z>").range(97, 122);
+static final CharClass __class20 = new CharClass("<a-z0-9>").range(97, 122).range(48, 57);
+
+  Object __name_21() { Object _t=null;
+    int _c16=_pos;
+    int _p17=_pos; _t=ERROR; do { //and
+      _t=_class(__class18);
+      if (_t==ERROR) break;
+      int _l19=_loop(_base+7, 19);
+      while (true) { //many
+        _t=_class(__class20);
+        if (_t==ERROR) break;
+        _loopNext(_l19);
+      } _loopEnd(_l19); _t=null;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p17, _pos); _pos=_p17; }
+    if (_t!=ERROR) { _t=_capture(_c16); }
+    return _t;
+  }
+Object __act25(Object ds){ return Integer.parseInt((String) ds); }
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 9;
+  static final String[] _names = { "start", "stmt", "expr", "term", "prim", "tok", "ws", "name", "num" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return start();
+      case 1: return stmt();
+      case 2: return expr();
+      case 3: return term();
+      case 4: return prim();
+      case 5: return tok();
+      case 6: return ws();
+      case 7: return name();
+      case 8: return num();
+      default: return super._call(id);
+    }
+  }
+}
@@ -0,0 +1,186 @@
+// generated by jmeta on Sat Oct 17 02:06:49 UTC 2026
+// do not modify, instead edit original .jmeta file
+import jmeta.*;
+
+public class Push extends BaseParser {  public static void main(String[] args) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            for (int j = 0; j <= i % 5; j++) sb.append("key").append(j).append(": value ").append(i * 7 + j).append("\n");
+            sb.append("\n");
+        }
+        String text = sb.toString();
+
+        // parsing each message as a whole
+        final int[] rules = { 0 };
+        ParseListener count = new ParseListener() {
+            public void enter(BaseParser parser, int rule, int pos) { rules[0]++; }
+        };
+        Push parser = new Push();
+        parser.listener = count;
+        String expected = "";
+        for (String m : text.split("(?<=\n\n)")) expected += print_r(parser.parse(m));
+        int whole = rules[0];
+
+        for (int size : new int[] { 1, 7, 100 }) {
+            rules[0] = 0;
+            parser.push();
+            String s = "";
+            int messages = 0;
+            for (int at = 0; at < text.length(); at += size) {
+                char[] chunk = text.substring(at, Math.min(at + size, text.length())).toCharArray();
+                for (Object r = parser.feed(chunk, 0, chunk.length); r != MORE; r = parser.feed(chunk, 0, 0)) {
+                    s += print_r(r);
+                    messages++;
+                }
+            }
+            for (Object r = parser.endOfInput(); r != MORE; r = parser.endOfInput()) { s += print_r(r); messages++; }
+            System.out.println("fed "+ size +" chars at a time: "+ messages +" messages; same as parsing them whole: "
+                + s.equals(expected) +"; rules evaluated: "+ (rules[0] * 10 / whole) / 10.0 +" times as many");
+        }
+
+        // a long message fed a char at a time continues where it was suspended, instead of looking up all it parsed again
+        final int[] hits = { 0 };
+        parser.listener = new ParseListener() {
+            public void memo(BaseParser parser, int rule, int pos, boolean hit) { if (hit) hits[0]++; }
+        };
+        String message = text.replace("\n\n", "\n") + "\n";
+        parser.push();
+        for (int i = 0; i < message.length(); i++) parser.feed(message.substring(i, i + 1));
+        System.out.println("a message of "+ message.length() +" chars fed a char at a time: "+ (hits[0] * 10 / message.length()) / 10.0
+            +" memoized results reused per char");
+
+        parser.listener = null;
+        parser.push();
+        System.out.println(print_r(parser.feed("a: 1\n")) +" "+ print_r(parser.feed("b: 2\n\nc")));
+        try {
+            parser.endOfInput();
+        } catch (SyntaxError e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+  public Object start() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+0); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+0, _start);
+    Object hs=null;    do {
+    int _p0=_pos; _t=ERROR; do { //and
+      int _l1=_loop(_base+0, 1);
+      java.util.ArrayList<Object> as1=_loopList(_l1);
+      while (true) { //many
+        _t=header();
+        if (_t==ERROR) break; else as1.add(_t);
+        _loopNext(_l1);
+      } _loopEnd(_l1); _t=as1;
+      hs=_t;
+      if (_t==ERROR) break;
+      _t=_str("\n");
+      if (_t==ERROR) break;
+      _t=hs;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p0, _pos); _pos=_p0; }
+    _t=_memoize(_base+0, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+0, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+0, _start, _pos, _t); return _t;
+  }
+  public Object header() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+1); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+1, _start);
+    Object k=null; Object v=null;    do {
+    int _p2=_pos; _t=ERROR; do { //and
+      _t=name();
+      k=_t;
+      if (_t==ERROR) break;
+      _t=_str(":");
+      if (_t==ERROR) break;
+      _t=__header_4(k);
+      if (_t==ERROR) break;
+      _t=value();
+      v=_t;
+      if (_t==ERROR) break;
+      _t=_str("\n");
+      if (_t==ERROR) break;
+      _t=new Object[] {k, v};
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p2, _pos); _pos=_p2; }
+    _t=_memoize(_base+1, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+1, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+1, _start, _pos, _t); return _t;
+  }
+  public Object name() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+2); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+2, _start);
+        do {
+    int _c5=_pos;
+    int _p6=_pos; _t=ERROR; do { //and
+      _t=_class(__class7);
+      if (_t==ERROR) break;
+      int _l8=_loop(_base+2, 8);
+      while (true) { //many
+        _t=_class(__class9);
+        if (_t==ERROR) break;
+        _loopNext(_l8);
+      } _loopEnd(_l8); _t=null;
+      if (_t==ERROR) break;
+    } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p6, _pos); _pos=_p6; }
+    if (_t!=ERROR) { _t=_capture(_c5); }
+    _t=_memoize(_base+2, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+2, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+2, _start, _pos, _t); return _t;
+  }
+  public Object value() { Object _t=null; int _start=_pos;
+    _t=_retrieve(_base+3); if (_t!=NOT_MEMOIZED) return _t; Object _k=_argkey; int _exp=_expecting(_start);
+    if (listener!=null) listener.enter(this, _base+3, _start);
+        do {
+    int _c10=_pos;
+    int _l11=_loop(_base+3, 11);
+    while (true) { //many
+      int _p12=_pos; _t=ERROR; do { //and
+        _silent++;_t=_str("\n");
+        _silent--; if (_t==ERROR) { _t=true; } else { _t=ERROR; }
+        if (_t==ERROR) break;
+        _t=_any();
+        if (_t==ERROR) break;
+      } while(false); if (_t==ERROR) { if (listener!=null) listener.backtrack(this, _p12, _pos); _pos=_p12; }
+      if (_t==ERROR) break;
+      _loopNext(_l11);
+    } _loopEnd(_l11); _t=null;
+    if (_t!=ERROR) { _t=_capture(_c10); }
+    _t=_memoize(_base+3, _k, _start, _t);
+    } while (_t==GROW); if (_t==ERROR) _fail(_base+3, _start, _exp);
+    if (listener!=null) listener.exit(this, _base+3, _start, _pos, _t); return _t;
+  }
+
+  Object __header_4(Object k) { Object _t=null;
+    int _l3=_loop(_base+1, 3);
+    while (true) { //many
+      _t=sp();
+      if (_t==ERROR) break;
+      _loopNext(_l3);
+    } _loopEnd(_l3); _t=null;
+    return _t;
+  }
+static final CharClass __class7 = new CharClass("<a-zA-Z>").range(97, 122).range(65, 90);
+static final CharClass __class9 = new CharClass("<a-zA-Z0-9>").range(97, 122).range(65, 90).range(48, 57);
+
+  static final int _base = BaseParser._rules;
+  public static final int _rules = _base + 4;
+  static final String[] _names = { "start", "header", "name", "value" };
+  public String _ruleName(int id) {
+    if (id < _base) return super._ruleName(id);
+    return _names[id - _base];
+  }
+  static final java.util.HashMap<String, Integer> _ids = _ids(BaseParser._ids, _base, _names);
+  public int _ruleId(String r) {
+    Integer id = _ids.get(r);
+    return (id == null)? super._ruleId(r) : id;
+  }
+  public Object _call(int id) {
+    switch (id - _base) {
+      case 0: return start();
+      case 1: return header();
+      case 2: return name();
+      case 3: return value();
+      default: return super._call(id);
+    }
+  }
+}